@@ -0,0 +1,109 @@
+/*
+ *  Copyright 2001-2016 Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.beans.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.joda.beans.Bean;
+import org.joda.beans.MetaProperty;
+import org.joda.beans.gen.ImmAddress;
+import org.joda.beans.gen.ImmPerson;
+import org.joda.beans.gen.Light;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.google.common.collect.ImmutableList;
+
+/**
+ * Benchmark {@code BeanBuilder} for immutable beans, as used by deserialization.
+ *
+ * @author Stephen Colebourne
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BeanBuilderBenchmark {
+
+    private ImmPerson owner;
+    private ImmutableList<String> list;
+    private MetaProperty<?> addressNumber;
+    private MetaProperty<?> addressStreet;
+    private MetaProperty<?> addressCity;
+    private MetaProperty<?> addressOwner;
+
+    @Setup
+    public void setup() {
+        owner = BenchmarkFixtures.immPerson();
+        list = ImmutableList.of("a", "b");
+        addressNumber = ImmAddress.meta().number();
+        addressStreet = ImmAddress.meta().street();
+        addressCity = ImmAddress.meta().city();
+        addressOwner = ImmAddress.meta().owner();
+    }
+
+    //-----------------------------------------------------------------------
+    @Benchmark
+    public Bean buildDirectByName() {
+        return ImmAddress.meta().builder()
+            .set("number", 12)
+            .set("street", "Park Street")
+            .set("city", "London")
+            .set("owner", owner)
+            .build();
+    }
+
+    @Benchmark
+    public Bean buildDirectByMetaProperty() {
+        return ImmAddress.meta().builder()
+            .set(addressNumber, 12)
+            .set(addressStreet, "Park Street")
+            .set(addressCity, "London")
+            .set(addressOwner, owner)
+            .build();
+    }
+
+    @Benchmark
+    public Bean buildLight() {
+        return Light.meta().builder()
+            .set("number", 12)
+            .set("street", "Park Street")
+            .set("city", "London")
+            .set("owner", owner)
+            .set("list", list)
+            .build();
+    }
+
+    @Benchmark
+    public Bean buildReflective() {
+        return ReflectiveAddress.META_BEAN.builder()
+            .set("number", 12)
+            .set("street", "Park Street")
+            .set("city", "London")
+            .build();
+    }
+
+}
@@ -0,0 +1,196 @@
+/*
+ *  Copyright 2001-2016 Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.beans.bench;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+import org.joda.beans.Bean;
+import org.joda.beans.gen.Address;
+import org.joda.beans.gen.ImmGuava;
+import org.joda.beans.gen.ImmPerson;
+import org.joda.beans.gen.ImmTolerance;
+import org.joda.beans.gen.ImmTreeNode;
+import org.joda.beans.gen.PrimitiveBean;
+import org.joda.beans.ser.SerTestHelper;
+
+import com.google.common.collect.ImmutableMultiset;
+import com.google.common.collect.ImmutableSortedMultiset;
+
+/**
+ * Fixtures used by the benchmarks.
+ * <p>
+ * Benchmarks that take a {@code fixture} parameter accept one of the names below.
+ * To benchmark your own beans, pass the fully qualified name of a class that
+ * implements {@code Callable<Bean>} and has a public no-args constructor,
+ * for example {@code -p fixture=com.foo.MyBeanFixture}.
+ * <ul>
+ * <li>{@code ImmAddress} - an immutable bean with many collection types
+ * <li>{@code ImmPerson} - a small immutable bean
+ * <li>{@code ImmGuava} - an immutable bean with Guava collections
+ * <li>{@code ImmTreeNode} - a deep graph of immutable beans
+ * <li>{@code ImmTolerance} - an immutable bean with a large {@code double[]}
+ * </ul>
+ *
+ * @author Stephen Colebourne
+ */
+public final class BenchmarkFixtures {
+
+    /**
+     * The depth of the tree fixture.
+     */
+    private static final int TREE_DEPTH = 6;
+    /**
+     * The size of the array in the tolerance fixture.
+     */
+    private static final int CURVE_SIZE = 5000;
+
+    /**
+     * Restricted constructor.
+     */
+    private BenchmarkFixtures() {
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Creates a fixture by name.
+     *
+     * @param name  the fixture name, or the name of a {@code Callable<Bean>} class, not null
+     * @return the bean, not null
+     */
+    @SuppressWarnings("unchecked")
+    public static Bean create(String name) {
+        if (name.equals("ImmAddress")) {
+            return SerTestHelper.testImmAddress();
+        }
+        if (name.equals("ImmPerson")) {
+            return immPerson();
+        }
+        if (name.equals("ImmGuava")) {
+            return immGuava();
+        }
+        if (name.equals("ImmTreeNode")) {
+            return immTreeNode("root", TREE_DEPTH);
+        }
+        if (name.equals("ImmTolerance")) {
+            return immTolerance(CURVE_SIZE);
+        }
+        if (name.equals("PrimitiveBean")) {
+            return primitiveBean();
+        }
+        try {
+            Callable<Bean> callable = (Callable<Bean>) Class.forName(name).newInstance();
+            return callable.call();
+        } catch (Exception ex) {
+            throw new IllegalArgumentException("Unknown fixture: " + name, ex);
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Creates a small immutable person.
+     *
+     * @return the bean, not null
+     */
+    public static ImmPerson immPerson() {
+        return ImmPerson.builder()
+            .forename("Etienne")
+            .middleNames("K", "T")
+            .surname("Colebourne")
+            .numberOfCars(2)
+            .addressList(Collections.singletonList(new Address()))
+            .codeCounts(ImmutableMultiset.of("A", "A", "B"))
+            .build();
+    }
+
+    /**
+     * Creates a mutable bean with a property of each primitive type.
+     *
+     * @return the bean, not null
+     */
+    public static PrimitiveBean primitiveBean() {
+        PrimitiveBean bean = new PrimitiveBean();
+        bean.setValueLong(1234567890123L);
+        bean.setValueInt(2);
+        bean.setValueShort((short) 3);
+        bean.setValueByte((byte) 4);
+        bean.setValueDouble(5.25d);
+        bean.setValueFloat(6.5f);
+        bean.setValueChar('7');
+        bean.setValueBoolean(true);
+        return bean;
+    }
+
+    /**
+     * Creates an immutable bean with Guava collections.
+     * <p>
+     * The maps are left empty, as map keys of a generic type cannot be deserialized.
+     *
+     * @return the bean, not null
+     */
+    public static ImmGuava<String> immGuava() {
+        return ImmGuava.<String>builder()
+            .collection("a", "b", "c")
+            .list("a", "b", "c")
+            .set("a", "b", "c")
+            .sortedSet("a", "b", "c")
+            .multiset(ImmutableMultiset.of("a", "a", "b"))
+            .sortedMultiset(ImmutableSortedMultiset.of("a", "a", "b"))
+            .listInterface("a", "b", "c")
+            .setInterface("a", "b", "c")
+            .build();
+    }
+
+    /**
+     * Creates a tree of immutable nodes.
+     * <p>
+     * Each node has two children, plus a list containing one child.
+     *
+     * @param name  the name of the root node, not null
+     * @param depth  the depth of the tree
+     * @return the bean, not null
+     */
+    public static ImmTreeNode immTreeNode(String name, int depth) {
+        if (depth == 0) {
+            return ImmTreeNode.builder().name(name).build();
+        }
+        List<ImmTreeNode> list = new ArrayList<ImmTreeNode>();
+        list.add(immTreeNode(name + "-3", depth - 1));
+        return ImmTreeNode.builder()
+            .name(name)
+            .child1(immTreeNode(name + "-1", depth - 1))
+            .child2(immTreeNode(name + "-2", depth - 1))
+            .childList(list)
+            .build();
+    }
+
+    /**
+     * Creates an immutable bean with a curve-like array of doubles.
+     *
+     * @param size  the size of the array
+     * @return the bean, not null
+     */
+    public static ImmTolerance immTolerance(int size) {
+        double[] array = new double[size];
+        for (int i = 0; i < size; i++) {
+            array[i] = 0.01d + Math.log1p(i) / 100d;
+        }
+        return ImmTolerance.create(0.5d, array);
+    }
+
+}
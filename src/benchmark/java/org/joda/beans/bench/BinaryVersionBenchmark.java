@@ -0,0 +1,80 @@
+/*
+ *  Copyright 2001-2016 Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.beans.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.joda.beans.Bean;
+import org.joda.beans.ser.JodaBeanSer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark version 1 of the binary format against version 2.
+ * <p>
+ * The size of the message for each fixture and version is printed during setup.
+ *
+ * @author Stephen Colebourne
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BinaryVersionBenchmark {
+
+    @Param({"ImmAddress", "ImmTreeNode", "ImmTolerance"})
+    private String fixture;
+    @Param({"1", "2"})
+    private int version;
+
+    private JodaBeanSer ser;
+    private Bean bean;
+    private Class<? extends Bean> beanType;
+    private byte[] bin;
+
+    @Setup
+    public void setup() {
+        ser = JodaBeanSer.COMPACT.withBinaryVersion(version);
+        bean = BenchmarkFixtures.create(fixture);
+        beanType = bean.getClass();
+        bin = ser.binWriter().write(bean);
+        System.out.println();
+        System.out.println("Size of " + fixture + " using version " + version + ": " + bin.length + " bytes");
+    }
+
+    //-----------------------------------------------------------------------
+    @Benchmark
+    public byte[] writeBin() {
+        return ser.binWriter().write(bean);
+    }
+
+    @Benchmark
+    public Bean readBin() {
+        return ser.binReader().read(bin, beanType);
+    }
+
+}
@@ -0,0 +1,85 @@
+/*
+ *  Copyright 2001-2016 Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.beans.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.joda.beans.Bean;
+import org.joda.beans.ser.JodaBeanSer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark the compression ratio against the throughput of the binary format.
+ * <p>
+ * Each fixture is written and read at each compression level.
+ * The uncompressed and compressed sizes are printed during setup, giving the ratio
+ * to compare with the throughput of the uncompressed benchmarks in {@link SerializeBenchmark}.
+ *
+ * @author Stephen Colebourne
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CompressionBenchmark {
+
+    @Param({"ImmAddress", "ImmPerson", "ImmGuava", "ImmTreeNode"})
+    private String fixture;
+
+    @Param({"1", "6", "9"})
+    private int level;
+
+    private JodaBeanSer ser;
+    private Bean bean;
+    private Class<? extends Bean> beanType;
+    private byte[] bin;
+
+    @Setup
+    public void setup() {
+        ser = JodaBeanSer.COMPACT.withBinaryCompression(level);
+        bean = BenchmarkFixtures.create(fixture);
+        beanType = bean.getClass();
+        bin = ser.binWriter().write(bean);
+        int raw = JodaBeanSer.COMPACT.binWriter().write(bean).length;
+        System.out.println();
+        System.out.println("Size " + fixture + " level " + level + ": " + raw + " -> " + bin.length +
+                " bytes, ratio " + String.format("%.2f", ((double) raw) / bin.length));
+    }
+
+    //-----------------------------------------------------------------------
+    @Benchmark
+    public byte[] writeCompressed() {
+        return ser.binWriter().write(bean);
+    }
+
+    @Benchmark
+    public Bean readCompressed() {
+        return ser.binReader().read(bin, beanType);
+    }
+
+}
@@ -0,0 +1,87 @@
+/*
+ *  Copyright 2001-2016 Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.beans.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.joda.beans.Bean;
+import org.joda.beans.JodaBeanUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark the bean operations in {@code JodaBeanUtils}.
+ * <p>
+ * The equality benchmark compares two separately created, but equal, beans.
+ *
+ * @author Stephen Colebourne
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JodaBeanUtilsBenchmark {
+
+    @Param({"ImmAddress", "ImmPerson", "ImmGuava", "ImmTreeNode"})
+    private String fixture;
+
+    private Bean bean;
+    private Bean other;
+
+    @Setup
+    public void setup() {
+        bean = BenchmarkFixtures.create(fixture);
+        other = BenchmarkFixtures.create(fixture);
+    }
+
+    //-----------------------------------------------------------------------
+    @Benchmark
+    public Bean cloneAlways() {
+        return JodaBeanUtils.cloneAlways(bean);
+    }
+
+    @Benchmark
+    public boolean equal() {
+        return JodaBeanUtils.equal(bean, other);
+    }
+
+    @Benchmark
+    public int hashCodeBean() {
+        return JodaBeanUtils.hashCode(bean);
+    }
+
+    @Benchmark
+    public boolean propertiesEqual() {
+        return JodaBeanUtils.propertiesEqual(bean, other);
+    }
+
+    @Benchmark
+    public int propertiesHashCode() {
+        return JodaBeanUtils.propertiesHashCode(bean);
+    }
+
+}
@@ -0,0 +1,185 @@
+/*
+ *  Copyright 2001-2016 Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.beans.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.joda.beans.Bean;
+import org.joda.beans.MetaProperty;
+import org.joda.beans.gen.Address;
+import org.joda.beans.gen.Light;
+import org.joda.beans.impl.BasicMetaProperty;
+import org.joda.beans.impl.flexi.FlexiBean;
+import org.joda.beans.impl.map.MapBean;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.google.common.collect.ImmutableList;
+
+/**
+ * Benchmark {@code MetaProperty} get and set for each style of bean.
+ * <p>
+ * Light beans are immutable, so only {@code get} is measured for them.
+ * The light street property is read from the field, and the city via the getter method.
+ * The {@code getDirectAll} benchmark reads every property of a large bean, as a serializer would.
+ * The {@code getDirectInt} and {@code setDirectInt} benchmarks access an {@code int} without boxing.
+ *
+ * @author Stephen Colebourne
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MetaPropertyBenchmark {
+
+    private Address direct;
+    private MetaProperty<String> directStreet;
+    private BasicMetaProperty<Integer> directNumber;
+    private Bean directGuava;
+    private Light light;
+    private MetaProperty<String> lightStreet;
+    private MetaProperty<String> lightCity;
+    private ReflectiveAddress reflective;
+    private MetaProperty<String> reflectiveStreet;
+    private MetaProperty<Integer> reflectiveNumber;
+    private FlexiBean flexi;
+    private MetaProperty<Object> flexiStreet;
+    private MapBean map;
+    private MetaProperty<Object> mapStreet;
+
+    @Setup
+    public void setup() {
+        direct = new Address();
+        direct.setStreet("Park Street");
+        directStreet = Address.meta().street();
+        directNumber = (BasicMetaProperty<Integer>) Address.meta().number();
+        directGuava = BenchmarkFixtures.immGuava();
+        light = (Light) Light.meta().builder()
+            .set("number", 12)
+            .set("street", "Park Street")
+            .set("city", "London")
+            .set("owner", BenchmarkFixtures.immPerson())
+            .set("list", ImmutableList.<String>of())
+            .build();
+        lightStreet = Light.meta().metaProperty("street");
+        lightCity = Light.meta().metaProperty("city");
+        reflective = new ReflectiveAddress();
+        reflective.setStreet("Park Street");
+        reflectiveStreet = ReflectiveAddress.STREET;
+        reflectiveNumber = ReflectiveAddress.NUMBER;
+        flexi = new FlexiBean();
+        flexi.set("street", "Park Street");
+        flexiStreet = flexi.metaBean().metaProperty("street");
+        map = new MapBean();
+        map.put("street", "Park Street");
+        mapStreet = map.metaBean().metaProperty("street");
+    }
+
+    //-----------------------------------------------------------------------
+    @Benchmark
+    public Object getDirect() {
+        return directStreet.get(direct);
+    }
+
+    @Benchmark
+    public void setDirect() {
+        directStreet.set(direct, "Park Street");
+    }
+
+    @Benchmark
+    public Object getDirectPrimitive() {
+        return directNumber.get(direct);
+    }
+
+    @Benchmark
+    public int getDirectInt() {
+        return directNumber.getInt(direct);
+    }
+
+    @Benchmark
+    public void setDirectInt() {
+        directNumber.setInt(direct, 12);
+    }
+
+    @Benchmark
+    public void getDirectAll(Blackhole bh) {
+        for (MetaProperty<?> mp : directGuava.metaBean().metaPropertyIterable()) {
+            bh.consume(mp.get(directGuava));
+        }
+    }
+
+    @Benchmark
+    public Object getLight() {
+        return lightStreet.get(light);
+    }
+
+    @Benchmark
+    public Object getLightByMethod() {
+        return lightCity.get(light);
+    }
+
+    @Benchmark
+    public Object getReflective() {
+        return reflectiveStreet.get(reflective);
+    }
+
+    @Benchmark
+    public void setReflective() {
+        reflectiveStreet.set(reflective, "Park Street");
+    }
+
+    @Benchmark
+    public Object getReflectivePrimitive() {
+        return reflectiveNumber.get(reflective);
+    }
+
+    @Benchmark
+    public void setReflectivePrimitive() {
+        reflectiveNumber.set(reflective, 12);
+    }
+
+    @Benchmark
+    public Object getFlexi() {
+        return flexiStreet.get(flexi);
+    }
+
+    @Benchmark
+    public void setFlexi() {
+        flexiStreet.set(flexi, "Park Street");
+    }
+
+    @Benchmark
+    public Object getMap() {
+        return mapStreet.get(map);
+    }
+
+    @Benchmark
+    public void setMap() {
+        mapStreet.set(map, "Park Street");
+    }
+
+}
@@ -0,0 +1,91 @@
+/*
+ *  Copyright 2001-2016 Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.beans.bench;
+
+import java.util.Set;
+
+import org.joda.beans.Bean;
+import org.joda.beans.MetaBean;
+import org.joda.beans.MetaProperty;
+import org.joda.beans.Property;
+import org.joda.beans.impl.reflection.ReflectiveMetaBean;
+import org.joda.beans.impl.reflection.ReflectiveMetaProperty;
+
+/**
+ * Mock address bean, using reflection.
+ *
+ * @author Stephen Colebourne
+ */
+public class ReflectiveAddress implements Bean {
+
+    /** The number meta-property. */
+    public static final MetaProperty<Integer> NUMBER = ReflectiveMetaProperty.of(ReflectiveAddress.class, "number");
+    /** The street meta-property. */
+    public static final MetaProperty<String> STREET = ReflectiveMetaProperty.of(ReflectiveAddress.class, "street");
+    /** The city meta-property. */
+    public static final MetaProperty<String> CITY = ReflectiveMetaProperty.of(ReflectiveAddress.class, "city");
+    /** The meta-bean, which must be initialized after the meta-properties. */
+    public static final MetaBean META_BEAN = ReflectiveMetaBean.of(ReflectiveAddress.class);
+
+    /** The number. */
+    private int number;
+    /** The street. */
+    private String street;
+    /** The city. */
+    private String city;
+
+    //-----------------------------------------------------------------------
+    public int getNumber() {
+        return number;
+    }
+
+    public void setNumber(int number) {
+        this.number = number;
+    }
+
+    public String getStreet() {
+        return street;
+    }
+
+    public void setStreet(String street) {
+        this.street = street;
+    }
+
+    public String getCity() {
+        return city;
+    }
+
+    public void setCity(String city) {
+        this.city = city;
+    }
+
+    //-----------------------------------------------------------------------
+    @Override
+    public MetaBean metaBean() {
+        return META_BEAN;
+    }
+
+    @Override
+    public <R> Property<R> property(String propertyName) {
+        return metaBean().<R>metaProperty(propertyName).createProperty(this);
+    }
+
+    @Override
+    public Set<String> propertyNames() {
+        return metaBean().metaPropertyMap().keySet();
+    }
+
+}
@@ -0,0 +1,79 @@
+/*
+ *  Copyright 2001-2016 Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.beans.bench;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.joda.beans.MetaProperty;
+import org.joda.beans.gen.DoubleGenericsWithExtendsSuperTwoGenerics;
+import org.joda.beans.ser.SerIterator;
+import org.joda.beans.ser.SerIteratorFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark creation of iterators for properties with generic types.
+ * <p>
+ * This exercises the resolution of generic type arguments in {@code JodaBeanUtils}.
+ *
+ * @author Stephen Colebourne
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerIteratorFactoryBenchmark {
+
+    private DoubleGenericsWithExtendsSuperTwoGenerics<String, Integer> bean;
+    private MetaProperty<?> typeTList;
+    private MetaProperty<?> typeUList;
+    private Object typeTListValue;
+    private Object typeUListValue;
+
+    @Setup
+    public void setup() {
+        bean = new DoubleGenericsWithExtendsSuperTwoGenerics<String, Integer>();
+        bean.setTypeTList(Arrays.asList("A", "B"));
+        bean.setTypeUList(Arrays.asList(1, 2));
+        typeTList = bean.metaBean().metaProperty("typeTList");
+        typeUList = bean.metaBean().metaProperty("typeUList");
+        typeTListValue = typeTList.get(bean);
+        typeUListValue = typeUList.get(bean);
+    }
+
+    //-----------------------------------------------------------------------
+    @Benchmark
+    public SerIterator createTypeTList() {
+        return SerIteratorFactory.INSTANCE.create(typeTListValue, typeTList, bean.getClass());
+    }
+
+    @Benchmark
+    public SerIterator createTypeUList() {
+        return SerIteratorFactory.INSTANCE.create(typeUListValue, typeUList, bean.getClass());
+    }
+
+}
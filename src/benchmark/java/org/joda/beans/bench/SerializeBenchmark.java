@@ -0,0 +1,128 @@
+/*
+ *  Copyright 2001-2016 Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.beans.bench;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.joda.beans.Bean;
+import org.joda.beans.ser.JodaBeanSer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark the binary, JSON and XML serialization formats.
+ * <p>
+ * Each fixture is written and read using {@link JodaBeanSer#COMPACT}.
+ * The binary format is also written and read using the positional version 4.
+ * See {@link BenchmarkFixtures} for the available fixtures.
+ *
+ * @author Stephen Colebourne
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerializeBenchmark {
+
+    private static final JodaBeanSer SER = JodaBeanSer.COMPACT;
+    private static final JodaBeanSer SER_POSITIONAL = JodaBeanSer.COMPACT.withBinaryVersion(4);
+
+    @Param({"ImmAddress", "ImmPerson", "ImmGuava", "ImmTreeNode", "PrimitiveBean"})
+    private String fixture;
+
+    private Bean bean;
+    private Class<? extends Bean> beanType;
+    private byte[] bin;
+    private byte[] binPositional;
+    private String json;
+    private ByteArrayOutputStream jsonStream;
+    private String xml;
+
+    @Setup
+    public void setup() {
+        bean = BenchmarkFixtures.create(fixture);
+        beanType = bean.getClass();
+        bin = SER.binWriter().write(bean);
+        binPositional = SER_POSITIONAL.binWriter().write(bean);
+        json = SER.jsonWriter().write(bean);
+        jsonStream = new ByteArrayOutputStream(json.length() * 2);
+        xml = SER.xmlWriter().write(bean);
+    }
+
+    //-----------------------------------------------------------------------
+    @Benchmark
+    public byte[] writeBin() {
+        return SER.binWriter().write(bean);
+    }
+
+    @Benchmark
+    public Bean readBin() {
+        return SER.binReader().read(bin, beanType);
+    }
+
+    @Benchmark
+    public byte[] writeBinPositional() {
+        return SER_POSITIONAL.binWriter().write(bean);
+    }
+
+    @Benchmark
+    public Bean readBinPositional() {
+        return SER_POSITIONAL.binReader().read(binPositional, beanType);
+    }
+
+    //-----------------------------------------------------------------------
+    @Benchmark
+    public String writeJson() {
+        return SER.jsonWriter().write(bean);
+    }
+
+    @Benchmark
+    public byte[] writeJsonStream() throws IOException {
+        jsonStream.reset();
+        SER.jsonWriter().write(bean, jsonStream);
+        return jsonStream.toByteArray();
+    }
+
+    @Benchmark
+    public Bean readJson() {
+        return SER.jsonReader().read(json, beanType);
+    }
+
+    //-----------------------------------------------------------------------
+    @Benchmark
+    public String writeXml() {
+        return SER.xmlWriter().write(bean);
+    }
+
+    @Benchmark
+    public Bean readXml() {
+        return SER.xmlReader().read(xml, beanType);
+    }
+
+}
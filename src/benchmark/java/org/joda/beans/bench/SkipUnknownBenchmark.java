@@ -0,0 +1,98 @@
+/*
+ *  Copyright 2001-2016 Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.beans.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.joda.beans.Bean;
+import org.joda.beans.MetaBean;
+import org.joda.beans.MetaProperty;
+import org.joda.beans.gen.ImmTreeNode;
+import org.joda.beans.impl.flexi.FlexiBean;
+import org.joda.beans.ser.DefaultDeserializer;
+import org.joda.beans.ser.JodaBeanSer;
+import org.joda.beans.ser.SerDeserializers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark reading binary data where half the data is in unknown properties.
+ * <p>
+ * This simulates a reader using an older version of a bean, where a large property
+ * has since been added. The message holds a tree in a known property and an equal
+ * size tree in an unknown property, which must be skipped.
+ * The same message without the unknown property is read for comparison.
+ *
+ * @author Stephen Colebourne
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SkipUnknownBenchmark {
+
+    private static final int TREE_DEPTH = 6;
+
+    private JodaBeanSer ser;
+    private byte[] known;
+    private byte[] halfUnknown;
+
+    @Setup
+    public void setup() {
+        SerDeserializers desers = new SerDeserializers();
+        desers.register(ImmTreeNode.class, new LenientDeserializer());
+        ser = JodaBeanSer.COMPACT.withDeserializers(desers);
+        FlexiBean bean = new FlexiBean();
+        bean.set("name", "root");
+        bean.set("child1", BenchmarkFixtures.immTreeNode("known", TREE_DEPTH));
+        known = ser.binWriter().write(bean, false);
+        bean.set("removed", BenchmarkFixtures.immTreeNode("removed", TREE_DEPTH));
+        halfUnknown = ser.binWriter().write(bean, false);
+    }
+
+    //-----------------------------------------------------------------------
+    @Benchmark
+    public Bean readKnown() {
+        return ser.binReader().read(known, ImmTreeNode.class);
+    }
+
+    @Benchmark
+    public Bean readHalfUnknown() {
+        return ser.binReader().read(halfUnknown, ImmTreeNode.class);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Deserializer that ignores unknown properties.
+     */
+    static final class LenientDeserializer extends DefaultDeserializer {
+        @Override
+        public MetaProperty<?> findMetaProperty(Class<?> beanType, MetaBean metaBean, String propertyName) {
+            return metaBean.metaPropertyExists(propertyName) ? metaBean.metaProperty(propertyName) : null;
+        }
+    }
+
+}
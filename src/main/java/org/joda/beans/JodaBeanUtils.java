@@ -82,6 +82,20 @@ public final class JodaBeanUtils {
      * The cache of meta-beans.
      */
     private static final StringConvert converter = new StringConvert();
+    /**
+     * The maximum size of the cache of resolved generic types.
+     */
+    private static final int GENERIC_TYPES_MAX_SIZE = 2000;
+    /**
+     * The cache of resolved generic types.
+     */
+    private static final ConcurrentHashMap<GenericTypeKey, GenericTypeValue> genericTypes =
+            new ConcurrentHashMap<GenericTypeKey, GenericTypeValue>();
+    /**
+     * The resolved generic type of a property that has no generic parameters.
+     */
+    private static final GenericTypeValue NO_GENERIC_TYPE =
+            new GenericTypeValue(null, Collections.<Class<?>>emptyList());
 
     /**
      * Restricted constructor.
@@ -635,11 +649,10 @@ public final class JodaBeanUtils {
      * 
      * @param prop  the property to examine, not null
      * @param targetClass  the target type to evaluate against, not null
-     * @return the collection content type generic parameters, empty if unable to determine, no nulls
+     * @return the collection content type generic parameters, unmodifiable, empty if unable to determine, no nulls
      */
     public static List<Class<?>> collectionTypeTypes(MetaProperty<?> prop, Class<?> targetClass) {
-        Type type = extractType(targetClass, prop, 1, 0);
-        return extractTypeClasses(targetClass, type);
+        return genericType(prop, targetClass, 1, 0).typeClasses;
     }
 
     /**
@@ -697,11 +710,10 @@ public final class JodaBeanUtils {
      * 
      * @param prop  the property to examine, not null
      * @param targetClass  the target type to evaluate against, not null
-     * @return the map value type generic parameters, empty if unable to determine, no nulls
+     * @return the map value type generic parameters, unmodifiable, empty if unable to determine, no nulls
      */
     public static List<Class<?>> mapValueTypeTypes(MetaProperty<?> prop, Class<?> targetClass) {
-        Type type = extractType(targetClass, prop, 2, 1);
-        return extractTypeClasses(targetClass, type);
+        return genericType(prop, targetClass, 2, 1).typeClasses;
     }
 
     /**
@@ -714,7 +726,28 @@ public final class JodaBeanUtils {
      * @return the type, null if unable to determine or type has no generic parameters
      */
     public static Class<?> extractTypeClass(MetaProperty<?> prop, Class<?> targetClass, int size, int index) {
-        return eraseToClass(extractType(targetClass, prop, size, index));
+        return genericType(prop, targetClass, size, index).typeClass;
+    }
+
+    // resolving generics is slow, so the result is cached
+    // the key is the declaration of the property, as dynamic beans create meta-properties as needed
+    // once the cache is full, further results are not added, as it holds strong references to classes
+    private static GenericTypeValue genericType(MetaProperty<?> prop, Class<?> targetClass, int size, int index) {
+        Type genType = prop.propertyGenericType();
+        if (genType instanceof ParameterizedType == false) {
+            return NO_GENERIC_TYPE;
+        }
+        GenericTypeKey key = new GenericTypeKey(prop.declaringType(), prop.name(), genType, targetClass, size, index);
+        GenericTypeValue value = genericTypes.get(key);
+        if (value == null) {
+            Type type = extractType(targetClass, prop, size, index);
+            value = new GenericTypeValue(
+                    eraseToClass(type), Collections.unmodifiableList(extractTypeClasses(targetClass, type)));
+            if (genericTypes.size() < GENERIC_TYPES_MAX_SIZE) {
+                genericTypes.putIfAbsent(key, value);
+            }
+        }
+        return value;
     }
 
     private static Type extractType(Class<?> targetClass, MetaProperty<?> prop, int size, int index) {
@@ -933,6 +966,59 @@ public final class JodaBeanUtils {
         }
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * Key for the cache of resolved generic types.
+     * The property is identified by its declaring type, name and generic type,
+     * as a replacement meta-property from a deserializer may have a different type.
+     */
+    private static final class GenericTypeKey {
+        private final Class<?> declaringType;
+        private final String name;
+        private final Type genericType;
+        private final Class<?> targetClass;
+        private final int size;
+        private final int index;
+
+        GenericTypeKey(Class<?> declaringType, String name, Type genericType, Class<?> targetClass, int size, int index) {
+            this.declaringType = declaringType;
+            this.name = name;
+            this.genericType = genericType;
+            this.targetClass = targetClass;
+            this.size = size;
+            this.index = index;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (obj instanceof GenericTypeKey) {
+                GenericTypeKey other = (GenericTypeKey) obj;
+                return declaringType == other.declaringType && targetClass == other.targetClass &&
+                        size == other.size && index == other.index &&
+                        name.equals(other.name) && genericType.equals(other.genericType);
+            }
+            return false;
+        }
+
+        @Override
+        public int hashCode() {
+            return (declaringType.hashCode() * 31 + name.hashCode()) * 31 + targetClass.hashCode() + size * 7 + index;
+        }
+    }
+
+    /**
+     * Value for the cache of resolved generic types.
+     */
+    private static final class GenericTypeValue {
+        private final Class<?> typeClass;
+        private final List<Class<?>> typeClasses;
+
+        GenericTypeValue(Class<?> typeClass, List<Class<?>> typeClasses) {
+            this.typeClass = typeClass;
+            this.typeClasses = typeClasses;
+        }
+    }
+
     //-------------------------------------------------------------------------
     /**
      * Clones an object.
@@ -38,6 +38,7 @@ import org.joda.beans.impl.direct.DirectBean;
 import org.joda.beans.impl.direct.DirectBeanBuilder;
 import org.joda.beans.impl.direct.DirectFieldsBeanBuilder;
 import org.joda.beans.impl.direct.DirectMetaBean;
+import org.joda.beans.impl.direct.DirectMetaProperty;
 import org.joda.beans.impl.direct.DirectMetaPropertyMap;
 import org.joda.beans.impl.light.LightMetaBean;
 
@@ -69,6 +70,8 @@ class BeanGen {
         PRIMITIVE_EQUALS.add("long");
         // not float or double, as Double.equals is not the same as double ==
     }
+    /** Primitive types with accessors on the meta-bean that avoid boxing. */
+    private static final String[] PRIMITIVE_ACCESSOR_TYPES = {"int", "long", "double", "boolean"};
 
     /** The content to process. */
     private final File file;
@@ -847,14 +850,22 @@ class BeanGen {
         generateIndentedSeparator();
         generateMetaGetPropertyValue();
         generateMetaSetPropertyValue();
+        generateMetaGetPropertyValueByIndex();
+        generateMetaSetPropertyValueByIndex();
+        for (String primitiveType : PRIMITIVE_ACCESSOR_TYPES) {
+            generateMetaGetPrimitiveByIndex(primitiveType);
+        }
+        for (String primitiveType : PRIMITIVE_ACCESSOR_TYPES) {
+            generateMetaSetPrimitiveByIndex(primitiveType);
+        }
         generateMetaValidate();
         insertRegion.add("\t}");
         insertRegion.add("");
     }
 
     private void generateMetaPropertyConstants() {
-        for (PropertyGen prop : properties) {
-            insertRegion.addAll(prop.generateMetaPropertyConstant());
+        for (int i = 0; i < properties.size(); i++) {
+            insertRegion.addAll(properties.get(i).generateMetaPropertyConstant(i));
         }
     }
 
@@ -1013,6 +1024,100 @@ class BeanGen {
         insertRegion.add("");
     }
 
+    private void generateMetaGetPropertyValueByIndex() {
+        List<String> cases = new ArrayList<String>();
+        for (int i = 0; i < properties.size(); i++) {
+            cases.addAll(properties.get(i).generatePropertyGetIndexCase(i));
+        }
+        if (cases.isEmpty()) {
+            return;
+        }
+        data.ensureImport(Bean.class);
+        data.ensureImport(NoSuchElementException.class);
+        insertRegion.add("\t\t@Override");
+        insertRegion.add("\t\tprotected Object propertyGet(Bean bean, int propertyIndex) {");
+        insertRegion.add("\t\t\tswitch (propertyIndex) {");
+        insertRegion.addAll(cases);
+        insertRegion.add("\t\t\t}");
+        insertRegion.add("\t\t\tthrow new NoSuchElementException(\"Unknown property index: \" + propertyIndex);");
+        insertRegion.add("\t\t}");
+        insertRegion.add("");
+    }
+
+    private void generateMetaSetPropertyValueByIndex() {
+        List<String> cases = new ArrayList<String>();
+        for (int i = 0; i < properties.size(); i++) {
+            cases.addAll(properties.get(i).generatePropertySetIndexCase(i));
+        }
+        if (cases.isEmpty()) {
+            return;
+        }
+        boolean generics = false;
+        for (PropertyData prop : data.getProperties()) {
+            generics |= (prop.getStyle().isWritable() &&
+                    ((prop.isGeneric() && prop.isGenericWildcardParamType() == false) || data.isTypeGeneric()));
+        }
+        data.ensureImport(Bean.class);
+        data.ensureImport(NoSuchElementException.class);
+        if (generics) {
+            insertRegion.add("\t\t@SuppressWarnings(\"unchecked\")");
+        }
+        insertRegion.add("\t\t@Override");
+        insertRegion.add("\t\tprotected void propertySet(Bean bean, int propertyIndex, Object newValue) {");
+        insertRegion.add("\t\t\tswitch (propertyIndex) {");
+        insertRegion.addAll(cases);
+        insertRegion.add("\t\t\t}");
+        insertRegion.add("\t\t\tthrow new NoSuchElementException(\"Unknown property index: \" + propertyIndex);");
+        insertRegion.add("\t\t}");
+        insertRegion.add("");
+    }
+
+    private void generateMetaGetPrimitiveByIndex(String primitiveType) {
+        List<String> cases = new ArrayList<String>();
+        for (int i = 0; i < properties.size(); i++) {
+            cases.addAll(properties.get(i).generatePropertyGetPrimitiveCase(primitiveType, i));
+        }
+        if (cases.isEmpty()) {
+            return;
+        }
+        data.ensureImport(Bean.class);
+        data.ensureImport(NoSuchElementException.class);
+        insertRegion.add("\t\t@Override");
+        insertRegion.add("\t\tprotected " + primitiveType + " propertyGet" + capitalize(primitiveType) + "(Bean bean, int propertyIndex) {");
+        insertRegion.add("\t\t\tswitch (propertyIndex) {");
+        insertRegion.addAll(cases);
+        insertRegion.add("\t\t\t}");
+        insertRegion.add("\t\t\tthrow new NoSuchElementException(\"Unknown property index: \" + propertyIndex);");
+        insertRegion.add("\t\t}");
+        insertRegion.add("");
+    }
+
+    private void generateMetaSetPrimitiveByIndex(String primitiveType) {
+        List<String> cases = new ArrayList<String>();
+        for (int i = 0; i < properties.size(); i++) {
+            cases.addAll(properties.get(i).generatePropertySetPrimitiveCase(primitiveType, i));
+        }
+        if (cases.isEmpty()) {
+            return;
+        }
+        data.ensureImport(Bean.class);
+        data.ensureImport(NoSuchElementException.class);
+        insertRegion.add("\t\t@Override");
+        insertRegion.add("\t\tprotected void propertySet" + capitalize(primitiveType) +
+                "(Bean bean, int propertyIndex, " + primitiveType + " newValue) {");
+        insertRegion.add("\t\t\tswitch (propertyIndex) {");
+        insertRegion.addAll(cases);
+        insertRegion.add("\t\t\t}");
+        insertRegion.add("\t\t\tthrow new NoSuchElementException(\"Unknown property index: \" + propertyIndex);");
+        insertRegion.add("\t\t}");
+        insertRegion.add("");
+    }
+
+    // converts the primitive type to the suffix of the accessor method name
+    private static String capitalize(String primitiveType) {
+        return Character.toUpperCase(primitiveType.charAt(0)) + primitiveType.substring(1);
+    }
+
     private void generateMetaValidate() {
         if (data.isValidated() == false || data.isImmutable()) {
             return;
@@ -1076,6 +1181,7 @@ class BeanGen {
         generateIndentedSeparator();
         generateBuilderGet();
         generateBuilderSet();
+        generateBuilderSetByIndex();
         generateBuilderOtherSets();
         if (data.isConstructable()) {
             generateBuilderBuilder();
@@ -1183,6 +1289,34 @@ class BeanGen {
         insertRegion.add("");
     }
 
+    private void generateBuilderSetByIndex() {
+        List<PropertyGen> nonDerived = nonDerivedProperties();
+        if (nonDerived.size() == 0) {
+            return;
+        }
+        boolean generics = false;
+        for (PropertyData prop : data.getProperties()) {
+            generics |= (prop.isGeneric() && prop.isGenericWildcardParamType() == false);
+        }
+        if (generics) {
+            insertRegion.add("\t\t@SuppressWarnings(\"unchecked\")");
+        }
+        data.ensureImport(DirectMetaProperty.class);
+        insertRegion.add("\t\t@Override");
+        insertRegion.add("\t\tprotected boolean setByIndex(DirectMetaProperty<?> metaProperty, Object newValue) {");
+        insertRegion.add("\t\t\tif (metaProperty.declaringType() != " + data.getTypeRaw() + ".class) {");
+        insertRegion.add("\t\t\t\treturn super.setByIndex(metaProperty, newValue);");
+        insertRegion.add("\t\t\t}");
+        insertRegion.add("\t\t\tswitch (metaProperty.index()) {");
+        for (PropertyGen prop : nonDerived) {
+            insertRegion.addAll(prop.generateBuilderFieldSetIndex(properties.indexOf(prop)));
+        }
+        insertRegion.add("\t\t\t}");
+        insertRegion.add("\t\t\treturn false;");
+        insertRegion.add("\t\t}");
+        insertRegion.add("");
+    }
+
     private void generateBuilderOtherSets() {
         insertRegion.add("\t\t@Override");
         insertRegion.add("\t\tpublic Builder" + data.getTypeGenericName(true) + " set(MetaProperty<?> property, Object value) {");
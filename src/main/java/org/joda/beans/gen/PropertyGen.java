@@ -47,7 +47,7 @@ class PropertyGen {
     }
 
     //-----------------------------------------------------------------------
-    List<String> generateMetaPropertyConstant() {
+    List<String> generateMetaPropertyConstant(int index) {
         data.getBean().ensureImport(MetaProperty.class);
         data.getBean().ensureImport(DirectMetaProperty.class);
         List<String> list = new ArrayList<String>();
@@ -59,7 +59,7 @@ class PropertyGen {
             list.add("\t\tprivate final MetaProperty<" + propertyType() + "> " + data.getMetaFieldName() +
                 " = (DirectMetaProperty) DirectMetaProperty.of" + readWrite() + "(");
             list.add("\t\t\t\tthis, \"" + data.getPropertyName() + "\", " +
-                data.getBean().getTypeRaw() + ".class, " + actualType() + ");");
+                data.getBean().getTypeRaw() + ".class, " + actualType() + ", " + index + ");");
         } else {
             String propertyType = propertyType();
             if (propertyType.length() == 1) {
@@ -71,7 +71,7 @@ class PropertyGen {
             list.add("\t\tprivate final MetaProperty<" + propertyType + "> " + data.getMetaFieldName() +
                 " = DirectMetaProperty.of" + readWrite() + "(");
             list.add("\t\t\t\tthis, \"" + data.getPropertyName() + "\", " +
-                data.getBean().getTypeRaw() + ".class, " + actualType() + ");");
+                data.getBean().getTypeRaw() + ".class, " + actualType() + ", " + index + ");");
         }
         return list;
     }
@@ -155,6 +155,24 @@ class PropertyGen {
         return list;
     }
 
+    List<String> generatePropertyGetIndexCase(int index) {
+        List<String> list = new ArrayList<String>();
+        if (data.getStyle().isReadable()) {
+            list.add("\t\t\t\tcase " + index + ":  // " + data.getPropertyName());
+            list.add("\t\t\t\t\treturn ((" + data.getBean().getTypeWildcard() + ") bean)." + data.getGetterGen().generateGetInvoke(data) + ";");
+        }
+        return list;
+    }
+
+    List<String> generatePropertyGetPrimitiveCase(String primitiveType, int index) {
+        List<String> list = new ArrayList<String>();
+        if (data.getType().equals(primitiveType) && data.getStyle().isReadable()) {
+            list.add("\t\t\t\tcase " + index + ":  // " + data.getPropertyName());
+            list.add("\t\t\t\t\treturn ((" + data.getBean().getTypeWildcard() + ") bean)." + data.getGetterGen().generateGetInvoke(data) + ";");
+        }
+        return list;
+    }
+
     List<String> generatePropertySetCase() {
         List<String> list = new ArrayList<String>();
         list.add("\t\t\t\tcase " + data.getPropertyName().hashCode() + ":  // " + data.getPropertyName());
@@ -174,6 +192,36 @@ class PropertyGen {
         return list;
     }
 
+    List<String> generatePropertySetIndexCase(int index) {
+        List<String> list = new ArrayList<String>();
+        if (data.getStyle().isWritable()) {
+            list.add("\t\t\t\tcase " + index + ":  // " + data.getPropertyName());
+            String setter = data.getSetterGen().generateSetInvoke(data, castObjectUnlessObject(propertyType()) + "newValue");
+            if (setter != null) {
+                list.add("\t\t\t\t\t((" + data.getBean().getTypeNoExtends() + ") bean)." + setter + ";");
+                list.add("\t\t\t\t\treturn;");
+            } else {
+                list.add("\t\t\t\t\tthrow new UnsupportedOperationException(\"Property cannot be written: " + data.getPropertyName() + "\");");
+            }
+        }
+        return list;
+    }
+
+    List<String> generatePropertySetPrimitiveCase(String primitiveType, int index) {
+        List<String> list = new ArrayList<String>();
+        if (data.getType().equals(primitiveType) && data.getStyle().isWritable()) {
+            list.add("\t\t\t\tcase " + index + ":  // " + data.getPropertyName());
+            String setter = data.getSetterGen().generateSetInvoke(data, "newValue");
+            if (setter != null) {
+                list.add("\t\t\t\t\t((" + data.getBean().getTypeNoExtends() + ") bean)." + setter + ";");
+                list.add("\t\t\t\t\treturn;");
+            } else {
+                list.add("\t\t\t\t\tthrow new UnsupportedOperationException(\"Property cannot be written: " + data.getPropertyName() + "\");");
+            }
+        }
+        return list;
+    }
+
     //-----------------------------------------------------------------------
     List<String> generateBuilderField() {
         return data.getBuilderGen().generateField("\t\t", data);
@@ -204,6 +252,14 @@ class PropertyGen {
         return list;
     }
 
+    List<String> generateBuilderFieldSetIndex(int index) {
+        List<String> list = new ArrayList<String>();
+        list.add("\t\t\t\tcase " + index + ":  // " + data.getPropertyName());
+        list.add("\t\t\t\t\tthis." + generateBuilderFieldName() + " = " + castObjectUnlessObject(propertyType(getBuilderType())) + "newValue;");
+        list.add("\t\t\t\t\treturn true;");
+        return list;
+    }
+
     String generateBuilderFieldName() {
         return data.getFieldName();
     }
@@ -340,6 +396,14 @@ class PropertyGen {
         return "(" + pt + ") ";
     }
 
+    // the cast from Object, omitted if redundant
+    private static String castObjectUnlessObject(String type) {
+        if (type.equals("Object")) {
+            return "";
+        }
+        return "(" + type + ") ";
+    }
+
     private String propertyType() {
         return propertyType(data.getType());
     }
@@ -67,6 +67,143 @@ public abstract class BasicMetaProperty<P> implements MetaProperty<P> {
         return old;
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the value of an {@code int} property for the specified bean.
+     * <p>
+     * This is equivalent to {@link #get(Bean)}, but allows subclasses to avoid boxing.
+     * This implementation calls {@code get(Bean)}.
+     * 
+     * @param bean  the bean to query, not null
+     * @return the value of the property on the specified bean
+     * @throws ClassCastException if the bean is of an incorrect type
+     * @throws ClassCastException if the value is not an {@code int}
+     * @throws NullPointerException if the value is null
+     * @throws UnsupportedOperationException if the property is write-only
+     */
+    public int getInt(Bean bean) {
+        return (Integer) get(bean);
+    }
+
+    /**
+     * Gets the value of a {@code long} property for the specified bean.
+     * <p>
+     * This is equivalent to {@link #get(Bean)}, but allows subclasses to avoid boxing.
+     * This implementation calls {@code get(Bean)}.
+     * 
+     * @param bean  the bean to query, not null
+     * @return the value of the property on the specified bean
+     * @throws ClassCastException if the bean is of an incorrect type
+     * @throws ClassCastException if the value is not a {@code long}
+     * @throws NullPointerException if the value is null
+     * @throws UnsupportedOperationException if the property is write-only
+     */
+    public long getLong(Bean bean) {
+        return (Long) get(bean);
+    }
+
+    /**
+     * Gets the value of a {@code double} property for the specified bean.
+     * <p>
+     * This is equivalent to {@link #get(Bean)}, but allows subclasses to avoid boxing.
+     * This implementation calls {@code get(Bean)}.
+     * 
+     * @param bean  the bean to query, not null
+     * @return the value of the property on the specified bean
+     * @throws ClassCastException if the bean is of an incorrect type
+     * @throws ClassCastException if the value is not a {@code double}
+     * @throws NullPointerException if the value is null
+     * @throws UnsupportedOperationException if the property is write-only
+     */
+    public double getDouble(Bean bean) {
+        return (Double) get(bean);
+    }
+
+    /**
+     * Gets the value of a {@code boolean} property for the specified bean.
+     * <p>
+     * This is equivalent to {@link #get(Bean)}, but allows subclasses to avoid boxing.
+     * This implementation calls {@code get(Bean)}.
+     * 
+     * @param bean  the bean to query, not null
+     * @return the value of the property on the specified bean
+     * @throws ClassCastException if the bean is of an incorrect type
+     * @throws ClassCastException if the value is not a {@code boolean}
+     * @throws NullPointerException if the value is null
+     * @throws UnsupportedOperationException if the property is write-only
+     */
+    public boolean getBoolean(Bean bean) {
+        return (Boolean) get(bean);
+    }
+
+    /**
+     * Sets the value of an {@code int} property on the specified bean.
+     * <p>
+     * This is equivalent to {@link #set(Bean, Object)}, but allows subclasses to avoid boxing.
+     * This implementation calls {@code set(Bean, Object)}.
+     * 
+     * @param bean  the bean to update, not null
+     * @param value  the value to set into the property on the specified bean
+     * @throws ClassCastException if the bean is of an incorrect type
+     * @throws ClassCastException if the value is of an invalid type for the property
+     * @throws UnsupportedOperationException if the property is read-only
+     * @throws RuntimeException if the value is rejected by the property (use appropriate subclasses)
+     */
+    public void setInt(Bean bean, int value) {
+        set(bean, Integer.valueOf(value));
+    }
+
+    /**
+     * Sets the value of a {@code long} property on the specified bean.
+     * <p>
+     * This is equivalent to {@link #set(Bean, Object)}, but allows subclasses to avoid boxing.
+     * This implementation calls {@code set(Bean, Object)}.
+     * 
+     * @param bean  the bean to update, not null
+     * @param value  the value to set into the property on the specified bean
+     * @throws ClassCastException if the bean is of an incorrect type
+     * @throws ClassCastException if the value is of an invalid type for the property
+     * @throws UnsupportedOperationException if the property is read-only
+     * @throws RuntimeException if the value is rejected by the property (use appropriate subclasses)
+     */
+    public void setLong(Bean bean, long value) {
+        set(bean, Long.valueOf(value));
+    }
+
+    /**
+     * Sets the value of a {@code double} property on the specified bean.
+     * <p>
+     * This is equivalent to {@link #set(Bean, Object)}, but allows subclasses to avoid boxing.
+     * This implementation calls {@code set(Bean, Object)}.
+     * 
+     * @param bean  the bean to update, not null
+     * @param value  the value to set into the property on the specified bean
+     * @throws ClassCastException if the bean is of an incorrect type
+     * @throws ClassCastException if the value is of an invalid type for the property
+     * @throws UnsupportedOperationException if the property is read-only
+     * @throws RuntimeException if the value is rejected by the property (use appropriate subclasses)
+     */
+    public void setDouble(Bean bean, double value) {
+        set(bean, Double.valueOf(value));
+    }
+
+    /**
+     * Sets the value of a {@code boolean} property on the specified bean.
+     * <p>
+     * This is equivalent to {@link #set(Bean, Object)}, but allows subclasses to avoid boxing.
+     * This implementation calls {@code set(Bean, Object)}.
+     * 
+     * @param bean  the bean to update, not null
+     * @param value  the value to set into the property on the specified bean
+     * @throws ClassCastException if the bean is of an incorrect type
+     * @throws ClassCastException if the value is of an invalid type for the property
+     * @throws UnsupportedOperationException if the property is read-only
+     * @throws RuntimeException if the value is rejected by the property (use appropriate subclasses)
+     */
+    public void setBoolean(Bean bean, boolean value) {
+        set(bean, Boolean.valueOf(value));
+    }
+
     //-----------------------------------------------------------------------
     @Override
     public String getString(Bean bean) {
@@ -56,6 +56,9 @@ public abstract class DirectFieldsBeanBuilder<T extends Bean>
     @Override
     public BeanBuilder<T> set(MetaProperty<?> metaProperty, Object value) {
         try {
+            if (metaProperty instanceof DirectMetaProperty && setByIndex((DirectMetaProperty<?>) metaProperty, value)) {
+                return this;
+            }
             set(metaProperty.name(), value);
             return this;
         } catch (RuntimeException ex) {
@@ -66,6 +69,21 @@ public abstract class DirectFieldsBeanBuilder<T extends Bean>
         }
     }
 
+    /**
+     * Sets the value of a single property into the builder using the index of the meta-property.
+     * <p>
+     * The index is only valid for the meta-bean declaring the property, thus the
+     * implementation must check the declaring type before using the index.
+     * This implementation returns false, and is overridden in generated subclasses.
+     * 
+     * @param metaProperty  the meta-property, not null
+     * @param value  the value of the property, may be null
+     * @return true if the value was set, false to set the value using the property name
+     */
+    protected boolean setByIndex(DirectMetaProperty<?> metaProperty, Object value) {
+        return false;
+    }
+
     @Override
     public BeanBuilder<T> setString(MetaProperty<?> metaProperty, String value) {
         try {
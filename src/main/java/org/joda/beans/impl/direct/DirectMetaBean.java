@@ -102,6 +102,158 @@ public abstract class DirectMetaBean extends BasicMetaBean {
         throw new NoSuchElementException("Unknown property: " + propertyName);
     }
 
+    /**
+     * Gets the value of the property by index.
+     * <p>
+     * The index is that of the meta-property within this meta-bean, as assigned
+     * by the code generator. It is not valid for properties of a superclass.
+     * This implementation throws an exception, and is overridden in generated subclasses.
+     * 
+     * @param bean  the bean to query, not null
+     * @param propertyIndex  the index of the property
+     * @return the value of the property, may be null
+     * @throws NoSuchElementException if the property index is invalid
+     */
+    protected Object propertyGet(Bean bean, int propertyIndex) {
+        throw new NoSuchElementException("Unknown property index: " + propertyIndex);
+    }
+
+    /**
+     * Sets the value of the property by index.
+     * <p>
+     * The index is that of the meta-property within this meta-bean, as assigned
+     * by the code generator. It is not valid for properties of a superclass.
+     * This implementation throws an exception, and is overridden in generated subclasses.
+     * 
+     * @param bean  the bean to update, not null
+     * @param propertyIndex  the index of the property
+     * @param value  the value of the property, may be null
+     * @throws NoSuchElementException if the property index is invalid
+     */
+    protected void propertySet(Bean bean, int propertyIndex, Object value) {
+        throw new NoSuchElementException("Unknown property index: " + propertyIndex);
+    }
+
+    /**
+     * Gets the value of an {@code int} property by index.
+     * <p>
+     * This implementation unboxes the result of {@link #propertyGet(Bean, int)},
+     * and is overridden in generated subclasses to avoid boxing.
+     * 
+     * @param bean  the bean to query, not null
+     * @param propertyIndex  the index of the property
+     * @return the value of the property
+     * @throws NoSuchElementException if the property index is invalid
+     */
+    protected int propertyGetInt(Bean bean, int propertyIndex) {
+        return (Integer) propertyGet(bean, propertyIndex);
+    }
+
+    /**
+     * Gets the value of a {@code long} property by index.
+     * <p>
+     * This implementation unboxes the result of {@link #propertyGet(Bean, int)},
+     * and is overridden in generated subclasses to avoid boxing.
+     * 
+     * @param bean  the bean to query, not null
+     * @param propertyIndex  the index of the property
+     * @return the value of the property
+     * @throws NoSuchElementException if the property index is invalid
+     */
+    protected long propertyGetLong(Bean bean, int propertyIndex) {
+        return (Long) propertyGet(bean, propertyIndex);
+    }
+
+    /**
+     * Gets the value of a {@code double} property by index.
+     * <p>
+     * This implementation unboxes the result of {@link #propertyGet(Bean, int)},
+     * and is overridden in generated subclasses to avoid boxing.
+     * 
+     * @param bean  the bean to query, not null
+     * @param propertyIndex  the index of the property
+     * @return the value of the property
+     * @throws NoSuchElementException if the property index is invalid
+     */
+    protected double propertyGetDouble(Bean bean, int propertyIndex) {
+        return (Double) propertyGet(bean, propertyIndex);
+    }
+
+    /**
+     * Gets the value of a {@code boolean} property by index.
+     * <p>
+     * This implementation unboxes the result of {@link #propertyGet(Bean, int)},
+     * and is overridden in generated subclasses to avoid boxing.
+     * 
+     * @param bean  the bean to query, not null
+     * @param propertyIndex  the index of the property
+     * @return the value of the property
+     * @throws NoSuchElementException if the property index is invalid
+     */
+    protected boolean propertyGetBoolean(Bean bean, int propertyIndex) {
+        return (Boolean) propertyGet(bean, propertyIndex);
+    }
+
+    /**
+     * Sets the value of an {@code int} property by index.
+     * <p>
+     * This implementation boxes the value and calls {@link #propertySet(Bean, int, Object)},
+     * and is overridden in generated subclasses to avoid boxing.
+     * 
+     * @param bean  the bean to update, not null
+     * @param propertyIndex  the index of the property
+     * @param value  the value of the property
+     * @throws NoSuchElementException if the property index is invalid
+     */
+    protected void propertySetInt(Bean bean, int propertyIndex, int value) {
+        propertySet(bean, propertyIndex, Integer.valueOf(value));
+    }
+
+    /**
+     * Sets the value of a {@code long} property by index.
+     * <p>
+     * This implementation boxes the value and calls {@link #propertySet(Bean, int, Object)},
+     * and is overridden in generated subclasses to avoid boxing.
+     * 
+     * @param bean  the bean to update, not null
+     * @param propertyIndex  the index of the property
+     * @param value  the value of the property
+     * @throws NoSuchElementException if the property index is invalid
+     */
+    protected void propertySetLong(Bean bean, int propertyIndex, long value) {
+        propertySet(bean, propertyIndex, Long.valueOf(value));
+    }
+
+    /**
+     * Sets the value of a {@code double} property by index.
+     * <p>
+     * This implementation boxes the value and calls {@link #propertySet(Bean, int, Object)},
+     * and is overridden in generated subclasses to avoid boxing.
+     * 
+     * @param bean  the bean to update, not null
+     * @param propertyIndex  the index of the property
+     * @param value  the value of the property
+     * @throws NoSuchElementException if the property index is invalid
+     */
+    protected void propertySetDouble(Bean bean, int propertyIndex, double value) {
+        propertySet(bean, propertyIndex, Double.valueOf(value));
+    }
+
+    /**
+     * Sets the value of a {@code boolean} property by index.
+     * <p>
+     * This implementation boxes the value and calls {@link #propertySet(Bean, int, Object)},
+     * and is overridden in generated subclasses to avoid boxing.
+     * 
+     * @param bean  the bean to update, not null
+     * @param propertyIndex  the index of the property
+     * @param value  the value of the property
+     * @throws NoSuchElementException if the property index is invalid
+     */
+    protected void propertySetBoolean(Bean bean, int propertyIndex, boolean value) {
+        propertySet(bean, propertyIndex, Boolean.valueOf(value));
+    }
+
     /**
      * Validates the values of the properties.
      * 
@@ -32,6 +32,7 @@ import org.joda.beans.impl.BasicMetaProperty;
  * A meta-property implementation designed for use by the code generator.
  * <p>
  * This meta-property uses reflection to find the {@code Field} to obtain the annotations.
+ * If the code generator assigned an index, the value is accessed by index rather than by name.
  * 
  * @param <P>  the type of the property content
  * @author Stephen Colebourne
@@ -48,6 +49,12 @@ public final class DirectMetaProperty<P> extends BasicMetaProperty<P> {
     private final Field field;
     /** The style. */
     private final PropertyStyle style;
+    /** The index of the property within the declaring meta-bean, -1 if none. */
+    private final int index;
+    /** The meta-bean to access the property by index, null if not readable by index. */
+    private final DirectMetaBean indexedGetter;
+    /** The meta-bean to access the property by index, null if not writable by index. */
+    private final DirectMetaBean indexedSetter;
 
     /**
      * Factory to create a read-write meta-property avoiding duplicate generics.
@@ -61,8 +68,24 @@ public final class DirectMetaProperty<P> extends BasicMetaProperty<P> {
      */
     public static <P> DirectMetaProperty<P> ofReadWrite(
             MetaBean metaBean, String propertyName, Class<?> declaringType, Class<P> propertyType) {
+        return ofReadWrite(metaBean, propertyName, declaringType, propertyType, -1);
+    }
+
+    /**
+     * Factory to create a read-write meta-property with an index avoiding duplicate generics.
+     * 
+     * @param <P>  the property type
+     * @param metaBean  the meta-bean, not null
+     * @param propertyName  the property name, not empty
+     * @param declaringType  the type declaring the property, not null
+     * @param propertyType  the property type, not null
+     * @param index  the index of the property within the declaring meta-bean, -1 if none
+     * @return the property, not null
+     */
+    public static <P> DirectMetaProperty<P> ofReadWrite(
+            MetaBean metaBean, String propertyName, Class<?> declaringType, Class<P> propertyType, int index) {
         Field field = findField(metaBean, propertyName);
-        return new DirectMetaProperty<P>(metaBean, propertyName, declaringType, propertyType, PropertyStyle.READ_WRITE, field);
+        return new DirectMetaProperty<P>(metaBean, propertyName, declaringType, propertyType, PropertyStyle.READ_WRITE, field, index);
     }
 
     /**
@@ -77,8 +100,24 @@ public final class DirectMetaProperty<P> extends BasicMetaProperty<P> {
      */
     public static <P> DirectMetaProperty<P> ofReadOnly(
             MetaBean metaBean, String propertyName, Class<?> declaringType, Class<P> propertyType) {
+        return ofReadOnly(metaBean, propertyName, declaringType, propertyType, -1);
+    }
+
+    /**
+     * Factory to create a read-only meta-property with an index avoiding duplicate generics.
+     * 
+     * @param <P>  the property type
+     * @param metaBean  the meta-bean, not null
+     * @param propertyName  the property name, not empty
+     * @param declaringType  the type declaring the property, not null
+     * @param propertyType  the property type, not null
+     * @param index  the index of the property within the declaring meta-bean, -1 if none
+     * @return the property, not null
+     */
+    public static <P> DirectMetaProperty<P> ofReadOnly(
+            MetaBean metaBean, String propertyName, Class<?> declaringType, Class<P> propertyType, int index) {
         Field field = findField(metaBean, propertyName);
-        return new DirectMetaProperty<P>(metaBean, propertyName, declaringType, propertyType, PropertyStyle.READ_ONLY, field);
+        return new DirectMetaProperty<P>(metaBean, propertyName, declaringType, propertyType, PropertyStyle.READ_ONLY, field, index);
     }
 
     /**
@@ -93,8 +132,24 @@ public final class DirectMetaProperty<P> extends BasicMetaProperty<P> {
      */
     public static <P> DirectMetaProperty<P> ofWriteOnly(
             MetaBean metaBean, String propertyName, Class<?> declaringType, Class<P> propertyType) {
+        return ofWriteOnly(metaBean, propertyName, declaringType, propertyType, -1);
+    }
+
+    /**
+     * Factory to create a write-only meta-property with an index avoiding duplicate generics.
+     * 
+     * @param <P>  the property type
+     * @param metaBean  the meta-bean, not null
+     * @param propertyName  the property name, not empty
+     * @param declaringType  the type declaring the property, not null
+     * @param propertyType  the property type, not null
+     * @param index  the index of the property within the declaring meta-bean, -1 if none
+     * @return the property, not null
+     */
+    public static <P> DirectMetaProperty<P> ofWriteOnly(
+            MetaBean metaBean, String propertyName, Class<?> declaringType, Class<P> propertyType, int index) {
         Field field = findField(metaBean, propertyName);
-        return new DirectMetaProperty<P>(metaBean, propertyName, declaringType, propertyType, PropertyStyle.WRITE_ONLY, field);
+        return new DirectMetaProperty<P>(metaBean, propertyName, declaringType, propertyType, PropertyStyle.WRITE_ONLY, field, index);
     }
 
     /**
@@ -109,8 +164,24 @@ public final class DirectMetaProperty<P> extends BasicMetaProperty<P> {
      */
     public static <P> DirectMetaProperty<P> ofReadOnlyBuildable(
             MetaBean metaBean, String propertyName, Class<?> declaringType, Class<P> propertyType) {
+        return ofReadOnlyBuildable(metaBean, propertyName, declaringType, propertyType, -1);
+    }
+
+    /**
+     * Factory to create a buildable read-only meta-property with an index avoiding duplicate generics.
+     * 
+     * @param <P>  the property type
+     * @param metaBean  the meta-bean, not null
+     * @param propertyName  the property name, not empty
+     * @param declaringType  the type declaring the property, not null
+     * @param propertyType  the property type, not null
+     * @param index  the index of the property within the declaring meta-bean, -1 if none
+     * @return the property, not null
+     */
+    public static <P> DirectMetaProperty<P> ofReadOnlyBuildable(
+            MetaBean metaBean, String propertyName, Class<?> declaringType, Class<P> propertyType, int index) {
         Field field = findField(metaBean, propertyName);
-        return new DirectMetaProperty<P>(metaBean, propertyName, declaringType, propertyType, PropertyStyle.READ_ONLY_BUILDABLE, field);
+        return new DirectMetaProperty<P>(metaBean, propertyName, declaringType, propertyType, PropertyStyle.READ_ONLY_BUILDABLE, field, index);
     }
 
     /**
@@ -125,8 +196,24 @@ public final class DirectMetaProperty<P> extends BasicMetaProperty<P> {
      */
     public static <P> DirectMetaProperty<P> ofDerived(
             MetaBean metaBean, String propertyName, Class<?> declaringType, Class<P> propertyType) {
+        return ofDerived(metaBean, propertyName, declaringType, propertyType, -1);
+    }
+
+    /**
+     * Factory to create a derived read-only meta-property with an index avoiding duplicate generics.
+     * 
+     * @param <P>  the property type
+     * @param metaBean  the meta-bean, not null
+     * @param propertyName  the property name, not empty
+     * @param declaringType  the type declaring the property, not null
+     * @param propertyType  the property type, not null
+     * @param index  the index of the property within the declaring meta-bean, -1 if none
+     * @return the property, not null
+     */
+    public static <P> DirectMetaProperty<P> ofDerived(
+            MetaBean metaBean, String propertyName, Class<?> declaringType, Class<P> propertyType, int index) {
         Field field = findField(metaBean, propertyName);
-        return new DirectMetaProperty<P>(metaBean, propertyName, declaringType, propertyType, PropertyStyle.DERIVED, field);
+        return new DirectMetaProperty<P>(metaBean, propertyName, declaringType, propertyType, PropertyStyle.DERIVED, field, index);
     }
 
     /**
@@ -141,8 +228,24 @@ public final class DirectMetaProperty<P> extends BasicMetaProperty<P> {
      */
     public static <P> DirectMetaProperty<P> ofImmutable(
             MetaBean metaBean, String propertyName, Class<?> declaringType, Class<P> propertyType) {
+        return ofImmutable(metaBean, propertyName, declaringType, propertyType, -1);
+    }
+
+    /**
+     * Factory to create an imutable meta-property with an index avoiding duplicate generics.
+     * 
+     * @param <P>  the property type
+     * @param metaBean  the meta-bean, not null
+     * @param propertyName  the property name, not empty
+     * @param declaringType  the type declaring the property, not null
+     * @param propertyType  the property type, not null
+     * @param index  the index of the property within the declaring meta-bean, -1 if none
+     * @return the property, not null
+     */
+    public static <P> DirectMetaProperty<P> ofImmutable(
+            MetaBean metaBean, String propertyName, Class<?> declaringType, Class<P> propertyType, int index) {
         Field field = findField(metaBean, propertyName);
-        return new DirectMetaProperty<P>(metaBean, propertyName, declaringType, propertyType, PropertyStyle.IMMUTABLE, field);
+        return new DirectMetaProperty<P>(metaBean, propertyName, declaringType, propertyType, PropertyStyle.IMMUTABLE, field, index);
     }
 
     private static Field findField(MetaBean metaBean, String propertyName) {
@@ -173,9 +276,10 @@ public final class DirectMetaProperty<P> extends BasicMetaProperty<P> {
      * @param propertyType  the property type, not null
      * @param style  the style, not null
      * @param field  the reflected field, not null
+     * @param index  the index of the property within the declaring meta-bean, -1 if none
      */
     private DirectMetaProperty(MetaBean metaBean, String propertyName, Class<?> declaringType,
-            Class<P> propertyType, PropertyStyle style, Field field) {
+            Class<P> propertyType, PropertyStyle style, Field field, int index) {
         super(propertyName);
         if (metaBean == null) {
             throw new NullPointerException("MetaBean must not be null");
@@ -194,6 +298,11 @@ public final class DirectMetaProperty<P> extends BasicMetaProperty<P> {
         this.declaringType = declaringType;
         this.style = style;
         this.field = field;  // may be null
+        this.index = index;
+        // the meta-bean of a subclass also holds the inherited properties, which it cannot access by index
+        boolean indexed = (index >= 0 && metaBean instanceof DirectMetaBean && metaBean.beanType() == declaringType);
+        this.indexedGetter = (indexed && style.isReadable() ? (DirectMetaBean) metaBean : null);
+        this.indexedSetter = (indexed && style.isWritable() ? (DirectMetaBean) metaBean : null);
     }
 
     //-----------------------------------------------------------------------
@@ -245,18 +354,105 @@ public final class DirectMetaProperty<P> extends BasicMetaProperty<P> {
         return Arrays.asList(field.getDeclaredAnnotations());
     }
 
+    /**
+     * Gets the index of the property within the declaring meta-bean.
+     * <p>
+     * The index is assigned by the code generator, in the order the properties are declared.
+     * It is used to access the property without using the name.
+     * 
+     * @return the index, -1 if not known
+     */
+    public int index() {
+        return index;
+    }
+
     //-----------------------------------------------------------------------
     @SuppressWarnings("unchecked")
     @Override
     public P get(Bean bean) {
+        if (indexedGetter != null) {
+            return (P) indexedGetter.propertyGet(bean, index);
+        }
         DirectMetaBean meta = (DirectMetaBean) bean.metaBean();
         return (P) meta.propertyGet(bean, name(), false);
     }
 
     @Override
     public void set(Bean bean, Object value) {
+        if (indexedSetter != null) {
+            indexedSetter.propertySet(bean, index, value);
+            return;
+        }
         DirectMetaBean meta = (DirectMetaBean) bean.metaBean();
         meta.propertySet(bean, name(), value, false);
     }
 
+    @Override
+    public int getInt(Bean bean) {
+        if (indexedGetter != null && propertyType == int.class) {
+            return indexedGetter.propertyGetInt(bean, index);
+        }
+        return super.getInt(bean);
+    }
+
+    @Override
+    public long getLong(Bean bean) {
+        if (indexedGetter != null && propertyType == long.class) {
+            return indexedGetter.propertyGetLong(bean, index);
+        }
+        return super.getLong(bean);
+    }
+
+    @Override
+    public double getDouble(Bean bean) {
+        if (indexedGetter != null && propertyType == double.class) {
+            return indexedGetter.propertyGetDouble(bean, index);
+        }
+        return super.getDouble(bean);
+    }
+
+    @Override
+    public boolean getBoolean(Bean bean) {
+        if (indexedGetter != null && propertyType == boolean.class) {
+            return indexedGetter.propertyGetBoolean(bean, index);
+        }
+        return super.getBoolean(bean);
+    }
+
+    @Override
+    public void setInt(Bean bean, int value) {
+        if (indexedSetter != null && propertyType == int.class) {
+            indexedSetter.propertySetInt(bean, index, value);
+            return;
+        }
+        super.setInt(bean, value);
+    }
+
+    @Override
+    public void setLong(Bean bean, long value) {
+        if (indexedSetter != null && propertyType == long.class) {
+            indexedSetter.propertySetLong(bean, index, value);
+            return;
+        }
+        super.setLong(bean, value);
+    }
+
+    @Override
+    public void setDouble(Bean bean, double value) {
+        if (indexedSetter != null && propertyType == double.class) {
+            indexedSetter.propertySetDouble(bean, index, value);
+            return;
+        }
+        super.setDouble(bean, value);
+    }
+
+    @Override
+    public void setBoolean(Bean bean, boolean value) {
+        if (indexedSetter != null && propertyType == boolean.class) {
+            indexedSetter.propertySetBoolean(bean, index, value);
+            return;
+        }
+        super.setBoolean(bean, value);
+    }
+
 }
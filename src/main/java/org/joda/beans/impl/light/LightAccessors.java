@@ -0,0 +1,161 @@
+/*
+ *  Copyright 2001-2016 Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.beans.impl.light;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+
+import org.joda.beans.Bean;
+
+/**
+ * Factory for the accessors used by light beans, using reflection.
+ * <p>
+ * The accessors are created once, when the meta-bean is created.
+ * When running on Java 8 or later, the subclass {@code MethodHandleAccessors} is used
+ * if it is present, which is compiled separately as the main code targets Java 6.
+ * This implementation is the fallback when it is absent, or it cannot access a member.
+ *
+ * @author Stephen Colebourne
+ */
+class LightAccessors {
+
+    /**
+     * The name of the Java 8 implementation.
+     */
+    private static final String METHOD_HANDLE_ACCESSORS = "org.joda.beans.impl.light.MethodHandleAccessors";
+    /**
+     * The instance to use.
+     */
+    static final LightAccessors INSTANCE = load();
+
+    // loads the Java 8 implementation if available
+    private static LightAccessors load() {
+        try {
+            Class<?> cls = Class.forName(METHOD_HANDLE_ACCESSORS);
+            return (LightAccessors) cls.newInstance();
+        } catch (Exception ex) {
+            return new LightAccessors();
+        } catch (LinkageError ex) {
+            return new LightAccessors();
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Creates a getter that reads a field.
+     *
+     * @param field  the field, accessible, not null
+     * @param propertyName  the property name, not null
+     * @return the getter, not null
+     */
+    PropertyGetter fieldGetter(final Field field, final String propertyName) {
+        return new PropertyGetter() {
+            @Override
+            public Object get(Bean bean) {
+                try {
+                    return field.get(bean);
+                } catch (IllegalArgumentException ex) {
+                    throw new UnsupportedOperationException("Property cannot be read: " + propertyName, ex);
+                } catch (IllegalAccessException ex) {
+                    throw new UnsupportedOperationException("Property cannot be read: " + propertyName, ex);
+                }
+            }
+        };
+    }
+
+    /**
+     * Creates a getter that invokes a method.
+     *
+     * @param method  the method, accessible, not null
+     * @param propertyName  the property name, not null
+     * @return the getter, not null
+     */
+    PropertyGetter methodGetter(final Method method, final String propertyName) {
+        return new PropertyGetter() {
+            @Override
+            public Object get(Bean bean) {
+                try {
+                    return method.invoke(bean);
+                } catch (IllegalArgumentException ex) {
+                    throw new UnsupportedOperationException("Property cannot be read: " + propertyName, ex);
+                } catch (IllegalAccessException ex) {
+                    throw new UnsupportedOperationException("Property cannot be read: " + propertyName, ex);
+                } catch (InvocationTargetException ex) {
+                    if (ex.getCause() instanceof RuntimeException) {
+                        throw (RuntimeException) ex.getCause();
+                    }
+                    throw new RuntimeException(ex);
+                }
+            }
+        };
+    }
+
+    /**
+     * Creates a creator that invokes a constructor.
+     *
+     * @param <T>  the type of the bean
+     * @param constructor  the constructor, accessible, not null
+     * @param beanName  the bean name, not null
+     * @return the creator, not null
+     */
+    <T> BeanCreator<T> creator(final Constructor<T> constructor, final String beanName) {
+        return new BeanCreator<T>() {
+            @Override
+            public T create(Object[] args) {
+                try {
+                    return constructor.newInstance(args);
+
+                } catch (IllegalArgumentException ex) {
+                    throw new IllegalArgumentException(
+                            "Bean cannot be created: " + beanName + " from " + Arrays.toString(args), ex);
+                } catch (IllegalAccessException ex) {
+                    throw new UnsupportedOperationException(
+                            "Bean cannot be created: " + beanName + " from " + Arrays.toString(args), ex);
+                } catch (InstantiationException ex) {
+                    throw new UnsupportedOperationException(
+                            "Bean cannot be created: " + beanName + " from " + Arrays.toString(args), ex);
+                } catch (InvocationTargetException ex) {
+                    if (ex.getCause() instanceof RuntimeException) {
+                        throw (RuntimeException) ex.getCause();
+                    }
+                    throw new RuntimeException(ex);
+                }
+            }
+        };
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Creates a bean from the constructor arguments.
+     *
+     * @param <T>  the type of the bean
+     */
+    interface BeanCreator<T> {
+
+        /**
+         * Creates the bean.
+         *
+         * @param args  the constructor arguments, not null
+         * @return the bean, not null
+         * @throws IllegalArgumentException if an argument has the wrong type
+         */
+        T create(Object[] args);
+    }
+
+}
@@ -17,7 +17,6 @@ package org.joda.beans.impl.light;
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.util.ArrayList;
@@ -38,6 +37,9 @@ import org.joda.beans.impl.BasicPropertyMap;
 /**
  * A light meta-bean implementation that operates using reflection.
  * <p>
+ * The members are found using reflection when the meta-bean is created.
+ * On Java 8 and later, they are then accessed using method handles where possible.
+ * <p>
  * The properties are found using the {@link PropertyDefinition} annotation.
  * Only immutable beans are supported.
  * There must be a constructor matching the property definitions (arguments of same order and types).
@@ -53,6 +55,8 @@ public final class LightMetaBean<T extends Bean> implements MetaBean {
     private final Map<String, MetaProperty<?>> metaPropertyMap;
     /** The constructor to use. */
     private final Constructor<T> constructor;
+    /** The creator of beans, invoking the constructor. */
+    private final LightAccessors.BeanCreator<T> creator;
     /** The construction data array. */
     private final Object[] constructionData;
 
@@ -112,6 +116,7 @@ public final class LightMetaBean<T extends Bean> implements MetaBean {
         }
         this.metaPropertyMap = Collections.unmodifiableMap(map);
         this.constructor = findConstructor(beanType, propertyTypes);
+        this.creator = LightAccessors.INSTANCE.creator(constructor, beanName());
         this.constructionData = buildConstructionData(constructor);
     }
 
@@ -194,24 +199,7 @@ public final class LightMetaBean<T extends Bean> implements MetaBean {
 
     //-----------------------------------------------------------------------
     T build(Object[] args) {
-        try {
-            return constructor.newInstance(args);
-            
-        } catch (IllegalArgumentException ex) {
-            throw new IllegalArgumentException(
-                    "Bean cannot be created: " + beanName() + " from " + args, ex);
-        } catch (IllegalAccessException ex) {
-            throw new UnsupportedOperationException(
-                    "Bean cannot be created: " + beanName() + " from " + args, ex);
-        } catch (InstantiationException ex) {
-            throw new UnsupportedOperationException(
-                    "Bean cannot be created: " + beanName() + " from " + args, ex);
-        } catch (InvocationTargetException ex) {
-            if (ex.getCause() instanceof RuntimeException) {
-                throw (RuntimeException) ex.getCause();
-            }
-            throw new RuntimeException(ex);
-        }
+        return creator.create(args);
     }
 
     //-----------------------------------------------------------------------
@@ -17,7 +17,6 @@ package org.joda.beans.impl.light;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Type;
 import java.util.Arrays;
@@ -66,22 +65,11 @@ final class LightMetaProperty<P> extends BasicMetaProperty<P> {
     @SuppressWarnings("unchecked")
     static <P> LightMetaProperty<P> of(
             MetaBean metaBean,
-            final Field field,
-            final String propertyName,
+            Field field,
+            String propertyName,
             int constructorIndex) {
         
-        PropertyGetter getter = new PropertyGetter() {
-            @Override
-            public Object get(Bean bean) {
-                try {
-                    return field.get(bean);
-                } catch (IllegalArgumentException ex) {
-                    throw new UnsupportedOperationException("Property cannot be read: " + propertyName, ex);
-                } catch (IllegalAccessException ex) {
-                    throw new UnsupportedOperationException("Property cannot be read: " + propertyName, ex);
-                }
-            }
-        };
+        PropertyGetter getter = LightAccessors.INSTANCE.fieldGetter(field, propertyName);
         return new LightMetaProperty<P>(
                 metaBean, 
                 propertyName, 
@@ -105,27 +93,11 @@ final class LightMetaProperty<P> extends BasicMetaProperty<P> {
     static <P> LightMetaProperty<P> of(
             MetaBean metaBean,
             Field field,
-            final Method method,
-            final String propertyName,
+            Method method,
+            String propertyName,
             int constructorIndex) {
         
-        PropertyGetter getter = new PropertyGetter() {
-            @Override
-            public Object get(Bean bean) {
-                try {
-                    return method.invoke(bean);
-                } catch (IllegalArgumentException ex) {
-                    throw new UnsupportedOperationException("Property cannot be read: " + propertyName, ex);
-                } catch (IllegalAccessException ex) {
-                    throw new UnsupportedOperationException("Property cannot be read: " + propertyName, ex);
-                } catch (InvocationTargetException ex) {
-                    if (ex.getCause() instanceof RuntimeException) {
-                        throw (RuntimeException) ex.getCause();
-                    }
-                    throw new RuntimeException(ex);
-                }
-            }
-        };
+        PropertyGetter getter = LightAccessors.INSTANCE.methodGetter(method, propertyName);
         // special case for optional
         Class<P> propertyType = (Class<P>) field.getType();
         Type propertyGenericType = field.getGenericType();
@@ -0,0 +1,194 @@
+/*
+ *  Copyright 2001-2016 Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.beans.impl.reflection;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+import org.joda.beans.Bean;
+
+/**
+ * Factory for the invokers used by reflective beans, using reflection.
+ * <p>
+ * The invokers are created once, when the meta-property or meta-bean is created.
+ * When running on Java 8 or later, the subclass {@code MethodHandleAccessors} is used
+ * if it is present, which is compiled separately as the main code targets Java 6.
+ * This implementation is the fallback when it is absent, or it cannot access a member.
+ *
+ * @author Stephen Colebourne
+ */
+class ReflectiveAccessors {
+
+    /**
+     * The name of the Java 8 implementation.
+     */
+    private static final String METHOD_HANDLE_ACCESSORS = "org.joda.beans.impl.reflection.MethodHandleAccessors";
+    /**
+     * The instance to use.
+     */
+    static final ReflectiveAccessors INSTANCE = load();
+
+    // loads the Java 8 implementation if available
+    private static ReflectiveAccessors load() {
+        try {
+            Class<?> cls = Class.forName(METHOD_HANDLE_ACCESSORS);
+            return (ReflectiveAccessors) cls.newInstance();
+        } catch (Exception ex) {
+            return new ReflectiveAccessors();
+        } catch (LinkageError ex) {
+            return new ReflectiveAccessors();
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Creates a getter that invokes the read method.
+     *
+     * @param readMethod  the read method, not null
+     * @param propertyName  the property name, not null
+     * @return the getter, not null
+     */
+    Getter getter(final Method readMethod, final String propertyName) {
+        return new Getter() {
+            @Override
+            public Object get(Bean bean) {
+                try {
+                    return readMethod.invoke(bean, (Object[]) null);
+                } catch (IllegalArgumentException ex) {
+                    throw new UnsupportedOperationException("Property cannot be read: " + propertyName, ex);
+                } catch (IllegalAccessException ex) {
+                    throw new UnsupportedOperationException("Property cannot be read: " + propertyName, ex);
+                } catch (InvocationTargetException ex) {
+                    if (ex.getCause() instanceof RuntimeException) {
+                        throw (RuntimeException) ex.getCause();
+                    }
+                    throw new RuntimeException(ex);
+                }
+            }
+        };
+    }
+
+    /**
+     * Creates a setter that invokes the write method.
+     *
+     * @param writeMethod  the write method, not null
+     * @param propertyName  the property name, not null
+     * @return the setter, not null
+     */
+    Setter setter(final Method writeMethod, final String propertyName) {
+        return new Setter() {
+            @Override
+            public void set(Bean bean, Object value) {
+                try {
+                    writeMethod.invoke(bean, value);
+                } catch (IllegalArgumentException ex) {
+                    throw setFailure(writeMethod, propertyName, value, ex);
+                } catch (IllegalAccessException ex) {
+                    throw new UnsupportedOperationException("Property cannot be written: " + propertyName, ex);
+                } catch (InvocationTargetException ex) {
+                    if (ex.getCause() instanceof RuntimeException) {
+                        throw (RuntimeException) ex.getCause();
+                    }
+                    throw new RuntimeException(ex);
+                }
+            }
+        };
+    }
+
+    /**
+     * Creates the exception for a value that the write method rejected before it was invoked.
+     *
+     * @param writeMethod  the write method, not null
+     * @param propertyName  the property name, not null
+     * @param value  the value, may be null
+     * @param cause  the cause, not null
+     * @return the exception, not null
+     */
+    static RuntimeException setFailure(Method writeMethod, String propertyName, Object value, RuntimeException cause) {
+        Class<?> type = writeMethod.getParameterTypes()[0];
+        if (value == null && type.isPrimitive()) {
+            return new NullPointerException("Property cannot be written: " + propertyName + ": Cannot store null in primitive");
+        }
+        if (value != null && type.isInstance(value) == false) {
+            return new ClassCastException("Property cannot be written: " + propertyName + ": Invalid type: " + value.getClass().getName());
+        }
+        return new UnsupportedOperationException("Property cannot be written: " + propertyName, cause);
+    }
+
+    /**
+     * Creates a creator that invokes the no-arguments constructor.
+     *
+     * @param beanType  the bean type, not null
+     * @return the creator, not null
+     */
+    Creator creator(final Class<? extends Bean> beanType) {
+        return new Creator() {
+            @Override
+            public Bean create() {
+                try {
+                    return beanType.newInstance();
+                } catch (InstantiationException ex) {
+                    throw new UnsupportedOperationException("Bean cannot be created: " + beanType.getName(), ex);
+                } catch (IllegalAccessException ex) {
+                    throw new UnsupportedOperationException("Bean cannot be created: " + beanType.getName(), ex);
+                }
+            }
+        };
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the value of a property.
+     */
+    interface Getter {
+
+        /**
+         * Gets the value of the property.
+         *
+         * @param bean  the bean, not null
+         * @return the value, may be null
+         */
+        Object get(Bean bean);
+    }
+
+    /**
+     * Sets the value of a property.
+     */
+    interface Setter {
+
+        /**
+         * Sets the value of the property.
+         *
+         * @param bean  the bean, not null
+         * @param value  the value, may be null
+         */
+        void set(Bean bean, Object value);
+    }
+
+    /**
+     * Creates an empty bean.
+     */
+    interface Creator {
+
+        /**
+         * Creates the bean.
+         *
+         * @return the bean, not null
+         */
+        Bean create();
+    }
+
+}
@@ -44,6 +44,8 @@ public final class ReflectiveMetaBean implements MetaBean {
     private final Class<? extends Bean> beanType;
     /** The meta-property instances of the bean. */
     private final Map<String, MetaProperty<?>> metaPropertyMap;
+    /** The creator of beans, invoking the no-arguments constructor. */
+    private final ReflectiveAccessors.Creator creator;
 
     /**
      * Factory to create a meta-bean avoiding duplicate generics.
@@ -91,19 +93,13 @@ public final class ReflectiveMetaBean implements MetaBean {
         }
         
         this.metaPropertyMap = Collections.unmodifiableMap(map);
+        this.creator = ReflectiveAccessors.INSTANCE.creator(beanType);
     }
 
     //-----------------------------------------------------------------------
     @Override
     public BeanBuilder<Bean> builder() {
-        try {
-            Bean bean = beanType.newInstance();
-            return new BasicBeanBuilder<Bean>(bean);
-        } catch (InstantiationException ex) {
-            throw new UnsupportedOperationException("Bean cannot be created: " + beanName(), ex);
-        } catch (IllegalAccessException ex) {
-            throw new UnsupportedOperationException("Bean cannot be created: " + beanName(), ex);
-        }
+        return new BasicBeanBuilder<Bean>(creator.create());
     }
 
     @Override
@@ -18,7 +18,6 @@ package org.joda.beans.impl.reflection;
 import java.beans.IntrospectionException;
 import java.beans.PropertyDescriptor;
 import java.lang.annotation.Annotation;
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Type;
 import java.util.Arrays;
@@ -36,6 +35,8 @@ import org.joda.beans.impl.BasicProperty;
  * <p>
  * The property descriptor class is part of the JDK JavaBean standard.
  * It provides access to get and set a property on a bean.
+ * The methods are invoked using method handles on Java 8 and later where possible,
+ * otherwise using reflection.
  * <p>
  * Instances of this class should be declared as a static constant on the bean,
  * one for each property, followed by a {@code ReflectiveMetaBean} declaration.
@@ -55,6 +56,10 @@ public final class ReflectiveMetaProperty<P> extends BasicMetaProperty<P> {
     private final Method readMethod;
     /** The write method. */
     private final Method writeMethod;
+    /** The getter, invoking the read method, null if write-only. */
+    private final ReflectiveAccessors.Getter getter;
+    /** The setter, invoking the write method, null if read-only. */
+    private final ReflectiveAccessors.Setter setter;
 
     /**
      * Factory to create a meta-property avoiding duplicate generics.
@@ -92,6 +97,8 @@ public final class ReflectiveMetaProperty<P> extends BasicMetaProperty<P> {
         this.propertyType = (Class<P>) descriptor.getPropertyType();
         this.readMethod = readMethod;
         this.writeMethod = writeMethod;
+        this.getter = (readMethod != null ? ReflectiveAccessors.INSTANCE.getter(readMethod, propertyName) : null);
+        this.setter = (writeMethod != null ? ReflectiveAccessors.INSTANCE.setter(writeMethod, propertyName) : null);
     }
 
     /**
@@ -149,46 +156,18 @@ public final class ReflectiveMetaProperty<P> extends BasicMetaProperty<P> {
     @Override
     @SuppressWarnings("unchecked")
     public P get(Bean bean) {
-        if (style().isReadable() == false) {
+        if (getter == null) {
             throw new UnsupportedOperationException("Property cannot be read: " + name());
         }
-        try {
-            return (P) readMethod.invoke(bean, (Object[]) null);
-        } catch (IllegalArgumentException ex) {
-            throw new UnsupportedOperationException("Property cannot be read: " + name(), ex);
-        } catch (IllegalAccessException ex) {
-            throw new UnsupportedOperationException("Property cannot be read: " + name(), ex);
-        } catch (InvocationTargetException ex) {
-            if (ex.getCause() instanceof RuntimeException) {
-                throw (RuntimeException) ex.getCause();
-            }
-            throw new RuntimeException(ex);
-        }
+        return (P) getter.get(bean);
     }
 
     @Override
     public void set(Bean bean, Object value) {
-        if (style().isWritable() == false) {
+        if (setter == null) {
             throw new UnsupportedOperationException("Property cannot be written: " + name());
         }
-        try {
-            writeMethod.invoke(bean, value);
-        } catch (IllegalArgumentException ex) {
-            if (value == null && writeMethod.getParameterTypes()[0].isPrimitive()) {
-                throw new NullPointerException("Property cannot be written: " + name() + ": Cannot store null in primitive");
-            }
-            if (propertyType.isInstance(value) == false) {
-                throw new ClassCastException("Property cannot be written: " + name() + ": Invalid type: " + value.getClass().getName());
-            }
-            throw new UnsupportedOperationException("Property cannot be written: " + name(), ex);
-        } catch (IllegalAccessException ex) {
-            throw new UnsupportedOperationException("Property cannot be written: " + name(), ex);
-        } catch (InvocationTargetException ex) {
-            if (ex.getCause() instanceof RuntimeException) {
-                throw (RuntimeException) ex.getCause();
-            }
-            throw new RuntimeException(ex);
-        }
+        setter.set(bean, value);
     }
 
 }
@@ -15,7 +15,14 @@
  */
 package org.joda.beans.ser;
 
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.joda.beans.Bean;
+import org.joda.beans.DynamicMetaBean;
 import org.joda.beans.JodaBeanUtils;
+import org.joda.beans.MetaBean;
+import org.joda.beans.ser.bin.CompressedBlockOutputStream;
 import org.joda.beans.ser.bin.JodaBeanBinReader;
 import org.joda.beans.ser.bin.JodaBeanBinWriter;
 import org.joda.beans.ser.json.JodaBeanJsonReader;
@@ -38,12 +45,17 @@ public final class JodaBeanSer {
      * Obtains the singleton compact instance.
      */
     public static final JodaBeanSer COMPACT = new JodaBeanSer("", "", StringConvert.create(),
-            SerIteratorFactory.INSTANCE, true, SerDeserializers.INSTANCE);
+            SerIteratorFactory.INSTANCE, true, SerDeserializers.INSTANCE, 1, 0);
     /**
      * Obtains the singleton pretty-printing instance.
      */
     public static final JodaBeanSer PRETTY = new JodaBeanSer(" ", "\n", StringConvert.create(),
-            SerIteratorFactory.INSTANCE, true, SerDeserializers.INSTANCE);
+            SerIteratorFactory.INSTANCE, true, SerDeserializers.INSTANCE, 1, 0);
+
+    /**
+     * The maximum number of plans cached by each instance.
+     */
+    private static final int MAX_PLANS = 1000;
 
     /**
      * The indent to use.
@@ -69,6 +81,23 @@ public final class JodaBeanSer {
      * The deserializers.
      */
     private final SerDeserializers deserializers;
+    /**
+     * The binary format version to write.
+     */
+    private final int binaryVersion;
+    /**
+     * The binary compression level, zero if not compressing.
+     */
+    private final int binaryCompression;
+    /**
+     * The cache of serialization plans, keyed by bean type.
+     */
+    private final ConcurrentMap<Class<?>, SerPlan> plans = new ConcurrentHashMap<Class<?>, SerPlan>();
+    /**
+     * The cache of serialization plans where the meta-bean differs from that of
+     * the plan for the bean type, keyed by meta-bean.
+     */
+    private final ConcurrentMap<MetaBean, SerPlan> otherPlans = new ConcurrentHashMap<MetaBean, SerPlan>();
 
     /**
      * Creates an instance.
@@ -79,15 +108,20 @@ public final class JodaBeanSer {
      * @param iteratorFactory  the iterator factory, not null
      * @param shortTypes  whether to use short types
      * @param deserializers  the deserializers to use, not null
+     * @param binaryVersion  the binary format version to write
+     * @param binaryCompression  the binary compression level, zero if not compressing
      */
     private JodaBeanSer(String indent, String newLine, StringConvert converter,
-                SerIteratorFactory iteratorFactory, boolean shortTypes, SerDeserializers deserializers) {
+                SerIteratorFactory iteratorFactory, boolean shortTypes, SerDeserializers deserializers,
+                int binaryVersion, int binaryCompression) {
         this.indent = indent;
         this.newLine = newLine;
         this.converter = converter;
         this.iteratorFactory = iteratorFactory;
         this.shortTypes = shortTypes;
         this.deserializers = deserializers;
+        this.binaryVersion = binaryVersion;
+        this.binaryCompression = binaryCompression;
     }
 
     //-----------------------------------------------------------------------
@@ -108,7 +142,7 @@ public final class JodaBeanSer {
      */
     public JodaBeanSer withIndent(String indent) {
         JodaBeanUtils.notNull(indent, "indent");
-        return new JodaBeanSer(indent, newLine, converter, iteratorFactory, shortTypes, deserializers);
+        return new JodaBeanSer(indent, newLine, converter, iteratorFactory, shortTypes, deserializers, binaryVersion, binaryCompression);
     }
 
     /**
@@ -128,7 +162,7 @@ public final class JodaBeanSer {
      */
     public JodaBeanSer withNewLine(String newLine) {
         JodaBeanUtils.notNull(newLine, "newLine");
-        return new JodaBeanSer(indent, newLine, converter, iteratorFactory, shortTypes, deserializers);
+        return new JodaBeanSer(indent, newLine, converter, iteratorFactory, shortTypes, deserializers, binaryVersion, binaryCompression);
     }
 
     /**
@@ -152,7 +186,7 @@ public final class JodaBeanSer {
      */
     public JodaBeanSer withConverter(StringConvert converter) {
         JodaBeanUtils.notNull(converter, "converter");
-        return new JodaBeanSer(indent, newLine, converter, iteratorFactory, shortTypes, deserializers);
+        return new JodaBeanSer(indent, newLine, converter, iteratorFactory, shortTypes, deserializers, binaryVersion, binaryCompression);
     }
 
     /**
@@ -172,7 +206,7 @@ public final class JodaBeanSer {
      */
     public JodaBeanSer withIteratorFactory(SerIteratorFactory iteratorFactory) {
         JodaBeanUtils.notNull(converter, "converter");
-        return new JodaBeanSer(indent, newLine, converter, iteratorFactory, shortTypes, deserializers);
+        return new JodaBeanSer(indent, newLine, converter, iteratorFactory, shortTypes, deserializers, binaryVersion, binaryCompression);
     }
 
     /**
@@ -191,7 +225,7 @@ public final class JodaBeanSer {
      * @return a copy of this object with the short types flag changed, not null
      */
     public JodaBeanSer withShortTypes(boolean shortTypes) {
-        return new JodaBeanSer(indent, newLine, converter, iteratorFactory, shortTypes, deserializers);
+        return new JodaBeanSer(indent, newLine, converter, iteratorFactory, shortTypes, deserializers, binaryVersion, binaryCompression);
     }
 
     /**
@@ -215,7 +249,133 @@ public final class JodaBeanSer {
      */
     public JodaBeanSer withDeserializers(SerDeserializers deserializers) {
         JodaBeanUtils.notNull(deserializers, "deserializers");
-        return new JodaBeanSer(indent, newLine, converter, iteratorFactory, shortTypes, deserializers);
+        return new JodaBeanSer(indent, newLine, converter, iteratorFactory, shortTypes, deserializers, binaryVersion, binaryCompression);
+    }
+
+    /**
+     * Gets the version of the binary format that is written.
+     * <p>
+     * The binary reader accepts all supported versions, whatever this setting.
+     * 
+     * @return the binary format version, from 1 to 4
+     */
+    public int getBinaryVersion() {
+        return binaryVersion;
+    }
+
+    /**
+     * Returns a copy of this serializer with the specified binary format version.
+     * <p>
+     * Version 1 is the default and writes the name of each property every time it is used.
+     * Version 2 writes each property name once per message, referring to it by index thereafter,
+     * which produces smaller output where a message contains many beans of the same type.
+     * Version 3 extends version 2, framing each nested bean and large collection with its size,
+     * which allows a reader to skip over it or decode it lazily.
+     * Version 4 writes no property names, instead writing the properties of each bean by position
+     * with a bitmap of the null values. It is intended for use where the writer and reader
+     * share the same bean classes, and is checked using a fingerprint of the properties.
+     * Versions 2, 3 and 4 can only be read by a binary reader that understands them.
+     * 
+     * @param binaryVersion  the binary format version, from 1 to 4
+     * @return a copy of this object with the binary version changed, not null
+     * @throws IllegalArgumentException if the version is not supported
+     */
+    public JodaBeanSer withBinaryVersion(int binaryVersion) {
+        if (binaryVersion < 1 || binaryVersion > 4) {
+            throw new IllegalArgumentException("Binary version must be from 1 to 4: " + binaryVersion);
+        }
+        return new JodaBeanSer(indent, newLine, converter, iteratorFactory, shortTypes, deserializers, binaryVersion, binaryCompression);
+    }
+
+    /**
+     * Gets the compression level of the binary format that is written.
+     * <p>
+     * The binary reader decompresses data automatically, whatever this setting.
+     * 
+     * @return the compression level, from 1 to 9, or zero if not compressing
+     */
+    public int getBinaryCompression() {
+        return binaryCompression;
+    }
+
+    /**
+     * Returns a copy of this serializer with the specified binary compression level.
+     * <p>
+     * By default, binary data is not compressed.
+     * When enabled, the binary writer compresses the data in fixed-size blocks using
+     * {@link CompressedBlockOutputStream}, which uses the deflate algorithm of the JDK.
+     * The level is as defined by {@link java.util.zip.Deflater}, from 1 for the fastest
+     * compression to 9 for the smallest output.
+     * Compression adds a header of at least 19 bytes, thus small beans may get larger.
+     * 
+     * @param binaryCompression  the compression level, from 1 to 9, or zero to disable compression
+     * @return a copy of this object with the binary compression changed, not null
+     * @throws IllegalArgumentException if the level is not supported
+     */
+    public JodaBeanSer withBinaryCompression(int binaryCompression) {
+        if (binaryCompression < 0 || binaryCompression > 9) {
+            throw new IllegalArgumentException("Binary compression must be from 0 to 9: " + binaryCompression);
+        }
+        return new JodaBeanSer(indent, newLine, converter, iteratorFactory, shortTypes, deserializers, binaryVersion, binaryCompression);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the serialization plan for a bean.
+     * <p>
+     * The plan is created once per bean type and cached by this instance.
+     * 
+     * @param bean  the bean to obtain the plan for, not null
+     * @return the plan, not null
+     */
+    public SerPlan plan(Bean bean) {
+        return plan(bean.getClass(), bean.metaBean());
+    }
+
+    /**
+     * Gets the serialization plan for a bean type and meta-bean.
+     * <p>
+     * The plan is created once per bean type and meta-bean and cached by this instance.
+     * The cache is bounded, thus once it is full the plans of further bean types are
+     * created each time they are requested.
+     * Plans are not cached for dynamic meta-beans, as the properties vary by instance.
+     * 
+     * @param beanType  the bean type, not null
+     * @param metaBean  the meta-bean, not null
+     * @return the plan, not null
+     */
+    public SerPlan plan(Class<?> beanType, MetaBean metaBean) {
+        if (metaBean instanceof DynamicMetaBean) {
+            return new SerPlan(beanType, metaBean, converter);
+        }
+        SerPlan plan = plans.get(beanType);
+        if (plan == null) {
+            return cachePlan(plans, beanType, beanType, metaBean);
+        }
+        if (plan.getMetaBean() == metaBean) {
+            return plan;
+        }
+        // a custom deserializer may use a different meta-bean to that of the bean type
+        plan = otherPlans.get(metaBean);
+        if (plan == null) {
+            return cachePlan(otherPlans, metaBean, beanType, metaBean);
+        }
+        if (plan.getBeanType() == beanType) {
+            return plan;
+        }
+        return new SerPlan(beanType, metaBean, converter);
+    }
+
+    // creates a plan, adding it to the cache if not full
+    private <K> SerPlan cachePlan(ConcurrentMap<K, SerPlan> cache, K key, Class<?> beanType, MetaBean metaBean) {
+        SerPlan plan = new SerPlan(beanType, metaBean, converter);
+        if (plans.size() + otherPlans.size() < MAX_PLANS) {
+            SerPlan existing = cache.putIfAbsent(key, plan);
+            if (existing != null && existing.getBeanType() == beanType && existing.getMetaBean() == metaBean) {
+                return existing;
+            }
+        }
+        return plan;
     }
 
     //-----------------------------------------------------------------------
@@ -92,6 +92,16 @@ public class SerOptional {
         }
     }
 
+    /**
+     * Checks if the type is a known optional wrapper.
+     * 
+     * @param type  the type to check, not null
+     * @return true if the type is an optional wrapper
+     */
+    static boolean isOptional(Class<?> type) {
+        return OPTIONALS.containsKey(type);
+    }
+
     /**
      * Extracts the value of the property from a bean, unwrapping any optional.
      * 
@@ -0,0 +1,505 @@
+/*
+ *  Copyright 2001-2016 Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.beans.ser;
+
+import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.joda.beans.Bean;
+import org.joda.beans.DynamicMetaBean;
+import org.joda.beans.MetaBean;
+import org.joda.beans.MetaProperty;
+import org.joda.beans.impl.BasicMetaProperty;
+import org.joda.convert.StringConvert;
+import org.joda.convert.StringConverter;
+
+/**
+ * The serialization plan for a single bean type.
+ * <p>
+ * A plan captures the information that serialization needs about a bean type
+ * which does not change from one bean instance to the next.
+ * This includes the serializable properties, their declared types with any optional
+ * wrapper removed, and the string converter for each declared type.
+ * <p>
+ * The plan also holds the UTF-8 encoded form of each property name, allowing readers
+ * of binary formats to match a name without decoding it to a {@code String}.
+ * The fingerprint of the names and types of the properties allows formats that
+ * omit the names to check that the reader has the same properties as the writer.
+ * <p>
+ * Plans are created and cached by {@link JodaBeanSer#plan(Class, MetaBean)}.
+ * Plans for dynamic beans are not cached, as the properties vary by instance.
+ * Instead, they only hold the properties and their types, with the other information
+ * omitted or calculated when requested.
+ * <p>
+ * This class is immutable and thread-safe.
+ *
+ * @author Stephen Colebourne
+ */
+public final class SerPlan {
+
+    /**
+     * The UTF-8 encoding.
+     */
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    /**
+     * The bean type.
+     */
+    private final Class<?> beanType;
+    /**
+     * The meta-bean.
+     */
+    private final MetaBean metaBean;
+    /**
+     * The serializable meta-properties.
+     */
+    private final MetaProperty<?>[] properties;
+    /**
+     * The property names.
+     */
+    private final String[] names;
+    /**
+     * The declared property types, with optional wrapper removed.
+     */
+    private final Class<?>[] types;
+    /**
+     * Whether the property type is an optional wrapper.
+     */
+    private final boolean[] optionals;
+    /**
+     * Whether the property type is a primitive that can be read without boxing,
+     * using the accessors of {@code BasicMetaProperty}.
+     */
+    private final boolean[] primitives;
+    /**
+     * The converter for the declared type, null if not convertible or a dynamic bean.
+     */
+    private final StringConverter<Object>[] converters;
+    /**
+     * The index of each serializable property, by identity, as replacement
+     * meta-properties from a deserializer may be equal but have a different type.
+     * Null for dynamic beans, which are searched instead.
+     */
+    private final Map<MetaProperty<?>, Integer> indices;
+    /**
+     * The UTF-8 encoded property names, null for dynamic beans.
+     */
+    private final byte[][] nameBytes;
+    /**
+     * The open-addressing hash table of one plus the property index, keyed by
+     * the hash of the encoded name, zero for an empty slot, null for dynamic beans.
+     */
+    private final int[] nameSlots;
+    /**
+     * The fingerprint of the property names and types, zero for dynamic beans.
+     */
+    private final long fingerprint;
+
+    /**
+     * Creates an instance.
+     * 
+     * @param beanType  the bean type, not null
+     * @param metaBean  the meta-bean, not null
+     * @param converter  the string converter, not null
+     */
+    @SuppressWarnings("unchecked")
+    SerPlan(Class<?> beanType, MetaBean metaBean, StringConvert converter) {
+        this.beanType = beanType;
+        this.metaBean = metaBean;
+        List<MetaProperty<?>> list = new ArrayList<MetaProperty<?>>(metaBean.metaPropertyCount());
+        for (MetaProperty<?> prop : metaBean.metaPropertyIterable()) {
+            if (prop.style().isSerializable()) {
+                list.add(prop);
+            }
+        }
+        int size = list.size();
+        this.properties = list.toArray(new MetaProperty<?>[size]);
+        this.names = new String[size];
+        this.types = new Class<?>[size];
+        this.optionals = new boolean[size];
+        this.primitives = new boolean[size];
+        this.converters = (StringConverter<Object>[]) new StringConverter<?>[size];
+        boolean dynamic = (metaBean instanceof DynamicMetaBean);
+        this.indices = (dynamic ? null : new IdentityHashMap<MetaProperty<?>, Integer>());
+        for (int i = 0; i < size; i++) {
+            MetaProperty<?> prop = properties[i];
+            names[i] = prop.name();
+            types[i] = SerOptional.extractType(prop, beanType);
+            optionals[i] = SerOptional.isOptional(prop.propertyType());
+            primitives[i] = (prop instanceof BasicMetaProperty &&
+                    (types[i] == int.class || types[i] == long.class ||
+                    types[i] == double.class || types[i] == boolean.class));
+            if (dynamic == false) {
+                // a plan for a dynamic bean is used once, so a converter is found when needed by the writer
+                if (types[i] != Object.class && converter.isConvertible(types[i])) {
+                    converters[i] = converter.findConverterNoGenerics(types[i]);
+                }
+                indices.put(prop, i);
+            }
+        }
+        if (dynamic) {
+            this.nameBytes = null;
+            this.nameSlots = null;
+            this.fingerprint = 0;
+        } else {
+            this.nameBytes = new byte[size][];
+            int tableSize = 4;
+            while (tableSize < size * 2) {
+                tableSize <<= 1;
+            }
+            this.nameSlots = new int[tableSize];
+            int mask = tableSize - 1;
+            for (int i = 0; i < size; i++) {
+                byte[] bytes = names[i].getBytes(UTF_8);
+                nameBytes[i] = bytes;
+                int slot = hashName(bytes, 0, bytes.length) & mask;
+                while (nameSlots[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                nameSlots[slot] = i + 1;
+            }
+            this.fingerprint = fingerprint(properties);
+        }
+    }
+
+    // calculates the 64-bit FNV-1a hash of the names and generic types, in order
+    private static long fingerprint(MetaProperty<?>[] properties) {
+        long hash = 0xCBF29CE484222325L;
+        for (MetaProperty<?> prop : properties) {
+            Type type = prop.propertyGenericType();
+            String typeName = (type instanceof Class<?> ? ((Class<?>) type).getName() : type.toString());
+            hash = fingerprint(hash, prop.name());
+            hash = fingerprint(hash, typeName);
+        }
+        return hash;
+    }
+
+    // adds the characters of the string, and a terminator, to the hash
+    private static long fingerprint(long hash, String str) {
+        for (int i = 0; i < str.length(); i++) {
+            hash = (hash ^ str.charAt(i)) * 0x100000001B3L;
+        }
+        return (hash ^ 0xFFFF) * 0x100000001B3L;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the bean type that the plan is for.
+     * 
+     * @return the bean type, not null
+     */
+    public Class<?> getBeanType() {
+        return beanType;
+    }
+
+    /**
+     * Gets the meta-bean that the plan is for.
+     * 
+     * @return the meta-bean, not null
+     */
+    public MetaBean getMetaBean() {
+        return metaBean;
+    }
+
+    /**
+     * Gets the number of serializable properties.
+     * 
+     * @return the number of properties
+     */
+    public int size() {
+        return properties.length;
+    }
+
+    /**
+     * Gets the fingerprint of the serializable properties.
+     * <p>
+     * This is a 64-bit hash of the name and generic type of each property, in order.
+     * Two plans with the same properties in the same order have the same fingerprint.
+     * A reader of a format that writes properties by position uses this to check
+     * that it has the same properties as the writer.
+     * <p>
+     * The fingerprint of a dynamic bean is calculated each time it is requested.
+     * 
+     * @return the fingerprint
+     */
+    public long fingerprint() {
+        return (indices != null ? fingerprint : fingerprint(properties));
+    }
+
+    /**
+     * Gets the serializable meta-property at the specified index.
+     * 
+     * @param index  the property index
+     * @return the meta-property, not null
+     */
+    public MetaProperty<?> property(int index) {
+        return properties[index];
+    }
+
+    /**
+     * Gets the name of the property at the specified index.
+     * 
+     * @param index  the property index
+     * @return the property name, not null
+     */
+    public String name(int index) {
+        return names[index];
+    }
+
+    /**
+     * Gets the UTF-8 encoded name of the property at the specified index.
+     * <p>
+     * The array is shared and must not be altered.
+     * Dynamic beans have no encoded names, and always return null.
+     *
+     * @param index  the property index
+     * @return the encoded property name, null if a dynamic bean
+     */
+    public byte[] encodedName(int index) {
+        return (nameBytes != null ? nameBytes[index] : null);
+    }
+
+    /**
+     * Gets the declared type of the property at the specified index.
+     * <p>
+     * Any optional wrapper has been removed.
+     * 
+     * @param index  the property index
+     * @return the declared type, not null
+     */
+    public Class<?> type(int index) {
+        return types[index];
+    }
+
+    /**
+     * Checks if the property at the specified index is an {@code int}, {@code long},
+     * {@code double} or {@code boolean} that can be read without boxing.
+     * <p>
+     * The value of such a property is never null. The meta-property is a {@link BasicMetaProperty},
+     * thus the value can be read using {@link BasicMetaProperty#getInt(Bean)} and the related methods.
+     * Other meta-properties return false, and are read using {@link MetaProperty#get(Bean)}.
+     * 
+     * @param index  the property index
+     * @return true if the property type is a primitive that can be read without boxing
+     */
+    public boolean isPrimitive(int index) {
+        return primitives[index];
+    }
+
+    /**
+     * Gets the string converter for the declared type of the property at the specified index.
+     * 
+     * @param index  the property index
+     * @return the converter, null if the declared type is not convertible or is {@code Object},
+     *  or if the bean is dynamic
+     */
+    public StringConverter<Object> converter(int index) {
+        return converters[index];
+    }
+
+    /**
+     * Finds the index of the specified meta-property.
+     * <p>
+     * The meta-property is matched by identity.
+     * 
+     * @param metaProp  the meta-property to find, not null
+     * @return the index, -1 if not a serializable property of this plan
+     */
+    public int indexOf(MetaProperty<?> metaProp) {
+        if (indices == null) {
+            for (int i = 0; i < properties.length; i++) {
+                if (properties[i] == metaProp) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+        Integer index = indices.get(metaProp);
+        return (index != null ? index.intValue() : -1);
+    }
+
+    /**
+     * Finds the index of the property with the specified UTF-8 encoded name.
+     * <p>
+     * This allows a reader to match a name without creating a {@code String}.
+     * Dynamic beans are not matched, and always return -1.
+     * 
+     * @param bytes  the bytes containing the encoded name, not null
+     * @param offset  the offset of the name in the array
+     * @param length  the length of the encoded name
+     * @return the index, -1 if not a serializable property of this plan
+     */
+    public int indexOfName(byte[] bytes, int offset, int length) {
+        if (nameSlots == null) {
+            return -1;
+        }
+        int mask = nameSlots.length - 1;
+        int slot = hashName(bytes, offset, length) & mask;
+        int entry = nameSlots[slot];
+        while (entry != 0) {
+            byte[] candidate = nameBytes[entry - 1];
+            if (candidate.length == length && matches(candidate, bytes, offset)) {
+                return entry - 1;
+            }
+            slot = (slot + 1) & mask;
+            entry = nameSlots[slot];
+        }
+        return -1;
+    }
+
+    /**
+     * Finds the index of the property with the specified UTF-8 encoded name.
+     * <p>
+     * This allows a reader to match a name without creating a {@code String}.
+     * The buffer is read using absolute indices, leaving its position unchanged.
+     * Dynamic beans are not matched, and always return -1.
+     * 
+     * @param buffer  the buffer containing the encoded name, not null
+     * @param position  the absolute position of the name in the buffer
+     * @param length  the length of the encoded name
+     * @return the index, -1 if not a serializable property of this plan
+     */
+    public int indexOfName(ByteBuffer buffer, int position, int length) {
+        if (buffer.hasArray()) {
+            return indexOfName(buffer.array(), buffer.arrayOffset() + position, length);
+        }
+        if (nameSlots == null) {
+            return -1;
+        }
+        int hash = 0;
+        for (int i = 0; i < length; i++) {
+            hash = 31 * hash + buffer.get(position + i);
+        }
+        int mask = nameSlots.length - 1;
+        int slot = mix(hash) & mask;
+        int entry = nameSlots[slot];
+        while (entry != 0) {
+            byte[] candidate = nameBytes[entry - 1];
+            if (candidate.length == length && matches(candidate, buffer, position)) {
+                return entry - 1;
+            }
+            slot = (slot + 1) & mask;
+            entry = nameSlots[slot];
+        }
+        return -1;
+    }
+
+    // hashes the encoded name
+    private static int hashName(byte[] bytes, int offset, int length) {
+        int hash = 0;
+        for (int i = 0; i < length; i++) {
+            hash = 31 * hash + bytes[offset + i];
+        }
+        return mix(hash);
+    }
+
+    // spreads the hash so that the low bits are usable as a table index
+    private static int mix(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    // compares the candidate to the bytes, the lengths are known to be equal
+    private static boolean matches(byte[] candidate, byte[] bytes, int offset) {
+        for (int i = 0; i < candidate.length; i++) {
+            if (candidate[i] != bytes[offset + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // compares the candidate to the buffer, the lengths are known to be equal
+    private static boolean matches(byte[] candidate, ByteBuffer buffer, int position) {
+        for (int i = 0; i < candidate.length; i++) {
+            if (candidate[i] != buffer.get(position + i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Extracts the value of the property at the specified index, unwrapping any optional.
+     * 
+     * @param index  the property index
+     * @param bean  the bean to query, not null
+     * @return the value of the property, with any optional wrapper removed
+     */
+    public Object extractValue(int index, Bean bean) {
+        if (optionals[index]) {
+            return SerOptional.extractValue(properties[index], bean);
+        }
+        return properties[index].get(bean);
+    }
+
+    /**
+     * Gets the declared type of the meta-property, which need not be part of this plan.
+     * <p>
+     * This is used by readers, where the meta-property is located by a deserializer.
+     * 
+     * @param metaProp  the meta-property, not null
+     * @return the type of the property with any optional wrapper removed, not null
+     */
+    public Class<?> extractType(MetaProperty<?> metaProp) {
+        int index = indexOf(metaProp);
+        if (index >= 0) {
+            return types[index];
+        }
+        return SerOptional.extractType(metaProp, beanType);
+    }
+
+    /**
+     * Wraps the value of the meta-property if it is an optional.
+     * 
+     * @param metaProp  the meta-property, not null
+     * @param value  the value to wrap, may be null
+     * @return the value of the property, with any optional wrapper added
+     */
+    public Object wrapValue(MetaProperty<?> metaProp, Object value) {
+        int index = indexOf(metaProp);
+        if (index >= 0 && optionals[index] == false) {
+            return value;
+        }
+        return SerOptional.wrapValue(metaProp, beanType, value);
+    }
+
+    /**
+     * Wraps the value of the property at the specified index if it is an optional.
+     * 
+     * @param index  the property index
+     * @param value  the value to wrap, may be null
+     * @return the value of the property, with any optional wrapper added
+     */
+    public Object wrapValue(int index, Object value) {
+        if (optionals[index]) {
+            return SerOptional.wrapValue(properties[index], beanType, value);
+        }
+        return value;
+    }
+
+    //-----------------------------------------------------------------------
+    @Override
+    public String toString() {
+        return "SerPlan[" + beanType.getName() + "]";
+    }
+
+}
@@ -0,0 +1,180 @@
+/*
+ *  Copyright 2001-2016 Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.beans.ser;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.joda.beans.BeanBuilder;
+import org.joda.beans.JodaBeanUtils;
+import org.joda.beans.MetaBean;
+import org.joda.beans.MetaProperty;
+
+/**
+ * A projection, selecting the properties to be read when deserializing.
+ * <p>
+ * A projection is a set of meta-properties.
+ * A bean type is projected if it declares, or inherits, any of the meta-properties in the set.
+ * When a projected bean is read, properties that are not in the set are skipped,
+ * without converting them or allocating the objects they contain.
+ * Beans whose type is not projected are read in full.
+ * <p>
+ * Skipping is achieved by wrapping the {@link SerDeserializer} of each projected type
+ * such that {@link SerDeserializer#findMetaProperty} returns null for unselected properties.
+ * The bean is then built from the properties that were read, thus any property that
+ * is not selected will have its default value, and the bean must be valid without it.
+ * <p>
+ * This class is immutable and thread-safe.
+ *
+ * @author Stephen Colebourne
+ */
+public final class SerProjection {
+
+    /**
+     * The selected properties.
+     */
+    private final Set<MetaProperty<?>> properties;
+    /**
+     * The types declaring the selected properties.
+     */
+    private final Set<Class<?>> declaringTypes;
+    /**
+     * The cache of deserializers, keyed by bean type.
+     */
+    private final ConcurrentMap<Class<?>, SerDeserializer> cache = new ConcurrentHashMap<Class<?>, SerDeserializer>();
+
+    /**
+     * Obtains a projection selecting the specified properties.
+     *
+     * @param properties  the properties to read, not null
+     * @return the projection, not null
+     */
+    public static SerProjection of(Set<? extends MetaProperty<?>> properties) {
+        JodaBeanUtils.notNull(properties, "properties");
+        return new SerProjection(properties);
+    }
+
+    /**
+     * Creates an instance.
+     *
+     * @param properties  the properties to read, not null
+     */
+    private SerProjection(Set<? extends MetaProperty<?>> properties) {
+        this.properties = Collections.unmodifiableSet(new HashSet<MetaProperty<?>>(properties));
+        Set<Class<?>> types = new HashSet<Class<?>>();
+        for (MetaProperty<?> metaProp : properties) {
+            types.add(metaProp.declaringType());
+        }
+        this.declaringTypes = types;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the selected properties.
+     *
+     * @return the properties, not null
+     */
+    public Set<MetaProperty<?>> getProperties() {
+        return properties;
+    }
+
+    /**
+     * Checks if the specified bean type is projected.
+     *
+     * @param beanType  the bean type, not null
+     * @return true if only the selected properties of the type are read
+     */
+    public boolean isProjected(Class<?> beanType) {
+        for (Class<?> declaringType : declaringTypes) {
+            if (declaringType.isAssignableFrom(beanType)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Finds the deserializer for the specified type, applying the projection.
+     * <p>
+     * The deserializer is obtained from the specified deserializers.
+     * If the type is projected, it is wrapped to skip the properties that are not selected.
+     *
+     * @param deserializers  the deserializers, not null
+     * @param beanType  the bean type, not null
+     * @return the deserializer, not null
+     */
+    public SerDeserializer findDeserializer(SerDeserializers deserializers, Class<?> beanType) {
+        SerDeserializer deser = deserializers.findDeserializer(beanType);
+        SerDeserializer cached = cache.get(beanType);
+        if (cached instanceof ProjectedDeserializer && ((ProjectedDeserializer) cached).underlying == deser) {
+            return cached;
+        }
+        if (cached == deser) {
+            return deser;
+        }
+        SerDeserializer result = (isProjected(beanType) ? new ProjectedDeserializer(deser) : deser);
+        cache.put(beanType, result);
+        return result;
+    }
+
+    //-----------------------------------------------------------------------
+    @Override
+    public String toString() {
+        return "SerProjection" + properties;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Deserializer that ignores the properties that are not selected.
+     */
+    private final class ProjectedDeserializer implements SerDeserializer {
+        private final SerDeserializer underlying;
+
+        ProjectedDeserializer(SerDeserializer underlying) {
+            this.underlying = underlying;
+        }
+
+        @Override
+        public MetaBean findMetaBean(Class<?> beanType) {
+            return underlying.findMetaBean(beanType);
+        }
+
+        @Override
+        public BeanBuilder<?> createBuilder(Class<?> beanType, MetaBean metaBean) {
+            return underlying.createBuilder(beanType, metaBean);
+        }
+
+        @Override
+        public MetaProperty<?> findMetaProperty(Class<?> beanType, MetaBean metaBean, String propertyName) {
+            MetaProperty<?> metaProp = underlying.findMetaProperty(beanType, metaBean, propertyName);
+            return (metaProp != null && properties.contains(metaProp) ? metaProp : null);
+        }
+
+        @Override
+        public void setValue(BeanBuilder<?> builder, MetaProperty<?> metaProp, Object value) {
+            underlying.setValue(builder, metaProp, value);
+        }
+
+        @Override
+        public Object build(Class<?> beanType, BeanBuilder<?> builder) {
+            return underlying.build(beanType, builder);
+        }
+    }
+
+}
@@ -62,6 +62,14 @@ public final class SerTypeMapper {
         map.put(UUID.class, "UUID");
         map.put(URI.class, "URI");
         map.put(File.class, "File");
+        map.put(double[].class, "double[]");
+        map.put(float[].class, "float[]");
+        map.put(long[].class, "long[]");
+        map.put(int[].class, "int[]");
+        map.put(short[].class, "short[]");
+        map.put(byte[].class, "byte[]");
+        map.put(char[].class, "char[]");
+        map.put(boolean[].class, "boolean[]");
         // selection of types are the most common types suitable for reduction
         // and suitable for simple interpretation on non-Java systems
         
@@ -0,0 +1,262 @@
+/*
+ *  Copyright 2001-2016 Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.beans.ser.bin;
+
+import static org.joda.beans.ser.bin.BeanStreamWriter.FRAME_BEAN;
+import static org.joda.beans.ser.bin.BeanStreamWriter.FRAME_HEADER_SIZE;
+import static org.joda.beans.ser.bin.BeanStreamWriter.FRAME_TYPE;
+import static org.joda.beans.ser.bin.BeanStreamWriter.HEADER_SIZE;
+import static org.joda.beans.ser.bin.BeanStreamWriter.STREAM_VERSION;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import org.joda.beans.Bean;
+import org.joda.beans.JodaBeanUtils;
+import org.joda.beans.ser.JodaBeanSer;
+import org.joda.beans.ser.SerTypeMapper;
+
+/**
+ * Reads a stream of Joda-Beans from a binary format, sharing a dictionary of types.
+ * <p>
+ * This class contains mutable state and cannot be used from multiple threads.
+ * <p>
+ * The format is described in {@link BeanStreamWriter}.
+ * Beans are read one frame at a time, holding only one bean in memory.
+ * The input stream is not closed.
+ *
+ * @author Stephen Colebourne
+ */
+public final class BeanStreamReader {
+
+    /**
+     * The settings to use.
+     */
+    private final JodaBeanSer settings;
+    /**
+     * The reader for each bean.
+     */
+    private final JodaBeanBinReader reader;
+    /**
+     * The input stream.
+     */
+    private final DataInputStream input;
+    /**
+     * The binary format version of the beans.
+     */
+    private final int binaryVersion;
+    /**
+     * The types defined so far.
+     */
+    private final List<Class<?>> types = new ArrayList<Class<?>>();
+    /**
+     * The reused buffer that each bean is read into.
+     */
+    private byte[] buffer = new byte[1024];
+    /**
+     * The offset of the next frame from the start of the stream.
+     */
+    private long offset;
+    /**
+     * The length of the bean frame whose header has been read, -1 if none.
+     */
+    private int beanLength = -1;
+
+    /**
+     * Creates a reader, reading the header from the start of the stream.
+     * 
+     * @param settings  the settings to use, not null
+     * @param input  the input stream, positioned at the start of the stream, not null
+     * @throws IOException if an error occurs
+     */
+    public BeanStreamReader(JodaBeanSer settings, InputStream input) throws IOException {
+        JodaBeanUtils.notNull(settings, "settings");
+        JodaBeanUtils.notNull(input, "input");
+        this.settings = settings;
+        this.reader = new JodaBeanBinReader(settings);
+        this.input = new DataInputStream(input);
+        byte[] header = new byte[HEADER_SIZE];
+        this.input.readFully(header);
+        if (header[0] != 'J' || header[1] != 'B' || header[2] != 'S') {
+            throw new IllegalArgumentException("Invalid binary data: Expected bean stream header");
+        }
+        if (header[3] != STREAM_VERSION) {
+            throw new IllegalArgumentException("Invalid binary data: Expected stream version 1, but was: " + header[3]);
+        }
+        if (header[4] < 1 || header[4] > 4) {
+            throw new IllegalArgumentException("Invalid binary data: Expected version from 1 to 4, but was: " + header[4]);
+        }
+        this.binaryVersion = header[4];
+        this.offset = HEADER_SIZE;
+    }
+
+    /**
+     * Creates a reader that resumes reading at the frame at the specified offset.
+     * <p>
+     * The stream must be positioned at the start, as the dictionary of types must be rebuilt.
+     * Only the type frames before the offset are parsed, the bean frames are skipped.
+     * 
+     * @param settings  the settings to use, not null
+     * @param input  the input stream, positioned at the start of the stream, not null
+     * @param offset  the offset of a frame, as returned by {@link BeanStreamWriter} or {@link #offset()}
+     * @return the reader, not null
+     * @throws IOException if an error occurs
+     * @throws IllegalArgumentException if the offset is not the start of a frame
+     */
+    public static BeanStreamReader resume(JodaBeanSer settings, InputStream input, long offset) throws IOException {
+        BeanStreamReader reader = new BeanStreamReader(settings, input);
+        while (reader.offset < offset) {
+            if (reader.readFrame() == false) {
+                throw new IllegalArgumentException("Offset is beyond the end of the stream: " + offset);
+            }
+            if (reader.beanLength >= 0 && reader.offset < offset) {
+                reader.skip();
+            }
+        }
+        if (reader.offset != offset) {
+            throw new IllegalArgumentException("Offset is not the start of a frame: " + offset);
+        }
+        return reader;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the binary format version of the beans.
+     * 
+     * @return the version, from 1 to 4
+     */
+    public int getBinaryVersion() {
+        return binaryVersion;
+    }
+
+    /**
+     * Gets the offset of the next frame from the start of the stream.
+     * 
+     * @return the offset
+     */
+    public long offset() {
+        return offset;
+    }
+
+    // gets the types defined so far
+    List<Class<?>> types() {
+        return Collections.unmodifiableList(types);
+    }
+
+    /**
+     * Checks if there is another bean in the stream.
+     * <p>
+     * Any type frames before the next bean are read.
+     * 
+     * @return true if there is another bean
+     * @throws IOException if an error occurs
+     */
+    public boolean hasNext() throws IOException {
+        while (beanLength < 0) {
+            if (readFrame() == false) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Reads the next bean.
+     * 
+     * @return the bean, not null
+     * @throws IOException if an error occurs
+     * @throws NoSuchElementException if there are no more beans
+     */
+    public Bean read() throws IOException {
+        return read(Bean.class);
+    }
+
+    /**
+     * Reads the next bean.
+     * 
+     * @param <T>  the root type
+     * @param rootType  the root type, not null
+     * @return the bean, not null
+     * @throws IOException if an error occurs
+     * @throws NoSuchElementException if there are no more beans
+     */
+    public <T> T read(Class<T> rootType) throws IOException {
+        JodaBeanUtils.notNull(rootType, "rootType");
+        if (hasNext() == false) {
+            throw new NoSuchElementException();
+        }
+        int length = beanLength;
+        if (length > buffer.length) {
+            buffer = new byte[Math.max(length, buffer.length * 2)];
+        }
+        input.readFully(buffer, 0, length);
+        offset += FRAME_HEADER_SIZE + length;
+        beanLength = -1;
+        return reader.readStreamed(ByteBuffer.wrap(buffer, 0, length), rootType, binaryVersion, types);
+    }
+
+    /**
+     * Skips the next bean without parsing it.
+     * 
+     * @throws IOException if an error occurs
+     * @throws NoSuchElementException if there are no more beans
+     */
+    public void skip() throws IOException {
+        if (hasNext() == false) {
+            throw new NoSuchElementException();
+        }
+        MsgPackInput.skipFully(input, beanLength);
+        offset += FRAME_HEADER_SIZE + beanLength;
+        beanLength = -1;
+    }
+
+    //-----------------------------------------------------------------------
+    // reads the next frame header, reading a type frame completely
+    // returns false at the end of the stream
+    private boolean readFrame() throws IOException {
+        int kind = input.read();
+        if (kind < 0) {
+            return false;
+        }
+        int length = input.readInt();
+        if (length < 0) {
+            throw new IllegalArgumentException("Invalid binary data: Invalid frame length: " + length);
+        }
+        if (kind == FRAME_BEAN) {
+            beanLength = length;
+        } else if (kind == FRAME_TYPE) {
+            byte[] bytes = new byte[length];
+            input.readFully(bytes);
+            String typeStr = new String(bytes, MsgPack.UTF_8);
+            try {
+                types.add(SerTypeMapper.decodeType(typeStr, settings, null, null));
+            } catch (ClassNotFoundException ex) {
+                throw new IllegalArgumentException("Invalid binary data: Unknown type: " + typeStr, ex);
+            }
+            offset += FRAME_HEADER_SIZE + length;
+        } else {
+            throw new IllegalArgumentException("Invalid binary data: Unknown frame kind: " + kind);
+        }
+        return true;
+    }
+
+}
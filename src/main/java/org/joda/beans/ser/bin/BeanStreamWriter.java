@@ -0,0 +1,255 @@
+/*
+ *  Copyright 2001-2016 Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.beans.ser.bin;
+
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.joda.beans.Bean;
+import org.joda.beans.JodaBeanUtils;
+import org.joda.beans.ser.JodaBeanSer;
+import org.joda.beans.ser.SerTypeMapper;
+
+/**
+ * Writes a stream of Joda-Beans to a binary format, sharing a dictionary of types.
+ * <p>
+ * This class contains mutable state and cannot be used from multiple threads.
+ * <p>
+ * The stream starts with a header of five bytes, 'JBS', the stream format version
+ * and the binary format version used for the beans.
+ * The header is followed by a sequence of frames, each consisting of a one byte
+ * frame kind, the four byte big-endian length of the frame data, and the data.
+ * This allows a reader to skip a frame without parsing it.
+ * <p>
+ * Bean frames contain a single bean, written in the binary format without the
+ * root array, see {@link JodaBeanBinWriter}.
+ * Type frames contain the UTF-8 name of a type, and are numbered from zero
+ * in the order written. The first time a type is used, a type frame is written
+ * before the bean frame. Within the bean, the type is written as a 'fixext 4'
+ * entity containing the number of the type. This avoids repeating the type
+ * names, which otherwise dominate the size of small beans.
+ * <p>
+ * Each bean is written as a whole frame, thus the data passed to the output stream
+ * always ends at a frame boundary. The output stream is not closed.
+ * An existing stream can be extended using {@link #append(JodaBeanSer, InputStream, OutputStream)}.
+ *
+ * @author Stephen Colebourne
+ */
+public final class BeanStreamWriter implements Flushable {
+
+    /**
+     * The stream format version.
+     */
+    static final int STREAM_VERSION = 1;
+    /**
+     * The size of the stream header.
+     */
+    static final int HEADER_SIZE = 5;
+    /**
+     * The size of the frame header.
+     */
+    static final int FRAME_HEADER_SIZE = 5;
+    /**
+     * The frame kind for a type.
+     */
+    static final int FRAME_TYPE = 'T';
+    /**
+     * The frame kind for a bean.
+     */
+    static final int FRAME_BEAN = 'B';
+
+    /**
+     * The settings to use.
+     */
+    private final JodaBeanSer settings;
+    /**
+     * The writer for each bean.
+     */
+    private final JodaBeanBinWriter writer;
+    /**
+     * The output stream.
+     */
+    private final OutputStream output;
+    /**
+     * The reference numbers of the types written so far.
+     */
+    private final Map<Class<?>, Integer> types;
+    /**
+     * The types added by the current bean.
+     */
+    private final List<Class<?>> newTypes = new ArrayList<Class<?>>();
+    /**
+     * The frame header.
+     */
+    private final byte[] frameHeader = new byte[FRAME_HEADER_SIZE];
+    /**
+     * The reused buffer that each bean is written to.
+     */
+    private byte[] buffer = new byte[1024];
+    /**
+     * The offset of the next frame from the start of the stream.
+     */
+    private long offset;
+
+    /**
+     * Creates a writer for a new stream, writing the header.
+     * <p>
+     * The binary format version is taken from the settings.
+     * 
+     * @param settings  the settings to use, not null
+     * @param output  the output stream, not null
+     * @throws IOException if an error occurs
+     */
+    public BeanStreamWriter(JodaBeanSer settings, OutputStream output) throws IOException {
+        this(settings, output, new HashMap<Class<?>, Integer>(), 0);
+        byte[] header = {'J', 'B', 'S', (byte) STREAM_VERSION, (byte) settings.getBinaryVersion()};
+        output.write(header);
+        offset = HEADER_SIZE;
+    }
+
+    /**
+     * Creates a writer that continues an existing stream.
+     * 
+     * @param settings  the settings to use, not null
+     * @param output  the output stream, not null
+     * @param types  the existing types, not null
+     * @param offset  the offset of the end of the existing stream
+     */
+    private BeanStreamWriter(JodaBeanSer settings, OutputStream output, Map<Class<?>, Integer> types, long offset) {
+        JodaBeanUtils.notNull(settings, "settings");
+        JodaBeanUtils.notNull(output, "output");
+        this.settings = settings;
+        this.writer = new JodaBeanBinWriter(settings);
+        this.output = output;
+        this.types = types;
+        this.offset = offset;
+    }
+
+    /**
+     * Creates a writer that appends to an existing stream.
+     * <p>
+     * The existing stream is read to the end to rebuild the dictionary of types.
+     * Only the type frames are parsed, the bean frames are skipped.
+     * The beans are written using the binary format version of the existing stream,
+     * to the output stream, which must add to the end of the existing data.
+     * 
+     * @param settings  the settings to use, not null
+     * @param existing  the existing stream, read from the start and not closed, not null
+     * @param output  the output stream that appends to the existing data, not null
+     * @return the writer, not null
+     * @throws IOException if an error occurs
+     */
+    public static BeanStreamWriter append(JodaBeanSer settings, InputStream existing, OutputStream output) throws IOException {
+        BeanStreamReader reader = new BeanStreamReader(settings, existing);
+        while (reader.hasNext()) {
+            reader.skip();
+        }
+        Map<Class<?>, Integer> types = new HashMap<Class<?>, Integer>();
+        List<Class<?>> existingTypes = reader.types();
+        for (int i = 0; i < existingTypes.size(); i++) {
+            if (types.put(existingTypes.get(i), i) != null) {
+                throw new IllegalArgumentException("Invalid binary data: Type defined twice in stream: " + existingTypes.get(i).getName());
+            }
+        }
+        JodaBeanSer appendSettings = settings.withBinaryVersion(reader.getBinaryVersion());
+        return new BeanStreamWriter(appendSettings, output, types, reader.offset());
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the offset of the next frame from the start of the stream.
+     * <p>
+     * This can be passed to {@link BeanStreamReader#resume(JodaBeanSer, InputStream, long)}.
+     * 
+     * @return the offset
+     */
+    public long offset() {
+        return offset;
+    }
+
+    /**
+     * Writes a bean to the stream.
+     * <p>
+     * Any types not previously written are added to the dictionary first.
+     * 
+     * @param bean  the bean to output, not null
+     * @return the offset of the bean frame from the start of the stream
+     * @throws IOException if an error occurs
+     */
+    public long write(Bean bean) throws IOException {
+        JodaBeanUtils.notNull(bean, "bean");
+        ByteBuffer data = null;
+        try {
+            MsgPackOutput out = new MsgPackOutput(buffer);
+            writer.writeStreamed(bean, out, types, newTypes);
+            data = out.toByteBuffer();
+            buffer = data.array();
+        } finally {
+            if (data == null) {
+                // nothing has been written, so forget the new types
+                for (Class<?> type : newTypes) {
+                    types.remove(type);
+                }
+                newTypes.clear();
+            }
+        }
+        for (Class<?> type : newTypes) {
+            writeFrame(FRAME_TYPE, SerTypeMapper.encodeType(type, settings, null, null).getBytes(MsgPack.UTF_8));
+        }
+        newTypes.clear();
+        long beanOffset = offset;
+        writeFrame(FRAME_BEAN, data.array(), data.limit());
+        return beanOffset;
+    }
+
+    /**
+     * Flushes the output stream.
+     * <p>
+     * The stream is always at a frame boundary when this is called.
+     * 
+     * @throws IOException if an error occurs
+     */
+    @Override
+    public void flush() throws IOException {
+        output.flush();
+    }
+
+    //-----------------------------------------------------------------------
+    // writes a frame
+    private void writeFrame(int kind, byte[] data) throws IOException {
+        writeFrame(kind, data, data.length);
+    }
+
+    // writes a frame
+    private void writeFrame(int kind, byte[] data, int length) throws IOException {
+        frameHeader[0] = (byte) kind;
+        frameHeader[1] = (byte) (length >>> 24);
+        frameHeader[2] = (byte) (length >>> 16);
+        frameHeader[3] = (byte) (length >>> 8);
+        frameHeader[4] = (byte) length;
+        output.write(frameHeader);
+        output.write(data, 0, length);
+        offset += FRAME_HEADER_SIZE + length;
+    }
+
+}
@@ -0,0 +1,319 @@
+/*
+ *  Copyright 2001-2016 Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.beans.ser.bin;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * A cursor over binary data, used by {@link JodaBeanBinReader}.
+ * <p>
+ * The data is either a complete buffer, which is read in place, or a stream.
+ * A stream is read into a small buffer that is refilled as the cursor advances,
+ * thus only a window of the data is held in memory.
+ * Positions are absolute from the start of the data, and a stream cursor can only
+ * move back or peek at a few bytes before the current position.
+ * Positions are held as a {@code long}, as a stream may be larger than 2GB.
+ * <p>
+ * Running out of data is reported as {@code BufferUnderflowException}.
+ * <p>
+ * This class contains mutable state and cannot be used from multiple threads.
+ *
+ * @author Stephen Colebourne
+ */
+final class BinCursor {
+
+    /**
+     * The initial size of the buffer when reading a stream.
+     */
+    private static final int BUFFER_SIZE = 8192;
+    /**
+     * The number of bytes before the position kept when a stream buffer is refilled.
+     * This allows the reader to peek at a value header and then move back.
+     */
+    private static final int HISTORY = 16;
+
+    /**
+     * The stream to read from, null if reading a complete buffer.
+     */
+    private final InputStream stream;
+    /**
+     * The buffer, which holds all the data if not reading a stream.
+     */
+    private ByteBuffer buffer;
+    /**
+     * The absolute position of the start of the buffer.
+     */
+    private long base;
+
+    /**
+     * Creates an instance reading a complete buffer.
+     * <p>
+     * The buffer is not copied, and positions are the indices of the buffer.
+     *
+     * @param buffer  the buffer, not null
+     */
+    BinCursor(ByteBuffer buffer) {
+        this.stream = null;
+        this.buffer = buffer;
+    }
+
+    /**
+     * Creates an instance reading a stream.
+     *
+     * @param stream  the stream, not null
+     */
+    BinCursor(InputStream stream) {
+        this.stream = stream;
+        this.buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        this.buffer.limit(0);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the buffer of a cursor reading a complete buffer.
+     *
+     * @return the buffer, not null
+     */
+    ByteBuffer buffer() {
+        if (stream != null) {
+            throw new IllegalStateException("Stream cannot be read as a buffer");
+        }
+        return buffer;
+    }
+
+    /**
+     * Gets the absolute position.
+     *
+     * @return the position
+     */
+    long position() {
+        return base + buffer.position();
+    }
+
+    /**
+     * Sets the absolute position.
+     *
+     * @param position  the position
+     */
+    void position(long position) {
+        long relative = position - base;
+        if (relative < 0) {
+            throw new IllegalStateException("Cursor cannot move back to a discarded position");
+        }
+        if (relative <= buffer.limit()) {
+            buffer.position((int) relative);
+        } else {
+            skip(relative - buffer.position());
+        }
+    }
+
+    /**
+     * Checks if there is more data.
+     *
+     * @return true if there is more data
+     */
+    boolean hasRemaining() {
+        if (buffer.hasRemaining()) {
+            return true;
+        }
+        try {
+            require(1);
+            return true;
+        } catch (BufferUnderflowException ex) {
+            return false;
+        }
+    }
+
+    /**
+     * Checks if the specified amount of data is known to be absent.
+     * <p>
+     * This is only known when reading a complete buffer.
+     *
+     * @param size  the size
+     * @return true if there is less data than the size
+     */
+    boolean isShorterThan(int size) {
+        return stream == null && size > buffer.remaining();
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Reads a byte.
+     *
+     * @return the byte
+     */
+    byte get() {
+        if (buffer.hasRemaining() == false) {
+            require(1);
+        }
+        return buffer.get();
+    }
+
+    /**
+     * Reads the byte at an absolute position, without moving the cursor.
+     * <p>
+     * The position must be no more than a few bytes after the current position.
+     *
+     * @param position  the position
+     * @return the byte
+     */
+    byte get(long position) {
+        long relative = position - base;
+        if (relative < 0) {
+            throw new IllegalStateException("Cursor cannot peek at a discarded position");
+        }
+        if (relative >= buffer.limit()) {
+            require((int) (relative - buffer.position() + 1));
+            relative = position - base;
+        }
+        return buffer.get((int) relative);
+    }
+
+    /**
+     * Reads bytes to fill the array.
+     *
+     * @param bytes  the array to fill, not null
+     */
+    void get(byte[] bytes) {
+        int offset = 0;
+        while (bytes.length - offset > buffer.remaining()) {
+            int count = buffer.remaining();
+            buffer.get(bytes, offset, count);
+            offset += count;
+            require(1);
+        }
+        buffer.get(bytes, offset, bytes.length - offset);
+    }
+
+    short getShort() {
+        if (buffer.remaining() < 2) {
+            require(2);
+        }
+        return buffer.getShort();
+    }
+
+    int getInt() {
+        if (buffer.remaining() < 4) {
+            require(4);
+        }
+        return buffer.getInt();
+    }
+
+    long getLong() {
+        if (buffer.remaining() < 8) {
+            require(8);
+        }
+        return buffer.getLong();
+    }
+
+    float getFloat() {
+        if (buffer.remaining() < 4) {
+            require(4);
+        }
+        return buffer.getFloat();
+    }
+
+    double getDouble() {
+        if (buffer.remaining() < 8) {
+            require(8);
+        }
+        return buffer.getDouble();
+    }
+
+    /**
+     * Skips the specified number of bytes.
+     *
+     * @param size  the number of bytes
+     */
+    void skip(long size) {
+        if (size < 0) {
+            throw new BufferUnderflowException();
+        }
+        long remaining = size;
+        while (remaining > buffer.remaining()) {
+            remaining -= buffer.remaining();
+            buffer.position(buffer.limit());
+            require(1);
+        }
+        buffer.position(buffer.position() + (int) remaining);
+    }
+
+    /**
+     * Returns a buffer holding at least the specified number of bytes from the position.
+     * <p>
+     * The bytes are read from the returned buffer, starting at its position.
+     * The buffer is only valid until the cursor is next used.
+     *
+     * @param size  the number of bytes
+     * @return the buffer, not null
+     */
+    ByteBuffer window(int size) {
+        if (size < 0) {
+            throw new BufferUnderflowException();
+        }
+        if (buffer.remaining() < size) {
+            require(size);
+        }
+        return buffer;
+    }
+
+    //-----------------------------------------------------------------------
+    // ensures that the buffer holds the specified number of bytes after the position
+    private void require(int size) {
+        if (stream == null) {
+            throw new BufferUnderflowException();
+        }
+        // discard the data before the history, growing the buffer if necessary
+        int keep = Math.min(HISTORY, buffer.position());
+        int discard = buffer.position() - keep;
+        if (keep + size > buffer.capacity()) {
+            ByteBuffer grown = ByteBuffer.allocate(Math.max(keep + size, buffer.capacity() * 2));
+            buffer.position(discard);
+            grown.put(buffer);
+            buffer = grown;
+        } else {
+            buffer.position(discard);
+            buffer.compact();
+        }
+        base += discard;
+        int filled = buffer.position();
+        buffer.flip();
+        buffer.position(keep);
+        // read from the stream
+        byte[] bytes = buffer.array();
+        try {
+            while (filled < keep + size) {
+                int count = stream.read(bytes, filled, bytes.length - filled);
+                if (count < 0) {
+                    buffer.limit(filled);
+                    throw new BufferUnderflowException();
+                }
+                filled += count;
+            }
+        } catch (EOFException ex) {
+            buffer.limit(filled);
+            throw new BufferUnderflowException();
+        } catch (IOException ex) {
+            throw new RuntimeException(ex);
+        }
+        buffer.limit(filled);
+    }
+
+}
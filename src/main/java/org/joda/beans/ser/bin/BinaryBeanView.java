@@ -0,0 +1,220 @@
+/*
+ *  Copyright 2001-2016 Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.beans.ser.bin;
+
+import java.nio.ByteBuffer;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import org.joda.beans.Bean;
+import org.joda.beans.JodaBeanUtils;
+import org.joda.beans.MetaBean;
+import org.joda.beans.MetaProperty;
+import org.joda.beans.ser.JodaBeanSer;
+import org.joda.beans.ser.SerDeserializer;
+
+/**
+ * A lazy view of a bean in binary format, decoding each property when first accessed.
+ * <p>
+ * Instances are created using {@link JodaBeanBinReader#readLazy(byte[], Class)}.
+ * The position of the value of each property of the root bean is recorded when the view is created.
+ * The value is only decoded, and then cached, when it is first requested.
+ * This allows a consumer that only needs a few properties to avoid decoding the rest.
+ * <p>
+ * The view refers to the binary data without copying it.
+ * The data must not be changed while the view is in use.
+ * <p>
+ * This class contains mutable state and cannot be used from multiple threads.
+ *
+ * @param <T>  the type of the bean
+ * @author Stephen Colebourne
+ */
+public final class BinaryBeanView<T extends Bean> {
+
+    /**
+     * The settings to use.
+     */
+    private final JodaBeanSer settings;
+    /**
+     * The binary data, from the start of the message.
+     */
+    private final ByteBuffer data;
+    /**
+     * The declared root type.
+     */
+    private final Class<T> rootType;
+    /**
+     * The type of the bean.
+     */
+    private final Class<? extends T> beanType;
+    /**
+     * The base package including the trailing dot, null if none.
+     */
+    private final String basePackage;
+    /**
+     * The known types, keyed by the name used in the data.
+     */
+    private final Map<String, Class<?>> knownTypes;
+    /**
+     * The property names of the dictionary, null if not version 2 or later.
+     */
+    private final List<String> propertyNames;
+    /**
+     * The schema fingerprints, null if not version 4.
+     */
+    private final Set<Long> fingerprints;
+    /**
+     * The position of the value of each property in the data.
+     */
+    private final Map<String, Integer> positions;
+    /**
+     * The deserializer.
+     */
+    private final SerDeserializer deser;
+    /**
+     * The meta-bean.
+     */
+    private final MetaBean metaBean;
+    /**
+     * The values decoded so far, keyed by property name.
+     */
+    private final Map<String, Object> values = new HashMap<String, Object>();
+    /**
+     * The reader used to decode each value.
+     */
+    private final JodaBeanBinReader reader;
+
+    /**
+     * Creates an instance.
+     *
+     * @param settings  the settings, not null
+     * @param data  the binary data, not null
+     * @param rootType  the declared root type, not null
+     * @param beanType  the type of the bean, not null
+     * @param basePackage  the base package, null if none
+     * @param knownTypes  the complete map of known types, not null
+     * @param propertyNames  the complete dictionary of property names, null if none
+     * @param fingerprints  the complete set of schema fingerprints, null if none
+     * @param positions  the position of each property value, not null
+     */
+    BinaryBeanView(
+            JodaBeanSer settings,
+            ByteBuffer data,
+            Class<T> rootType,
+            Class<? extends T> beanType,
+            String basePackage,
+            Map<String, Class<?>> knownTypes,
+            List<String> propertyNames,
+            Set<Long> fingerprints,
+            Map<String, Integer> positions) {
+
+        this.settings = settings;
+        this.data = data;
+        this.rootType = rootType;
+        this.beanType = beanType;
+        this.basePackage = basePackage;
+        this.knownTypes = knownTypes;
+        this.propertyNames = propertyNames;
+        this.fingerprints = fingerprints;
+        this.positions = positions;
+        this.deser = settings.getDeserializers().findDeserializer(beanType);
+        this.metaBean = deser.findMetaBean(beanType);
+        this.reader = new JodaBeanBinReader(settings);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the type of the bean.
+     *
+     * @return the type of the bean, not null
+     */
+    public Class<? extends T> getBeanType() {
+        return beanType;
+    }
+
+    /**
+     * Gets the names of the properties that have a value in the binary data.
+     * <p>
+     * Properties with a null value are not written, and are thus not included.
+     *
+     * @return the property names, in the order written, not null
+     */
+    public Set<String> propertyNames() {
+        return Collections.unmodifiableSet(positions.keySet());
+    }
+
+    /**
+     * Gets the value of a property, decoding it if necessary.
+     *
+     * @param <P>  the property type
+     * @param metaProperty  the meta-property, not null
+     * @return the value of the property, may be null
+     * @throws NoSuchElementException if the property is not a property of the bean
+     */
+    @SuppressWarnings("unchecked")
+    public <P> P get(MetaProperty<P> metaProperty) {
+        JodaBeanUtils.notNull(metaProperty, "metaProperty");
+        return (P) get(metaProperty.name());
+    }
+
+    /**
+     * Gets the value of a property by name, decoding it if necessary.
+     * <p>
+     * The value is decoded the first time it is requested and cached thereafter.
+     *
+     * @param propertyName  the property name, not null
+     * @return the value of the property, may be null
+     * @throws NoSuchElementException if the property is not a property of the bean
+     */
+    public Object get(String propertyName) {
+        JodaBeanUtils.notNull(propertyName, "propertyName");
+        Object value = values.get(propertyName);
+        if (value == null && values.containsKey(propertyName) == false) {
+            MetaProperty<?> metaProp = deser.findMetaProperty(beanType, metaBean, propertyName);
+            if (metaProp == null) {
+                throw new NoSuchElementException("Unknown property: " + propertyName);
+            }
+            Integer position = positions.get(propertyName);
+            value = reader.readLazyValue(
+                    data, position != null ? position.intValue() : -1,
+                    basePackage, knownTypes, propertyNames, fingerprints, beanType, metaBean, metaProp);
+            values.put(propertyName, value);
+        }
+        return value;
+    }
+
+    /**
+     * Decodes the whole bean.
+     * <p>
+     * The cached values are not used, as the bean is decoded from the data.
+     *
+     * @return the bean, not null
+     */
+    public T toBean() {
+        return new JodaBeanBinReader(settings).read(data.duplicate(), rootType);
+    }
+
+    //-----------------------------------------------------------------------
+    @Override
+    public String toString() {
+        return "BinaryBeanView[" + beanType.getName() + "]";
+    }
+
+}
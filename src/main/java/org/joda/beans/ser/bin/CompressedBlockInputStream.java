@@ -0,0 +1,365 @@
+/*
+ *  Copyright 2001-2016 Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.beans.ser.bin;
+
+import static org.joda.beans.ser.bin.CompressedBlockOutputStream.BLOCK_COMPRESSED;
+import static org.joda.beans.ser.bin.CompressedBlockOutputStream.BLOCK_END;
+import static org.joda.beans.ser.bin.CompressedBlockOutputStream.BLOCK_STORED;
+import static org.joda.beans.ser.bin.CompressedBlockOutputStream.CODEC_DEFLATE;
+import static org.joda.beans.ser.bin.CompressedBlockOutputStream.FORMAT_VERSION;
+import static org.joda.beans.ser.bin.CompressedBlockOutputStream.HEADER_SIZE;
+
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PushbackInputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+import org.joda.beans.JodaBeanUtils;
+
+/**
+ * An input stream that decompresses data written by {@link CompressedBlockOutputStream}.
+ * <p>
+ * The codec is read from the header, and each block is decompressed as it is needed.
+ * Memory use is thus bounded by the block size, whatever the amount of data read.
+ * The underlying stream is read exactly to the end marker, thus any data after it
+ * is left in the underlying stream.
+ * <p>
+ * This class contains mutable state and cannot be used from multiple threads.
+ *
+ * @author Stephen Colebourne
+ */
+public final class CompressedBlockInputStream extends InputStream {
+
+    /**
+     * The underlying stream.
+     */
+    private final DataInputStream input;
+    /**
+     * The decompressor.
+     */
+    private final Inflater inflater;
+    /**
+     * The buffer of uncompressed data.
+     */
+    private final byte[] block;
+    /**
+     * The buffer of compressed data, grown as necessary.
+     */
+    private byte[] compressed = new byte[0];
+    /**
+     * The position in the uncompressed buffer.
+     */
+    private int pos;
+    /**
+     * The amount of data in the uncompressed buffer.
+     */
+    private int limit;
+    /**
+     * Whether the end marker has been read.
+     */
+    private boolean ended;
+
+    /**
+     * Creates an instance, reading the header.
+     *
+     * @param input  the input stream, not null
+     * @throws IOException if an error occurs
+     * @throws IllegalArgumentException if the header is invalid
+     */
+    public CompressedBlockInputStream(InputStream input) throws IOException {
+        JodaBeanUtils.notNull(input, "input");
+        this.input = new DataInputStream(input);
+        byte[] header = new byte[HEADER_SIZE];
+        this.input.readFully(header);
+        if (header[0] != 'J' || header[1] != 'B' || header[2] != 'Z') {
+            throw new IllegalArgumentException("Invalid binary data: Expected compressed data header");
+        }
+        if (header[3] != FORMAT_VERSION) {
+            throw new IllegalArgumentException("Invalid binary data: Expected compressed format version 1, but was: " + header[3]);
+        }
+        if (header[4] != CODEC_DEFLATE) {
+            throw new IllegalArgumentException("Invalid binary data: Unknown compression codec: " + header[4]);
+        }
+        int blockSize = ByteBuffer.wrap(header, 5, 4).getInt();
+        if (blockSize < 256 || blockSize > (1 << 30)) {
+            throw new IllegalArgumentException("Invalid binary data: Invalid compression block size: " + blockSize);
+        }
+        this.inflater = new Inflater(true);
+        this.block = new byte[blockSize];
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Checks if the data at the position of the buffer is compressed.
+     * <p>
+     * The buffer position is not changed.
+     *
+     * @param buffer  the buffer, not null
+     * @return true if the data starts with the compressed data header
+     */
+    static boolean isCompressed(ByteBuffer buffer) {
+        int pos = buffer.position();
+        return buffer.remaining() >= HEADER_SIZE &&
+                buffer.get(pos) == 'J' && buffer.get(pos + 1) == 'B' && buffer.get(pos + 2) == 'Z';
+    }
+
+    /**
+     * Returns a stream of the uncompressed data, decompressing if the stream starts
+     * with the compressed data header.
+     * <p>
+     * No more data is read from the stream than is needed to check the header.
+     *
+     * @param input  the input stream, not null
+     * @return the stream of uncompressed data, not null
+     * @throws IOException if an error occurs
+     */
+    static InputStream decompressing(InputStream input) throws IOException {
+        PushbackInputStream pushback = new PushbackInputStream(input, 3);
+        byte[] magic = new byte[3];
+        int size = 0;
+        int count = 0;
+        while (size < magic.length && count >= 0) {
+            count = pushback.read(magic, size, magic.length - size);
+            size += Math.max(count, 0);
+        }
+        pushback.unread(magic, 0, size);
+        if (size == magic.length && magic[0] == 'J' && magic[1] == 'B' && magic[2] == 'Z') {
+            return new CompressedBlockInputStream(pushback);
+        }
+        return pushback;
+    }
+
+    /**
+     * Creates an instance reading the data at the position of the buffer.
+     * <p>
+     * The buffer position is advanced as the data is read.
+     *
+     * @param buffer  the buffer, not null
+     * @return the stream of uncompressed data, not null
+     * @throws IllegalArgumentException if the header is invalid
+     */
+    static CompressedBlockInputStream of(final ByteBuffer buffer) {
+        InputStream in = new InputStream() {
+            @Override
+            public int read() {
+                return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+            }
+            @Override
+            public int read(byte[] bytes, int offset, int length) {
+                if (buffer.hasRemaining() == false) {
+                    return -1;
+                }
+                int count = Math.min(length, buffer.remaining());
+                buffer.get(bytes, offset, count);
+                return count;
+            }
+        };
+        try {
+            return new CompressedBlockInputStream(in);
+        } catch (IOException ex) {
+            throw new IllegalArgumentException("Invalid binary data: Unexpected end of compressed data", ex);
+        }
+    }
+
+    /**
+     * Decompresses the data at the position of the buffer.
+     * <p>
+     * The block headers are scanned first, so that the uncompressed data is held in
+     * a single array of the exact size.
+     * The buffer position is advanced past the end marker.
+     *
+     * @param buffer  the buffer, not null
+     * @return the uncompressed data, not null
+     * @throws IllegalArgumentException if the data is invalid
+     */
+    static ByteBuffer decompress(final ByteBuffer buffer) {
+        byte[] bytes = new byte[uncompressedSize(buffer)];
+        CompressedBlockInputStream decompressor = of(buffer);
+        try {
+            int size = 0;
+            while (size < bytes.length) {
+                int count = decompressor.read(bytes, size, bytes.length - size);
+                if (count < 0) {
+                    throw new EOFException();
+                }
+                size += count;
+            }
+            decompressor.skipToEnd();
+            return ByteBuffer.wrap(bytes);
+        } catch (IOException ex) {
+            throw new IllegalArgumentException("Invalid binary data: Unexpected end of compressed data", ex);
+        } finally {
+            decompressor.release();
+        }
+    }
+
+    // sums the uncompressed size of each block, without decompressing or moving the buffer
+    private static int uncompressedSize(ByteBuffer buffer) {
+        ByteBuffer scan = buffer.duplicate();
+        try {
+            scan.position(scan.position() + HEADER_SIZE);
+            long total = 0;
+            int kind = scan.get();
+            while (kind != BLOCK_END) {
+                int rawSize = scan.getInt();
+                int storedSize = scan.getInt();
+                if (rawSize <= 0 || storedSize <= 0 || storedSize > scan.remaining()) {
+                    throw new IllegalArgumentException("Invalid binary data: Invalid compressed block size");
+                }
+                total += rawSize;
+                if (total > Integer.MAX_VALUE - 8) {
+                    throw new IllegalArgumentException("Invalid binary data: Compressed data too large to read into memory");
+                }
+                scan.position(scan.position() + storedSize);
+                kind = scan.get();
+            }
+            return (int) total;
+        } catch (BufferUnderflowException ex) {
+            throw new IllegalArgumentException("Invalid binary data: Unexpected end of compressed data", ex);
+        }
+    }
+
+    /**
+     * Reads and discards the rest of the data, up to and including the end marker.
+     *
+     * @throws IllegalArgumentException if the data is invalid
+     */
+    void skipToEnd() {
+        try {
+            while (readBlock()) {
+                pos = limit;
+            }
+        } catch (IOException ex) {
+            throw new IllegalArgumentException("Invalid binary data: Unexpected end of compressed data", ex);
+        }
+    }
+
+    /**
+     * Releases the decompressor, without closing the underlying stream.
+     */
+    void release() {
+        inflater.end();
+    }
+
+    //-----------------------------------------------------------------------
+    @Override
+    public int read() throws IOException {
+        if (pos == limit && readBlock() == false) {
+            return -1;
+        }
+        return block[pos++] & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] bytes, int offset, int length) throws IOException {
+        if (offset < 0 || length < 0 || length > bytes.length - offset) {
+            throw new IndexOutOfBoundsException();
+        }
+        if (length == 0) {
+            return 0;
+        }
+        if (pos == limit && readBlock() == false) {
+            return -1;
+        }
+        int count = Math.min(length, limit - pos);
+        System.arraycopy(block, pos, bytes, offset, count);
+        pos += count;
+        return count;
+    }
+
+    @Override
+    public int available() {
+        return limit - pos;
+    }
+
+    /**
+     * Closes the underlying stream.
+     *
+     * @throws IOException if an error occurs
+     */
+    @Override
+    public void close() throws IOException {
+        inflater.end();
+        input.close();
+    }
+
+    //-----------------------------------------------------------------------
+    // reads the next block, returning false at the end marker
+    private boolean readBlock() throws IOException {
+        if (ended) {
+            return false;
+        }
+        int kind = input.readUnsignedByte();
+        if (kind == BLOCK_END) {
+            ended = true;
+            return false;
+        }
+        int rawSize = input.readInt();
+        int storedSize = input.readInt();
+        if (rawSize <= 0 || rawSize > block.length || storedSize <= 0) {
+            throw new IllegalArgumentException("Invalid binary data: Invalid compressed block size");
+        }
+        if (kind == BLOCK_STORED) {
+            if (storedSize != rawSize) {
+                throw new IllegalArgumentException("Invalid binary data: Invalid compressed block size");
+            }
+            input.readFully(block, 0, rawSize);
+        } else if (kind == BLOCK_COMPRESSED) {
+            if (storedSize >= rawSize) {
+                throw new IllegalArgumentException("Invalid binary data: Invalid compressed block size");
+            }
+            if (storedSize >= compressed.length) {
+                // the inflater may need an extra dummy byte when there is no header
+                compressed = new byte[storedSize + 1];
+            }
+            input.readFully(compressed, 0, storedSize);
+            compressed[storedSize] = 0;
+            inflate(storedSize, rawSize);
+        } else {
+            throw new IllegalArgumentException("Invalid binary data: Unknown compressed block kind: " + kind);
+        }
+        pos = 0;
+        limit = rawSize;
+        return true;
+    }
+
+    // decompresses a block
+    private void inflate(int storedSize, int rawSize) {
+        inflater.reset();
+        inflater.setInput(compressed, 0, storedSize + 1);
+        try {
+            int size = 0;
+            while (size < rawSize && inflater.finished() == false) {
+                int count = inflater.inflate(block, size, rawSize - size);
+                if (count == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                size += count;
+            }
+            if (size != rawSize || inflater.finished() == false) {
+                throw new IllegalArgumentException("Invalid binary data: Compressed block does not match its size");
+            }
+        } catch (DataFormatException ex) {
+            throw new IllegalArgumentException("Invalid binary data: " + ex.getMessage(), ex);
+        }
+    }
+
+}
@@ -0,0 +1,266 @@
+/*
+ *  Copyright 2001-2016 Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.beans.ser.bin;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.Deflater;
+
+import org.joda.beans.JodaBeanUtils;
+
+/**
+ * An output stream that compresses data in fixed-size blocks.
+ * <p>
+ * Data written to this stream is buffered until a block is full, when the block is
+ * compressed and written to the underlying stream. Memory use is thus bounded by the
+ * block size, whatever the amount of data written.
+ * <p>
+ * The format starts with a header of the bytes 'J', 'B' and 'Z', the format version,
+ * the codec and the block size as a big-endian int.
+ * The only codec is {@link #CODEC_DEFLATE}, the raw deflate algorithm of the JDK.
+ * The header is followed by the blocks, each of which is a kind byte, the uncompressed size
+ * and the stored size as big-endian ints, then the stored data.
+ * The kind is 'C' if the data is compressed using the codec, or 'S' if it is stored
+ * uncompressed because compression did not reduce the size.
+ * The data ends with a single 'E' byte, written by {@link #finish()}.
+ * <p>
+ * This is the format written by {@link JodaBeanBinWriter} when compression is enabled
+ * using {@link org.joda.beans.ser.JodaBeanSer#withBinaryCompression(int)}.
+ * It may also be used directly, for example to compress a {@link BeanStreamWriter}.
+ * See {@link CompressedBlockInputStream} for the matching input stream.
+ * <p>
+ * This class contains mutable state and cannot be used from multiple threads.
+ *
+ * @author Stephen Colebourne
+ */
+public final class CompressedBlockOutputStream extends OutputStream {
+
+    /**
+     * The codec for the raw deflate algorithm.
+     */
+    public static final int CODEC_DEFLATE = 1;
+    /**
+     * The default block size.
+     */
+    public static final int DEFAULT_BLOCK_SIZE = 65536;
+    /**
+     * The format version.
+     */
+    static final int FORMAT_VERSION = 1;
+    /**
+     * The size of the header.
+     */
+    static final int HEADER_SIZE = 9;
+    /**
+     * The kind of a compressed block.
+     */
+    static final int BLOCK_COMPRESSED = 'C';
+    /**
+     * The kind of a stored block.
+     */
+    static final int BLOCK_STORED = 'S';
+    /**
+     * The kind of the end marker.
+     */
+    static final int BLOCK_END = 'E';
+
+    /**
+     * The underlying stream.
+     */
+    private final OutputStream output;
+    /**
+     * The compressor.
+     */
+    private final Deflater deflater;
+    /**
+     * The buffer of uncompressed data.
+     */
+    private final byte[] block;
+    /**
+     * The buffer of compressed data, which includes space for the block header.
+     */
+    private final byte[] compressed;
+    /**
+     * The amount of data in the uncompressed buffer.
+     */
+    private int count;
+    /**
+     * Whether the end marker has been written.
+     */
+    private boolean finished;
+
+    /**
+     * Creates an instance using the default compression level and block size.
+     * <p>
+     * The header is written immediately.
+     *
+     * @param output  the output stream, not null
+     * @throws IOException if an error occurs
+     */
+    public CompressedBlockOutputStream(OutputStream output) throws IOException {
+        this(output, Deflater.DEFAULT_COMPRESSION, DEFAULT_BLOCK_SIZE);
+    }
+
+    /**
+     * Creates an instance using the specified compression level and the default block size.
+     * <p>
+     * The header is written immediately.
+     *
+     * @param output  the output stream, not null
+     * @param level  the compression level, as defined by {@link Deflater}
+     * @throws IOException if an error occurs
+     */
+    public CompressedBlockOutputStream(OutputStream output, int level) throws IOException {
+        this(output, level, DEFAULT_BLOCK_SIZE);
+    }
+
+    /**
+     * Creates an instance.
+     * <p>
+     * The header is written immediately.
+     *
+     * @param output  the output stream, not null
+     * @param level  the compression level, as defined by {@link Deflater}
+     * @param blockSize  the size of each uncompressed block, at least 256
+     * @throws IOException if an error occurs
+     */
+    public CompressedBlockOutputStream(OutputStream output, int level, int blockSize) throws IOException {
+        JodaBeanUtils.notNull(output, "output");
+        if (blockSize < 256 || blockSize > (1 << 30)) {
+            throw new IllegalArgumentException("Block size must be from 256 to 2^30: " + blockSize);
+        }
+        this.output = output;
+        this.deflater = new Deflater(level, true);
+        this.block = new byte[blockSize];
+        this.compressed = new byte[blockSize + 9];
+        byte[] header = {'J', 'B', 'Z', (byte) FORMAT_VERSION, (byte) CODEC_DEFLATE,
+            (byte) (blockSize >>> 24), (byte) (blockSize >>> 16), (byte) (blockSize >>> 8), (byte) blockSize};
+        output.write(header);
+    }
+
+    //-----------------------------------------------------------------------
+    @Override
+    public void write(int b) throws IOException {
+        if (count == block.length) {
+            writeBlock();
+        }
+        block[count++] = (byte) b;
+    }
+
+    @Override
+    public void write(byte[] bytes, int offset, int length) throws IOException {
+        if (offset < 0 || length < 0 || length > bytes.length - offset) {
+            throw new IndexOutOfBoundsException();
+        }
+        while (length > 0) {
+            if (count == block.length) {
+                writeBlock();
+            }
+            int chunk = Math.min(length, block.length - count);
+            System.arraycopy(bytes, offset, block, count, chunk);
+            count += chunk;
+            offset += chunk;
+            length -= chunk;
+        }
+    }
+
+    /**
+     * Compresses and writes any buffered data, then flushes the underlying stream.
+     * <p>
+     * Flushing writes a partial block, thus frequent flushing reduces the compression ratio.
+     *
+     * @throws IOException if an error occurs
+     */
+    @Override
+    public void flush() throws IOException {
+        writeBlock();
+        output.flush();
+    }
+
+    /**
+     * Writes any buffered data and the end marker, without closing the underlying stream.
+     * <p>
+     * No more data may be written after this method is called.
+     *
+     * @throws IOException if an error occurs
+     */
+    public void finish() throws IOException {
+        if (finished == false) {
+            writeBlock();
+            output.write(BLOCK_END);
+            output.flush();
+            deflater.end();
+            finished = true;
+        }
+    }
+
+    /**
+     * Finishes the data and closes the underlying stream.
+     *
+     * @throws IOException if an error occurs
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            finish();
+        } finally {
+            output.close();
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    // compresses the buffered data, storing it if compression does not reduce the size
+    private void writeBlock() throws IOException {
+        if (count == 0) {
+            return;
+        }
+        if (finished) {
+            throw new IOException("Stream has been finished");
+        }
+        deflater.reset();
+        deflater.setInput(block, 0, count);
+        deflater.finish();
+        int size = 0;
+        int limit = Math.min(count, compressed.length - 9);
+        while (deflater.finished() == false && size < limit) {
+            size += deflater.deflate(compressed, 9 + size, limit - size);
+        }
+        if (deflater.finished() && size < count) {
+            writeBlockHeader(BLOCK_COMPRESSED, size);
+            output.write(compressed, 0, 9 + size);
+        } else {
+            writeBlockHeader(BLOCK_STORED, count);
+            output.write(compressed, 0, 9);
+            output.write(block, 0, count);
+        }
+        count = 0;
+    }
+
+    // writes the block header into the start of the compressed buffer
+    private void writeBlockHeader(int kind, int size) {
+        compressed[0] = (byte) kind;
+        putInt(compressed, 1, count);
+        putInt(compressed, 5, size);
+    }
+
+    private static void putInt(byte[] bytes, int offset, int value) {
+        bytes[offset] = (byte) (value >>> 24);
+        bytes[offset + 1] = (byte) (value >>> 16);
+        bytes[offset + 2] = (byte) (value >>> 8);
+        bytes[offset + 3] = (byte) value;
+    }
+
+}
@@ -0,0 +1,398 @@
+/*
+ *  Copyright 2001-2016 Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.beans.ser.bin;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import org.joda.beans.JodaBeanUtils;
+import org.joda.beans.ser.JodaBeanSer;
+
+/**
+ * Decodes Joda-Beans from the binary format incrementally, without blocking.
+ * <p>
+ * This is intended for non-blocking I/O, such as an event loop reading from a
+ * {@code SocketChannel}. Each chunk of data is passed to {@link #decode(ByteBuffer)}
+ * as it arrives, and a bean is returned once its message is complete.
+ * The chunks do not need to align with the messages in any way.
+ * <p>
+ * The bytes of each message are scanned as they are received, tracking the structure
+ * of the MessagePack data using a count of the values still to be received.
+ * No recursion is used, thus the scan can stop at the end of any chunk and resume
+ * with the next. When the message is complete it is parsed by {@link JodaBeanBinReader}.
+ * Messages written with compression are also supported.
+ * <p>
+ * The decoder can be used for a sequence of messages, such as on a connection.
+ * <p>
+ * This class contains mutable state and cannot be used from multiple threads.
+ *
+ * @param <T>  the root type
+ * @author Stephen Colebourne
+ */
+public final class JodaBeanBinDecoder<T> extends MsgPack {
+
+    /**
+     * State expecting the type byte of a value.
+     */
+    private static final int STATE_VALUE = 0;
+    /**
+     * State reading the bytes of a size.
+     */
+    private static final int STATE_HEADER = 1;
+    /**
+     * State skipping the data of a value or block.
+     */
+    private static final int STATE_DATA = 2;
+    /**
+     * State expecting the kind of a compressed block.
+     */
+    private static final int STATE_BLOCK = 3;
+    /**
+     * Header holding the length of a string or binary.
+     */
+    private static final int HEADER_LENGTH = 0;
+    /**
+     * Header holding the length of an extension, excluding the type byte.
+     */
+    private static final int HEADER_EXT = 1;
+    /**
+     * Header holding the size of an array.
+     */
+    private static final int HEADER_ARRAY = 2;
+    /**
+     * Header holding the size of a map.
+     */
+    private static final int HEADER_MAP = 3;
+    /**
+     * Header holding the raw and stored size of a compressed block.
+     */
+    private static final int HEADER_BLOCK = 4;
+
+    /**
+     * The settings to use.
+     */
+    private final JodaBeanSer settings;
+    /**
+     * The root type.
+     */
+    private final Class<T> rootType;
+    /**
+     * The bytes of the message received so far.
+     */
+    private byte[] buffer = new byte[1024];
+    /**
+     * The number of bytes of the message received so far.
+     */
+    private int size;
+    /**
+     * The state of the scan.
+     */
+    private int state;
+    /**
+     * The number of values still to be received, as nested arrays and maps add their size.
+     */
+    private long remaining = 1;
+    /**
+     * The kind of header being read.
+     */
+    private int headerKind;
+    /**
+     * The number of header bytes still to be received.
+     */
+    private int headerBytes;
+    /**
+     * The value of the header read so far.
+     */
+    private long header;
+    /**
+     * The number of data bytes still to be received.
+     */
+    private long dataBytes;
+    /**
+     * Whether the message is compressed.
+     */
+    private boolean compressed;
+    /**
+     * Whether the end of the compressed blocks has been received.
+     */
+    private boolean ended;
+
+    /**
+     * Creates a decoder.
+     *
+     * @param settings  the settings to use, not null
+     * @param rootType  the root type, not null
+     */
+    public JodaBeanBinDecoder(JodaBeanSer settings, Class<T> rootType) {
+        JodaBeanUtils.notNull(settings, "settings");
+        JodaBeanUtils.notNull(rootType, "rootType");
+        this.settings = settings;
+        this.rootType = rootType;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Decodes the next chunk of data, returning the bean if its message is complete.
+     * <p>
+     * The data is read from the position of the buffer, which is advanced past the bytes used.
+     * If a bean is returned, the buffer is positioned at the end of its message,
+     * and any remaining bytes are the start of the next message, which must be
+     * passed to this method again.
+     * If null is returned, all the bytes have been used and more data is needed.
+     *
+     * @param input  the chunk of data, not null
+     * @return the bean, null if more data is needed
+     * @throws IllegalArgumentException if the data is invalid
+     */
+    public T decode(ByteBuffer input) {
+        JodaBeanUtils.notNull(input, "input");
+        while (input.hasRemaining()) {
+            switch (state) {
+                case STATE_VALUE:
+                    acceptValue(append(input.get()));
+                    break;
+                case STATE_HEADER:
+                    header = (header << 8) | (append(input.get()) & 0xFF);
+                    if (--headerBytes == 0) {
+                        acceptHeader();
+                    }
+                    break;
+                case STATE_DATA: {
+                    int count = (int) Math.min(dataBytes, input.remaining());
+                    ensureCapacity(count);
+                    input.get(buffer, size, count);
+                    size += count;
+                    dataBytes -= count;
+                    if (dataBytes == 0) {
+                        state = (compressed ? STATE_BLOCK : STATE_VALUE);
+                    }
+                    break;
+                }
+                case STATE_BLOCK:
+                    acceptBlock(append(input.get()));
+                    break;
+                default:
+                    throw new IllegalStateException();
+            }
+            if (compressed ? ended : (state == STATE_VALUE && remaining == 0)) {
+                return complete();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Checks if part of a message has been received.
+     *
+     * @return true if a message has been started but not completed
+     */
+    public boolean isPartial() {
+        return size > 0;
+    }
+
+    //-----------------------------------------------------------------------
+    // accepts the type byte of a value
+    private void acceptValue(int typeByte) {
+        if (size == 1 && typeByte == 'J') {
+            // an uncompressed message starts with an array, so this is the compressed header
+            compressed = true;
+            expectData(CompressedBlockOutputStream.HEADER_SIZE - 1);
+            return;
+        }
+        remaining--;
+        if (typeByte >= MIN_FIX_INT) {
+            return;
+        }
+        if (typeByte >= MIN_FIX_MAP && typeByte <= MAX_FIX_MAP) {
+            remaining += 2 * (typeByte - MIN_FIX_MAP);
+        } else if (typeByte >= MIN_FIX_ARRAY && typeByte <= MAX_FIX_ARRAY) {
+            remaining += typeByte - MIN_FIX_ARRAY;
+        } else if (typeByte >= MIN_FIX_STR && typeByte <= MAX_FIX_STR) {
+            expectData(typeByte - MIN_FIX_STR);
+        } else {
+            switch (typeByte) {
+                case NIL:
+                case FALSE:
+                case TRUE:
+                    break;
+                case STR_8:
+                case BIN_8:
+                    expectHeader(HEADER_LENGTH, 1);
+                    break;
+                case STR_16:
+                case BIN_16:
+                    expectHeader(HEADER_LENGTH, 2);
+                    break;
+                case STR_32:
+                case BIN_32:
+                    expectHeader(HEADER_LENGTH, 4);
+                    break;
+                case EXT_8:
+                    expectHeader(HEADER_EXT, 1);
+                    break;
+                case EXT_16:
+                    expectHeader(HEADER_EXT, 2);
+                    break;
+                case EXT_32:
+                    expectHeader(HEADER_EXT, 4);
+                    break;
+                case ARRAY_16:
+                    expectHeader(HEADER_ARRAY, 2);
+                    break;
+                case ARRAY_32:
+                    expectHeader(HEADER_ARRAY, 4);
+                    break;
+                case MAP_16:
+                    expectHeader(HEADER_MAP, 2);
+                    break;
+                case MAP_32:
+                    expectHeader(HEADER_MAP, 4);
+                    break;
+                case UINT_8:
+                case SINT_8:
+                    expectData(1);
+                    break;
+                case UINT_16:
+                case SINT_16:
+                case FIX_EXT_1:
+                    expectData(2);
+                    break;
+                case FIX_EXT_2:
+                    expectData(3);
+                    break;
+                case UINT_32:
+                case SINT_32:
+                case FLOAT_32:
+                    expectData(4);
+                    break;
+                case FIX_EXT_4:
+                    expectData(5);
+                    break;
+                case UINT_64:
+                case SINT_64:
+                case FLOAT_64:
+                    expectData(8);
+                    break;
+                case FIX_EXT_8:
+                    expectData(9);
+                    break;
+                case FIX_EXT_16:
+                    expectData(17);
+                    break;
+                default:
+                    throw invalid("Unexpected byte: 0x" + toHex(typeByte));
+            }
+        }
+    }
+
+    // accepts a size once all its bytes have been received
+    private void acceptHeader() {
+        switch (headerKind) {
+            case HEADER_LENGTH:
+                expectData(header);
+                break;
+            case HEADER_EXT:
+                expectData(header + 1);
+                break;
+            case HEADER_ARRAY:
+                state = STATE_VALUE;
+                remaining += header;
+                break;
+            case HEADER_MAP:
+                state = STATE_VALUE;
+                remaining += 2 * header;
+                break;
+            case HEADER_BLOCK: {
+                int rawSize = (int) (header >>> 32);
+                int storedSize = (int) header;
+                if (rawSize <= 0 || storedSize <= 0 || storedSize > rawSize) {
+                    throw invalid("Invalid compressed block size");
+                }
+                expectData(storedSize);
+                break;
+            }
+            default:
+                throw new IllegalStateException();
+        }
+    }
+
+    // accepts the kind of a compressed block
+    private void acceptBlock(int kind) {
+        if (kind == CompressedBlockOutputStream.BLOCK_END) {
+            ended = true;
+        } else if (kind == CompressedBlockOutputStream.BLOCK_COMPRESSED || kind == CompressedBlockOutputStream.BLOCK_STORED) {
+            expectHeader(HEADER_BLOCK, 8);
+        } else {
+            throw invalid("Unknown compressed block kind: " + kind);
+        }
+    }
+
+    private void expectHeader(int kind, int bytes) {
+        state = STATE_HEADER;
+        headerKind = kind;
+        headerBytes = bytes;
+        header = 0;
+    }
+
+    private void expectData(long bytes) {
+        if (bytes > Integer.MAX_VALUE - size) {
+            throw invalid("Message is too large");
+        }
+        dataBytes = bytes;
+        state = (bytes > 0 ? STATE_DATA : (compressed ? STATE_BLOCK : STATE_VALUE));
+    }
+
+    // adds a byte to the message
+    private byte append(byte b) {
+        ensureCapacity(1);
+        buffer[size++] = b;
+        return b;
+    }
+
+    private void ensureCapacity(int count) {
+        if (size + count > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(size + count, buffer.length * 2));
+        }
+    }
+
+    // parses the complete message, resetting for the next message
+    private T complete() {
+        ByteBuffer message = ByteBuffer.wrap(buffer, 0, size);
+        reset();
+        return new JodaBeanBinReader(settings).read(message, rootType);
+    }
+
+    // resets the state, also used after invalid data
+    private void reset() {
+        size = 0;
+        state = STATE_VALUE;
+        remaining = 1;
+        compressed = false;
+        ended = false;
+    }
+
+    private IllegalArgumentException invalid(String message) {
+        reset();
+        return new IllegalArgumentException("Invalid binary data: " + message);
+    }
+
+    //-----------------------------------------------------------------------
+    @Override
+    public String toString() {
+        return "JodaBeanBinDecoder[" + rootType.getName() + "]";
+    }
+
+}
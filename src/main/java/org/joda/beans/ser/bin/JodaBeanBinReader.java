@@ -15,29 +15,53 @@
  */
 package org.joda.beans.ser.bin;
 
-import java.io.ByteArrayInputStream;
-import java.io.DataInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.joda.beans.Bean;
 import org.joda.beans.BeanBuilder;
+import org.joda.beans.DynamicMetaBean;
 import org.joda.beans.MetaBean;
 import org.joda.beans.MetaProperty;
+import org.joda.beans.ser.DefaultDeserializer;
 import org.joda.beans.ser.JodaBeanSer;
 import org.joda.beans.ser.SerCategory;
 import org.joda.beans.ser.SerDeserializer;
 import org.joda.beans.ser.SerIterable;
 import org.joda.beans.ser.SerIteratorFactory;
-import org.joda.beans.ser.SerOptional;
+import org.joda.beans.ser.SerPlan;
+import org.joda.beans.ser.SerProjection;
 import org.joda.beans.ser.SerTypeMapper;
 
 /**
  * Provides the ability for a Joda-Bean to read from a binary format.
  * <p>
  * The binary format is defined by {@link JodaBeanBinWriter}.
+ * Versions 1 to 4 of the format can be read.
+ * When reading version 4, the schema fingerprint of each bean type is checked against
+ * the properties of the bean class, and the message is rejected if they differ.
+ * <p>
+ * The data is decoded using a cursor.
+ * Byte arrays and buffers, including direct and memory-mapped buffers, are read without copying.
+ * An {@code InputStream} is decoded as it is read, holding only a small buffer in memory.
+ * Property names are matched against the encoded names held by {@link SerPlan}
+ * where possible, avoiding the creation of a {@code String} for each name.
+ * <p>
+ * Data compressed by {@link CompressedBlockOutputStream} is detected and decompressed automatically.
+ * Except when reading lazily, the data is decompressed a block at a time as the bean is parsed.
+ * <p>
+ * The properties of the root bean can also be read lazily using {@link #readLazy(byte[], Class)}.
+ * This is most effective with version 3, where nested beans and large collections
+ * are framed, allowing them to be skipped until needed.
  * <p>
  * This class contains mutable state and cannot be used from multiple threads.
  * A new instance must be created for each message.
@@ -51,9 +75,13 @@ public class JodaBeanBinReader extends MsgPack {
      */
     private final JodaBeanSer settings;
     /**
-     * The reader.
+     * The projection, null if reading all properties.
+     */
+    private final SerProjection projection;
+    /**
+     * The input, read using a cursor.
      */
-    private DataInputStream input;
+    private BinCursor input;
     /**
      * The base package including the trailing dot.
      */
@@ -62,6 +90,18 @@ public class JodaBeanBinReader extends MsgPack {
      * The known types.
      */
     private Map<String, Class<?>> knownTypes = new HashMap<String, Class<?>>();
+    /**
+     * The property names defined so far, null if not reading version 2 or later.
+     */
+    private List<String> propertyNames;
+    /**
+     * The schema fingerprints read so far, null if not reading version 4.
+     */
+    private Set<Long> fingerprints;
+    /**
+     * The types of the stream dictionary, null if not reading a stream.
+     */
+    private List<Class<?>> streamTypes;
 
     /**
      * Creates an instance.
@@ -70,6 +110,34 @@ public class JodaBeanBinReader extends MsgPack {
      */
     public JodaBeanBinReader(final JodaBeanSer settings) {
         this.settings = settings;
+        this.projection = null;
+    }
+
+    /**
+     * Creates an instance.
+     * 
+     * @param settings  the settings, not null
+     * @param projection  the projection, not null
+     */
+    private JodaBeanBinReader(final JodaBeanSer settings, final SerProjection projection) {
+        this.settings = settings;
+        this.projection = projection;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Returns a reader that only reads the specified properties.
+     * <p>
+     * When a bean declaring any of the specified properties is read, its other properties
+     * are skipped without being converted. Other beans are read in full.
+     * The bean is built from the properties that were read, thus it must be valid without
+     * the properties that were skipped. See {@link SerProjection}.
+     * 
+     * @param properties  the properties to read, not null
+     * @return a new reader that reads the specified properties, not null
+     */
+    public JodaBeanBinReader withProjection(final Set<? extends MetaProperty<?>> properties) {
+        return new JodaBeanBinReader(settings, SerProjection.of(properties));
     }
 
     //-----------------------------------------------------------------------
@@ -92,11 +160,63 @@ public class JodaBeanBinReader extends MsgPack {
      * @return the bean, not null
      */
     public <T> T read(final byte[] input, Class<T> rootType) {
-        return read(new ByteArrayInputStream(input), rootType);
+        if (input == null) {
+            throw new NullPointerException("input");
+        }
+        return read(ByteBuffer.wrap(input), rootType);
     }
 
     /**
      * Reads and parses to a bean.
+     * <p>
+     * The bean is read from the buffer's position, which is advanced past the bean.
+     * 
+     * @param input  the input buffer, not null
+     * @return the bean, not null
+     */
+    public Bean read(final ByteBuffer input) {
+        return read(input, Bean.class);
+    }
+
+    /**
+     * Reads and parses to a bean.
+     * <p>
+     * The bean is read from the buffer's position, which is advanced past the bean.
+     * The buffer may be a heap, direct or memory-mapped buffer.
+     * The data is read in place, without copying the buffer.
+     * 
+     * @param <T>  the root type
+     * @param input  the input buffer, not null
+     * @param rootType  the root type, not null
+     * @return the bean, not null
+     */
+    public <T> T read(final ByteBuffer input, Class<T> rootType) {
+        if (input == null) {
+            throw new NullPointerException("input");
+        }
+        if (CompressedBlockInputStream.isCompressed(input)) {
+            // decompressed a block at a time as the bean is parsed
+            CompressedBlockInputStream decompressor = CompressedBlockInputStream.of(input);
+            try {
+                this.input = new BinCursor(decompressor);
+                T result = parseRoot(rootType);
+                decompressor.skipToEnd();
+                return result;
+            } finally {
+                decompressor.release();
+            }
+        }
+        // slice has an independent position and big-endian byte order
+        this.input = new BinCursor(input.slice());
+        T result = parseRoot(rootType);
+        input.position(input.position() + (int) this.input.position());
+        return result;
+    }
+
+    /**
+     * Reads and parses to a bean.
+     * <p>
+     * The stream is read as the bean is parsed, and closed.
      * 
      * @param input  the input reader, not null
      * @return the bean, not null
@@ -107,6 +227,9 @@ public class JodaBeanBinReader extends MsgPack {
 
     /**
      * Reads and parses to a bean.
+     * <p>
+     * The stream is read as the bean is parsed, and closed.
+     * Only a small buffer of the data is held in memory, not the whole message.
      * 
      * @param <T>  the root type
      * @param input  the input stream, not null
@@ -114,17 +237,132 @@ public class JodaBeanBinReader extends MsgPack {
      * @return the bean, not null
      */
     public <T> T read(final InputStream input, Class<T> rootType) {
-        if (input instanceof DataInputStream) {
-            this.input = (DataInputStream) input;
-        } else {
-            this.input = new DataInputStream(input);
+        if (input == null) {
+            throw new NullPointerException("input");
         }
         try {
             try {
+                this.input = new BinCursor(CompressedBlockInputStream.decompressing(input));
                 return parseRoot(rootType);
             } finally {
                 input.close();
             }
+        } catch (IOException ex) {
+            throw new RuntimeException(ex);
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Reads the root bean lazily, returning a view that decodes each property when first accessed.
+     * <p>
+     * The data is indexed by skipping over the value of each property of the root bean.
+     * Nested beans and large collections written using version 3 are skipped without parsing.
+     * The array is not copied and must not be changed while the view is in use.
+     * 
+     * @param <T>  the root type
+     * @param input  the input bytes, not null
+     * @param rootType  the root type, not null
+     * @return the lazy view of the bean, not null
+     */
+    public <T extends Bean> BinaryBeanView<T> readLazy(final byte[] input, Class<T> rootType) {
+        if (input == null) {
+            throw new NullPointerException("input");
+        }
+        return readLazy(ByteBuffer.wrap(input), rootType);
+    }
+
+    /**
+     * Reads the root bean lazily, returning a view that decodes each property when first accessed.
+     * <p>
+     * The bean is read from the buffer's position, which is advanced past the bean.
+     * See {@link #readLazy(byte[], Class)}.
+     * The buffer is not copied and must not be changed while the view is in use.
+     * 
+     * @param <T>  the root type
+     * @param input  the input buffer, not null
+     * @param rootType  the root type, not null
+     * @return the lazy view of the bean, not null
+     */
+    public <T extends Bean> BinaryBeanView<T> readLazy(final ByteBuffer input, Class<T> rootType) {
+        if (input == null) {
+            throw new NullPointerException("input");
+        }
+        if (rootType == null) {
+            throw new NullPointerException("rootType");
+        }
+        if (CompressedBlockInputStream.isCompressed(input)) {
+            return readLazy(CompressedBlockInputStream.decompress(input), rootType);
+        }
+        this.input = new BinCursor(input.slice());
+        try {
+            BinaryBeanView<T> view = indexRoot(rootType);
+            input.position(input.position() + (int) this.input.position());
+            return view;
+        } catch (BufferUnderflowException ex) {
+            throw new IllegalArgumentException("Invalid binary data: Unexpected end of data", ex);
+        } catch (IndexOutOfBoundsException ex) {
+            throw new IllegalArgumentException("Invalid binary data: Unexpected end of data", ex);
+        } catch (RuntimeException ex) {
+            throw ex;
+        } catch (Exception ex) {
+            throw new RuntimeException(ex);
+        }
+    }
+
+    // reads the value of a property of a lazily read bean, the position is -1 if the value is absent
+    Object readLazyValue(
+            final ByteBuffer data,
+            final int position,
+            final String basePackage,
+            final Map<String, Class<?>> knownTypes,
+            final List<String> propertyNames,
+            final Set<Long> fingerprints,
+            final Class<?> beanType,
+            final MetaBean metaBean,
+            final MetaProperty<?> metaProp) {
+
+        SerPlan plan = settings.plan(beanType, metaBean);
+        if (position < 0) {
+            return plan.wrapValue(metaProp, null);
+        }
+        this.input = new BinCursor(data.duplicate());
+        this.input.position(position);
+        this.basePackage = basePackage;
+        this.knownTypes = new HashMap<String, Class<?>>(knownTypes);
+        this.propertyNames = (propertyNames != null ? new ArrayList<String>(propertyNames) : null);
+        this.fingerprints = (fingerprints != null ? new HashSet<Long>(fingerprints) : null);
+        try {
+            Object value = parseObject(plan.extractType(metaProp), metaProp, beanType, null, false);
+            return plan.wrapValue(metaProp, value);
+        } catch (BufferUnderflowException ex) {
+            throw new IllegalArgumentException("Invalid binary data: Unexpected end of data", ex);
+        } catch (IndexOutOfBoundsException ex) {
+            throw new IllegalArgumentException("Invalid binary data: Unexpected end of data", ex);
+        } catch (IllegalArgumentException ex) {
+            throw ex;
+        } catch (Exception ex) {
+            throw new IllegalArgumentException(
+                    "Error parsing bean: " + beanType.getName() + "::" + metaProp.name() + ", " + ex.getMessage(), ex);
+        }
+    }
+
+    // reads one bean of a stream, without the root array, using the types of the stream dictionary
+    <T> T readStreamed(final ByteBuffer input, final Class<T> rootType, final int version, final List<Class<?>> types) {
+        this.input = new BinCursor(input);
+        this.streamTypes = types;
+        this.propertyNames = (version == 2 || version == 3 ? new ArrayList<String>() : null);
+        this.fingerprints = (version == 4 ? new HashSet<Long>() : null);
+        try {
+            Object parsed = parseObject(rootType, null, null, null, true);
+            if (this.input.hasRemaining()) {
+                throw new IllegalArgumentException("Invalid binary data: Unexpected data after bean");
+            }
+            return rootType.cast(parsed);
+        } catch (BufferUnderflowException ex) {
+            throw new IllegalArgumentException("Invalid binary data: Unexpected end of data", ex);
+        } catch (IndexOutOfBoundsException ex) {
+            throw new IllegalArgumentException("Invalid binary data: Unexpected end of data", ex);
         } catch (RuntimeException ex) {
             throw ex;
         } catch (Exception ex) {
@@ -138,43 +376,144 @@ public class JodaBeanBinReader extends MsgPack {
      * 
      * @param rootType  the root type, not null
      * @return the bean, not null
-     * @throws Exception if an error occurs
      */
-    private <T> T parseRoot(final Class<T> declaredType) throws Exception {
+    private <T> T parseRoot(final Class<T> declaredType) {
+        try {
+            parseRootHeader();
+            Object parsed = parseObject(declaredType, null, null, null, true);
+            return declaredType.cast(parsed);
+        } catch (BufferUnderflowException ex) {
+            throw new IllegalArgumentException("Invalid binary data: Unexpected end of data", ex);
+        } catch (IndexOutOfBoundsException ex) {
+            throw new IllegalArgumentException("Invalid binary data: Unexpected end of data", ex);
+        } catch (RuntimeException ex) {
+            throw ex;
+        } catch (Exception ex) {
+            throw new RuntimeException(ex);
+        }
+    }
+
+    // parses the root array and version
+    private void parseRootHeader() {
         // root array
-        int typeByte = input.readByte();
+        int typeByte = input.get();
         if (typeByte != MIN_FIX_ARRAY + 2) {
             throw new IllegalArgumentException("Invalid binary data: Expected array, but was: 0x" + toHex(typeByte));
         }
         // version
-        typeByte = input.readByte();
-        if (typeByte != 1) {
-            throw new IllegalArgumentException("Invalid binary data: Expected version 1, but was: 0x" + toHex(typeByte));
+        typeByte = input.get();
+        if (typeByte == 2 || typeByte == 3) {
+            propertyNames = new ArrayList<String>();
+        } else if (typeByte == 4) {
+            fingerprints = new HashSet<Long>();
+        } else if (typeByte != 1) {
+            throw new IllegalArgumentException("Invalid binary data: Expected version from 1 to 4, but was: 0x" + toHex(typeByte));
+        }
+    }
+
+    // parses the root bean, recording the position of each property value
+    // the types and property names met while skipping are passed to the view, as later values may refer to them
+    private <T extends Bean> BinaryBeanView<T> indexRoot(final Class<T> declaredType) throws Exception {
+        parseRootHeader();
+        int typeByte = input.get();
+        boolean positional = (fingerprints != null && isArray(typeByte));
+        int size = (positional ? acceptArray(typeByte) : acceptMap(typeByte));
+        Class<?> beanType = declaredType;
+        long extPos = input.position();
+        if (size > 0 && input.get(extPos) == EXT_8 && input.get(extPos + 2) == JODA_TYPE_BEAN) {
+            input.position(extPos + 3);
+            beanType = acceptType(false, input.get(extPos + 1) & 0xFF);
+            if (declaredType.isAssignableFrom(beanType) == false) {
+                throw new IllegalArgumentException("Specified type is incompatible with declared type: " + declaredType.getName() + " and " + beanType.getName());
+            }
+            basePackage = beanType.getPackage().getName() + ".";
+            if (positional == false && input.get() != NIL) {
+                throw new IllegalArgumentException("Invalid binary data: Expected null after bean type");
+            }
+            size--;
+        }
+        Map<String, Integer> positions = new LinkedHashMap<String, Integer>();
+        if (positional) {
+            SerDeserializer deser = settings.getDeserializers().findDeserializer(beanType);
+            SerPlan plan = settings.plan(beanType, deser.findMetaBean(beanType));
+            if (acceptFingerprint(plan)) {
+                size--;
+            }
+            byte[] bitmap = acceptBitmap(plan, size - 1);
+            for (int i = 0; i < plan.size(); i++) {
+                if (isPresent(bitmap, i)) {
+                    positions.put(plan.name(i), (int) input.position());
+                    skipObject();
+                }
+            }
+        } else {
+            for (int i = 0; i < size; i++) {
+                String propName = acceptPropertyName(input.get());
+                positions.put(propName, (int) input.position());
+                skipObject();
+            }
+        }
+        ByteBuffer data = input.buffer().duplicate();
+        data.position(0);
+        return new BinaryBeanView<T>(
+                settings, data, declaredType, beanType.asSubclass(declaredType), basePackage,
+                new HashMap<String, Class<?>>(knownTypes), propertyNames, fingerprints, positions);
+    }
+
+    // finds the deserializer, applying the projection
+    private SerDeserializer findDeserializer(Class<?> beanType) {
+        if (projection != null) {
+            return projection.findDeserializer(settings.getDeserializers(), beanType);
         }
-        // parse
-        Object parsed = parseObject(declaredType, null, null, null, true);
-        return declaredType.cast(parsed);
+        return settings.getDeserializers().findDeserializer(beanType);
     }
 
     private Object parseBean(int propertyCount, Class<?> beanType) throws Exception {
         String propName = "";
         try {
-            SerDeserializer deser = settings.getDeserializers().findDeserializer(beanType);
+            SerDeserializer deser = findDeserializer(beanType);
             MetaBean metaBean = deser.findMetaBean(beanType);
             BeanBuilder<?> builder = deser.createBuilder(beanType, metaBean);
+            SerPlan plan = settings.plan(beanType, metaBean);
+            // the default deserializer looks up by name, so the encoded name can be matched directly
+            boolean matchBytes = (deser == DefaultDeserializer.INSTANCE && propertyNames == null);
             for (int i = 0; i < propertyCount; i++) {
                 // property name
-                propName = acceptString(input.readByte());
-                MetaProperty<?> metaProp = deser.findMetaProperty(beanType, metaBean, propName);
+                int typeByte = input.get();
+                int index = -1;
+                MetaProperty<?> metaProp;
+                if (matchBytes && isString(typeByte)) {
+                    int size = acceptStringSize(typeByte);
+                    ByteBuffer name = input.window(size);
+                    index = plan.indexOfName(name, name.position(), size);
+                    if (index >= 0) {
+                        skipBytes(size);
+                        propName = plan.name(index);
+                        metaProp = plan.property(index);
+                    } else {
+                        propName = acceptStringBytes(size);
+                        metaProp = deser.findMetaProperty(beanType, metaBean, propName);
+                    }
+                } else {
+                    propName = acceptPropertyName(typeByte);
+                    metaProp = deser.findMetaProperty(beanType, metaBean, propName);
+                }
+                // property value
                 if (metaProp == null) {
-                    MsgPackInput.skipObject(input);
+                    skipObject();
+                } else if (index >= 0) {
+                    Object value = parseObject(plan.type(index), metaProp, beanType, null, false);
+                    deser.setValue(builder, metaProp, plan.wrapValue(index, value));
                 } else {
-                    Object value = parseObject(SerOptional.extractType(metaProp, beanType), metaProp, beanType, null, false);
-                    deser.setValue(builder, metaProp, SerOptional.wrapValue(metaProp, beanType, value));
+                    Object value = parseObject(plan.extractType(metaProp), metaProp, beanType, null, false);
+                    deser.setValue(builder, metaProp, plan.wrapValue(metaProp, value));
                 }
                 propName = "";
             }
             return deser.build(beanType, builder);
+        } catch (BufferUnderflowException ex) {
+            // reported as the end of the data, not as an error in the bean
+            throw ex;
         } catch (Exception ex) {
             throw new RuntimeException("Error parsing bean: " + beanType.getName() + "::" + propName + ", " + ex.getMessage(), ex);
         }
@@ -184,55 +523,60 @@ public class JodaBeanBinReader extends MsgPack {
         // establish type
         Class<?> effectiveType = declaredType;
         String metaType = null;
-        int typeByte = input.readByte();
+        int typeByte = input.get();
+        if (typeByte == EXT_32 && input.get(input.position() + 4) == JODA_TYPE_FRAMED) {
+            return parseFrame(declaredType, metaProp, beanType, parentIterable);
+        }
+        if (fingerprints != null && isArray(typeByte)) {
+            // a bean written by position is an array, identified by the declared or written type
+            long start = input.position();
+            int arraySize = acceptArray(typeByte);
+            if (arraySize > 0 && (Bean.class.isAssignableFrom(declaredType) || isBeanType(input.position()))) {
+                return parsePositional(arraySize, declaredType, rootType);
+            }
+            input.position(start);
+        }
         if (isMap(typeByte)) {
-            input.mark(8);
+            // peek by index for an 'ext' type, leaving the cursor after the type byte if not found
+            long start = input.position();
             int mapSize = acceptMap(typeByte);
-            if (mapSize > 0) {
-                int typeByteTemp = input.readByte();
-                if (typeByteTemp == EXT_8) {
-                    int size = input.readUnsignedByte();
-                    typeByteTemp = input.readByte();
-                    if (typeByteTemp == JODA_TYPE_BEAN) {
-                        String typeStr = acceptStringBytes(size);
-                        effectiveType = SerTypeMapper.decodeType(typeStr, settings, basePackage, knownTypes);
-                        if (rootType) {
-                            if (Bean.class.isAssignableFrom(effectiveType) == false) {
-                                throw new IllegalArgumentException("Root type is not a Joda-Bean: " + effectiveType.getName());
-                            }
-                            basePackage = effectiveType.getPackage().getName() + ".";
-                        }
-                        if (declaredType.isAssignableFrom(effectiveType) == false) {
-                            throw new IllegalArgumentException("Specified type is incompatible with declared type: " + declaredType.getName() + " and " + effectiveType.getName());
-                        }
-                        if (input.readByte() != NIL) {
-                            throw new IllegalArgumentException("Invalid binary data: Expected null after bean type");
-                        }
-                        return parseBean(mapSize - 1, effectiveType);
-                    } else if (typeByteTemp == JODA_TYPE_DATA) {
-                        if (mapSize != 1) {
-                            throw new IllegalArgumentException("Invalid binary data: Expected map size 1, but was: " + mapSize);
-                        }
-                        String typeStr = acceptStringBytes(size);
-                        effectiveType = SerTypeMapper.decodeType(typeStr, settings, basePackage, knownTypes);
-                        if (declaredType.isAssignableFrom(effectiveType) == false) {
-                            throw new IllegalArgumentException("Specified type is incompatible with declared type: " + declaredType.getName() + " and " + effectiveType.getName());
-                        }
-                        typeByte = input.readByte();
-                    } else if (typeByteTemp == JODA_TYPE_META) {
-                        if (mapSize != 1) {
-                            throw new IllegalArgumentException("Invalid binary data: Expected map size 1, but was: " + mapSize);
-                        }
-                        metaType = acceptStringBytes(size);
-                        typeByte = input.readByte();
-                    } else {
-                        input.reset();
+            long extPos = input.position();
+            int extHeader = (mapSize > 0 ? input.get(extPos) : 0);
+            boolean reference = (extHeader == FIX_EXT_4 && streamTypes != null);
+            if (extHeader == EXT_8 || reference) {
+                // a reference is a fixext 4 holding the index of a type in the stream dictionary
+                int size = (reference ? 4 : input.get(extPos + 1) & 0xFF);
+                int extType = input.get(reference ? extPos + 1 : extPos + 2);
+                long dataPos = (reference ? extPos + 2 : extPos + 3);
+                if (extType == JODA_TYPE_BEAN) {
+                    input.position(dataPos);
+                    effectiveType = acceptBeanType(reference, size, declaredType, rootType);
+                    if (input.get() != NIL) {
+                        throw new IllegalArgumentException("Invalid binary data: Expected null after bean type");
+                    }
+                    return parseBean(mapSize - 1, effectiveType);
+                } else if (extType == JODA_TYPE_DATA) {
+                    if (mapSize != 1) {
+                        throw new IllegalArgumentException("Invalid binary data: Expected map size 1, but was: " + mapSize);
                     }
+                    input.position(dataPos);
+                    effectiveType = acceptType(reference, size);
+                    if (declaredType.isAssignableFrom(effectiveType) == false) {
+                        throw new IllegalArgumentException("Specified type is incompatible with declared type: " + declaredType.getName() + " and " + effectiveType.getName());
+                    }
+                    typeByte = input.get();
+                } else if (extType == JODA_TYPE_META && reference == false) {
+                    if (mapSize != 1) {
+                        throw new IllegalArgumentException("Invalid binary data: Expected map size 1, but was: " + mapSize);
+                    }
+                    input.position(dataPos);
+                    metaType = acceptStringBytes(size);
+                    typeByte = input.get();
                 } else {
-                    input.reset();
+                    input.position(start);
                 }
             } else {
-                input.reset();
+                input.position(start);
             }
         }
         // parse based on type
@@ -266,6 +610,142 @@ public class JodaBeanBinReader extends MsgPack {
         }
     }
 
+    // reads the type of a bean, checking it against the declared type
+    private Class<?> acceptBeanType(boolean reference, int size, Class<?> declaredType, boolean rootType) throws Exception {
+        Class<?> effectiveType = acceptType(reference, size);
+        if (rootType) {
+            if (Bean.class.isAssignableFrom(effectiveType) == false) {
+                throw new IllegalArgumentException("Root type is not a Joda-Bean: " + effectiveType.getName());
+            }
+            basePackage = effectiveType.getPackage().getName() + ".";
+        }
+        if (declaredType.isAssignableFrom(effectiveType) == false) {
+            throw new IllegalArgumentException("Specified type is incompatible with declared type: " + declaredType.getName() + " and " + effectiveType.getName());
+        }
+        return effectiveType;
+    }
+
+    // checks if the data at the position is the type of a bean, or a reference to one in a stream
+    private boolean isBeanType(long pos) {
+        int extHeader = input.get(pos);
+        return (extHeader == EXT_8 && input.get(pos + 2) == JODA_TYPE_BEAN) ||
+                (extHeader == FIX_EXT_4 && streamTypes != null && input.get(pos + 1) == JODA_TYPE_BEAN);
+    }
+
+    // parses a bean written by position in version 4, the cursor is after the array header
+    private Object parsePositional(int size, Class<?> declaredType, boolean rootType) throws Exception {
+        Class<?> beanType = declaredType;
+        long pos = input.position();
+        if (isBeanType(pos)) {
+            boolean reference = (input.get(pos) == FIX_EXT_4);
+            input.position(reference ? pos + 2 : pos + 3);
+            beanType = acceptBeanType(reference, reference ? 4 : input.get(pos + 1) & 0xFF, declaredType, rootType);
+            size--;
+        }
+        String propName = "";
+        try {
+            SerDeserializer deser = findDeserializer(beanType);
+            MetaBean metaBean = deser.findMetaBean(beanType);
+            SerPlan plan = settings.plan(beanType, metaBean);
+            if (acceptFingerprint(plan)) {
+                size--;
+            }
+            byte[] bitmap = acceptBitmap(plan, size - 1);
+            BeanBuilder<?> builder = deser.createBuilder(beanType, metaBean);
+            // the default deserializer looks up by name, so the property of the plan can be used directly
+            boolean byIndex = (deser == DefaultDeserializer.INSTANCE);
+            for (int i = 0; i < plan.size(); i++) {
+                if (isPresent(bitmap, i) == false) {
+                    continue;
+                }
+                propName = plan.name(i);
+                MetaProperty<?> metaProp = (byIndex ? plan.property(i) : deser.findMetaProperty(beanType, metaBean, propName));
+                if (metaProp == null) {
+                    skipObject();
+                } else if (metaProp == plan.property(i)) {
+                    Object value = parseObject(plan.type(i), metaProp, beanType, null, false);
+                    deser.setValue(builder, metaProp, plan.wrapValue(i, value));
+                } else {
+                    Object value = parseObject(plan.extractType(metaProp), metaProp, beanType, null, false);
+                    deser.setValue(builder, metaProp, plan.wrapValue(metaProp, value));
+                }
+            }
+            propName = "";
+            return deser.build(beanType, builder);
+        } catch (BufferUnderflowException ex) {
+            // reported as the end of the data, not as an error in the bean
+            throw ex;
+        } catch (Exception ex) {
+            throw new RuntimeException("Error parsing bean: " + beanType.getName() + "::" + propName + ", " + ex.getMessage(), ex);
+        }
+    }
+
+    // reads the schema fingerprint if present, checking it matches the properties of the plan
+    // the fingerprint is only written for the first bean of each type, thus may have been read earlier
+    private boolean acceptFingerprint(SerPlan plan) {
+        if (plan.getMetaBean() instanceof DynamicMetaBean) {
+            throw new IllegalArgumentException("Invalid binary data: Dynamic bean cannot be read by position: " + plan.getBeanType().getName());
+        }
+        long expected = plan.fingerprint();
+        long pos = input.position();
+        boolean present = (input.get(pos) == FIX_EXT_8 && input.get(pos + 1) == JODA_TYPE_SCHEMA);
+        if (present) {
+            input.position(pos + 2);
+            long actual = input.getLong();
+            fingerprints.add(actual);
+            if (actual != expected) {
+                throw new IllegalArgumentException(fingerprintMismatch(plan));
+            }
+        } else if (fingerprints.contains(expected) == false) {
+            throw new IllegalArgumentException(fingerprintMismatch(plan));
+        }
+        return present;
+    }
+
+    // the message when the fingerprint does not match
+    private static String fingerprintMismatch(SerPlan plan) {
+        return "Invalid binary data: Schema fingerprint does not match the properties of " + plan.getBeanType().getName() +
+                ", the writer has different properties and must use binary version 1, 2 or 3";
+    }
+
+    // reads the bitmap of the properties that are not null, checking it against the number of values
+    private byte[] acceptBitmap(SerPlan plan, int valueCount) throws IOException {
+        byte[] bitmap = acceptBinary(input.get());
+        if (bitmap.length != (plan.size() + 7) / 8) {
+            throw new IllegalArgumentException("Invalid binary data: Bitmap does not match the number of properties");
+        }
+        int count = 0;
+        for (int i = 0; i < plan.size(); i++) {
+            if (isPresent(bitmap, i)) {
+                count++;
+            }
+        }
+        if (count != valueCount) {
+            throw new IllegalArgumentException("Invalid binary data: Bitmap does not match the number of values");
+        }
+        return bitmap;
+    }
+
+    // checks if the bit of the property is set in the bitmap
+    private static boolean isPresent(byte[] bitmap, int index) {
+        return (bitmap[index >> 3] & (1 << (index & 7))) != 0;
+    }
+
+    // parses a frame, which contains a single complete object
+    private Object parseFrame(Class<?> declaredType, MetaProperty<?> metaProp, Class<?> beanType, SerIterable parentIterable) throws Exception {
+        int size = input.getInt();
+        input.get();
+        if (size < 0 || input.isShorterThan(size)) {
+            throw new IllegalArgumentException("Invalid binary data: Frame too large");
+        }
+        long end = input.position() + size;
+        Object value = parseObject(declaredType, metaProp, beanType, parentIterable, false);
+        if (input.position() != end) {
+            throw new IllegalArgumentException("Invalid binary data: Frame size does not match data");
+        }
+        return value;
+    }
+
     private Object parseIterable(int typeByte, SerIterable iterable) throws Exception {
         if (iterable.category() == SerCategory.MAP) {
             return parseIterableMap(typeByte, iterable);
@@ -293,7 +773,7 @@ public class JodaBeanBinReader extends MsgPack {
     private Object parseIterableTable(int typeByte, SerIterable iterable) throws Exception {
         int size = acceptArray(typeByte);
         for (int i = 0; i < size; i++) {
-            if (acceptArray(input.readByte()) != 3) {
+            if (acceptArray(input.get()) != 3) {
                 throw new IllegalArgumentException("Table must have cell array size 3");
             }
             Object key = parseObject(iterable.keyType(), null, null, null, false);
@@ -306,17 +786,17 @@ public class JodaBeanBinReader extends MsgPack {
 
     private Object parseIterableGrid(int typeByte, SerIterable iterable) throws Exception {
         int size = acceptArray(typeByte);
-        int rows = acceptInteger(input.readByte());
-        int columns = acceptInteger(input.readByte());
+        int rows = acceptInteger(input.get());
+        int columns = acceptInteger(input.get());
         iterable.dimensions(new int[] {rows, columns});
         if ((rows * columns) != (size - 2)) {
             // sparse
             for (int i = 0; i < (size - 2); i++) {
-                if (acceptArray(input.readByte()) != 3) {
+                if (acceptArray(input.get()) != 3) {
                     throw new IllegalArgumentException("Grid must have cell array size 3");
                 }
-                int row = acceptInteger(input.readByte());
-                int column = acceptInteger(input.readByte());
+                int row = acceptInteger(input.get());
+                int column = acceptInteger(input.get());
                 Object value = parseObject(iterable.valueType(), null, null, iterable, false);
                 iterable.add(row, column, value, 1);
             }
@@ -336,7 +816,7 @@ public class JodaBeanBinReader extends MsgPack {
         int size = acceptMap(typeByte);
         for (int i = 0; i < size; i++) {
             Object value = parseObject(iterable.valueType(), null, null, iterable, false);
-            int count = acceptInteger(input.readByte());
+            int count = acceptInteger(input.get());
             iterable.add(null, null, value, count);
         }
         return iterable.build();
@@ -388,26 +868,182 @@ public class JodaBeanBinReader extends MsgPack {
             case FALSE:
                 return Boolean.FALSE;
             case FLOAT_32:
-                return Float.valueOf(input.readFloat());
+                return Float.valueOf(input.getFloat());
             case FLOAT_64:
-                return Double.valueOf(input.readDouble());
+                return Double.valueOf(input.getDouble());
             case BIN_8:
             case BIN_16:
             case BIN_32:
                 return acceptBinary(typeByte);
+            case EXT_8:
+            case EXT_16:
+            case EXT_32: {
+                Object array = acceptPackedArray(typeByte);
+                if (type != Object.class && type.isInstance(array) == false) {
+                    throw new IllegalArgumentException("Invalid binary data: Expected " + type.getName() + ", but was " + array.getClass().getName());
+                }
+                return array;
+            }
         }
         throw new IllegalArgumentException("Invalid binary data: Expected " + type.getName() + ", but was: 0x" + toHex(typeByte));
     }
 
+    //-----------------------------------------------------------------------
+    // reads a type name, or a reference to the stream dictionary
+    private Class<?> acceptType(boolean reference, int size) throws Exception {
+        if (reference) {
+            int ref = input.getInt();
+            if (ref < 0 || ref >= streamTypes.size()) {
+                throw new IllegalArgumentException("Invalid binary data: Unknown type reference: " + ref);
+            }
+            return streamTypes.get(ref);
+        }
+        String typeStr = acceptStringBytes(size);
+        return SerTypeMapper.decodeType(typeStr, settings, basePackage, knownTypes);
+    }
+
+    // reads a property name, which in version 2 may be a definition or a reference
+    // version 3 also uses a string for a name first used within a frame
+    private String acceptPropertyName(int typeByte) throws IOException {
+        if (propertyNames == null || isString(typeByte)) {
+            return acceptString(typeByte);
+        }
+        if (typeByte == EXT_8) {
+            int size = input.get() & 0xFF;
+            if (input.get() != JODA_TYPE_PROPERTY) {
+                throw new IllegalArgumentException("Invalid binary data: Expected property name definition");
+            }
+            String name = acceptStringBytes(size);
+            propertyNames.add(name);
+            return name;
+        }
+        int ref = acceptInteger(typeByte);
+        if (ref < 0 || ref >= propertyNames.size()) {
+            throw new IllegalArgumentException("Invalid binary data: Unknown property name reference: " + ref);
+        }
+        return propertyNames.get(ref);
+    }
+
+    // skips the next object by moving the cursor
+    // nested arrays and maps are handled by counting the items still to be skipped,
+    // avoiding recursion and allocation, as entire removed properties may be skipped
+    private void skipObject() throws IOException {
+        long remaining = 1;
+        while (remaining > 0) {
+            remaining--;
+            int typeByte = input.get();
+            if (typeByte >= MIN_FIX_INT) {
+                continue;
+            }
+            if (isString(typeByte)) {
+                skipBytes(acceptStringSize(typeByte));
+            } else if (isArray(typeByte)) {
+                remaining += acceptArray(typeByte);
+            } else if (isMap(typeByte)) {
+                remaining += 2L * acceptMap(typeByte);
+            } else {
+                switch (typeByte) {
+                    case NIL:
+                    case FALSE:
+                    case TRUE:
+                        break;
+                    case BIN_8:
+                        skipBytes(input.get() & 0xFF);
+                        break;
+                    case BIN_16:
+                        skipBytes(input.getShort() & 0xFFFF);
+                        break;
+                    case BIN_32:
+                        skipBytes(input.getInt());
+                        break;
+                    case EXT_8: {
+                        int size = input.get() & 0xFF;
+                        int extType = input.get(input.position());
+                        if (propertyNames != null && extType == JODA_TYPE_PROPERTY) {
+                            // a definition within skipped data must still be added to the dictionary
+                            input.get();
+                            propertyNames.add(acceptStringBytes(size));
+                        } else if (extType == JODA_TYPE_BEAN || extType == JODA_TYPE_DATA) {
+                            // a type within skipped data may be referred to later by its short name
+                            input.get();
+                            skipType(acceptStringBytes(size));
+                        } else {
+                            skipBytes(size + 1);
+                        }
+                        break;
+                    }
+                    case EXT_16:
+                        skipBytes((input.getShort() & 0xFFFF) + 1);
+                        break;
+                    case EXT_32:
+                        skipBytes(input.getInt() + 1);
+                        break;
+                    case UINT_8:
+                    case SINT_8:
+                        skipBytes(1);
+                        break;
+                    case UINT_16:
+                    case SINT_16:
+                    case FIX_EXT_1:
+                        skipBytes(2);
+                        break;
+                    case FIX_EXT_2:
+                        skipBytes(3);
+                        break;
+                    case UINT_32:
+                    case SINT_32:
+                    case FLOAT_32:
+                        skipBytes(4);
+                        break;
+                    case FIX_EXT_4:
+                        skipBytes(5);
+                        break;
+                    case UINT_64:
+                    case SINT_64:
+                    case FLOAT_64:
+                        skipBytes(8);
+                        break;
+                    case FIX_EXT_8:
+                        if (fingerprints != null && input.get(input.position()) == JODA_TYPE_SCHEMA) {
+                            // a fingerprint within skipped data is not written again for later beans of the type
+                            input.get();
+                            fingerprints.add(input.getLong());
+                        } else {
+                            skipBytes(9);
+                        }
+                        break;
+                    case FIX_EXT_16:
+                        skipBytes(17);
+                        break;
+                    default:
+                        throw new IllegalArgumentException("Invalid binary data: Unexpected byte: 0x" + toHex(typeByte));
+                }
+            }
+        }
+    }
+
+    // decodes a type within skipped data, so that later uses of the short name can be decoded
+    private void skipType(String typeStr) {
+        try {
+            SerTypeMapper.decodeType(typeStr, settings, basePackage, knownTypes);
+        } catch (ClassNotFoundException ex) {
+            // ignore, as the type is only needed if referred to later
+        }
+    }
+
+    private void skipBytes(int size) {
+        input.skip(size);
+    }
+
     //-----------------------------------------------------------------------
     private int acceptMap(int typeByte) throws IOException {
         int size;
         if (typeByte >= MIN_FIX_MAP && typeByte <= MAX_FIX_MAP) {
             size = (typeByte - MIN_FIX_MAP);
         } else if (typeByte == MAP_16) {
-            size = input.readUnsignedShort();
+            size = (input.getShort() & 0xFFFF);
         } else if (typeByte == MAP_32) {
-            size = input.readInt();
+            size = input.getInt();
             if (size < 0) {
                 throw new IllegalArgumentException("Invalid binary data: Map too large");
             }
@@ -422,9 +1058,9 @@ public class JodaBeanBinReader extends MsgPack {
         if (typeByte >= MIN_FIX_ARRAY && typeByte <= MAX_FIX_ARRAY) {
             size = (typeByte - MIN_FIX_ARRAY);
         } else if (typeByte == ARRAY_16) {
-            size = input.readUnsignedShort();
+            size = (input.getShort() & 0xFFFF);
         } else if (typeByte == ARRAY_32) {
-            size = input.readInt();
+            size = input.getInt();
             if (size < 0) {
                 throw new IllegalArgumentException("Invalid binary data: Array too large");
             }
@@ -435,34 +1071,70 @@ public class JodaBeanBinReader extends MsgPack {
     }
 
     private String acceptString(int typeByte) throws IOException {
+        return acceptStringBytes(acceptStringSize(typeByte));
+    }
+
+    private int acceptStringSize(int typeByte) throws IOException {
         int size;
         if (typeByte >= MIN_FIX_STR && typeByte <= MAX_FIX_STR) {
             size = (typeByte - MIN_FIX_STR);
         } else if (typeByte == STR_8) {
-            size = input.readUnsignedByte();
+            size = (input.get() & 0xFF);
         } else if (typeByte == STR_16) {
-            size = input.readUnsignedShort();
+            size = (input.getShort() & 0xFFFF);
         } else if (typeByte == STR_32) {
-            size = input.readInt();
+            size = input.getInt();
             if (size < 0) {
                 throw new IllegalArgumentException("Invalid binary data: String too large");
             }
         } else {
             throw new IllegalArgumentException("Invalid binary data: Expected string, but was: 0x" + toHex(typeByte));
         }
-        return acceptStringBytes(size);
+        return size;
     }
 
     private String acceptStringBytes(int size) throws IOException {
-        byte[] bytes = new byte[size];
-        input.readFully(bytes);
+        ByteBuffer data = input.window(size);
+        int start = data.position();
+        String str;
+        if (data.hasArray()) {
+            // decode directly from the backing array
+            byte[] bytes = data.array();
+            int offset = data.arrayOffset() + start;
+            str = decodeString(bytes, offset, size);
+        } else {
+            str = decodeString(data, start, size);
+        }
+        data.position(start + size);
+        return str;
+    }
+
+    private static String decodeString(byte[] bytes, int offset, int size) {
         // inline common ASCII case for much better performance
         char[] chars = new char[size];
         for (int i = 0; i < size; i++) {
-            byte b = bytes[i];
+            byte b = bytes[offset + i];
             if (b >= 0) {
                 chars[i] = (char) b;
             } else {
+                return new String(bytes, offset, size, UTF_8);
+            }
+        }
+        return new String(chars);
+    }
+
+    private static String decodeString(ByteBuffer buffer, int start, int size) {
+        // inline common ASCII case for much better performance
+        char[] chars = new char[size];
+        for (int i = 0; i < size; i++) {
+            byte b = buffer.get(start + i);
+            if (b >= 0) {
+                chars[i] = (char) b;
+            } else {
+                byte[] bytes = new byte[size];
+                ByteBuffer dup = buffer.duplicate();
+                dup.position(start);
+                dup.get(bytes);
                 return new String(bytes, UTF_8);
             }
         }
@@ -472,11 +1144,11 @@ public class JodaBeanBinReader extends MsgPack {
     private byte[] acceptBinary(int typeByte) throws IOException {
         int size;
         if (typeByte == BIN_8) {
-            size = input.readUnsignedByte();
+            size = (input.get() & 0xFF);
         } else if (typeByte == BIN_16) {
-            size = input.readUnsignedShort();
+            size = (input.getShort() & 0xFFFF);
         } else if (typeByte == BIN_32) {
-            size = input.readInt();
+            size = input.getInt();
             if (size < 0) {
                 throw new IllegalArgumentException("Invalid binary data: Binary too large");
             }
@@ -484,41 +1156,116 @@ public class JodaBeanBinReader extends MsgPack {
             throw new IllegalArgumentException("Invalid binary data: Expected binary, but was: 0x" + toHex(typeByte));
         }
         byte[] bytes = new byte[size];
-        input.readFully(bytes);
+        input.get(bytes);
         return bytes;
     }
 
+    private Object acceptPackedArray(int typeByte) throws IOException {
+        int size;
+        if (typeByte == EXT_8) {
+            size = (input.get() & 0xFF);
+        } else if (typeByte == EXT_16) {
+            size = (input.getShort() & 0xFFFF);
+        } else {
+            size = input.getInt();
+            if (size < 0) {
+                throw new IllegalArgumentException("Invalid binary data: Packed array too large");
+            }
+        }
+        int extType = input.get();
+        if (extType != JODA_TYPE_PACKED_ARRAY || size < 1) {
+            throw new IllegalArgumentException("Invalid binary data: Expected packed array, but was extension type " + extType);
+        }
+        int tag = input.get();
+        int dataSize = size - 1;
+        ByteBuffer data = input.window(dataSize);
+        int start = data.position();
+        Object array;
+        // bulk read using a view of the buffer, which has big-endian order
+        switch (tag) {
+            case PACKED_DOUBLE: {
+                double[] values = new double[packedLength(dataSize, 8)];
+                data.asDoubleBuffer().get(values);
+                array = values;
+                break;
+            }
+            case PACKED_FLOAT: {
+                float[] values = new float[packedLength(dataSize, 4)];
+                data.asFloatBuffer().get(values);
+                array = values;
+                break;
+            }
+            case PACKED_LONG: {
+                long[] values = new long[packedLength(dataSize, 8)];
+                data.asLongBuffer().get(values);
+                array = values;
+                break;
+            }
+            case PACKED_INT: {
+                int[] values = new int[packedLength(dataSize, 4)];
+                data.asIntBuffer().get(values);
+                array = values;
+                break;
+            }
+            case PACKED_SHORT: {
+                short[] values = new short[packedLength(dataSize, 2)];
+                data.asShortBuffer().get(values);
+                array = values;
+                break;
+            }
+            case PACKED_BOOLEAN: {
+                boolean[] values = new boolean[dataSize];
+                for (int i = 0; i < dataSize; i++) {
+                    values[i] = (data.get(start + i) != 0);
+                }
+                array = values;
+                break;
+            }
+            default:
+                throw new IllegalArgumentException("Invalid binary data: Unknown packed array type: 0x" + toHex(tag));
+        }
+        data.position(start + dataSize);
+        return array;
+    }
+
+    private static int packedLength(int dataSize, int elementSize) {
+        if (dataSize % elementSize != 0) {
+            throw new IllegalArgumentException("Invalid binary data: Packed array size is not a multiple of " + elementSize);
+        }
+        return dataSize / elementSize;
+    }
+
     private int acceptInteger(int typeByte) throws IOException {
         if (typeByte >= MIN_FIX_INT && typeByte <= MAX_FIX_INT) {
             return typeByte;
         }
         switch (typeByte) {
             case UINT_8:
-                return input.readUnsignedByte();
+                return (input.get() & 0xFF);
             case UINT_16:
-                return input.readUnsignedShort();
+                return (input.getShort() & 0xFFFF);
             case UINT_32: {
-                int val = input.readInt();
+                int val = input.getInt();
                 if (val < 0) {
                     throw new IllegalArgumentException("Invalid binary data: Expected int, but was large unsigned int");
                 }
                 return val;
             }
             case UINT_64: {
-                long val = input.readLong();
+                long val = input.getLong();
                 if (val < 0 || val > Integer.MAX_VALUE) {
                     throw new IllegalArgumentException("Invalid binary data: Expected int, but was large unsigned int");
                 }
                 return (int) val;
             }
             case SINT_8:
-                return input.readByte();
+                return input.get();
             case SINT_16:
-                return input.readShort();
+                return input.getShort();
             case SINT_32:
-                return input.readInt();
+                return input.getInt();
             case SINT_64: {
-                long val = input.readLong();
+                long val = input.getLong();
                 if (val < Integer.MIN_VALUE || val > Integer.MAX_VALUE) {
                     throw new IllegalArgumentException("Invalid binary data: Expected int, but was large signed int");
                 }
@@ -534,27 +1281,27 @@ public class JodaBeanBinReader extends MsgPack {
         }
         switch (typeByte) {
             case UINT_8:
-                return input.readUnsignedByte();
+                return (input.get() & 0xFF);
             case UINT_16:
-                return input.readUnsignedShort();
+                return (input.getShort() & 0xFFFF);
             case UINT_32: {
-                return ((long) input.readInt()) & 0xFFFFFFFFL;
+                return ((long) input.getInt()) & 0xFFFFFFFFL;
             }
             case UINT_64: {
-                long val = input.readLong();
+                long val = input.getLong();
                 if (val < 0) {
                     throw new IllegalArgumentException("Invalid binary data: Expected long, but was large unsigned int");
                 }
                 return val;
             }
             case SINT_8:
-                return input.readByte();
+                return input.get();
             case SINT_16:
-                return input.readShort();
+                return input.getShort();
             case SINT_32:
-                return input.readInt();
+                return input.getInt();
             case SINT_64: {
-                return input.readLong();
+                return input.getLong();
             }
         }
         throw new IllegalArgumentException("Invalid binary data: Expected long, but was: 0x" + toHex(typeByte));
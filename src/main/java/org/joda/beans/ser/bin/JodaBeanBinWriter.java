@@ -18,16 +18,22 @@ package org.joda.beans.ser.bin;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.joda.beans.Bean;
-import org.joda.beans.MetaProperty;
+import org.joda.beans.DynamicMetaBean;
+import org.joda.beans.impl.BasicMetaProperty;
 import org.joda.beans.ser.JodaBeanSer;
 import org.joda.beans.ser.SerCategory;
 import org.joda.beans.ser.SerIterator;
-import org.joda.beans.ser.SerOptional;
+import org.joda.beans.ser.SerPlan;
 import org.joda.beans.ser.SerTypeMapper;
+import org.joda.convert.StringConverter;
 
 /**
  * Provides the ability for a Joda-Bean to be written to a binary format.
@@ -60,6 +66,39 @@ import org.joda.beans.ser.SerTypeMapper;
  * <p>
  * Type names are shortened by the package of the root type if possible.
  * Certain basic types are also handled, such as String, Integer, File and URI.
+ * <p>
+ * The root of the message is an array of size 2 containing the version and the bean.
+ * Version 1 writes each property name as a string every time it is used.
+ * Version 2, enabled using {@link JodaBeanSer#withBinaryVersion(int)}, builds a dictionary
+ * of property names as the message is written. The first time a property name is used,
+ * it is written as an 'ext' entity with the property name as the 'ext' data.
+ * Each definition is implicitly numbered from zero in the order written, and later uses
+ * of the same name write that number as an integer instead of the string.
+ * This is much smaller where the message contains many beans of the same type.
+ * Version 2 also writes arrays of {@code double}, {@code float}, {@code long}, {@code int},
+ * {@code short} and {@code boolean} as an 'ext' entity, where the 'ext' data is a
+ * single byte component type tag followed by the big-endian values.
+ * Version 3 extends version 2 by framing each nested bean, and each collection of at least
+ * eight items, as an 'ext' entity whose 'ext' data is the complete framed object.
+ * The size of the frame allows a reader to skip it without parsing.
+ * Each frame can be decoded independently of the frames before it, thus property names
+ * first used within a frame are written as strings, and type names are not shortened
+ * using the types previously written.
+ * <p>
+ * Version 4 is intended for use where the writer and reader share the same bean classes.
+ * Each bean is output as a MessagePack array instead of a map, without property names.
+ * The array contains the 'ext' bean type if needed, a schema fingerprint, a bitmap of
+ * the properties that are not null, then the value of each property that is not null,
+ * in the order of {@link org.joda.beans.MetaBean#metaPropertyIterable()}.
+ * Bit {@code n} of the bitmap is bit {@code n % 8} of byte {@code n / 8}.
+ * The fingerprint is the 64-bit hash of the names and types of the properties,
+ * written as an 'ext' entity the first time each bean type is used in the message.
+ * The reader checks the fingerprint, rejecting the message if its properties differ,
+ * in which case the message must be sent again using an earlier version.
+ * Dynamic beans, such as {@code FlexiBean}, are written as in version 1.
+ * <p>
+ * If compression is enabled using {@link JodaBeanSer#withBinaryCompression(int)}, the
+ * message is compressed in blocks as it is written, as defined by {@link CompressedBlockOutputStream}.
  *
  * @author Stephen Colebourne
  */
@@ -69,6 +108,11 @@ public class JodaBeanBinWriter {
     // the bean data is much more friendly for dynamic languages using
     // a standalone MessagePack parser
 
+    /**
+     * The minimum number of items in a collection for it to be framed in version 3.
+     */
+    private static final int FRAME_MIN_SIZE = 8;
+
     /**
      * The settings to use.
      */
@@ -82,9 +126,33 @@ public class JodaBeanBinWriter {
      */
     private String basePackage;
     /**
-     * The known types.
+     * The known types, null if not shortening types.
      */
     private Map<Class<?>, String> knownTypes = new HashMap<Class<?>, String>();
+    /**
+     * The property names written so far, null if not writing version 2 or later.
+     */
+    private Map<String, Integer> propertyNames;
+    /**
+     * Whether to frame nested beans and large collections, as in version 3.
+     */
+    private boolean framed;
+    /**
+     * The depth of frames currently being written.
+     */
+    private int frameDepth;
+    /**
+     * The bean types whose fingerprint has been written, null if not writing version 4.
+     */
+    private Set<Class<?>> fingerprinted;
+    /**
+     * The reference numbers of the types in the stream dictionary, null if not writing a stream.
+     */
+    private Map<Class<?>, Integer> streamTypes;
+    /**
+     * The types added to the stream dictionary by the current bean, null if not writing a stream.
+     */
+    private List<Class<?>> streamNewTypes;
 
     /**
      * Creates an instance.
@@ -116,13 +184,83 @@ public class JodaBeanBinWriter {
      * @return the binary data, not null
      */
     public byte[] write(final Bean bean, final boolean rootType) {
-        ByteArrayOutputStream baos = new ByteArrayOutputStream(1024);
+        if (settings.getBinaryCompression() > 0) {
+            return compress(writeToOutput(bean, rootType, new byte[1024]).toByteBuffer()).toByteArray();
+        }
+        return writeToOutput(bean, rootType, new byte[1024]).toByteArray();
+    }
+
+    /**
+     * Writes the bean to a byte array, returning a view of the data.
+     * <p>
+     * The type of the bean will be set in the message.
+     * <p>
+     * See {@link #writeToBuffer(Bean, boolean, byte[])}.
+     * 
+     * @param bean  the bean to output, not null
+     * @param buffer  the array to write to, which is replaced if too small, not null
+     * @return the view of the binary data, not null
+     */
+    public ByteBuffer writeToBuffer(final Bean bean, final byte[] buffer) {
+        return writeToBuffer(bean, true, buffer);
+    }
+
+    /**
+     * Writes the bean to a byte array, returning a view of the data.
+     * <p>
+     * The data is written into the specified array, starting at index zero.
+     * If the array is too small, a larger array is allocated and used instead.
+     * The result wraps the array that was used, with the position at zero and the
+     * limit at the end of the data. No copy of the data is made.
+     * <p>
+     * This allows an application to reuse the same array for many messages,
+     * passing {@code result.array()} to the next call.
+     * The data is only valid until the array is next written to.
+     * <p>
+     * If compression is enabled, the compressed data is written to a new array.
+     * 
+     * @param bean  the bean to output, not null
+     * @param rootType  true to output the root type
+     * @param buffer  the array to write to, which is replaced if too small, not null
+     * @return the view of the binary data, not null
+     */
+    public ByteBuffer writeToBuffer(final Bean bean, final boolean rootType, final byte[] buffer) {
+        if (buffer == null) {
+            throw new NullPointerException("buffer");
+        }
+        ByteBuffer result = writeToOutput(bean, rootType, buffer).toByteBuffer();
+        if (settings.getBinaryCompression() > 0) {
+            return ByteBuffer.wrap(compress(result).toByteArray());
+        }
+        return result;
+    }
+
+    // compresses the data in blocks
+    private ByteArrayOutputStream compress(final ByteBuffer data) {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream(data.remaining() / 2 + 64);
         try {
-            write(bean, rootType, baos);
+            CompressedBlockOutputStream compressed = new CompressedBlockOutputStream(baos, settings.getBinaryCompression());
+            compressed.write(data.array(), data.arrayOffset() + data.position(), data.remaining());
+            compressed.finish();
         } catch (IOException ex) {
             throw new IllegalStateException(ex);
         }
-        return baos.toByteArray();
+        return baos;
+    }
+
+    // writes the bean to a byte array
+    private MsgPackOutput writeToOutput(final Bean bean, final boolean rootType, final byte[] buffer) {
+        if (bean == null) {
+            throw new NullPointerException("bean");
+        }
+        MsgPackOutput out = new MsgPackOutput(buffer);
+        this.output = out;
+        try {
+            writeRoot(bean, rootType);
+        } catch (IOException ex) {
+            throw new IllegalStateException(ex);
+        }
+        return out;
     }
 
     /**
@@ -151,66 +289,210 @@ public class JodaBeanBinWriter {
         if (output == null) {
             throw new NullPointerException("output");
         }
-        this.output = new MsgPackOutput(output);
-        writeRoot(bean, rootType);
+        CompressedBlockOutputStream compressed = null;
+        if (settings.getBinaryCompression() > 0) {
+            compressed = new CompressedBlockOutputStream(output, settings.getBinaryCompression());
+            output = compressed;
+        }
+        if (settings.getBinaryVersion() >= 3) {
+            // frame sizes are set after the frame is written, so the data must be in memory
+            ByteBuffer data = writeToOutput(bean, rootType, new byte[1024]).toByteBuffer();
+            output.write(data.array(), 0, data.limit());
+        } else {
+            this.output = new MsgPackOutput(output);
+            writeRoot(bean, rootType);
+            this.output.flush();
+        }
+        if (compressed != null) {
+            compressed.finish();
+        }
     }
 
     //-----------------------------------------------------------------------
+    // writes one bean of a stream, without the root array, adding new types to the dictionary
+    // the new types are added to the list in the order of their reference number
+    void writeStreamed(final Bean bean, final MsgPackOutput output, final Map<Class<?>, Integer> types, final List<Class<?>> newTypes) throws IOException {
+        this.output = output;
+        this.streamTypes = types;
+        this.streamNewTypes = newTypes;
+        initVersion(settings.getBinaryVersion());
+        writeBean(bean, bean.getClass(), RootType.ROOT_WITH_TYPE);
+    }
+
     private void writeRoot(final Bean bean, final boolean rootType) throws IOException {
+        int version = settings.getBinaryVersion();
         output.writeArrayHeader(2);
-        output.writeInt(1);  // version 1
+        output.writeInt(version);
+        initVersion(version);
         writeBean(bean, bean.getClass(), rootType ? RootType.ROOT_WITH_TYPE : RootType.ROOT_WITHOUT_TYPE);
     }
 
+    // sets up the state for the features of the version
+    private void initVersion(final int version) {
+        frameDepth = 0;
+        if (version == 2 || version == 3) {
+            propertyNames = new HashMap<String, Integer>();
+        }
+        if (version == 3) {
+            framed = true;
+            knownTypes = null;
+        }
+        if (version == 4) {
+            fingerprinted = new HashSet<Class<?>>();
+        }
+    }
+
     private void writeBean(final Bean bean, final Class<?> declaredType, RootType rootTypeFlag) throws IOException {
-        int count = bean.metaBean().metaPropertyCount();
-        MetaProperty<?>[] props = new MetaProperty<?>[count];
+        if (framed && rootTypeFlag == RootType.NOT_ROOT) {
+            int frame = startFrame();
+            writeBeanData(bean, declaredType, rootTypeFlag);
+            endFrame(frame);
+        } else {
+            writeBeanData(bean, declaredType, rootTypeFlag);
+        }
+    }
+
+    // starts a frame, see endFrame()
+    private int startFrame() throws IOException {
+        frameDepth++;
+        return output.startFrame(MsgPack.JODA_TYPE_FRAMED);
+    }
+
+    // ends a frame, see startFrame()
+    private void endFrame(int frame) {
+        output.endFrame(frame);
+        frameDepth--;
+    }
+
+    private void writeBeanData(final Bean bean, final Class<?> declaredType, RootType rootTypeFlag) throws IOException {
+        SerPlan plan = settings.plan(bean);
+        boolean positional = (fingerprinted != null && plan.getMetaBean() instanceof DynamicMetaBean == false);
+        int count = plan.size();
+        int[] indices = new int[count];
         Object[] values = new Object[count];
+        byte[] bitmap = (positional ? new byte[(count + 7) / 8] : null);
         int size = 0;
-        for (MetaProperty<?> prop : bean.metaBean().metaPropertyIterable()) {
-            if (prop.style().isSerializable()) {
-                Object value = SerOptional.extractValue(prop, bean);
-                if (value != null) {
-                    props[size] = prop;
-                    values[size++] = value;
+        for (int i = 0; i < count; i++) {
+            // primitives are never null, and are read when written to avoid boxing
+            boolean primitive = plan.isPrimitive(i);
+            Object value = (primitive ? null : plan.extractValue(i, bean));
+            if (primitive || value != null) {
+                indices[size] = i;
+                values[size++] = value;
+                if (positional) {
+                    bitmap[i >> 3] |= (1 << (i & 7));
                 }
             }
         }
-        if (rootTypeFlag == RootType.ROOT_WITH_TYPE || (rootTypeFlag == RootType.NOT_ROOT && bean.getClass() != declaredType)) {
-            String typeStr = SerTypeMapper.encodeType(bean.getClass(), settings, basePackage, knownTypes);
-            if (rootTypeFlag == RootType.ROOT_WITH_TYPE) {
-                basePackage = bean.getClass().getPackage().getName() + ".";
+        boolean typed = (rootTypeFlag == RootType.ROOT_WITH_TYPE || (rootTypeFlag == RootType.NOT_ROOT && bean.getClass() != declaredType));
+        if (positional) {
+            boolean newType = fingerprinted.add(bean.getClass());
+            output.writeArrayHeader(size + 1 + (typed ? 1 : 0) + (newType ? 1 : 0));
+            if (typed) {
+                writeBeanType(bean, rootTypeFlag);
+            }
+            if (newType) {
+                output.writeExtensionLong(MsgPack.JODA_TYPE_SCHEMA, plan.fingerprint());
             }
+            output.writeBytes(bitmap);
+        } else if (typed) {
             output.writeMapHeader(size + 1);
-            output.writeExtensionString(MsgPack.JODA_TYPE_BEAN, typeStr);
+            writeBeanType(bean, rootTypeFlag);
             output.writeNil();
         } else {
             output.writeMapHeader(size);
         }
         for (int i = 0; i < size; i++) {
-            MetaProperty<?> prop = props[i];
+            int index = indices[i];
             Object value = values[i];
-            output.writeString(prop.name());
-            Class<?> propType = SerOptional.extractType(prop, bean.getClass());
-            if (value instanceof Bean) {
+            if (positional == false) {
+                writePropertyName(plan.name(index));
+            }
+            Class<?> propType = plan.type(index);
+            if (value == null) {
+                writePrimitive(propType, (BasicMetaProperty<?>) plan.property(index), bean);
+            } else if (value instanceof Bean) {
                 if (settings.getConverter().isConvertible(value.getClass())) {
-                    writeSimple(propType, value);
+                    writeSimple(propType, value, plan.converter(index));
                 } else {
                     writeBean((Bean) value, propType, RootType.NOT_ROOT);
                 }
             } else {
-                SerIterator itemIterator = settings.getIteratorFactory().create(value, prop, bean.getClass());
+                SerIterator itemIterator = settings.getIteratorFactory().create(value, plan.property(index), bean.getClass());
                 if (itemIterator != null) {
                     writeElements(itemIterator);
                 } else {
-                    writeSimple(propType, value);
+                    writeSimple(propType, value, plan.converter(index));
                 }
             }
         }
     }
 
+    // writes a primitive property without boxing, see SerPlan.isPrimitive()
+    private void writePrimitive(Class<?> type, BasicMetaProperty<?> metaProp, Bean bean) throws IOException {
+        if (type == int.class) {
+            output.writeInt(metaProp.getInt(bean));
+        } else if (type == long.class) {
+            output.writeLong(metaProp.getLong(bean));
+        } else if (type == double.class) {
+            output.writeDouble(metaProp.getDouble(bean));
+        } else {
+            output.writeBoolean(metaProp.getBoolean(bean));
+        }
+    }
+
+    // writes the type of the bean, setting the base package if the bean is the root
+    private void writeBeanType(final Bean bean, RootType rootTypeFlag) throws IOException {
+        writeType(MsgPack.JODA_TYPE_BEAN, bean.getClass());
+        if (rootTypeFlag == RootType.ROOT_WITH_TYPE) {
+            basePackage = bean.getClass().getPackage().getName() + ".";
+        }
+    }
+
+    // writes the type, as a reference to the stream's dictionary if writing a stream
+    private void writeType(final int extensionType, final Class<?> type) throws IOException {
+        if (streamTypes == null) {
+            output.writeExtensionString(extensionType, SerTypeMapper.encodeType(type, settings, basePackage, knownTypes));
+            return;
+        }
+        Integer ref = streamTypes.get(type);
+        if (ref == null) {
+            ref = streamTypes.size();
+            streamTypes.put(type, ref);
+            streamNewTypes.add(type);
+        }
+        output.writeExtensionInt(extensionType, ref.intValue());
+    }
+
+    private void writePropertyName(final String name) throws IOException {
+        if (propertyNames == null) {
+            output.writeString(name);
+            return;
+        }
+        Integer ref = propertyNames.get(name);
+        if (ref != null) {
+            output.writeInt(ref.intValue());
+        } else if (frameDepth > 0) {
+            // a definition within a frame would be lost if the frame was skipped
+            output.writeString(name);
+        } else {
+            propertyNames.put(name, propertyNames.size());
+            output.writeExtensionString(MsgPack.JODA_TYPE_PROPERTY, name);
+        }
+    }
+
     //-----------------------------------------------------------------------
     private void writeElements(final SerIterator itemIterator) throws IOException {
+        if (framed && itemIterator.size() >= FRAME_MIN_SIZE) {
+            int frame = startFrame();
+            writeElementsData(itemIterator);
+            endFrame(frame);
+        } else {
+            writeElementsData(itemIterator);
+        }
+    }
+
+    private void writeElementsData(final SerIterator itemIterator) throws IOException {
         if (itemIterator.metaTypeRequired()) {
             output.writeMapHeader(1);
             output.writeExtensionString(MsgPack.JODA_TYPE_META, itemIterator.metaTypeName());
@@ -319,6 +601,10 @@ public class JodaBeanBinWriter {
 
     //-----------------------------------------------------------------------
     private void writeSimple(final Class<?> declaredType, final Object value) throws IOException {
+        writeSimple(declaredType, value, null);
+    }
+
+    private void writeSimple(final Class<?> declaredType, final Object value, StringConverter<Object> declaredConverter) throws IOException {
         // simple types have no need to write a type object
         Class<?> realType = value.getClass();
         if (realType == Integer.class) {
@@ -333,6 +619,10 @@ public class JodaBeanBinWriter {
         } else if (realType == Boolean.class) {
             output.writeBoolean(((Boolean) value).booleanValue());
             return;
+        } else if (realType.isArray() && settings.getBinaryVersion() >= 2 && isPackedArrayType(realType)) {
+            // packed arrays identify their own type
+            output.writePackedArray(MsgPack.JODA_TYPE_PACKED_ARRAY, value);
+            return;
         }
         
         // handle no declared type and subclasses
@@ -340,17 +630,15 @@ public class JodaBeanBinWriter {
         if (declaredType == Object.class) {
             if (realType != String.class) {
                 effectiveType = settings.getConverter().findTypedConverter(realType).getEffectiveType();
-                String typeStr = SerTypeMapper.encodeType(effectiveType, settings, basePackage, knownTypes);
                 output.writeMapHeader(1);
-                output.writeExtensionString(MsgPack.JODA_TYPE_DATA, typeStr);
+                writeType(MsgPack.JODA_TYPE_DATA, effectiveType);
             } else {
                 effectiveType = realType;
             }
-        } else if (settings.getConverter().isConvertible(declaredType) == false) {
+        } else if (declaredConverter == null && settings.getConverter().isConvertible(declaredType) == false) {
             effectiveType = settings.getConverter().findTypedConverter(realType).getEffectiveType();
-            String typeStr = SerTypeMapper.encodeType(effectiveType, settings, basePackage, knownTypes);
             output.writeMapHeader(1);
-            output.writeExtensionString(MsgPack.JODA_TYPE_DATA, typeStr);
+            writeType(MsgPack.JODA_TYPE_DATA, effectiveType);
         }
         
         // long/short/byte only processed now to ensure that a distinction can be made between Integer and Long
@@ -370,7 +658,8 @@ public class JodaBeanBinWriter {
         
         // write as a string
         try {
-            String converted = settings.getConverter().convertToString(effectiveType, value);
+            String converted = (declaredConverter != null && effectiveType == declaredType ?
+                    declaredConverter.convertToString(value) : settings.getConverter().convertToString(effectiveType, value));
             if (converted == null) {
                 throw new IllegalArgumentException("Unable to write because converter returned a null string: " + value);
             }
@@ -380,6 +669,12 @@ public class JodaBeanBinWriter {
         }
     }
 
+    // checks if the type is a primitive array that can be packed
+    private static boolean isPackedArrayType(Class<?> type) {
+        return type == double[].class || type == float[].class || type == long[].class ||
+                type == int[].class || type == short[].class || type == boolean[].class;
+    }
+
     //-----------------------------------------------------------------------
     static enum RootType {
         ROOT_WITH_TYPE,
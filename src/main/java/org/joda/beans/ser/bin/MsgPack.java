@@ -201,6 +201,49 @@ abstract class MsgPack {
      * Extension type code for a Joda-Bean meta-type.
      */
     static final int JODA_TYPE_META = 34;
+    /**
+     * Extension type code for a Joda-Bean property name definition, used in version 2.
+     */
+    static final int JODA_TYPE_PROPERTY = 35;
+    /**
+     * Extension type code for a Joda-Bean packed primitive array, used in version 2.
+     * The data is a component type tag followed by the big-endian values.
+     */
+    static final int JODA_TYPE_PACKED_ARRAY = 36;
+    /**
+     * Extension type code for a Joda-Bean frame, used in version 3.
+     * The data is a single complete object, allowing it to be skipped without parsing.
+     */
+    static final int JODA_TYPE_FRAMED = 37;
+    /**
+     * Extension type code for a Joda-Bean schema fingerprint, used in version 4.
+     * The data is the 64-bit fingerprint of the names and types of the properties of a bean.
+     */
+    static final int JODA_TYPE_SCHEMA = 38;
+    /**
+     * Packed array component type tag for {@code double}.
+     */
+    static final int PACKED_DOUBLE = 'D';
+    /**
+     * Packed array component type tag for {@code float}.
+     */
+    static final int PACKED_FLOAT = 'F';
+    /**
+     * Packed array component type tag for {@code long}.
+     */
+    static final int PACKED_LONG = 'J';
+    /**
+     * Packed array component type tag for {@code int}.
+     */
+    static final int PACKED_INT = 'I';
+    /**
+     * Packed array component type tag for {@code short}.
+     */
+    static final int PACKED_SHORT = 'S';
+    /**
+     * Packed array component type tag for {@code boolean}.
+     */
+    static final int PACKED_BOOLEAN = 'Z';
 
     //-----------------------------------------------------------------------
     /**
@@ -343,20 +343,118 @@ abstract class MsgPackInput extends MsgPack {
     //-----------------------------------------------------------------------
     /**
      * Skips over the next object in an input stream.
+     * <p>
+     * The stream is advanced by the encoded lengths, without reading the data into memory.
+     * Nested arrays and maps are skipped without recursion.
      * 
      * @param input  the input stream, not null
      * @throws IOException if an error occurs
      */
     public static void skipObject(DataInputStream input) throws IOException {
-        new Skipper(input).skip(input.readByte());
+        long remaining = 1;
+        while (remaining > 0) {
+            remaining--;
+            byte b = input.readByte();
+            if (b >= MIN_FIX_INT) {  // no need to check for b <= MAX_FIX_INT
+                continue;
+            }
+            if (b >= MIN_FIX_STR && b <= MAX_FIX_STR) {
+                skipFully(input, b - MIN_FIX_STR);
+            } else if (b >= MIN_FIX_ARRAY && b <= MAX_FIX_ARRAY) {
+                remaining += b - MIN_FIX_ARRAY;
+            } else if (b >= MIN_FIX_MAP && b <= MAX_FIX_MAP) {
+                remaining += 2L * (b - MIN_FIX_MAP);
+            } else {
+                switch ((int) b) {
+                    case NIL:
+                    case FALSE:
+                    case TRUE:
+                        break;
+                    case BIN_8:
+                    case STR_8:
+                        skipFully(input, input.readUnsignedByte());
+                        break;
+                    case BIN_16:
+                    case STR_16:
+                        skipFully(input, input.readUnsignedShort());
+                        break;
+                    case BIN_32:
+                    case STR_32:
+                        skipFully(input, input.readInt());
+                        break;
+                    case EXT_8:
+                        skipFully(input, input.readUnsignedByte() + 1L);
+                        break;
+                    case EXT_16:
+                        skipFully(input, input.readUnsignedShort() + 1L);
+                        break;
+                    case EXT_32:
+                        skipFully(input, input.readInt() + 1L);
+                        break;
+                    case UINT_8:
+                    case SINT_8:
+                        skipFully(input, 1);
+                        break;
+                    case UINT_16:
+                    case SINT_16:
+                    case FIX_EXT_1:
+                        skipFully(input, 2);
+                        break;
+                    case FIX_EXT_2:
+                        skipFully(input, 3);
+                        break;
+                    case UINT_32:
+                    case SINT_32:
+                    case FLOAT_32:
+                        skipFully(input, 4);
+                        break;
+                    case FIX_EXT_4:
+                        skipFully(input, 5);
+                        break;
+                    case UINT_64:
+                    case SINT_64:
+                    case FLOAT_64:
+                        skipFully(input, 8);
+                        break;
+                    case FIX_EXT_8:
+                        skipFully(input, 9);
+                        break;
+                    case FIX_EXT_16:
+                        skipFully(input, 17);
+                        break;
+                    case ARRAY_16:
+                        remaining += input.readUnsignedShort();
+                        break;
+                    case ARRAY_32:
+                        remaining += input.readInt() & 0xFFFFFFFFL;
+                        break;
+                    case MAP_16:
+                        remaining += 2L * input.readUnsignedShort();
+                        break;
+                    case MAP_32:
+                        remaining += 2L * (input.readInt() & 0xFFFFFFFFL);
+                        break;
+                    default:
+                        throw new IllegalArgumentException("Invalid binary data: Unexpected byte: 0x" + toHex(b));
+                }
+            }
+        }
     }
 
-    private static class Skipper extends MsgPackInput {
-        public Skipper(DataInputStream input) {
-            super(input);
+    // skips the specified number of bytes, throwing EOFException if the stream ends
+    static void skipFully(DataInputStream input, long size) throws IOException {
+        if (size < 0) {
+            throw new IllegalStateException("Data too large");
         }
-        void skip(int typeByte) throws IOException {
-            readObject(typeByte);
+        long remaining = size;
+        while (remaining > 0) {
+            int skipped = input.skipBytes((int) Math.min(remaining, Integer.MAX_VALUE));
+            if (skipped <= 0) {
+                // skipBytes does not distinguish the end of the stream, so read a byte to check
+                input.readByte();
+                skipped = 1;
+            }
+            remaining -= skipped;
         }
     }
 
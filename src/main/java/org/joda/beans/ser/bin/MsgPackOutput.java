@@ -15,38 +15,62 @@
  */
 package org.joda.beans.ser.bin;
 
-import java.io.DataOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
 
 /**
  * Outputter for MsgPack data.
+ * <p>
+ * Data is written to an unsynchronized byte array.
+ * When created with a stream, the array is a fixed size buffer that is written
+ * to the stream when full and when {@link #flush()} is called.
+ * Otherwise, the array grows as necessary and the result can be obtained
+ * without copying using {@link #toByteBuffer()}.
  *
  * @author Stephen Colebourne
  */
 final class MsgPackOutput extends MsgPack {
 
     /**
-     * The stream to write to.
+     * The size of the buffer used when writing to a stream.
      */
-    private final DataOutputStream output;
+    private static final int STREAM_BUFFER_SIZE = 8192;
 
     /**
-     * Creates an instance.
+     * The stream to write to, null if writing to a byte array.
+     */
+    private final OutputStream stream;
+    /**
+     * The buffer.
+     */
+    private byte[] buf;
+    /**
+     * The current position in the buffer.
+     */
+    private int pos;
+
+    /**
+     * Creates an instance that writes to a stream.
      * 
      * @param stream  the stream to write to, not null
      */
     MsgPackOutput(OutputStream stream) {
-        this.output = new DataOutputStream(stream);
+        this.stream = stream;
+        this.buf = new byte[STREAM_BUFFER_SIZE];
     }
 
     /**
-     * Creates an instance.
+     * Creates an instance that writes to a growable byte array.
+     * <p>
+     * The initial array is used until it is full, when a larger array replaces it.
      * 
-     * @param stream  the stream to write to, not null
+     * @param buffer  the initial array to write to, not null
      */
-    MsgPackOutput(DataOutputStream stream) {
-        this.output = stream;
+    MsgPackOutput(byte[] buffer) {
+        this.stream = null;
+        this.buf = (buffer.length > 0 ? buffer : new byte[256]);
     }
 
     //-----------------------------------------------------------------------
@@ -56,7 +80,7 @@ final class MsgPackOutput extends MsgPack {
      * @throws IOException if an error occurs
      */
     void writeNil() throws IOException {
-        output.writeByte(NIL);
+        put(NIL);
     }
 
     /**
@@ -67,9 +91,9 @@ final class MsgPackOutput extends MsgPack {
      */
     void writeBoolean(boolean value) throws IOException {
         if (value) {
-            output.writeByte(TRUE);
+            put(TRUE);
         } else {
-            output.writeByte(FALSE);
+            put(FALSE);
         }
     }
 
@@ -83,29 +107,29 @@ final class MsgPackOutput extends MsgPack {
         if (value < MIN_FIX_INT) {
             // large negative
             if (value >= Byte.MIN_VALUE) {
-                output.writeByte(SINT_8);
-                output.writeByte((byte) value);
+                put(SINT_8);
+                put((byte) value);
             } else if (value >= Short.MIN_VALUE) {
-                output.writeByte(SINT_16);
-                output.writeShort((short) value);
+                put(SINT_16);
+                putShort((short) value);
             } else {
-                output.writeByte(SINT_32);
-                output.writeInt(value);
+                put(SINT_32);
+                putInt(value);
             }
         } else if (value < MAX_FIX_INT) {
             // in range -64 to 127
-            output.writeByte(value);
+            put(value);
         } else {
             // large positive
             if (value < 0xFF) {
-                output.writeByte(UINT_8);
-                output.writeByte((byte) value);
+                put(UINT_8);
+                put((byte) value);
             } else if (value < 0xFFFF) {
-                output.writeByte(UINT_16);
-                output.writeShort((short) value);
+                put(UINT_16);
+                putShort((short) value);
             } else {
-                output.writeByte(UINT_32);
-                output.writeInt(value);
+                put(UINT_32);
+                putInt(value);
             }
         }
     }
@@ -120,35 +144,35 @@ final class MsgPackOutput extends MsgPack {
         if (value < MIN_FIX_INT) {
             // large negative
             if (value >= Byte.MIN_VALUE) {
-                output.writeByte(SINT_8);
-                output.writeByte((byte) value);
+                put(SINT_8);
+                put((byte) value);
             } else if (value >= Short.MIN_VALUE) {
-                output.writeByte(SINT_16);
-                output.writeShort((short) value);
+                put(SINT_16);
+                putShort((short) value);
             } else if (value >= Integer.MIN_VALUE) {
-                output.writeByte(SINT_32);
-                output.writeInt((int) value);
+                put(SINT_32);
+                putInt((int) value);
             } else {
-                output.writeByte(SINT_64);
-                output.writeLong(value);
+                put(SINT_64);
+                putLong(value);
             }
         } else if (value < MAX_FIX_INT) {
             // in range -64 to 127
-            output.writeByte((byte) value);
+            put((byte) value);
         } else {
             // large positive
             if (value < 0xFF) {
-                output.writeByte(UINT_8);
-                output.writeByte((byte) value);
+                put(UINT_8);
+                put((byte) value);
             } else if (value < 0xFFFF) {
-                output.writeByte(UINT_16);
-                output.writeShort((short) value);
+                put(UINT_16);
+                putShort((short) value);
             } else if (value < 0xFFFFFFFFL) {
-                output.writeByte(UINT_32);
-                output.writeInt((int) value);
+                put(UINT_32);
+                putInt((int) value);
             } else {
-                output.writeByte(UINT_64);
-                output.writeLong(value);
+                put(UINT_64);
+                putLong(value);
             }
         }
     }
@@ -160,8 +184,8 @@ final class MsgPackOutput extends MsgPack {
      * @throws IOException if an error occurs
      */
     void writeFloat(float value) throws IOException {
-        output.writeByte(FLOAT_32);
-        output.writeFloat(value);
+        put(FLOAT_32);
+        putInt(Float.floatToIntBits(value));
     }
 
     /**
@@ -171,8 +195,8 @@ final class MsgPackOutput extends MsgPack {
      * @throws IOException if an error occurs
      */
     void writeDouble(double value) throws IOException {
-        output.writeByte(FLOAT_64);
-        output.writeDouble(value);
+        put(FLOAT_64);
+        putLong(Double.doubleToLongBits(value));
     }
 
     /**
@@ -184,16 +208,16 @@ final class MsgPackOutput extends MsgPack {
     void writeBytes(byte[] bytes) throws IOException {
         int size = bytes.length;
         if (size < 256) {
-            output.writeByte(BIN_8);
-            output.writeByte(size);
+            put(BIN_8);
+            put(size);
         } else if (size < 65536) {
-            output.writeByte(BIN_16);
-            output.writeShort(size);
+            put(BIN_16);
+            putShort(size);
         } else {
-            output.writeByte(BIN_32);
-            output.writeInt(size);
+            put(BIN_32);
+            putInt(size);
         }
-        output.write(bytes);
+        putBytes(bytes);
     }
 
     /**
@@ -203,36 +227,81 @@ final class MsgPackOutput extends MsgPack {
      * @throws IOException if an error occurs
      */
     void writeString(String value) throws IOException {
-        byte[] bytes = toUTF8(value);
-        int size = bytes.length;
+        int size = utf8Length(value);
         if (size < 32) {
-            output.writeByte(MIN_FIX_STR + size);
+            put(MIN_FIX_STR + size);
         } else if (size < 256) {
-            output.writeByte(STR_8);
-            output.writeByte(size);
+            put(STR_8);
+            put(size);
         } else if (size < 65536) {
-            output.writeByte(STR_16);
-            output.writeShort(size);
+            put(STR_16);
+            putShort(size);
         } else {
-            output.writeByte(STR_32);
-            output.writeInt(size);
+            put(STR_32);
+            putInt(size);
+        }
+        putUTF8(value, size);
+    }
+
+    // the length of the string when encoded in UTF-8, matching String.getBytes()
+    private static int utf8Length(String value) {
+        final int length = value.length();
+        int size = length;
+        for (int i = 0; i < length; i++) {
+            char ch = value.charAt(i);
+            if (ch >= 0x80) {
+                if (ch < 0x800) {
+                    size++;
+                } else if (Character.isHighSurrogate(ch) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+                    size += 2;  // four bytes for two chars
+                    i++;
+                } else if (ch >= Character.MIN_SURROGATE && ch <= Character.MAX_SURROGATE) {
+                    // unpaired surrogate is replaced by '?'
+                } else {
+                    size += 2;
+                }
+            }
         }
-        output.write(bytes);
+        return size;
     }
 
-    private byte[] toUTF8(String value) {
+    // encodes the string directly into the buffer, the size must be from utf8Length()
+    private void putUTF8(String value, int size) throws IOException {
+        ensureCapacity(size);
+        final byte[] bytes = buf;
+        final int length = value.length();
+        int p = pos;
+        int i = 0;
         // inline common ASCII case for much better performance
-        final int size = value.length();
-        byte[] bytes = new byte[size];
-        for (int i = 0; i < size; i++) {
+        for (; i < length; i++) {
             char ch = value.charAt(i);
-            if (ch < 128) {
-                bytes[i] = (byte) ch;
+            if (ch >= 0x80) {
+                break;
+            }
+            bytes[p++] = (byte) ch;
+        }
+        for (; i < length; i++) {
+            char ch = value.charAt(i);
+            if (ch < 0x80) {
+                bytes[p++] = (byte) ch;
+            } else if (ch < 0x800) {
+                bytes[p++] = (byte) (0xC0 | (ch >> 6));
+                bytes[p++] = (byte) (0x80 | (ch & 0x3F));
+            } else if (Character.isHighSurrogate(ch) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+                int cp = Character.toCodePoint(ch, value.charAt(++i));
+                bytes[p++] = (byte) (0xF0 | (cp >> 18));
+                bytes[p++] = (byte) (0x80 | ((cp >> 12) & 0x3F));
+                bytes[p++] = (byte) (0x80 | ((cp >> 6) & 0x3F));
+                bytes[p++] = (byte) (0x80 | (cp & 0x3F));
+            } else if (ch >= Character.MIN_SURROGATE && ch <= Character.MAX_SURROGATE) {
+                bytes[p++] = (byte) '?';
             } else {
-                return value.getBytes(UTF_8);
+                bytes[p++] = (byte) (0xE0 | (ch >> 12));
+                bytes[p++] = (byte) (0x80 | ((ch >> 6) & 0x3F));
+                bytes[p++] = (byte) (0x80 | (ch & 0x3F));
             }
         }
-        return bytes;
+        pos = p;
     }
 
     /**
@@ -243,13 +312,13 @@ final class MsgPackOutput extends MsgPack {
      */
     void writeArrayHeader(int size) throws IOException {
         if (size < 16) {
-            output.writeByte(MIN_FIX_ARRAY + size);
+            put(MIN_FIX_ARRAY + size);
         } else if (size < 65536) {
-            output.writeByte(ARRAY_16);
-            output.writeShort(size);
+            put(ARRAY_16);
+            putShort(size);
         } else {
-            output.writeByte(ARRAY_32);
-            output.writeInt(size);
+            put(ARRAY_32);
+            putInt(size);
         }
     }
 
@@ -261,13 +330,13 @@ final class MsgPackOutput extends MsgPack {
      */
     void writeMapHeader(int size) throws IOException {
         if (size < 16) {
-            output.writeByte(MIN_FIX_MAP + size);
+            put(MIN_FIX_MAP + size);
         } else if (size < 65536) {
-            output.writeByte(MAP_16);
-            output.writeShort(size);
+            put(MAP_16);
+            putShort(size);
         } else {
-            output.writeByte(MAP_32);
-            output.writeInt(size);
+            put(MAP_32);
+            putInt(size);
         }
     }
 
@@ -279,9 +348,35 @@ final class MsgPackOutput extends MsgPack {
      * @throws IOException if an error occurs
      */
     void writeExtensionByte(int extensionType, int value) throws IOException {
-        output.write(FIX_EXT_1);
-        output.write(extensionType);
-        output.write(value);
+        put(FIX_EXT_1);
+        put(extensionType);
+        put(value);
+    }
+
+    /**
+     * Writes an extension int using FIX_EXT_4.
+     * 
+     * @param extensionType  the type
+     * @param value  the value to write as the big-endian data
+     * @throws IOException if an error occurs
+     */
+    void writeExtensionInt(int extensionType, int value) throws IOException {
+        put(FIX_EXT_4);
+        put(extensionType);
+        putInt(value);
+    }
+
+    /**
+     * Writes an extension long using FIX_EXT_8.
+     * 
+     * @param extensionType  the type
+     * @param value  the value to write as the big-endian data
+     * @throws IOException if an error occurs
+     */
+    void writeExtensionLong(int extensionType, long value) throws IOException {
+        put(FIX_EXT_8);
+        put(extensionType);
+        putLong(value);
     }
 
     /**
@@ -292,14 +387,228 @@ final class MsgPackOutput extends MsgPack {
      * @throws IOException if an error occurs
      */
     void writeExtensionString(int extensionType, String str) throws IOException {
-        byte[] bytes = str.getBytes(UTF_8);
-        if (bytes.length > 256) {
+        int size = utf8Length(str);
+        if (size > 256) {
             throw new IllegalArgumentException("String too long");
         }
-        output.write(EXT_8);
-        output.write(bytes.length);
-        output.write(extensionType);
-        output.write(bytes);
+        put(EXT_8);
+        put(size);
+        put(extensionType);
+        putUTF8(str, size);
+    }
+
+    /**
+     * Writes an extension header, choosing the smallest suitable format.
+     * <p>
+     * The caller must write the specified number of bytes of data after the header.
+     * 
+     * @param extensionType  the type
+     * @param size  the size of the data
+     * @throws IOException if an error occurs
+     */
+    void writeExtensionHeader(int extensionType, int size) throws IOException {
+        if (size < 256) {
+            put(EXT_8);
+            put(size);
+        } else if (size < 65536) {
+            put(EXT_16);
+            putShort(size);
+        } else {
+            put(EXT_32);
+            putInt(size);
+        }
+        put(extensionType);
+    }
+
+    /**
+     * Writes a primitive array as an extension containing the packed big-endian values.
+     * <p>
+     * The first byte of the data is the component type tag.
+     * The array must be one of {@code double[]}, {@code float[]}, {@code long[]},
+     * {@code int[]}, {@code short[]} or {@code boolean[]}.
+     * 
+     * @param extensionType  the type
+     * @param array  the primitive array, not null
+     * @throws IOException if an error occurs
+     */
+    void writePackedArray(int extensionType, Object array) throws IOException {
+        if (array instanceof double[]) {
+            double[] values = (double[]) array;
+            writePackedArrayHeader(extensionType, PACKED_DOUBLE, values.length, 8);
+            for (double value : values) {
+                putLong(Double.doubleToLongBits(value));
+            }
+        } else if (array instanceof float[]) {
+            float[] values = (float[]) array;
+            writePackedArrayHeader(extensionType, PACKED_FLOAT, values.length, 4);
+            for (float value : values) {
+                putInt(Float.floatToIntBits(value));
+            }
+        } else if (array instanceof long[]) {
+            long[] values = (long[]) array;
+            writePackedArrayHeader(extensionType, PACKED_LONG, values.length, 8);
+            for (long value : values) {
+                putLong(value);
+            }
+        } else if (array instanceof int[]) {
+            int[] values = (int[]) array;
+            writePackedArrayHeader(extensionType, PACKED_INT, values.length, 4);
+            for (int value : values) {
+                putInt(value);
+            }
+        } else if (array instanceof short[]) {
+            short[] values = (short[]) array;
+            writePackedArrayHeader(extensionType, PACKED_SHORT, values.length, 2);
+            for (short value : values) {
+                putShort(value);
+            }
+        } else if (array instanceof boolean[]) {
+            boolean[] values = (boolean[]) array;
+            writePackedArrayHeader(extensionType, PACKED_BOOLEAN, values.length, 1);
+            for (boolean value : values) {
+                put(value ? 1 : 0);
+            }
+        } else {
+            throw new IllegalArgumentException("Unable to pack array: " + array.getClass().getName());
+        }
+    }
+
+    /**
+     * Starts a frame, writing an extension header whose size is set by {@link #endFrame(int)}.
+     * <p>
+     * The header always uses EXT_32, so that the size can be set once known.
+     * This is only supported when writing to a byte array.
+     * 
+     * @param extensionType  the type
+     * @return the position of the data, to be passed to {@code endFrame}
+     * @throws IOException if an error occurs
+     */
+    int startFrame(int extensionType) throws IOException {
+        if (stream != null) {
+            throw new IllegalStateException("Frames cannot be written to a stream");
+        }
+        put(EXT_32);
+        putInt(0);
+        put(extensionType);
+        return pos;
+    }
+
+    /**
+     * Ends a frame, setting the size in the header written by {@link #startFrame(int)}.
+     * 
+     * @param dataPos  the position of the data, as returned by {@code startFrame}
+     */
+    void endFrame(int dataPos) {
+        int size = pos - dataPos;
+        int sizePos = dataPos - 5;
+        buf[sizePos] = (byte) (size >>> 24);
+        buf[sizePos + 1] = (byte) (size >>> 16);
+        buf[sizePos + 2] = (byte) (size >>> 8);
+        buf[sizePos + 3] = (byte) size;
+    }
+
+    // writes the extension header and tag of a packed array
+    private void writePackedArrayHeader(int extensionType, int tag, int length, int elementSize) throws IOException {
+        long size = ((long) length) * elementSize + 1;
+        if (size > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Array too large");
+        }
+        writeExtensionHeader(extensionType, (int) size);
+        put(tag);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Writes any buffered data to the stream.
+     * <p>
+     * The stream itself is not flushed.
+     * This has no effect when writing to a byte array.
+     * 
+     * @throws IOException if an error occurs
+     */
+    void flush() throws IOException {
+        if (stream != null && pos > 0) {
+            stream.write(buf, 0, pos);
+            pos = 0;
+        }
+    }
+
+    /**
+     * Gets the data written so far as a copied byte array.
+     * 
+     * @return the data, not null
+     */
+    byte[] toByteArray() {
+        return Arrays.copyOf(buf, pos);
+    }
+
+    /**
+     * Gets a view of the data written so far, without copying.
+     * <p>
+     * The view wraps the current array, from index zero with a limit of the data written.
+     * This is the array passed to the constructor unless it was too small.
+     * 
+     * @return the view of the data, not null
+     */
+    ByteBuffer toByteBuffer() {
+        return ByteBuffer.wrap(buf, 0, pos);
+    }
+
+    //-----------------------------------------------------------------------
+    // ensures that there is space in the buffer, flushing or growing as necessary
+    private void ensureCapacity(int required) throws IOException {
+        if (buf.length - pos < required) {
+            if (stream != null) {
+                flush();
+                if (buf.length >= required) {
+                    return;
+                }
+            }
+            int newSize = Math.max(buf.length * 2, pos + required);
+            if (newSize < 0) {
+                throw new OutOfMemoryError("Binary data too large");
+            }
+            buf = Arrays.copyOf(buf, newSize);
+        }
+    }
+
+    private void put(int value) throws IOException {
+        if (pos == buf.length) {
+            ensureCapacity(1);
+        }
+        buf[pos++] = (byte) value;
+    }
+
+    private void putShort(int value) throws IOException {
+        ensureCapacity(2);
+        buf[pos++] = (byte) (value >>> 8);
+        buf[pos++] = (byte) value;
+    }
+
+    private void putInt(int value) throws IOException {
+        ensureCapacity(4);
+        buf[pos++] = (byte) (value >>> 24);
+        buf[pos++] = (byte) (value >>> 16);
+        buf[pos++] = (byte) (value >>> 8);
+        buf[pos++] = (byte) value;
+    }
+
+    private void putLong(long value) throws IOException {
+        putInt((int) (value >>> 32));
+        putInt((int) value);
+    }
+
+    private void putBytes(byte[] bytes) throws IOException {
+        int length = bytes.length;
+        if (stream != null && length > buf.length) {
+            // large blocks bypass the buffer
+            flush();
+            stream.write(bytes);
+            return;
+        }
+        ensureCapacity(length);
+        System.arraycopy(bytes, 0, buf, pos, length);
+        pos += length;
     }
 
 }
@@ -160,9 +160,14 @@ public final class MsgPackVisualizer extends MsgPackInput {
 
     @Override
     protected void handleExtension(int type, byte[] bytes) throws IOException {
-        if (type == JODA_TYPE_BEAN || type == JODA_TYPE_DATA || type == JODA_TYPE_META) {
+        if (type == JODA_TYPE_BEAN || type == JODA_TYPE_DATA || type == JODA_TYPE_META || type == JODA_TYPE_PROPERTY) {
             String str = new String(bytes, UTF_8);
             System.out.println("ext type=" + type + " '" + str + "'");
+        } else if (type == JODA_TYPE_FRAMED) {
+            System.out.println("ext type=" + type + " frame (" + bytes.length + ")");
+            MsgPackVisualizer frame = new MsgPackVisualizer(bytes);
+            frame.indent = indent + "  ";
+            frame.visualize();
         } else {
             System.out.print("ext type=" + type + " '");
             for (byte b : bytes) {
@@ -0,0 +1,177 @@
+/*
+ *  Copyright 2001-2016 Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.beans.ser.json;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+
+import org.joda.beans.JodaBeanUtils;
+import org.joda.beans.ser.JodaBeanSer;
+
+/**
+ * Decodes Joda-Beans from UTF-8 encoded JSON incrementally, without blocking.
+ * <p>
+ * This is intended for non-blocking I/O, such as an event loop reading from a
+ * {@code SocketChannel}. Each chunk of data is passed to {@link #decode(ByteBuffer)}
+ * as it arrives, and a bean is returned once its JSON object is complete.
+ * The chunks do not need to align with the messages, or with the characters.
+ * <p>
+ * The bytes of each message are scanned as they are received, tracking the depth of
+ * nested objects and arrays, and whether the scan is within a string.
+ * No recursion is used, thus the scan can stop at the end of any chunk and resume
+ * with the next. When the object is complete it is parsed by {@link JodaBeanJsonReader}.
+ * The scan works on the bytes, as the UTF-8 encoding of a non-ASCII character
+ * never contains the bytes of the ASCII structural characters.
+ * <p>
+ * The decoder can be used for a sequence of messages, such as on a connection.
+ * Whitespace between messages is ignored, thus the output of {@link JodaBeanJsonEncoder}
+ * can be concatenated, or separated by newlines.
+ * Each message is parsed independently, with its own type information.
+ * <p>
+ * This class contains mutable state and cannot be used from multiple threads.
+ *
+ * @param <T>  the root type
+ * @author Stephen Colebourne
+ */
+public final class JodaBeanJsonDecoder<T> {
+
+    /**
+     * The UTF-8 encoding.
+     */
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    /**
+     * The settings to use.
+     */
+    private final JodaBeanSer settings;
+    /**
+     * The root type.
+     */
+    private final Class<T> rootType;
+    /**
+     * The bytes of the message received so far.
+     */
+    private byte[] buffer = new byte[1024];
+    /**
+     * The number of bytes of the message received so far.
+     */
+    private int size;
+    /**
+     * The depth of nested objects and arrays, zero before the message starts.
+     */
+    private int depth;
+    /**
+     * Whether the scan is within a string.
+     */
+    private boolean inString;
+    /**
+     * Whether the previous byte was a backslash within a string.
+     */
+    private boolean escape;
+
+    /**
+     * Creates a decoder.
+     *
+     * @param settings  the settings to use, not null
+     * @param rootType  the root type, not null
+     */
+    public JodaBeanJsonDecoder(JodaBeanSer settings, Class<T> rootType) {
+        JodaBeanUtils.notNull(settings, "settings");
+        JodaBeanUtils.notNull(rootType, "rootType");
+        this.settings = settings;
+        this.rootType = rootType;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Decodes the next chunk of data, returning the bean if its message is complete.
+     * <p>
+     * The data is read from the position of the buffer, which is advanced past the bytes used.
+     * If a bean is returned, the buffer is positioned at the end of its message,
+     * and any remaining bytes are the start of the next message, which must be
+     * passed to this method again.
+     * If null is returned, all the bytes have been used and more data is needed.
+     *
+     * @param input  the chunk of data, not null
+     * @return the bean, null if more data is needed
+     * @throws IllegalArgumentException if the data is invalid
+     */
+    public T decode(ByteBuffer input) {
+        JodaBeanUtils.notNull(input, "input");
+        while (input.hasRemaining()) {
+            byte b = input.get();
+            if (depth == 0) {
+                // between messages
+                if (b == ' ' || b == '\t' || b == '\n' || b == '\r') {
+                    continue;
+                }
+                if (b != '{') {
+                    throw new IllegalArgumentException("Invalid JSON data: Expected JSON object but found " + (char) (b & 0xFF));
+                }
+            }
+            append(b);
+            if (inString) {
+                if (escape) {
+                    escape = false;
+                } else if (b == '\\') {
+                    escape = true;
+                } else if (b == '"') {
+                    inString = false;
+                }
+            } else if (b == '"') {
+                inString = true;
+            } else if (b == '{' || b == '[') {
+                depth++;
+            } else if ((b == '}' || b == ']') && --depth == 0) {
+                return complete();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Checks if part of a message has been received.
+     *
+     * @return true if a message has been started but not completed
+     */
+    public boolean isPartial() {
+        return depth > 0;
+    }
+
+    //-----------------------------------------------------------------------
+    // adds a byte to the message
+    private void append(byte b) {
+        if (size == buffer.length) {
+            buffer = Arrays.copyOf(buffer, buffer.length * 2);
+        }
+        buffer[size++] = b;
+    }
+
+    // parses the complete message, resetting for the next message
+    private T complete() {
+        String message = new String(buffer, 0, size, UTF_8);
+        size = 0;
+        return new JodaBeanJsonReader(settings).read(message, rootType);
+    }
+
+    //-----------------------------------------------------------------------
+    @Override
+    public String toString() {
+        return "JodaBeanJsonDecoder[" + rootType.getName() + "]";
+    }
+
+}
@@ -0,0 +1,128 @@
+/*
+ *  Copyright 2001-2016 Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.beans.ser.json;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import org.joda.beans.Bean;
+import org.joda.beans.JodaBeanUtils;
+import org.joda.beans.ser.JodaBeanSer;
+
+/**
+ * Encodes a Joda-Bean to JSON incrementally, without blocking.
+ * <p>
+ * This is intended for non-blocking I/O, such as an event loop writing to a
+ * {@code SocketChannel}. Each call to {@link #encode(ByteBuffer)} writes as much
+ * of the message as fits in the buffer and returns, allowing the buffer to be
+ * flushed to the channel before encoding resumes.
+ * <p>
+ * The message is the UTF-8 encoding of the JSON written by {@link JodaBeanJsonWriter},
+ * and can be read by {@link JodaBeanJsonReader} or {@link JodaBeanJsonDecoder}.
+ * The bean is serialized in full when the encoder is created, thus the size of the
+ * buffer passed to {@code encode} does not need to relate to the size of the message.
+ * <p>
+ * This class contains mutable state and cannot be used from multiple threads.
+ * A new instance must be created for each message.
+ *
+ * @author Stephen Colebourne
+ */
+public final class JodaBeanJsonEncoder {
+
+    /**
+     * The encoded message, with the position at the next byte to output.
+     */
+    private final ByteBuffer message;
+
+    /**
+     * Creates an encoder for the bean.
+     * <p>
+     * The type of the bean will be set in the message.
+     *
+     * @param settings  the settings to use, not null
+     * @param bean  the bean to output, not null
+     */
+    public JodaBeanJsonEncoder(JodaBeanSer settings, Bean bean) {
+        this(settings, bean, true);
+    }
+
+    /**
+     * Creates an encoder for the bean.
+     *
+     * @param settings  the settings to use, not null
+     * @param bean  the bean to output, not null
+     * @param rootType  true to output the root type
+     */
+    public JodaBeanJsonEncoder(JodaBeanSer settings, Bean bean, boolean rootType) {
+        JodaBeanUtils.notNull(settings, "settings");
+        JodaBeanUtils.notNull(bean, "bean");
+        ByteArrayOutputStream baos = new ByteArrayOutputStream(1024);
+        try {
+            new JodaBeanJsonWriter(settings).write(bean, rootType, baos);
+        } catch (IOException ex) {
+            throw new IllegalStateException(ex);
+        }
+        this.message = ByteBuffer.wrap(baos.toByteArray());
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Encodes as much of the message as fits in the buffer.
+     * <p>
+     * The bytes are written at the position of the buffer, which is advanced.
+     * If the buffer has no space remaining, nothing is written.
+     *
+     * @param output  the buffer to write to, not null
+     * @return true if the message is complete, false if more space is needed
+     */
+    public boolean encode(ByteBuffer output) {
+        JodaBeanUtils.notNull(output, "output");
+        int count = Math.min(output.remaining(), message.remaining());
+        if (count > 0) {
+            ByteBuffer chunk = message.duplicate();
+            chunk.limit(chunk.position() + count);
+            output.put(chunk);
+            message.position(message.position() + count);
+        }
+        return message.hasRemaining() == false;
+    }
+
+    /**
+     * Checks if the whole message has been encoded.
+     *
+     * @return true if the message is complete
+     */
+    public boolean isComplete() {
+        return message.hasRemaining() == false;
+    }
+
+    /**
+     * Gets the number of bytes still to be encoded.
+     *
+     * @return the number of bytes remaining
+     */
+    public int remaining() {
+        return message.remaining();
+    }
+
+    //-----------------------------------------------------------------------
+    @Override
+    public String toString() {
+        return "JodaBeanJsonEncoder[remaining=" + message.remaining() + "]";
+    }
+
+}
@@ -20,10 +20,14 @@ import static org.joda.beans.ser.json.JodaBeanJsonWriter.META;
 import static org.joda.beans.ser.json.JodaBeanJsonWriter.TYPE;
 import static org.joda.beans.ser.json.JodaBeanJsonWriter.VALUE;
 
+import java.io.IOException;
 import java.io.Reader;
-import java.io.StringReader;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
 
 import org.joda.beans.Bean;
 import org.joda.beans.BeanBuilder;
@@ -35,7 +39,8 @@ import org.joda.beans.ser.SerCategory;
 import org.joda.beans.ser.SerDeserializer;
 import org.joda.beans.ser.SerIterable;
 import org.joda.beans.ser.SerIteratorFactory;
-import org.joda.beans.ser.SerOptional;
+import org.joda.beans.ser.SerPlan;
+import org.joda.beans.ser.SerProjection;
 import org.joda.beans.ser.SerTypeMapper;
 
 /**
@@ -52,6 +57,10 @@ public class JodaBeanJsonReader {
      * Settings.
      */
     private final JodaBeanSer settings;
+    /**
+     * The projection, null if reading all properties.
+     */
+    private final SerProjection projection;
     /**
      * The reader.
      */
@@ -73,6 +82,34 @@ public class JodaBeanJsonReader {
     public JodaBeanJsonReader(final JodaBeanSer settings) {
         JodaBeanUtils.notNull(settings, "settings");
         this.settings = settings;
+        this.projection = null;
+    }
+
+    /**
+     * Creates an instance.
+     * 
+     * @param settings  the settings, not null
+     * @param projection  the projection, not null
+     */
+    private JodaBeanJsonReader(final JodaBeanSer settings, final SerProjection projection) {
+        this.settings = settings;
+        this.projection = projection;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Returns a reader that only reads the specified properties.
+     * <p>
+     * When a bean declaring any of the specified properties is read, its other properties
+     * are skipped without being converted. Other beans are read in full.
+     * The bean is built from the properties that were read, thus it must be valid without
+     * the properties that were skipped. See {@link SerProjection}.
+     * 
+     * @param properties  the properties to read, not null
+     * @return a new reader that reads the specified properties, not null
+     */
+    public JodaBeanJsonReader withProjection(final Set<? extends MetaProperty<?>> properties) {
+        return new JodaBeanJsonReader(settings, SerProjection.of(properties));
     }
 
     //-----------------------------------------------------------------------
@@ -96,7 +133,8 @@ public class JodaBeanJsonReader {
      */
     public <T> T read(String input, Class<T> rootType) {
         JodaBeanUtils.notNull(input, "input");
-        return read(new StringReader(input), rootType);
+        JodaBeanUtils.notNull(rootType, "rootType");
+        return read(new JsonInput(input), rootType);
     }
 
     /**
@@ -120,8 +158,13 @@ public class JodaBeanJsonReader {
     public <T> T read(Reader input, Class<T> rootType) {
         JodaBeanUtils.notNull(input, "input");
         JodaBeanUtils.notNull(rootType, "rootType");
+        return read(new JsonInput(input), rootType);
+    }
+
+    // reads from the input
+    private <T> T read(JsonInput input, Class<T> rootType) {
         try {
-            this.input = new JsonInput(input);
+            this.input = input;
             return parseRoot(rootType);
         } catch (RuntimeException ex) {
             throw ex;
@@ -130,6 +173,32 @@ public class JodaBeanJsonReader {
         }
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * Reads and parses a sequence of beans lazily.
+     * <p>
+     * The input may be a top-level JSON array of beans, or a sequence of JSON objects
+     * separated by whitespace, such as JSON Lines.
+     * Only one bean is parsed at a time, as the iterator is advanced.
+     * Type information seen earlier in the stream is used to decode later beans,
+     * matching {@link JodaBeanJsonStreamWriter}.
+     * <p>
+     * The iterator uses the state of this reader, which must not be used for anything else.
+     * The iterator does not close the reader.
+     * Errors are thrown from the iterator methods as runtime exceptions.
+     * 
+     * @param <T>  the root type
+     * @param input  the input reader, not null
+     * @param rootType  the root type, not null
+     * @return the lazy iterator of beans, not null
+     */
+    public <T> Iterator<T> stream(Reader input, Class<T> rootType) {
+        JodaBeanUtils.notNull(input, "input");
+        JodaBeanUtils.notNull(rootType, "rootType");
+        this.input = new JsonInput(input);
+        return new StreamIterator<T>(rootType);
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Parses the root bean.
@@ -143,23 +212,31 @@ public class JodaBeanJsonReader {
         return declaredType.cast(parsed);
     }
 
+    // finds the deserializer, applying the projection
+    private SerDeserializer findDeserializer(Class<?> beanType) {
+        if (projection != null) {
+            return projection.findDeserializer(settings.getDeserializers(), beanType);
+        }
+        return settings.getDeserializers().findDeserializer(beanType);
+    }
+
     // parse a bean, event after object start passed in
     private Object parseBean(JsonEvent event, Class<?> beanType) throws Exception {
         String propName = "";
         try {
-            SerDeserializer deser = settings.getDeserializers().findDeserializer(beanType);
+            SerDeserializer deser = findDeserializer(beanType);
             MetaBean metaBean = deser.findMetaBean(beanType);
             BeanBuilder<?> builder = deser.createBuilder(beanType, metaBean);
+            SerPlan plan = settings.plan(beanType, metaBean);
             while (event != JsonEvent.OBJECT_END) {
                 // property name
                 propName = input.acceptObjectKey(event);
                 MetaProperty<?> metaProp = deser.findMetaProperty(beanType, metaBean, propName);
                 if (metaProp == null) {
-                    input.skipData();
+                    skipData(input.readEvent());
                 } else {
-                    Object value = parseObject(input.readEvent(),
-                            SerOptional.extractType(metaProp, beanType), metaProp, beanType, null, false);
-                    deser.setValue(builder, metaProp, SerOptional.wrapValue(metaProp, beanType, value));
+                    Object value = parseObject(input.readEvent(), plan.extractType(metaProp), metaProp, beanType, null, false);
+                    deser.setValue(builder, metaProp, plan.wrapValue(metaProp, value));
                 }
                 propName = "";
                 event = input.acceptObjectSeparator();
@@ -171,6 +248,39 @@ public class JodaBeanJsonReader {
         }
     }
 
+    // skips data, decoding the types within it so that later uses of the short name can be decoded
+    private void skipData(JsonEvent event) throws Exception {
+        switch (event) {
+            case OBJECT:
+                event = input.readEvent();
+                while (event != JsonEvent.OBJECT_END) {
+                    String key = input.acceptObjectKey(event);
+                    event = input.readEvent();
+                    if (event == JsonEvent.STRING && (key.equals(BEAN) || key.equals(TYPE))) {
+                        try {
+                            SerTypeMapper.decodeType(input.parseString(), settings, basePackage, knownTypes);
+                        } catch (ClassNotFoundException ex) {
+                            // ignore, as the type is only needed if referred to later
+                        }
+                    } else {
+                        skipData(event);
+                    }
+                    event = input.acceptObjectSeparator();
+                }
+                break;
+            case ARRAY:
+                event = input.readEvent();
+                while (event != JsonEvent.ARRAY_END) {
+                    skipData(event);
+                    event = input.acceptArraySeparator();
+                }
+                break;
+            default:
+                input.skipData(event);
+                break;
+        }
+    }
+
     // parse object, event passed in
     private Object parseObject(
             JsonEvent event,
@@ -207,7 +317,7 @@ public class JodaBeanJsonReader {
                 return parseSimple(event, declaredType);
             }
         } else {
-            if (event == JsonEvent.OBJECT || event == JsonEvent.ARRAY) {
+            if (event == JsonEvent.OBJECT || (event == JsonEvent.ARRAY && isPrimitiveArray(declaredType) == false)) {
                 SerIterable childIterable = null;
                 if (metaProp != null) {
                     childIterable = SerIteratorFactory.INSTANCE.createIterable(metaProp, beanType);
@@ -452,9 +562,200 @@ public class JodaBeanJsonReader {
                 return Boolean.TRUE;
             case FALSE:
                 return Boolean.FALSE;
+            case ARRAY: {
+                if (isPrimitiveArray(type)) {
+                    return parsePrimitiveArray(type.getComponentType());
+                }
+                throw new IllegalArgumentException("Invalid JSON data: Expected simple type but found " + event);
+            }
             default:
                 throw new IllegalArgumentException("Invalid JSON data: Expected simple type but found " + event);
         }
     }
 
+    //-----------------------------------------------------------------------
+    // checks if the type is a primitive array that can be read from a JSON array
+    private static boolean isPrimitiveArray(Class<?> type) {
+        return type.isArray() && type.getComponentType().isPrimitive() &&
+                type != byte[].class && type != char[].class;
+    }
+
+    // parses a JSON array to a primitive array, the array start has been read
+    private Object parsePrimitiveArray(Class<?> componentType) throws Exception {
+        if (componentType == boolean.class) {
+            boolean[] values = new boolean[16];
+            int size = 0;
+            JsonEvent event = input.readEvent();
+            while (event != JsonEvent.ARRAY_END) {
+                if (size == values.length) {
+                    values = Arrays.copyOf(values, size * 2);
+                }
+                if (event == JsonEvent.TRUE) {
+                    values[size++] = true;
+                } else if (event == JsonEvent.FALSE) {
+                    values[size++] = false;
+                } else {
+                    throw new IllegalArgumentException("Invalid JSON data: Expected boolean but found " + event);
+                }
+                event = input.acceptArraySeparator();
+            }
+            return Arrays.copyOf(values, size);
+        }
+        if (componentType == double.class || componentType == float.class) {
+            double[] values = new double[16];
+            int size = 0;
+            JsonEvent event = input.readEvent();
+            while (event != JsonEvent.ARRAY_END) {
+                if (size == values.length) {
+                    values = Arrays.copyOf(values, size * 2);
+                }
+                values[size++] = parseFloatingItem(event);
+                event = input.acceptArraySeparator();
+            }
+            if (componentType == double.class) {
+                return Arrays.copyOf(values, size);
+            }
+            float[] result = new float[size];
+            for (int i = 0; i < size; i++) {
+                result[i] = (float) values[i];
+            }
+            return result;
+        }
+        long[] values = new long[16];
+        int size = 0;
+        JsonEvent event = input.readEvent();
+        while (event != JsonEvent.ARRAY_END) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            input.ensureEvent(event, JsonEvent.NUMBER_INTEGRAL);
+            values[size++] = input.parseNumberIntegral();
+            event = input.acceptArraySeparator();
+        }
+        if (componentType == long.class) {
+            return Arrays.copyOf(values, size);
+        } else if (componentType == int.class) {
+            int[] result = new int[size];
+            for (int i = 0; i < size; i++) {
+                if (values[i] < Integer.MIN_VALUE || values[i] > Integer.MAX_VALUE) {
+                    throw new IllegalArgumentException("Invalid JSON data: Expected int, but was " + values[i]);
+                }
+                result[i] = (int) values[i];
+            }
+            return result;
+        } else {
+            short[] result = new short[size];
+            for (int i = 0; i < size; i++) {
+                if (values[i] < Short.MIN_VALUE || values[i] > Short.MAX_VALUE) {
+                    throw new IllegalArgumentException("Invalid JSON data: Expected short, but was " + values[i]);
+                }
+                result[i] = (short) values[i];
+            }
+            return result;
+        }
+    }
+
+    // parses a floating point array item, which may be a string for NaN and Infinity
+    private double parseFloatingItem(JsonEvent event) throws Exception {
+        switch (event) {
+            case NUMBER_FLOATING:
+                return input.parseNumberFloating();
+            case NUMBER_INTEGRAL:
+                return input.parseNumberIntegral();
+            case STRING:
+                return Double.parseDouble(input.parseString());
+            case NULL:
+                return Double.NaN;  // leniently accept null for NaN
+            default:
+                throw new IllegalArgumentException("Invalid JSON data: Expected number but found " + event);
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Iterator over a stream of beans.
+     */
+    private final class StreamIterator<T> implements Iterator<T> {
+        /**
+         * The root type.
+         */
+        private final Class<T> rootType;
+        /**
+         * Whether the input has been started.
+         */
+        private boolean started;
+        /**
+         * Whether the input is a JSON array.
+         */
+        private boolean array;
+        /**
+         * Whether the next event has been read.
+         */
+        private boolean ready;
+        /**
+         * The event starting the next bean, null if there are no more beans.
+         */
+        private JsonEvent next;
+
+        StreamIterator(Class<T> rootType) {
+            this.rootType = rootType;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (ready == false) {
+                try {
+                    next = readNext();
+                } catch (IOException ex) {
+                    throw new RuntimeException(ex);
+                }
+                ready = true;
+            }
+            return next != null;
+        }
+
+        // reads the event starting the next bean, null if there are no more beans
+        private JsonEvent readNext() throws IOException {
+            if (started == false) {
+                started = true;
+                if (input.isEndOfData()) {
+                    return null;
+                }
+                JsonEvent event = input.readEvent();
+                if (event == JsonEvent.ARRAY) {
+                    array = true;
+                    event = input.readEvent();
+                    return (event == JsonEvent.ARRAY_END ? null : event);
+                }
+                return event;
+            }
+            if (array) {
+                JsonEvent event = input.acceptArraySeparator();
+                return (event == JsonEvent.ARRAY_END ? null : event);
+            }
+            return (input.isEndOfData() ? null : input.readEvent());
+        }
+
+        @Override
+        public T next() {
+            if (hasNext() == false) {
+                throw new NoSuchElementException();
+            }
+            ready = false;
+            try {
+                Object parsed = parseObject(input.ensureEvent(next, JsonEvent.OBJECT), rootType, null, null, null, true);
+                return rootType.cast(parsed);
+            } catch (RuntimeException ex) {
+                throw ex;
+            } catch (Exception ex) {
+                throw new RuntimeException(ex);
+            }
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+    }
+
 }
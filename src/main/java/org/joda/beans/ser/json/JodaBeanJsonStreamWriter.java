@@ -0,0 +1,86 @@
+/*
+ *  Copyright 2001-2016 Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.beans.ser.json;
+
+import java.io.Flushable;
+import java.io.IOException;
+
+import org.joda.beans.Bean;
+import org.joda.beans.JodaBeanUtils;
+
+/**
+ * Writes a sequence of Joda-Beans to JSON, one bean per line.
+ * <p>
+ * This format is known as JSON Lines or newline-delimited JSON.
+ * Each bean is written with its type, and the type names are shortened
+ * using the types seen earlier in the stream.
+ * As such, the output must be read as a whole using
+ * {@link JodaBeanJsonReader#stream(java.io.Reader, Class)}.
+ * <p>
+ * This class contains mutable state and cannot be used from multiple threads.
+ * Instances are obtained from {@link JodaBeanJsonWriter}.
+ *
+ * @author Stephen Colebourne
+ */
+public final class JodaBeanJsonStreamWriter implements Flushable {
+
+    /**
+     * The writer, holding the state shared between beans.
+     */
+    private final JodaBeanJsonWriter writer;
+    /**
+     * The outputter.
+     */
+    private final JsonOutput output;
+
+    /**
+     * Creates an instance.
+     * 
+     * @param writer  the writer, not null
+     * @param output  the outputter, not null
+     */
+    JodaBeanJsonStreamWriter(JodaBeanJsonWriter writer, JsonOutput output) {
+        this.writer = writer;
+        this.output = output;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Writes the next bean in the stream.
+     * <p>
+     * When writing bytes, the bean may be buffered until {@link #flush()} is called.
+     * 
+     * @param bean  the bean to output, not null
+     * @throws IOException if an error occurs
+     */
+    public void write(Bean bean) throws IOException {
+        JodaBeanUtils.notNull(bean, "bean");
+        writer.writeStreamed(bean, output);
+    }
+
+    /**
+     * Flushes any buffered bytes to the underlying stream or channel.
+     * <p>
+     * This has no effect when writing to an {@code Appendable}.
+     * 
+     * @throws IOException if an error occurs
+     */
+    @Override
+    public void flush() throws IOException {
+        output.flush();
+    }
+
+}
@@ -16,16 +16,18 @@
 package org.joda.beans.ser.json;
 
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.WritableByteChannel;
 import java.util.HashMap;
 import java.util.Map;
 
 import org.joda.beans.Bean;
 import org.joda.beans.JodaBeanUtils;
-import org.joda.beans.MetaProperty;
+import org.joda.beans.impl.BasicMetaProperty;
 import org.joda.beans.ser.JodaBeanSer;
 import org.joda.beans.ser.SerCategory;
 import org.joda.beans.ser.SerIterator;
-import org.joda.beans.ser.SerOptional;
+import org.joda.beans.ser.SerPlan;
 import org.joda.beans.ser.SerTypeMapper;
 import org.joda.convert.StringConverter;
 
@@ -50,6 +52,8 @@ import org.joda.convert.StringConverter;
  * Boolean values are sent as 'true' and 'false'.
  * Integer and Double values are sent as JSON numbers.
  * Other numeric types are also sent as numbers but may have additional type information.
+ * Arrays of {@code double}, {@code float}, {@code long}, {@code int}, {@code short}
+ * and {@code boolean} are sent as JSON arrays of numbers or booleans.
  * <p>
  * Collections are output using JSON objects or arrays.
  * Multisets are output as a map of value to count.
@@ -161,9 +165,127 @@ public class JodaBeanJsonWriter {
     public void write(Bean bean, boolean rootType, Appendable output) throws IOException {
         JodaBeanUtils.notNull(bean, "bean");
         JodaBeanUtils.notNull(output, "output");
-        this.output = new JsonOutput(output, settings.getIndent(), settings.getNewLine());
+        write(bean, rootType, new JsonOutput(output, settings.getIndent(), settings.getNewLine()));
+    }
+
+    /**
+     * Writes the bean to the {@code OutputStream} as UTF-8.
+     * <p>
+     * The type of the bean will be set in the message.
+     * The JSON is encoded directly to bytes using a fixed size buffer.
+     * 
+     * @param bean  the bean to output, not null
+     * @param output  the output stream, not null
+     * @throws IOException if an error occurs
+     */
+    public void write(Bean bean, OutputStream output) throws IOException {
+        write(bean, true, output);
+    }
+
+    /**
+     * Writes the bean to the {@code OutputStream} as UTF-8 specifying whether to include the type at the root.
+     * <p>
+     * The JSON is encoded directly to bytes using a fixed size buffer.
+     * 
+     * @param bean  the bean to output, not null
+     * @param rootType  true to output the root type
+     * @param output  the output stream, not null
+     * @throws IOException if an error occurs
+     */
+    public void write(Bean bean, boolean rootType, OutputStream output) throws IOException {
+        JodaBeanUtils.notNull(bean, "bean");
+        JodaBeanUtils.notNull(output, "output");
+        write(bean, rootType, new JsonOutput(output, settings.getIndent(), settings.getNewLine()));
+    }
+
+    /**
+     * Writes the bean to the {@code WritableByteChannel} as UTF-8.
+     * <p>
+     * The type of the bean will be set in the message.
+     * The JSON is encoded directly to bytes using a fixed size buffer.
+     * 
+     * @param bean  the bean to output, not null
+     * @param output  the output channel, not null
+     * @throws IOException if an error occurs
+     */
+    public void write(Bean bean, WritableByteChannel output) throws IOException {
+        write(bean, true, output);
+    }
+
+    /**
+     * Writes the bean to the {@code WritableByteChannel} as UTF-8 specifying whether to include the type at the root.
+     * <p>
+     * The JSON is encoded directly to bytes using a fixed size buffer.
+     * 
+     * @param bean  the bean to output, not null
+     * @param rootType  true to output the root type
+     * @param output  the output channel, not null
+     * @throws IOException if an error occurs
+     */
+    public void write(Bean bean, boolean rootType, WritableByteChannel output) throws IOException {
+        JodaBeanUtils.notNull(bean, "bean");
+        JodaBeanUtils.notNull(output, "output");
+        write(bean, rootType, new JsonOutput(output, settings.getIndent(), settings.getNewLine()));
+    }
+
+    // writes the bean using the outputter
+    private void write(Bean bean, boolean rootType, JsonOutput output) throws IOException {
+        this.output = output;
         writeBean(bean, bean.getClass(), rootType ? RootType.ROOT_WITH_TYPE : RootType.ROOT_WITHOUT_TYPE);
-        output.append(settings.getNewLine());
+        output.writeEnd();
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Creates a stream writer that writes beans one by one to the {@code Appendable}.
+     * <p>
+     * Each bean is written in compact format on a single line, known as JSON Lines.
+     * The stream writer uses the state of this writer, which must not be used for anything else.
+     * The output can be read using {@link JodaBeanJsonReader#stream(java.io.Reader, Class)}.
+     * 
+     * @param output  the output appendable, not null
+     * @return the stream writer, not null
+     */
+    public JodaBeanJsonStreamWriter stream(Appendable output) {
+        JodaBeanUtils.notNull(output, "output");
+        return new JodaBeanJsonStreamWriter(this, new JsonOutput(output));
+    }
+
+    /**
+     * Creates a stream writer that writes beans one by one to the {@code OutputStream} as UTF-8.
+     * <p>
+     * Each bean is written in compact format on a single line, known as JSON Lines.
+     * The stream writer uses the state of this writer, which must not be used for anything else.
+     * The output can be read using {@link JodaBeanJsonReader#stream(java.io.Reader, Class)}.
+     * 
+     * @param output  the output stream, not null
+     * @return the stream writer, not null
+     */
+    public JodaBeanJsonStreamWriter stream(OutputStream output) {
+        JodaBeanUtils.notNull(output, "output");
+        return new JodaBeanJsonStreamWriter(this, new JsonOutput(output, "", ""));
+    }
+
+    /**
+     * Creates a stream writer that writes beans one by one to the {@code WritableByteChannel} as UTF-8.
+     * <p>
+     * Each bean is written in compact format on a single line, known as JSON Lines.
+     * The stream writer uses the state of this writer, which must not be used for anything else.
+     * The output can be read using {@link JodaBeanJsonReader#stream(java.io.Reader, Class)}.
+     * 
+     * @param output  the output channel, not null
+     * @return the stream writer, not null
+     */
+    public JodaBeanJsonStreamWriter stream(WritableByteChannel output) {
+        JodaBeanUtils.notNull(output, "output");
+        return new JodaBeanJsonStreamWriter(this, new JsonOutput(output, "", ""));
+    }
+
+    // writes one bean of a stream, retaining the known types
+    void writeStreamed(Bean bean, JsonOutput output) throws IOException {
+        this.output = output;
+        writeBean(bean, bean.getClass(), RootType.ROOT_WITH_TYPE);
+        output.writeStreamNewLine();
     }
 
     //-----------------------------------------------------------------------
@@ -176,28 +298,32 @@ public class JodaBeanJsonWriter {
             if (rootTypeFlag == RootType.ROOT_WITH_TYPE) {
                 basePackage = bean.getClass().getPackage().getName() + ".";
             }
-            output.writeObjectKeyValue(BEAN, typeStr);
+            output.writePropertyKeyValue(BEAN, typeStr);
         }
         // property information
-        for (MetaProperty<?> prop : bean.metaBean().metaPropertyIterable()) {
-            if (prop.style().isSerializable()) {
-                Object value = SerOptional.extractValue(prop, bean);
-                if (value != null) {
-                    output.writeObjectKey(prop.name());
-                    Class<?> propType = SerOptional.extractType(prop, bean.getClass());
-                    if (value instanceof Bean) {
-                        if (settings.getConverter().isConvertible(value.getClass())) {
-                            writeSimple(propType, value);
-                        } else {
-                            writeBean((Bean) value, propType, RootType.NOT_ROOT);
-                        }
+        SerPlan plan = settings.plan(bean);
+        for (int i = 0; i < plan.size(); i++) {
+            if (plan.isPrimitive(i)) {
+                output.writePropertyKey(plan.name(i), plan.encodedName(i));
+                writePrimitive(plan.type(i), (BasicMetaProperty<?>) plan.property(i), bean, plan.converter(i));
+                continue;
+            }
+            Object value = plan.extractValue(i, bean);
+            if (value != null) {
+                output.writePropertyKey(plan.name(i), plan.encodedName(i));
+                Class<?> propType = plan.type(i);
+                if (value instanceof Bean) {
+                    if (settings.getConverter().isConvertible(value.getClass())) {
+                        writeSimple(propType, value, plan.converter(i));
                     } else {
-                        SerIterator itemIterator = settings.getIteratorFactory().create(value, prop, bean.getClass());
-                        if (itemIterator != null) {
-                            writeElements(itemIterator);
-                        } else {
-                            writeSimple(propType, value);
-                        }
+                        writeBean((Bean) value, propType, RootType.NOT_ROOT);
+                    }
+                } else {
+                    SerIterator itemIterator = settings.getIteratorFactory().create(value, plan.property(i), bean.getClass());
+                    if (itemIterator != null) {
+                        writeElements(itemIterator);
+                    } else {
+                        writeSimple(propType, value, plan.converter(i));
                     }
                 }
             }
@@ -205,13 +331,32 @@ public class JodaBeanJsonWriter {
         output.writeObjectEnd();
     }
 
+    // write a primitive property without boxing, see SerPlan.isPrimitive()
+    private void writePrimitive(
+            Class<?> type, BasicMetaProperty<?> metaProp, Bean bean, StringConverter<Object> declaredConverter) throws IOException {
+        if (type == int.class) {
+            output.writeInt(metaProp.getInt(bean));
+        } else if (type == long.class) {
+            output.writeLong(metaProp.getLong(bean));
+        } else if (type == double.class) {
+            double dbl = metaProp.getDouble(bean);
+            if (Double.isNaN(dbl) == false && Double.isInfinite(dbl) == false) {
+                output.writeDouble(dbl);
+            } else {
+                writeSimple(type, Double.valueOf(dbl), declaredConverter);
+            }
+        } else {
+            output.writeBoolean(metaProp.getBoolean(bean));
+        }
+    }
+
     //-----------------------------------------------------------------------
     // write a collection
     private void writeElements(SerIterator itemIterator) throws IOException {
         if (itemIterator.metaTypeRequired()) {
             output.writeObjectStart();
-            output.writeObjectKeyValue(META, itemIterator.metaTypeName());
-            output.writeObjectKey(VALUE);
+            output.writePropertyKeyValue(META, itemIterator.metaTypeName());
+            output.writePropertyKey(VALUE);
         }
         if (itemIterator.category() == SerCategory.MAP) {
             writeMap(itemIterator);
@@ -369,6 +514,11 @@ public class JodaBeanJsonWriter {
     //-----------------------------------------------------------------------
     // write simple type
     private void writeSimple(Class<?> declaredType, Object value) throws IOException {
+        writeSimple(declaredType, value, null);
+    }
+
+    // write simple type, using the converter of the declared type if known
+    private void writeSimple(Class<?> declaredType, Object value, StringConverter<Object> declaredConverter) throws IOException {
         // simple types have no need to write a type object
         Class<?> realType = value.getClass();
         if (realType == Integer.class) {
@@ -393,18 +543,18 @@ public class JodaBeanJsonWriter {
                 effectiveType = settings.getConverter().findTypedConverter(realType).getEffectiveType();
                 String typeStr = SerTypeMapper.encodeType(effectiveType, settings, basePackage, knownTypes);
                 output.writeObjectStart();
-                output.writeObjectKeyValue(TYPE, typeStr);
-                output.writeObjectKey(VALUE);
+                output.writePropertyKeyValue(TYPE, typeStr);
+                output.writePropertyKey(VALUE);
                 requiresClose = true;
             } else {
                 effectiveType = realType;
             }
-        } else if (settings.getConverter().isConvertible(declaredType) == false) {
+        } else if (declaredConverter == null && settings.getConverter().isConvertible(declaredType) == false) {
             effectiveType = settings.getConverter().findTypedConverter(realType).getEffectiveType();
             String typeStr = SerTypeMapper.encodeType(effectiveType, settings, basePackage, knownTypes);
             output.writeObjectStart();
-            output.writeObjectKeyValue(TYPE, typeStr);
-            output.writeObjectKey(VALUE);
+            output.writePropertyKeyValue(TYPE, typeStr);
+            output.writePropertyKey(VALUE);
             requiresClose = true;
         }
         
@@ -421,10 +571,14 @@ public class JodaBeanJsonWriter {
         } else if (realType == Float.class) {
             output.writeFloat(((Float) value).floatValue());
             
+        } else if (realType.isArray() && writePrimitiveArray(value)) {
+            // written as a numeric or boolean array
+            
         } else {
             // write as a string
             try {
-                String converted = settings.getConverter().convertToString(effectiveType, value);
+                String converted = (declaredConverter != null && effectiveType == declaredType ?
+                        declaredConverter.convertToString(value) : settings.getConverter().convertToString(effectiveType, value));
                 if (converted == null) {
                     throw new IllegalArgumentException("Unable to write because converter returned a null string: " + value);
                 }
@@ -441,6 +595,51 @@ public class JodaBeanJsonWriter {
         }
     }
 
+    // write primitive arrays other than byte[] and char[] as JSON arrays, returning false if not handled
+    private boolean writePrimitiveArray(Object value) throws IOException {
+        if (value instanceof double[]) {
+            output.writeArrayStart();
+            for (double item : (double[]) value) {
+                output.writeArrayItemStart();
+                output.writeDouble(item);
+            }
+        } else if (value instanceof float[]) {
+            output.writeArrayStart();
+            for (float item : (float[]) value) {
+                output.writeArrayItemStart();
+                output.writeFloat(item);
+            }
+        } else if (value instanceof long[]) {
+            output.writeArrayStart();
+            for (long item : (long[]) value) {
+                output.writeArrayItemStart();
+                output.writeLong(item);
+            }
+        } else if (value instanceof int[]) {
+            output.writeArrayStart();
+            for (int item : (int[]) value) {
+                output.writeArrayItemStart();
+                output.writeInt(item);
+            }
+        } else if (value instanceof short[]) {
+            output.writeArrayStart();
+            for (short item : (short[]) value) {
+                output.writeArrayItemStart();
+                output.writeInt(item);
+            }
+        } else if (value instanceof boolean[]) {
+            output.writeArrayStart();
+            for (boolean item : (boolean[]) value) {
+                output.writeArrayItemStart();
+                output.writeBoolean(item);
+            }
+        } else {
+            return false;
+        }
+        output.writeArrayEnd();
+        return true;
+    }
+
     //-----------------------------------------------------------------------
     static enum RootType {
         ROOT_WITH_TYPE,
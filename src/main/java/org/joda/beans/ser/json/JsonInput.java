@@ -17,6 +17,7 @@ package org.joda.beans.ser.json;
 
 import java.io.IOException;
 import java.io.Reader;
+import java.util.Arrays;
 
 /**
  * Reader of JSON data.
@@ -40,11 +41,38 @@ final class JsonInput {
     }
 
     /**
-     * The reader.
+     * The size of the buffer when reading from a {@code Reader}.
+     */
+    private static final int BUFFER_SIZE = 4096;
+    /**
+     * The largest mantissa that can be exactly represented as a double.
+     */
+    private static final long MAX_EXACT_MANTISSA = 1L << 53;
+    /**
+     * The powers of ten that can be exactly represented as a double.
+     */
+    private static final double[] POWERS_OF_TEN = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10,
+        1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22};
+
+    /**
+     * The reader, null if reading from a string.
      */
     private final Reader input;
     /**
-     * The reused string buffer.
+     * The buffer of characters, where those before the position have been consumed.
+     */
+    private char[] chars;
+    /**
+     * The position of the next character to read in the buffer.
+     */
+    private int pos;
+    /**
+     * The end of the valid characters in the buffer.
+     */
+    private int limit;
+    /**
+     * The reused string buffer, used where a string contains escapes or spans a buffer refill.
      */
     private final StringBuilder buf = new StringBuilder(32);
     /**
@@ -55,10 +83,6 @@ final class JsonInput {
      * The last parsed floating number.
      */
     private double floating;
-    /**
-     * The previously read character.
-     */
-    private Character cachedNext;
     /**
      * The previously read object key.
      */
@@ -71,6 +95,18 @@ final class JsonInput {
      */
     JsonInput(Reader input) {
         this.input = input;
+        this.chars = new char[BUFFER_SIZE];
+    }
+
+    /**
+     * Creates an instance that parses JSON from a string.
+     * 
+     * @param input  the input to read from, not null
+     */
+    JsonInput(String input) {
+        this.input = null;
+        this.chars = input.toCharArray();
+        this.limit = chars.length;
     }
 
     //-----------------------------------------------------------------------
@@ -80,11 +116,7 @@ final class JsonInput {
      * @throws IOException if an error occurs
      */
     JsonEvent readEvent() throws IOException {
-        char next = readNext();
-        // whitespace
-        while (next == ' ' || next == '\t' || next == '\n' || next == '\r') {
-            next = readNext();
-        }
+        char next = readNextNonWhitespace();
         // identify token
         switch (next) {
             case '{':
@@ -108,7 +140,7 @@ final class JsonInput {
             case '7':
             case '8':
             case '9':
-                return acceptNumber(next);
+                return acceptNumber();
             case 'n':
                 return acceptNull();
             case 't':
@@ -124,9 +156,18 @@ final class JsonInput {
         }
     }
 
-    // store peeked value for later use
+    // store peeked value for later use, by moving the position back
     void pushBack(char ch) throws IOException {
-        cachedNext = ch;
+        if (pos > 0) {
+            chars[--pos] = ch;
+        } else {
+            if (limit == chars.length) {
+                chars = Arrays.copyOf(chars, chars.length * 2 + 1);
+            }
+            System.arraycopy(chars, 0, chars, 1, limit);
+            chars[0] = ch;
+            limit++;
+        }
     }
 
     // store peeked value for later use
@@ -173,17 +214,39 @@ final class JsonInput {
 
     // opening quite already consumed
     String parseString() throws IOException {
-        buf.setLength(0);
-        char next = readNext();
-        while (next != '"') {
+        // scan the buffer for the closing quote, only copying if there is an escape or refill
+        boolean copied = false;
+        int start = pos;
+        while (true) {
+            if (pos == limit) {
+                if (copied == false) {
+                    buf.setLength(0);
+                    copied = true;
+                }
+                buf.append(chars, start, pos - start);
+                if (fill(pos) == false) {
+                    throw new IllegalArgumentException("Invalid JSON data: End of file");
+                }
+                start = pos;
+            }
+            char next = chars[pos++];
+            if (next == '"') {
+                if (copied == false) {
+                    return new String(chars, start, pos - 1 - start);
+                }
+                buf.append(chars, start, pos - 1 - start);
+                return buf.toString();
+            }
             if (next == '\\') {
+                if (copied == false) {
+                    buf.setLength(0);
+                    copied = true;
+                }
+                buf.append(chars, start, pos - 1 - start);
                 parseEscape();
-            } else {
-                buf.append(next);
+                start = pos;
             }
-            next = readNext();
         }
-        return buf.toString();
     }
 
     private void parseEscape() throws IOException {
@@ -250,27 +313,41 @@ final class JsonInput {
         return floating;
     }
 
-    private JsonEvent acceptNumber(char first) throws IOException {
-        buf.setLength(0);
-        buf.append(first);
-        char last = first;
-        char next = readNext();
-        while ((next >= '0' && next <= '9') || next == '.' || next == '-' || next == '+' || next == 'e' || next == 'E') {
-            buf.append((char) next);
-            last = next;
-            next = readNext();
+    // the first character has been consumed, and is in the buffer
+    private JsonEvent acceptNumber() throws IOException {
+        int start = pos - 1;
+        int end = pos;
+        while (true) {
+            if (end == limit) {
+                int offset = start;
+                if (fill(start) == false) {
+                    throw new IllegalArgumentException("Invalid JSON data: End of file");
+                }
+                start -= offset;
+                end -= offset;
+            }
+            char next = chars[end];
+            if ((next >= '0' && next <= '9') || next == '.' || next == '-' || next == '+' || next == 'e' || next == 'E') {
+                end++;
+            } else {
+                break;
+            }
         }
-        pushBack(next);
+        pos = end;
+        char last = chars[end - 1];
         if (last < '0' || last > '9') {
             throw new IllegalArgumentException("Invalid JSON data: Expected number but found invalid last char '" + last + "'");
         }
-        String str = buf.toString();
-        if (str.equals("0")) {
-            integral = 0;
-            return JsonEvent.NUMBER_INTEGRAL;
-        } else if (str.startsWith("0") && str.charAt(1) != '.') {
+        int length = end - start;
+        if (chars[start] == '0' && length > 1 && chars[start + 1] != '.') {
             throw new IllegalArgumentException("Invalid JSON data: Expected number but found zero at start");
-        } else if (str.contains(".") || str.contains("e") || str.contains("E")) {
+        }
+        if (parseNumberFast(start, end)) {
+            return (floating == floating ? JsonEvent.NUMBER_FLOATING : JsonEvent.NUMBER_INTEGRAL);
+        }
+        // unusual formats use the JDK, which also rejects invalid input
+        String str = new String(chars, start, length);
+        if (str.indexOf('.') >= 0 || str.indexOf('e') >= 0 || str.indexOf('E') >= 0) {
             floating = Double.parseDouble(str);
             return JsonEvent.NUMBER_FLOATING;
         } else {
@@ -279,6 +356,77 @@ final class JsonInput {
         }
     }
 
+    // parses common numbers directly from the buffer, returning false if not possible
+    // an integral result is indicated by setting the floating value to NaN
+    // a floating result is only calculated where it is exact, by scaling an exact mantissa
+    // by an exact power of ten, which is a single correctly rounded operation
+    private boolean parseNumberFast(int start, int end) {
+        int index = start;
+        boolean negative = (chars[index] == '-');
+        if (negative) {
+            index++;
+        }
+        long mantissa = 0;
+        int digits = 0;
+        while (index < end && chars[index] >= '0' && chars[index] <= '9') {
+            mantissa = mantissa * 10 + (chars[index++] - '0');
+            digits++;
+        }
+        if (digits == 0 || digits > 18) {
+            return false;
+        }
+        if (index == end) {
+            integral = (negative ? -mantissa : mantissa);
+            floating = Double.NaN;
+            return true;
+        }
+        int scale = 0;
+        if (chars[index] == '.') {
+            index++;
+            int fractionStart = index;
+            while (index < end && chars[index] >= '0' && chars[index] <= '9') {
+                mantissa = mantissa * 10 + (chars[index++] - '0');
+            }
+            scale = index - fractionStart;
+            digits += scale;
+            if (scale == 0 || digits > 18) {
+                return false;
+            }
+        }
+        int exponent = 0;
+        if (index < end && (chars[index] == 'e' || chars[index] == 'E')) {
+            index++;
+            boolean negativeExponent = false;
+            if (index < end && (chars[index] == '-' || chars[index] == '+')) {
+                negativeExponent = (chars[index++] == '-');
+            }
+            int exponentStart = index;
+            while (index < end && chars[index] >= '0' && chars[index] <= '9' && index - exponentStart < 4) {
+                exponent = exponent * 10 + (chars[index++] - '0');
+            }
+            if (index == exponentStart) {
+                return false;
+            }
+            if (negativeExponent) {
+                exponent = -exponent;
+            }
+        }
+        if (index != end || mantissa > MAX_EXACT_MANTISSA) {
+            return false;
+        }
+        int power = exponent - scale;
+        double value;
+        if (power < 0 && power >= -22) {
+            value = mantissa / POWERS_OF_TEN[-power];
+        } else if (power >= 0 && power <= 22) {
+            value = mantissa * POWERS_OF_TEN[power];
+        } else {
+            return false;
+        }
+        floating = (negative ? -value : value);
+        return true;
+    }
+
     //-----------------------------------------------------------------------
     private JsonEvent acceptNull() throws IOException {
         acceptChar('u');
@@ -311,23 +459,73 @@ final class JsonInput {
 
     //-----------------------------------------------------------------------
     private char readNext() throws IOException {
-        if (cachedNext != null) {
-            char next = cachedNext.charValue();
-            cachedNext = null;
-            return next;
-        }
-        int next = input.read();
-        if (next == -1) {
+        if (pos == limit && fill(pos) == false) {
             throw new IllegalArgumentException("Invalid JSON data: End of file");
         }
-        return (char) next;
+        return chars[pos++];
+    }
+
+    // skips whitespace, returning true if there is no more data
+    boolean isEndOfData() throws IOException {
+        while (true) {
+            while (pos < limit) {
+                char next = chars[pos];
+                if (next != ' ' && next != '\t' && next != '\n' && next != '\r') {
+                    return false;
+                }
+                pos++;
+            }
+            if (fill(pos) == false) {
+                return true;
+            }
+        }
+    }
+
+    // skips whitespace in the buffer, returning the next character
+    private char readNextNonWhitespace() throws IOException {
+        while (true) {
+            while (pos < limit) {
+                char next = chars[pos++];
+                if (next != ' ' && next != '\t' && next != '\n' && next != '\r') {
+                    return next;
+                }
+            }
+            if (fill(pos) == false) {
+                throw new IllegalArgumentException("Invalid JSON data: End of file");
+            }
+        }
+    }
+
+    // reads more characters, keeping those from the specified index which is moved to zero
+    // returns false if there are no more characters
+    private boolean fill(int keep) throws IOException {
+        if (input == null) {
+            return false;
+        }
+        int kept = limit - keep;
+        if (keep > 0) {
+            System.arraycopy(chars, keep, chars, 0, kept);
+        } else if (kept == chars.length) {
+            chars = Arrays.copyOf(chars, chars.length * 2);
+        }
+        pos -= keep;
+        limit = kept;
+        int count = input.read(chars, limit, chars.length - limit);
+        while (count == 0) {
+            count = input.read(chars, limit, chars.length - limit);
+        }
+        if (count < 0) {
+            return false;
+        }
+        limit += count;
+        return true;
     }
 
     void skipData() throws IOException {
         skipData(readEvent());
     }
 
-    private void skipData(JsonEvent event) throws IOException {
+    void skipData(JsonEvent event) throws IOException {
         switch (event) {
             case OBJECT:
                 event = readEvent();
@@ -16,6 +16,10 @@
 package org.joda.beans.ser.json;
 
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.Charset;
 import java.util.BitSet;
 
 /**
@@ -40,9 +44,34 @@ final class JsonOutput {
     }
 
     /**
-     * The appender to write to.
+     * The UTF-8 encoding.
+     */
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+    /**
+     * The size of the byte buffer.
+     */
+    private static final int BUFFER_SIZE = 8192;
+
+    /**
+     * The appender to write to, null if writing bytes.
      */
     private final Appendable output;
+    /**
+     * The stream to write to, null if not writing to a stream.
+     */
+    private final OutputStream stream;
+    /**
+     * The channel to write to, null if not writing to a channel.
+     */
+    private final WritableByteChannel channel;
+    /**
+     * The buffer of encoded UTF-8 bytes, null if writing to an appender.
+     */
+    private final byte[] bytes;
+    /**
+     * The number of bytes in the buffer.
+     */
+    private int count;
     /**
      * The indent amount.
      */
@@ -82,6 +111,41 @@ final class JsonOutput {
      */
     JsonOutput(Appendable output, String indent, String newLine) {
         this.output = output;
+        this.stream = null;
+        this.channel = null;
+        this.bytes = null;
+        this.indent = indent;
+        this.newLine = newLine;
+    }
+
+    /**
+     * Creates an instance that outputs UTF-8 bytes to a stream.
+     * 
+     * @param stream  the stream to write to, not null
+     * @param indent  the pretty format indent
+     * @param newLine  the pretty format new line
+     */
+    JsonOutput(OutputStream stream, String indent, String newLine) {
+        this.output = null;
+        this.stream = stream;
+        this.channel = null;
+        this.bytes = new byte[BUFFER_SIZE];
+        this.indent = indent;
+        this.newLine = newLine;
+    }
+
+    /**
+     * Creates an instance that outputs UTF-8 bytes to a channel.
+     * 
+     * @param channel  the channel to write to, not null
+     * @param indent  the pretty format indent
+     * @param newLine  the pretty format new line
+     */
+    JsonOutput(WritableByteChannel channel, String indent, String newLine) {
+        this.output = null;
+        this.stream = null;
+        this.channel = channel;
+        this.bytes = new byte[BUFFER_SIZE];
         this.indent = indent;
         this.newLine = newLine;
     }
@@ -93,7 +157,7 @@ final class JsonOutput {
      * @throws IOException if an error occurs
      */
     void writeNull() throws IOException {
-        output.append("null");
+        append("null");
     }
 
     /**
@@ -104,9 +168,9 @@ final class JsonOutput {
      */
     void writeBoolean(boolean value) throws IOException {
         if (value) {
-            output.append("true");
+            append("true");
         } else {
-            output.append("false");
+            append("false");
         }
     }
 
@@ -119,7 +183,9 @@ final class JsonOutput {
      */
     void writeInt(int value) throws IOException {
         if ((value & 0xfffffff8) == 0) {
-            output.append((char) (value + 48));
+            append((char) (value + 48));
+        } else if (bytes != null) {
+            appendDigits(value);
         } else {
             output.append(Integer.toString(value));
         }
@@ -132,7 +198,11 @@ final class JsonOutput {
      * @throws IOException if an error occurs
      */
     void writeLong(long value) throws IOException {
-        output.append(Long.toString(value));
+        if (bytes != null) {
+            appendDigits(value);
+        } else {
+            output.append(Long.toString(value));
+        }
     }
 
     /**
@@ -145,9 +215,11 @@ final class JsonOutput {
      */
     void writeFloat(float value) throws IOException {
         if (Float.isNaN(value) || Float.isInfinite(value)) {
-            output.append('"').append(Float.toString(value)).append('"');
+            append('"');
+            append(Float.toString(value));
+            append('"');
         } else {
-            output.append(Float.toString(value));
+            append(Float.toString(value));
         }
     }
 
@@ -161,9 +233,11 @@ final class JsonOutput {
      */
     void writeDouble(double value) throws IOException {
         if (Double.isNaN(value) || Double.isInfinite(value)) {
-            output.append('"').append(Double.toString(value)).append('"');
+            append('"');
+            append(Double.toString(value));
+            append('"');
         } else {
-            output.append(Double.toString(value));
+            append(Double.toString(value));
         }
     }
 
@@ -175,24 +249,32 @@ final class JsonOutput {
      * @throws IOException if an error occurs
      */
     void writeString(String value) throws IOException {
+        if (bytes != null) {
+            appendUtf8(value);
+            return;
+        }
         output.append('"');
-        for (int i = 0; i < value.length(); i++) {
+        // append runs of characters that do not need escaping
+        int start = 0;
+        int length = value.length();
+        for (int i = 0; i < length; i++) {
             char ch = value.charAt(i);
+            String replace;
             if (ch < 128) {
-                String replace = REPLACE[ch];
-                if (replace != null) {
-                    output.append(replace);
-                } else {
-                    output.append(ch);
-                }
+                replace = REPLACE[ch];
             } else if (ch == '\u2028') {
-                output.append("\\u2028");  // match other JSON writers
+                replace = "\\u2028";  // match other JSON writers
             } else if (ch == '\u2029') {
-                output.append("\\u2029");  // match other JSON writers
+                replace = "\\u2029";  // match other JSON writers
             } else {
-                output.append(ch);
+                replace = null;
+            }
+            if (replace != null) {
+                output.append(value, start, i).append(replace);
+                start = i + 1;
             }
         }
+        output.append(value, start, length);
         output.append('"');
     }
 
@@ -203,7 +285,7 @@ final class JsonOutput {
      * @throws IOException if an error occurs
      */
     void writeArrayStart() throws IOException {
-        output.append('[');
+        append('[');
         commaDepth++;
         commaState.clear(commaDepth);
     }
@@ -215,9 +297,9 @@ final class JsonOutput {
      */
     void writeArrayItemStart() throws IOException {
         if (commaState.get(commaDepth)) {
-            output.append(',');
+            append(',');
             if (newLine.length() > 0) {
-                output.append(' ');
+                append(' ');
             }
         } else {
             commaState.set(commaDepth);
@@ -230,7 +312,7 @@ final class JsonOutput {
      * @throws IOException if an error occurs
      */
     void writeArrayEnd() throws IOException {
-        output.append(']');
+        append(']');
         commaDepth--;
     }
 
@@ -241,7 +323,7 @@ final class JsonOutput {
      * @throws IOException if an error occurs
      */
     void writeObjectStart() throws IOException {
-        output.append('{');
+        append('{');
         currentIndent = currentIndent + indent;
         commaDepth++;
         commaState.set(commaDepth, false);
@@ -256,20 +338,84 @@ final class JsonOutput {
      * @throws IOException if an error occurs
      */
     void writeObjectKey(String key) throws IOException {
+        writeObjectKeyStart();
+        writeString(key);
+        writeObjectKeyEnd();
+    }
+
+    /**
+     * Writes a JSON object key where the key is a property name or constant.
+     * 
+     * @param key  the item key
+     * @throws IOException if an error occurs
+     */
+    void writePropertyKey(String key) throws IOException {
+        writePropertyKey(key, null);
+    }
+
+    /**
+     * Writes a JSON object key where the key is a property name.
+     * <p>
+     * When writing bytes, the encoded name is copied directly if it needs no escaping.
+     * 
+     * @param key  the item key
+     * @param encoded  the UTF-8 encoded key, without quotes, null if not known
+     * @throws IOException if an error occurs
+     */
+    void writePropertyKey(String key, byte[] encoded) throws IOException {
+        if (bytes == null || encoded == null || isPlain(encoded) == false) {
+            writeObjectKey(key);
+            return;
+        }
+        writeObjectKeyStart();
+        append('"');
+        appendBytes(encoded);
+        append('"');
+        writeObjectKeyEnd();
+    }
+
+    // checks if the encoded string can be written without escaping
+    private static boolean isPlain(byte[] encoded) {
+        for (int i = 0; i < encoded.length; i++) {
+            byte b = encoded[i];
+            if ((b >= 0 && b < 32) || b == '"' || b == '\\' || b == 127) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // writes the comma and indent before a key
+    private void writeObjectKeyStart() throws IOException {
         if (commaState.get(commaDepth)) {
-            output.append(',');
+            append(',');
         } else {
             commaState.set(commaDepth, true);
         }
-        output.append(newLine);
-        output.append(currentIndent);
-        writeString(key);
-        output.append(':');
+        append(newLine);
+        append(currentIndent);
+    }
+
+    // writes the colon after a key
+    private void writeObjectKeyEnd() throws IOException {
+        append(':');
         if (newLine.length() > 0) {
-            output.append(' ');
+            append(' ');
         }
     }
 
+    /**
+     * Writes a JSON object key and value where the key is a property name or constant.
+     * 
+     * @param key  the item key
+     * @param value  the item value
+     * @throws IOException if an error occurs
+     */
+    void writePropertyKeyValue(String key, String value) throws IOException {
+        writePropertyKey(key);
+        writeString(value);
+    }
+
     /**
      * Writes a JSON object key and value.
      * 
@@ -290,11 +436,194 @@ final class JsonOutput {
     void writeObjectEnd() throws IOException {
         currentIndent = currentIndent.substring(0, currentIndent.length() - indent.length());
         if (commaState.get(commaDepth)) {
-            output.append(newLine);
-            output.append(currentIndent);
+            append(newLine);
+            append(currentIndent);
         }
-        output.append('}');
+        append('}');
         commaDepth--;
     }
 
+    /**
+     * Writes the end of the output, flushing any buffered bytes.
+     * 
+     * @throws IOException if an error occurs
+     */
+    void writeEnd() throws IOException {
+        append(newLine);
+        flush();
+    }
+
+    /**
+     * Writes a new line separating values in a stream.
+     * 
+     * @throws IOException if an error occurs
+     */
+    void writeStreamNewLine() throws IOException {
+        append('\n');
+    }
+
+    /**
+     * Flushes any buffered bytes to the stream or channel.
+     * 
+     * @throws IOException if an error occurs
+     */
+    void flush() throws IOException {
+        if (bytes != null) {
+            flushBuffer();
+            if (stream != null) {
+                stream.flush();
+            }
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    // appends an ASCII character
+    private void append(char ch) throws IOException {
+        if (bytes == null) {
+            output.append(ch);
+        } else {
+            if (count == bytes.length) {
+                flushBuffer();
+            }
+            bytes[count++] = (byte) ch;
+        }
+    }
+
+    // appends a string that needs no escaping
+    private void append(String str) throws IOException {
+        if (bytes == null) {
+            output.append(str);
+        } else {
+            int length = str.length();
+            for (int i = 0; i < length; i++) {
+                char ch = str.charAt(i);
+                if (ch < 128) {
+                    if (count == bytes.length) {
+                        flushBuffer();
+                    }
+                    bytes[count++] = (byte) ch;
+                } else {
+                    appendBytes(str.substring(i).getBytes(UTF_8));
+                    return;
+                }
+            }
+        }
+    }
+
+    // appends pre-encoded bytes
+    private void appendBytes(byte[] encoded) throws IOException {
+        if (encoded.length > bytes.length - count) {
+            flushBuffer();
+            if (encoded.length > bytes.length) {
+                if (stream != null) {
+                    stream.write(encoded);
+                } else {
+                    writeChannel(ByteBuffer.wrap(encoded));
+                }
+                return;
+            }
+        }
+        System.arraycopy(encoded, 0, bytes, count, encoded.length);
+        count += encoded.length;
+    }
+
+    // appends the digits of a number directly to the buffer
+    private void appendDigits(long value) throws IOException {
+        if (value == Long.MIN_VALUE) {
+            append(Long.toString(value));
+            return;
+        }
+        if (bytes.length - count < 20) {
+            flushBuffer();
+        }
+        if (value < 0) {
+            bytes[count++] = '-';
+            value = -value;
+        }
+        int end = count + digitCount(value);
+        int index = end;
+        do {
+            bytes[--index] = (byte) ('0' + (value % 10));
+            value /= 10;
+        } while (value != 0);
+        count = end;
+    }
+
+    // the number of decimal digits in a non-negative value
+    private static int digitCount(long value) {
+        int digits = 1;
+        while (value >= 10) {
+            value /= 10;
+            digits++;
+        }
+        return digits;
+    }
+
+    // encodes a JSON string as UTF-8, including the quotes
+    private void appendUtf8(String value) throws IOException {
+        append('"');
+        int length = value.length();
+        for (int i = 0; i < length; i++) {
+            if (bytes.length - count < 12) {
+                flushBuffer();
+            }
+            char ch = value.charAt(i);
+            if (ch < 128) {
+                String replace = REPLACE[ch];
+                if (replace == null) {
+                    bytes[count++] = (byte) ch;
+                } else {
+                    for (int j = 0; j < replace.length(); j++) {
+                        bytes[count++] = (byte) replace.charAt(j);
+                    }
+                }
+            } else if (ch < 0x800) {
+                bytes[count++] = (byte) (0xc0 | (ch >> 6));
+                bytes[count++] = (byte) (0x80 | (ch & 0x3f));
+            } else if (ch == '\u2028' || ch == '\u2029') {
+                // match other JSON writers
+                String replace = (ch == '\u2028' ? "\\u2028" : "\\u2029");
+                for (int j = 0; j < replace.length(); j++) {
+                    bytes[count++] = (byte) replace.charAt(j);
+                }
+            } else if (Character.isHighSurrogate(ch) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(ch, value.charAt(++i));
+                bytes[count++] = (byte) (0xf0 | (codePoint >> 18));
+                bytes[count++] = (byte) (0x80 | ((codePoint >> 12) & 0x3f));
+                bytes[count++] = (byte) (0x80 | ((codePoint >> 6) & 0x3f));
+                bytes[count++] = (byte) (0x80 | (codePoint & 0x3f));
+            } else if (Character.isHighSurrogate(ch) || Character.isLowSurrogate(ch)) {
+                // unpaired surrogate, replaced as per String.getBytes()
+                bytes[count++] = '?';
+            } else {
+                bytes[count++] = (byte) (0xe0 | (ch >> 12));
+                bytes[count++] = (byte) (0x80 | ((ch >> 6) & 0x3f));
+                bytes[count++] = (byte) (0x80 | (ch & 0x3f));
+            }
+        }
+        append('"');
+    }
+
+    // writes the buffered bytes to the stream or channel
+    private void flushBuffer() throws IOException {
+        if (stream != null) {
+            stream.write(bytes, 0, count);
+        } else {
+            writeChannel();
+        }
+        count = 0;
+    }
+
+    // writes the buffered bytes to the channel
+    private void writeChannel() throws IOException {
+        writeChannel(ByteBuffer.wrap(bytes, 0, count));
+    }
+
+    // writes all the bytes to the channel
+    private void writeChannel(ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
 }
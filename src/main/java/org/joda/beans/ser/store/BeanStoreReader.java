@@ -0,0 +1,314 @@
+/*
+ *  Copyright 2001-2016 Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.beans.ser.store;
+
+import static org.joda.beans.ser.store.BeanStoreWriter.END_MARKER;
+import static org.joda.beans.ser.store.BeanStoreWriter.FOOTER_SIZE;
+import static org.joda.beans.ser.store.BeanStoreWriter.HEADER_SIZE;
+import static org.joda.beans.ser.store.BeanStoreWriter.STORE_VERSION;
+import static org.joda.beans.ser.store.BeanStoreWriter.UTF_8;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+
+import org.joda.beans.Bean;
+import org.joda.beans.JodaBeanUtils;
+import org.joda.beans.ser.JodaBeanSer;
+import org.joda.beans.ser.bin.BinaryBeanView;
+import org.joda.beans.ser.bin.JodaBeanBinReader;
+
+/**
+ * Reads a file of Joda-Beans written by {@link BeanStoreWriter}, by ordinal or key.
+ * <p>
+ * The file is memory-mapped when opened, and only the footer is read.
+ * Each bean is decoded from the mapped data when it is requested, and is not cached.
+ * Finding a bean by ordinal is a constant time operation, and finding a bean by key
+ * is a binary search of the key index, comparing the encoded keys without decoding them.
+ * Thus opening a large file is fast, and memory is only used for the parts of the file
+ * that are actually read.
+ * <p>
+ * The file must be smaller than 2GB, as it is mapped as a single buffer.
+ * The mapping remains valid until the reader is garbage collected, and the file
+ * must not be changed while the reader is in use.
+ * <p>
+ * This class is immutable and thread-safe.
+ *
+ * @param <T>  the type of the bean
+ * @author Stephen Colebourne
+ */
+public final class BeanStoreReader<T extends Bean> {
+
+    /**
+     * The settings to use.
+     */
+    private final JodaBeanSer settings;
+    /**
+     * The type of the beans.
+     */
+    private final Class<T> beanType;
+    /**
+     * The mapped data.
+     */
+    private final ByteBuffer data;
+    /**
+     * The number of records.
+     */
+    private final int size;
+    /**
+     * The offset of the offset index.
+     */
+    private final int indexOffset;
+    /**
+     * The offset of the key index, -1 if none.
+     */
+    private final int keyIndexOffset;
+    /**
+     * The offset of the keys, -1 if none.
+     */
+    private final int keysOffset;
+
+    /**
+     * Opens a file, mapping it into memory and reading the footer.
+     *
+     * @param <T>  the type of the bean
+     * @param settings  the settings to use, not null
+     * @param file  the file to read, not null
+     * @param beanType  the type of the beans, not null
+     * @return the reader, not null
+     * @throws IOException if an error occurs
+     * @throws IllegalArgumentException if the file is invalid or incomplete
+     */
+    public static <T extends Bean> BeanStoreReader<T> open(JodaBeanSer settings, File file, Class<T> beanType) throws IOException {
+        JodaBeanUtils.notNull(settings, "settings");
+        JodaBeanUtils.notNull(file, "file");
+        JodaBeanUtils.notNull(beanType, "beanType");
+        RandomAccessFile raf = new RandomAccessFile(file, "r");
+        try {
+            FileChannel channel = raf.getChannel();
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Bean store file is too large to map: " + file);
+            }
+            // the mapping remains valid after the channel is closed
+            ByteBuffer data = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return new BeanStoreReader<T>(settings, beanType, data);
+        } finally {
+            raf.close();
+        }
+    }
+
+    /**
+     * Creates an instance, reading the header and footer.
+     *
+     * @param settings  the settings to use, not null
+     * @param beanType  the type of the beans, not null
+     * @param data  the data of the file, not null
+     */
+    private BeanStoreReader(JodaBeanSer settings, Class<T> beanType, ByteBuffer data) {
+        this.settings = settings;
+        this.beanType = beanType;
+        this.data = data;
+        int limit = data.limit();
+        if (limit < HEADER_SIZE + FOOTER_SIZE || data.get(0) != 'J' || data.get(1) != 'B' || data.get(2) != 'D') {
+            throw new IllegalArgumentException("Invalid binary data: Expected bean store header");
+        }
+        if (data.get(3) != STORE_VERSION) {
+            throw new IllegalArgumentException("Invalid binary data: Expected bean store version 1, but was: " + data.get(3));
+        }
+        if (data.getInt(limit - 4) != END_MARKER) {
+            throw new IllegalArgumentException("Invalid binary data: Bean store is incomplete, the writer was not closed");
+        }
+        long index = data.getLong(limit - FOOTER_SIZE);
+        long keyIndex = data.getLong(limit - FOOTER_SIZE + 8);
+        this.size = data.getInt(limit - 8);
+        long indexEnd = index + 8L * size;
+        if (size < 0 || index < HEADER_SIZE || indexEnd > limit - FOOTER_SIZE ||
+                (keyIndex >= 0 && (keyIndex != indexEnd || keyIndex + 8L * size > limit - FOOTER_SIZE))) {
+            throw new IllegalArgumentException("Invalid binary data: Bean store index is invalid");
+        }
+        this.indexOffset = (int) index;
+        this.keyIndexOffset = (int) keyIndex;
+        this.keysOffset = (keyIndex >= 0 ? (int) keyIndex + 8 * size : -1);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the type of the beans.
+     *
+     * @return the type, not null
+     */
+    public Class<T> getBeanType() {
+        return beanType;
+    }
+
+    /**
+     * Gets the number of beans in the file.
+     *
+     * @return the number of beans
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks if the file has a key index.
+     *
+     * @return true if beans can be found by key
+     */
+    public boolean hasKeyIndex() {
+        return keyIndexOffset >= 0;
+    }
+
+    /**
+     * Gets a bean by ordinal, decoding it from the file.
+     *
+     * @param ordinal  the ordinal of the bean, from zero
+     * @return the bean, not null
+     * @throws IndexOutOfBoundsException if the ordinal is invalid
+     */
+    public T get(int ordinal) {
+        return new JodaBeanBinReader(settings).read(record(ordinal), beanType);
+    }
+
+    /**
+     * Gets a lazy view of a bean by ordinal, decoding each property when first accessed.
+     *
+     * @param ordinal  the ordinal of the bean, from zero
+     * @return the lazy view of the bean, not null
+     * @throws IndexOutOfBoundsException if the ordinal is invalid
+     */
+    public BinaryBeanView<T> getLazy(int ordinal) {
+        return new JodaBeanBinReader(settings).readLazy(record(ordinal), beanType);
+    }
+
+    /**
+     * Finds the ordinal of the bean with the specified key.
+     * <p>
+     * The key is converted to a string using the settings, as when the file was written.
+     *
+     * @param key  the key to find, not null
+     * @return the ordinal, -1 if not found
+     * @throws IllegalStateException if the file has no key index
+     */
+    public int ordinalOf(Object key) {
+        JodaBeanUtils.notNull(key, "key");
+        if (keyIndexOffset < 0) {
+            throw new IllegalStateException("Bean store has no key index");
+        }
+        byte[] encoded = settings.getConverter().convertToString(key).getBytes(UTF_8);
+        int low = 0;
+        int high = size - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int entry = keyIndexOffset + 8 * mid;
+            int cmp = compareKey(keysOffset + data.getInt(entry + 4), encoded);
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
+            } else {
+                return data.getInt(entry);
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Finds the bean with the specified key, decoding it from the file.
+     *
+     * @param key  the key to find, not null
+     * @return the bean, null if not found
+     * @throws IllegalStateException if the file has no key index
+     */
+    public T find(Object key) {
+        int ordinal = ordinalOf(key);
+        return (ordinal >= 0 ? get(ordinal) : null);
+    }
+
+    /**
+     * Gets a list view of the beans in the file.
+     * <p>
+     * Each bean is decoded from the file when the element is accessed, and is not cached.
+     *
+     * @return the unmodifiable list of beans, not null
+     */
+    public List<T> asList() {
+        return new BeanList();
+    }
+
+    //-----------------------------------------------------------------------
+    // gets the data of the record, as an independent buffer
+    private ByteBuffer record(int ordinal) {
+        if (ordinal < 0 || ordinal >= size) {
+            throw new IndexOutOfBoundsException("Invalid bean store ordinal: " + ordinal);
+        }
+        long recordOffset = data.getLong(indexOffset + 8 * ordinal);
+        if (recordOffset < HEADER_SIZE || recordOffset > indexOffset - 4) {
+            throw new IllegalArgumentException("Invalid binary data: Bean store record offset is invalid");
+        }
+        int start = (int) recordOffset + 4;
+        int length = data.getInt(start - 4);
+        if (length < 0 || length > indexOffset - start) {
+            throw new IllegalArgumentException("Invalid binary data: Bean store record length is invalid");
+        }
+        ByteBuffer record = data.duplicate();
+        record.position(start);
+        record.limit(start + length);
+        return record.slice();
+    }
+
+    // compares the stored key at the position to the encoded key, comparing the bytes as unsigned
+    private int compareKey(int position, byte[] encoded) {
+        int length = data.getInt(position);
+        int start = position + 4;
+        int common = Math.min(length, encoded.length);
+        for (int i = 0; i < common; i++) {
+            int cmp = (data.get(start + i) & 0xFF) - (encoded[i] & 0xFF);
+            if (cmp != 0) {
+                return cmp;
+            }
+        }
+        return length - encoded.length;
+    }
+
+    //-----------------------------------------------------------------------
+    @Override
+    public String toString() {
+        return "BeanStoreReader[" + beanType.getName() + ", size=" + size + "]";
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * List view of the beans.
+     */
+    private final class BeanList extends AbstractList<T> implements RandomAccess {
+        @Override
+        public T get(int index) {
+            return BeanStoreReader.this.get(index);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+
+}
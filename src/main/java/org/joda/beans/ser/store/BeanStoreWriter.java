@@ -0,0 +1,325 @@
+/*
+ *  Copyright 2001-2016 Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.beans.ser.store;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.joda.beans.Bean;
+import org.joda.beans.BeanQuery;
+import org.joda.beans.JodaBeanUtils;
+import org.joda.beans.ser.JodaBeanSer;
+import org.joda.beans.ser.bin.JodaBeanBinWriter;
+
+/**
+ * Writes a file of Joda-Beans of a single type, allowing random access by ordinal or key.
+ * <p>
+ * This class contains mutable state and cannot be used from multiple threads.
+ * <p>
+ * The file starts with a header of four bytes, 'JBD' and the store format version.
+ * Each bean is appended as a record, consisting of the four byte big-endian length of
+ * the data, and the data, which is a complete message written by {@link JodaBeanBinWriter}.
+ * The binary format version and compression of the settings thus apply to each record.
+ * The type of the bean is only written if it is a subclass of the type of the store.
+ * <p>
+ * When the writer is closed, the index is appended, followed by a fixed size footer.
+ * The offset index holds the eight byte offset of each record, by ordinal.
+ * If a key is specified, the key index holds the ordinal and key of each record, sorted
+ * by key, allowing a record to be found using a binary search.
+ * Each key is converted to a string using the settings, and the keys must be unique.
+ * The footer holds the offset of the offset index, the offset of the key index or -1,
+ * the number of records, and the bytes 'JBDE', which mark a complete file.
+ * <p>
+ * See {@link BeanStoreReader} to read the file.
+ *
+ * @param <T>  the type of the bean
+ * @author Stephen Colebourne
+ */
+public final class BeanStoreWriter<T extends Bean> implements Closeable {
+
+    /**
+     * The store format version.
+     */
+    static final int STORE_VERSION = 1;
+    /**
+     * The size of the file header.
+     */
+    static final int HEADER_SIZE = 4;
+    /**
+     * The size of the file footer.
+     */
+    static final int FOOTER_SIZE = 24;
+    /**
+     * The marker at the end of a complete file.
+     */
+    static final int END_MARKER = ('J' << 24) | ('B' << 16) | ('D' << 8) | 'E';
+    /**
+     * The UTF-8 encoding.
+     */
+    static final Charset UTF_8 = Charset.forName("UTF-8");
+    /**
+     * Comparator for encoded keys, comparing the bytes as unsigned.
+     */
+    static final Comparator<byte[]> KEY_ORDER = new Comparator<byte[]>() {
+        @Override
+        public int compare(byte[] key1, byte[] key2) {
+            int size = Math.min(key1.length, key2.length);
+            for (int i = 0; i < size; i++) {
+                int cmp = (key1[i] & 0xFF) - (key2[i] & 0xFF);
+                if (cmp != 0) {
+                    return cmp;
+                }
+            }
+            return key1.length - key2.length;
+        }
+    };
+
+    /**
+     * The settings to use.
+     */
+    private final JodaBeanSer settings;
+    /**
+     * The type of the beans.
+     */
+    private final Class<T> beanType;
+    /**
+     * The query for the key, null if not indexing by key.
+     */
+    private final BeanQuery<?> keyQuery;
+    /**
+     * The output stream.
+     */
+    private final DataOutputStream output;
+    /**
+     * The offset of each record.
+     */
+    private long[] offsets = new long[64];
+    /**
+     * The encoded key of each record, null if not indexing by key.
+     */
+    private final List<byte[]> keys;
+    /**
+     * The keys written so far, null if not indexing by key.
+     */
+    private final Set<String> keySet;
+    /**
+     * The reused buffer that each bean is written to.
+     */
+    private byte[] buffer = new byte[1024];
+    /**
+     * The number of records.
+     */
+    private int count;
+    /**
+     * The offset of the next record.
+     */
+    private long offset;
+    /**
+     * Whether the writer has been closed.
+     */
+    private boolean closed;
+
+    /**
+     * Creates a writer for a new file, indexed by ordinal.
+     * <p>
+     * Any existing file is replaced.
+     *
+     * @param <T>  the type of the bean
+     * @param settings  the settings to use, not null
+     * @param file  the file to write, not null
+     * @param beanType  the type of the beans, not null
+     * @return the writer, not null
+     * @throws IOException if an error occurs
+     */
+    public static <T extends Bean> BeanStoreWriter<T> create(JodaBeanSer settings, File file, Class<T> beanType) throws IOException {
+        return new BeanStoreWriter<T>(settings, file, beanType, null);
+    }
+
+    /**
+     * Creates a writer for a new file, indexed by ordinal and by the specified key.
+     * <p>
+     * Any existing file is replaced.
+     * The key is typically a meta-property, such as the unique identifier of the bean.
+     *
+     * @param <T>  the type of the bean
+     * @param settings  the settings to use, not null
+     * @param file  the file to write, not null
+     * @param beanType  the type of the beans, not null
+     * @param keyQuery  the query that obtains the unique key of each bean, not null
+     * @return the writer, not null
+     * @throws IOException if an error occurs
+     */
+    public static <T extends Bean> BeanStoreWriter<T> create(
+            JodaBeanSer settings, File file, Class<T> beanType, BeanQuery<?> keyQuery) throws IOException {
+        JodaBeanUtils.notNull(keyQuery, "keyQuery");
+        return new BeanStoreWriter<T>(settings, file, beanType, keyQuery);
+    }
+
+    /**
+     * Creates an instance, writing the header.
+     *
+     * @param settings  the settings to use, not null
+     * @param file  the file to write, not null
+     * @param beanType  the type of the beans, not null
+     * @param keyQuery  the query for the key, null if not indexing by key
+     * @throws IOException if an error occurs
+     */
+    private BeanStoreWriter(JodaBeanSer settings, File file, Class<T> beanType, BeanQuery<?> keyQuery) throws IOException {
+        JodaBeanUtils.notNull(settings, "settings");
+        JodaBeanUtils.notNull(file, "file");
+        JodaBeanUtils.notNull(beanType, "beanType");
+        this.settings = settings;
+        this.beanType = beanType;
+        this.keyQuery = keyQuery;
+        this.keys = (keyQuery != null ? new ArrayList<byte[]>() : null);
+        this.keySet = (keyQuery != null ? new HashSet<String>() : null);
+        this.output = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file), 65536));
+        output.write(new byte[] {'J', 'B', 'D', (byte) STORE_VERSION});
+        offset = HEADER_SIZE;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the number of beans written so far.
+     *
+     * @return the number of beans
+     */
+    public int size() {
+        return count;
+    }
+
+    /**
+     * Writes a bean to the file.
+     *
+     * @param bean  the bean to output, not null
+     * @return the ordinal of the bean, from zero
+     * @throws IOException if an error occurs
+     * @throws IllegalArgumentException if the key is null or has already been written
+     * @throws IllegalStateException if the writer has been closed
+     */
+    public int write(T bean) throws IOException {
+        JodaBeanUtils.notNull(bean, "bean");
+        if (closed) {
+            throw new IllegalStateException("Bean store writer has been closed");
+        }
+        if (beanType.isInstance(bean) == false) {
+            throw new IllegalArgumentException("Bean is not of the type of the store: " + bean.getClass().getName());
+        }
+        String key = null;
+        if (keyQuery != null) {
+            Object keyValue = keyQuery.get(bean);
+            if (keyValue == null) {
+                throw new IllegalArgumentException("Bean store key must not be null");
+            }
+            key = settings.getConverter().convertToString(keyValue);
+            if (keySet.contains(key)) {
+                throw new IllegalArgumentException("Bean store key must be unique: " + key);
+            }
+        }
+        ByteBuffer data = new JodaBeanBinWriter(settings).writeToBuffer(bean, bean.getClass() != beanType, buffer);
+        buffer = data.array();
+        output.writeInt(data.limit());
+        output.write(data.array(), 0, data.limit());
+        if (count == offsets.length) {
+            offsets = Arrays.copyOf(offsets, count * 2);
+        }
+        offsets[count] = offset;
+        offset += 4 + data.limit();
+        if (key != null) {
+            keySet.add(key);
+            keys.add(key.getBytes(UTF_8));
+        }
+        return count++;
+    }
+
+    /**
+     * Writes the index and footer, and closes the file.
+     * <p>
+     * The file can only be read once the writer has been closed.
+     *
+     * @throws IOException if an error occurs
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            long indexOffset = offset;
+            for (int i = 0; i < count; i++) {
+                output.writeLong(offsets[i]);
+            }
+            long keyIndexOffset = -1;
+            if (keys != null) {
+                keyIndexOffset = indexOffset + 8L * count;
+                writeKeyIndex();
+            }
+            output.writeLong(indexOffset);
+            output.writeLong(keyIndexOffset);
+            output.writeInt(count);
+            output.writeInt(END_MARKER);
+        } finally {
+            output.close();
+        }
+    }
+
+    // writes the key index, being the ordinal and key position of each record sorted by key, then the keys
+    private void writeKeyIndex() throws IOException {
+        Integer[] sorted = new Integer[count];
+        for (int i = 0; i < count; i++) {
+            sorted[i] = i;
+        }
+        Arrays.sort(sorted, new Comparator<Integer>() {
+            @Override
+            public int compare(Integer ordinal1, Integer ordinal2) {
+                return KEY_ORDER.compare(keys.get(ordinal1), keys.get(ordinal2));
+            }
+        });
+        int keyPos = 0;
+        for (Integer ordinal : sorted) {
+            output.writeInt(ordinal);
+            output.writeInt(keyPos);
+            keyPos += 4 + keys.get(ordinal).length;
+        }
+        for (Integer ordinal : sorted) {
+            byte[] key = keys.get(ordinal);
+            output.writeInt(key.length);
+            output.write(key);
+        }
+        keys.clear();
+        keySet.clear();
+    }
+
+    //-----------------------------------------------------------------------
+    @Override
+    public String toString() {
+        return "BeanStoreWriter[" + beanType.getName() + "]";
+    }
+
+}
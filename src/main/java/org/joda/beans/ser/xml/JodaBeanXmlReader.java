@@ -15,32 +15,34 @@
  */
 package org.joda.beans.ser.xml;
 
-import static org.joda.beans.ser.xml.JodaBeanXml.BEAN_QNAME;
-import static org.joda.beans.ser.xml.JodaBeanXml.COLS_QNAME;
-import static org.joda.beans.ser.xml.JodaBeanXml.COL_QNAME;
-import static org.joda.beans.ser.xml.JodaBeanXml.COUNT_QNAME;
-import static org.joda.beans.ser.xml.JodaBeanXml.ENTRY_QNAME;
-import static org.joda.beans.ser.xml.JodaBeanXml.ITEM_QNAME;
-import static org.joda.beans.ser.xml.JodaBeanXml.KEY_QNAME;
-import static org.joda.beans.ser.xml.JodaBeanXml.METATYPE_QNAME;
-import static org.joda.beans.ser.xml.JodaBeanXml.NULL_QNAME;
-import static org.joda.beans.ser.xml.JodaBeanXml.ROWS_QNAME;
-import static org.joda.beans.ser.xml.JodaBeanXml.ROW_QNAME;
+import static javax.xml.stream.XMLStreamConstants.CDATA;
+import static javax.xml.stream.XMLStreamConstants.CHARACTERS;
+import static javax.xml.stream.XMLStreamConstants.END_DOCUMENT;
+import static javax.xml.stream.XMLStreamConstants.END_ELEMENT;
+import static javax.xml.stream.XMLStreamConstants.SPACE;
+import static javax.xml.stream.XMLStreamConstants.START_ELEMENT;
+import static org.joda.beans.ser.xml.JodaBeanXml.BEAN;
+import static org.joda.beans.ser.xml.JodaBeanXml.COL;
+import static org.joda.beans.ser.xml.JodaBeanXml.COLS;
+import static org.joda.beans.ser.xml.JodaBeanXml.COUNT;
+import static org.joda.beans.ser.xml.JodaBeanXml.ENTRY;
+import static org.joda.beans.ser.xml.JodaBeanXml.ITEM;
+import static org.joda.beans.ser.xml.JodaBeanXml.KEY;
+import static org.joda.beans.ser.xml.JodaBeanXml.METATYPE;
+import static org.joda.beans.ser.xml.JodaBeanXml.NULL;
+import static org.joda.beans.ser.xml.JodaBeanXml.ROW;
+import static org.joda.beans.ser.xml.JodaBeanXml.ROWS;
 import static org.joda.beans.ser.xml.JodaBeanXml.TYPE;
-import static org.joda.beans.ser.xml.JodaBeanXml.TYPE_QNAME;
 
 import java.io.InputStream;
 import java.io.Reader;
 import java.io.StringReader;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 
-import javax.xml.namespace.QName;
-import javax.xml.stream.XMLEventReader;
 import javax.xml.stream.XMLInputFactory;
-import javax.xml.stream.events.Attribute;
-import javax.xml.stream.events.StartElement;
-import javax.xml.stream.events.XMLEvent;
+import javax.xml.stream.XMLStreamReader;
 
 import org.joda.beans.Bean;
 import org.joda.beans.BeanBuilder;
@@ -51,7 +53,8 @@ import org.joda.beans.ser.SerCategory;
 import org.joda.beans.ser.SerDeserializer;
 import org.joda.beans.ser.SerIterable;
 import org.joda.beans.ser.SerIteratorFactory;
-import org.joda.beans.ser.SerOptional;
+import org.joda.beans.ser.SerPlan;
+import org.joda.beans.ser.SerProjection;
 import org.joda.beans.ser.SerTypeMapper;
 
 /**
@@ -59,6 +62,9 @@ import org.joda.beans.ser.SerTypeMapper;
  * <p>
  * The XML format is defined by {@link JodaBeanXmlWriter}.
  * <p>
+ * The XML is read using the cursor based {@code XMLStreamReader}, which avoids
+ * allocating an object for each element and text node.
+ * <p>
  * This class contains mutable state and cannot be used from multiple threads.
  * A new instance must be created for each message.
  *
@@ -66,14 +72,35 @@ import org.joda.beans.ser.SerTypeMapper;
  */
 public class JodaBeanXmlReader {
 
+    /**
+     * The configured factory, one per thread as factories are not guaranteed to be thread-safe.
+     */
+    private static final ThreadLocal<XMLInputFactory> FACTORY = new ThreadLocal<XMLInputFactory>() {
+        @Override
+        protected XMLInputFactory initialValue() {
+            XMLInputFactory factory = XMLInputFactory.newFactory();
+            factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+            factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+            return factory;
+        }
+    };
+
     /**
      * Settings.
      */
     private final JodaBeanSer settings;
+    /**
+     * The projection, null if reading all properties.
+     */
+    private final SerProjection projection;
     /**
      * The reader.
      */
-    private XMLEventReader reader;
+    private XMLStreamReader reader;
+    /**
+     * The reused buffer for text.
+     */
+    private final StringBuilder text = new StringBuilder(64);
     /**
      * The base package including the trailing dot.
      */
@@ -90,6 +117,34 @@ public class JodaBeanXmlReader {
      */
     public JodaBeanXmlReader(final JodaBeanSer settings) {
         this.settings = settings;
+        this.projection = null;
+    }
+
+    /**
+     * Creates an instance.
+     * 
+     * @param settings  the settings, not null
+     * @param projection  the projection, not null
+     */
+    private JodaBeanXmlReader(final JodaBeanSer settings, final SerProjection projection) {
+        this.settings = settings;
+        this.projection = projection;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Returns a reader that only reads the specified properties.
+     * <p>
+     * When a bean declaring any of the specified properties is read, its other properties
+     * are skipped without being converted. Other beans are read in full.
+     * The bean is built from the properties that were read, thus it must be valid without
+     * the properties that were skipped. See {@link SerProjection}.
+     * 
+     * @param properties  the properties to read, not null
+     * @return a new reader that reads the specified properties, not null
+     */
+    public JodaBeanXmlReader withProjection(final Set<? extends MetaProperty<?>> properties) {
+        return new JodaBeanXmlReader(settings, SerProjection.of(properties));
     }
 
     //-----------------------------------------------------------------------
@@ -135,8 +190,8 @@ public class JodaBeanXmlReader {
      */
     public <T> T read(final InputStream input, Class<T> rootType) {
         try {
+            reader = FACTORY.get().createXMLStreamReader(input);
             try {
-                reader = factory().createXMLEventReader(input);
                 return read(rootType);
             } finally {
                 reader.close();
@@ -168,8 +223,8 @@ public class JodaBeanXmlReader {
      */
     public <T> T read(final Reader input, Class<T> rootType) {
         try {
+            reader = FACTORY.get().createXMLStreamReader(input);
             try {
-                reader = factory().createXMLEventReader(input);
                 return read(rootType);
             } finally {
                 reader.close();
@@ -181,20 +236,6 @@ public class JodaBeanXmlReader {
         }
     }
 
-    /**
-     * Creates the factory.
-     * <p>
-     * Recreated each time to avoid JDK-8028111.
-     * 
-     * @return the factory, not null
-     */
-    private XMLInputFactory factory() {
-        XMLInputFactory factory = XMLInputFactory.newFactory();
-        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
-        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
-        return factory;
-    }
-
     //-----------------------------------------------------------------------
     /**
      * Parses the root bean.
@@ -204,17 +245,16 @@ public class JodaBeanXmlReader {
      * @throws Exception if an error occurs
      */
     private <T> T read(final Class<T> rootType) throws Exception {
-        StartElement start = advanceToStartElement();
-        if (start.getName().equals(BEAN_QNAME) == false) {
-            throw new IllegalArgumentException("Expected root element 'bean' but found '" + start.getName() + "'");
+        advanceToStartElement();
+        if (BEAN.equals(reader.getLocalName()) == false) {
+            throw new IllegalArgumentException("Expected root element 'bean' but found '" + reader.getName() + "'");
         }
-        Attribute attr = start.getAttributeByName(TYPE_QNAME);
-        if (attr == null && rootType == Bean.class) {
+        String typeStr = reader.getAttributeValue(null, TYPE);
+        if (typeStr == null && rootType == Bean.class) {
             throw new IllegalArgumentException("Root element attribute must specify '" + TYPE + "'");
         }
         Class<?> effectiveType = rootType;
-        if (attr != null) {
-            String typeStr = attr.getValue();
+        if (typeStr != null) {
             effectiveType = SerTypeMapper.decodeType(typeStr, settings, null, knownTypes);
             if (rootType.isAssignableFrom(effectiveType) == false) {
                 throw new IllegalArgumentException("Specified root type is incompatible with XML root type: " + rootType.getName() + " and " + effectiveType.getName());
@@ -228,9 +268,18 @@ public class JodaBeanXmlReader {
         return rootType.cast(parsed);
     }
 
+    // finds the deserializer, applying the projection
+    private SerDeserializer findDeserializer(Class<?> beanType) {
+        if (projection != null) {
+            return projection.findDeserializer(settings.getDeserializers(), beanType);
+        }
+        return settings.getDeserializers().findDeserializer(beanType);
+    }
+
     /**
      * Parses a logical bean in the input XML.
      * <p>
+     * The reader must be at the start element of the bean, and is left at the end element.
      * Return type allows for a non-bean to be returned.
      * 
      * @param beanType  the bean type, not null
@@ -239,76 +288,78 @@ public class JodaBeanXmlReader {
     private Object parseBean(final Class<?> beanType) throws Exception {
         String propName = "";
         try {
-            XMLEvent event = null;
+            int event = 0;
             // handle case where whole bean is Joda-Convert string
             if (settings.getConverter().isConvertible(beanType)) {
-                StringBuilder buf = new StringBuilder();
+                text.setLength(0);
                 while (reader.hasNext()) {
-                    event = nextEvent(">btxt ");
-                    if (event.isCharacters()) {
-                        buf.append(event.asCharacters().getData());
-                    } else if (event.isEndElement()) {
-                        return settings.getConverter().convertFromString(beanType, buf.toString());
-                    } else if (event.isStartElement()) {
+                    event = reader.next();
+                    if (isText(event)) {
+                        appendText();
+                    } else if (event == END_ELEMENT) {
+                        return settings.getConverter().convertFromString(beanType, text.toString());
+                    } else if (event == START_ELEMENT) {
                         break;  // not serialized via Joda-Convert
-                    } else if (event.isEndDocument()) {
+                    } else if (event == END_DOCUMENT) {
                         throw new IllegalArgumentException("Unexpected end of document");
                     }
                 }
             } else {
-                event = nextEvent(">bean ");
+                event = reader.next();
             }
             // handle structured bean
-            SerDeserializer deser = settings.getDeserializers().findDeserializer(beanType);
+            SerDeserializer deser = findDeserializer(beanType);
             MetaBean metaBean = deser.findMetaBean(beanType);
             BeanBuilder<?> builder = deser.createBuilder(beanType, metaBean);
+            SerPlan plan = settings.plan(beanType, metaBean);
             // handle beans with structure
-            while (event.isEndElement() == false) {
-                if (event.isStartElement()) {
-                    StartElement start = event.asStartElement();
-                    propName = start.getName().getLocalPart();
+            while (event != END_ELEMENT) {
+                if (event == START_ELEMENT) {
+                    propName = reader.getLocalName();
                     MetaProperty<?> metaProp = deser.findMetaProperty(beanType, metaBean, propName);
                     if (metaProp == null) {
                         int depth = 0;
-                        event = nextEvent(" skip ");
-                        while (event.isEndElement() == false || depth > 0) {
-                            if (event.isStartElement()) {
+                        skipTypeAttribute();
+                        event = reader.next();
+                        while (event != END_ELEMENT || depth > 0) {
+                            if (event == START_ELEMENT) {
+                                skipTypeAttribute();
                                 depth++;
-                            } else if (event.isEndElement()) {
+                            } else if (event == END_ELEMENT) {
                                 depth--;
                             }
-                            event = nextEvent(" skip ");
+                            event = reader.next();
                         }
                         // skip elements
                     } else {
-                        Class<?> childType = parseTypeAttribute(start, SerOptional.extractType(metaProp, beanType));
+                        Class<?> childType = parseTypeAttribute(plan.extractType(metaProp));
                         Object value;
                         if (Bean.class.isAssignableFrom(childType)) {
                             value = parseBean(childType);
                         } else {
                             SerIterable iterable = SerIteratorFactory.INSTANCE.createIterable(metaProp, beanType);
                             if (iterable != null) {
-                                value = parseIterable(start, iterable);
+                                value = parseIterable(iterable);
                             } else {
                                 // metatype
-                                Attribute metaTypeAttr = start.getAttributeByName(METATYPE_QNAME);
-                                if (metaTypeAttr != null) {
-                                    iterable = SerIteratorFactory.INSTANCE.createIterable(metaTypeAttr.getValue(), settings, knownTypes);
+                                String metaType = reader.getAttributeValue(null, METATYPE);
+                                if (metaType != null) {
+                                    iterable = SerIteratorFactory.INSTANCE.createIterable(metaType, settings, knownTypes);
                                     if (iterable == null) {
                                         throw new IllegalArgumentException("Invalid metaType");
                                     }
-                                    value = parseIterable(start, iterable);
+                                    value = parseIterable(iterable);
                                 } else {
-                                    String text = advanceAndParseText();
-                                    value = settings.getConverter().convertFromString(childType, text);
+                                    String str = advanceAndParseText();
+                                    value = settings.getConverter().convertFromString(childType, str);
                                 }
                             }
                         }
-                        deser.setValue(builder, metaProp, SerOptional.wrapValue(metaProp, beanType, value));
+                        deser.setValue(builder, metaProp, plan.wrapValue(metaProp, value));
                     }
                     propName = "";
                 }
-                event = nextEvent(".bean ");
+                event = reader.next();
             }
             return deser.build(beanType, builder);
         } catch (Exception ex) {
@@ -318,85 +369,82 @@ public class JodaBeanXmlReader {
 
     /**
      * Parses to a collection wrapper.
+     * <p>
+     * The reader must be at the start element of the collection, and is left at the end element.
      * 
      * @param iterable  the iterable builder, not null
      * @return the iterable, not null
      */
-    private Object parseIterable(final StartElement iterableEvent, final SerIterable iterable) throws Exception {
-        Attribute rowsAttr = iterableEvent.getAttributeByName(ROWS_QNAME);
-        Attribute columnsAttr = iterableEvent.getAttributeByName(COLS_QNAME);
-        if (rowsAttr != null && columnsAttr != null) {
-            iterable.dimensions(new int[] {Integer.parseInt(rowsAttr.getValue()), Integer.parseInt(columnsAttr.getValue())});
+    private Object parseIterable(final SerIterable iterable) throws Exception {
+        String rowsStr = reader.getAttributeValue(null, ROWS);
+        String columnsStr = reader.getAttributeValue(null, COLS);
+        if (rowsStr != null && columnsStr != null) {
+            iterable.dimensions(new int[] {Integer.parseInt(rowsStr), Integer.parseInt(columnsStr)});
         }
-        XMLEvent event = nextEvent(">iter ");
-        while (event.isEndElement() == false) {
-            if (event.isStartElement()) {
-                StartElement start = event.asStartElement();
-                QName expectedType = iterable.category() == SerCategory.MAP ? ENTRY_QNAME : ITEM_QNAME;
-                if (start.getName().equals(expectedType) == false) {
-                    throw new IllegalArgumentException("Expected '" + expectedType.getLocalPart() + "' but found '" + start.getName() + "'");
+        String expectedName = iterable.category() == SerCategory.MAP ? ENTRY : ITEM;
+        int event = reader.next();
+        while (event != END_ELEMENT) {
+            if (event == START_ELEMENT) {
+                if (expectedName.equals(reader.getLocalName()) == false) {
+                    throw new IllegalArgumentException("Expected '" + expectedName + "' but found '" + reader.getName() + "'");
                 }
                 int count = 1;
                 Object key = null;
                 Object column = null;
                 Object value = null;
                 if (iterable.category() == SerCategory.COUNTED) {
-                    Attribute countAttr = start.getAttributeByName(COUNT_QNAME);
-                    if (countAttr != null) {
-                        count = Integer.parseInt(countAttr.getValue());
+                    String countStr = reader.getAttributeValue(null, COUNT);
+                    if (countStr != null) {
+                        count = Integer.parseInt(countStr);
                     }
-                    value = parseValue(iterable, start);
+                    value = parseValue(iterable);
                     
                 } else if (iterable.category() == SerCategory.TABLE || iterable.category() == SerCategory.GRID) {
-                    Attribute rowAttr = start.getAttributeByName(ROW_QNAME);
-                    Attribute colAttr = start.getAttributeByName(COL_QNAME);
-                    if (rowAttr == null || colAttr == null) {
+                    String rowStr = reader.getAttributeValue(null, ROW);
+                    String colStr = reader.getAttributeValue(null, COL);
+                    if (rowStr == null || colStr == null) {
                         throw new IllegalArgumentException("Unable to read table as row/col attribute missing");
                     }
-                    String rowStr = rowAttr.getValue();
                     if (iterable.keyType() != null) {
                         key = settings.getConverter().convertFromString(iterable.keyType(), rowStr);
                     } else {
                         key = rowStr;
                     }
-                    String colStr = colAttr.getValue();
                     if (iterable.columnType() != null) {
                         column = settings.getConverter().convertFromString(iterable.columnType(), colStr);
                     } else {
                         column = colStr;
                     }
-                    value = parseValue(iterable, start);
+                    value = parseValue(iterable);
                     
                 } else if (iterable.category() == SerCategory.MAP) {
-                    Attribute keyAttr = start.getAttributeByName(KEY_QNAME);
-                    if (keyAttr != null) {
+                    String keyStr = reader.getAttributeValue(null, KEY);
+                    if (keyStr != null) {
                         // item is value with a key attribute
-                        String keyStr = keyAttr.getValue();
                         if (iterable.keyType() != null) {
                             key = settings.getConverter().convertFromString(iterable.keyType(), keyStr);
                         } else {
                             key = keyStr;
                         }
-                        value = parseValue(iterable, start);
+                        value = parseValue(iterable);
                         
                     } else {
                         // two items nested in this entry
-                        event = nextEvent(">>map ");
+                        event = reader.next();
                         int loop = 0;
-                        while (event.isEndElement() == false) {
-                            if (event.isStartElement()) {
-                                start = event.asStartElement();
-                                if (start.getName().equals(ITEM_QNAME) == false) {
-                                    throw new IllegalArgumentException("Expected 'item' but found '" + start.getName() + "'");
+                        while (event != END_ELEMENT) {
+                            if (event == START_ELEMENT) {
+                                if (ITEM.equals(reader.getLocalName()) == false) {
+                                    throw new IllegalArgumentException("Expected 'item' but found '" + reader.getName() + "'");
                                 }
                                 if (key == null) {
-                                    key = parseKey(iterable, start);
+                                    key = parseKey(iterable);
                                 } else {
-                                    value = parseValue(iterable, start);
+                                    value = parseValue(iterable);
                                 }
                                 loop++;
                             }
-                            event = nextEvent("..map ");
+                            event = reader.next();
                         }
                         if (loop != 2) {
                             throw new IllegalArgumentException("Expected 2 'item's but found " + loop);
@@ -404,18 +452,18 @@ public class JodaBeanXmlReader {
                     }                    
                     
                 } else {  // COLLECTION
-                    value = parseValue(iterable, start);
+                    value = parseValue(iterable);
                 }
                 iterable.add(key, column, value, count);
             }
-            event = nextEvent(".iter ");
+            event = reader.next();
         }
         return iterable.build();
     }
 
-    private Object parseKey(final SerIterable iterable, StartElement start) throws Exception {
+    private Object parseKey(final SerIterable iterable) throws Exception {
         // type
-        Class<?> childType = parseTypeAttribute(start, iterable.keyType());
+        Class<?> childType = parseTypeAttribute(iterable.keyType());
         if (Bean.class.isAssignableFrom(childType) || settings.getConverter().isConvertible(childType)) {
             return parseBean(childType);
         } else {
@@ -423,38 +471,38 @@ public class JodaBeanXmlReader {
         }
     }
 
-    private Object parseValue(final SerIterable iterable, StartElement start) throws Exception {
+    private Object parseValue(final SerIterable iterable) throws Exception {
         // null
         Object value;
-        Attribute nullAttr = start.getAttributeByName(NULL_QNAME);
-        if (nullAttr != null) {
-            if (nullAttr.getValue().equals("true") == false) {
+        String nullStr = reader.getAttributeValue(null, NULL);
+        if (nullStr != null) {
+            if (nullStr.equals("true") == false) {
                 throw new IllegalArgumentException("Unexpected value for null attribute");
             }
             advanceAndParseText();  // move to end tag and ignore any text
             value = null;
         } else {
             // type
-            Class<?> childType = parseTypeAttribute(start, iterable.valueType());
+            Class<?> childType = parseTypeAttribute(iterable.valueType());
             if (Bean.class.isAssignableFrom(childType)) {
                 value = parseBean(childType);
             } else {
                 // try deep generic parameters
                 SerIterable childIterable = SerIteratorFactory.INSTANCE.createIterable(iterable);
                 if (childIterable != null) {
-                    value = parseIterable(start, childIterable);
+                    value = parseIterable(childIterable);
                 } else {
                     // metatype
-                    Attribute metaTypeAttr = start.getAttributeByName(METATYPE_QNAME);
-                    if (metaTypeAttr != null) {
-                        childIterable = SerIteratorFactory.INSTANCE.createIterable(metaTypeAttr.getValue(), settings, knownTypes);
+                    String metaType = reader.getAttributeValue(null, METATYPE);
+                    if (metaType != null) {
+                        childIterable = SerIteratorFactory.INSTANCE.createIterable(metaType, settings, knownTypes);
                         if (childIterable == null) {
                             throw new IllegalArgumentException("Invalid metaType");
                         }
-                        value = parseIterable(start, childIterable);
+                        value = parseIterable(childIterable);
                     } else {
-                        String text = advanceAndParseText();
-                        value = settings.getConverter().convertFromString(childType, text);
+                        String str = advanceAndParseText();
+                        value = settings.getConverter().convertFromString(childType, str);
                     }
                 }
             }
@@ -463,47 +511,62 @@ public class JodaBeanXmlReader {
     }
 
     //-----------------------------------------------------------------------
-    private Class<?> parseTypeAttribute(final StartElement start, final Class<?> defaultType) throws ClassNotFoundException {
-        Attribute typeAttr = start.getAttributeByName(TYPE_QNAME);
-        if (typeAttr == null) {
+    // reader must be at StartElement
+    private Class<?> parseTypeAttribute(final Class<?> defaultType) throws ClassNotFoundException {
+        String childTypeStr = reader.getAttributeValue(null, TYPE);
+        if (childTypeStr == null) {
             return (defaultType == Object.class ? String.class : defaultType);
         }
-        String childTypeStr = typeAttr.getValue();
         return SerTypeMapper.decodeType(childTypeStr, settings, basePackage, knownTypes);
     }
 
+    // decodes a type within skipped data, so that later uses of the short name can be decoded
+    // reader must be at StartElement
+    private void skipTypeAttribute() {
+        String typeStr = reader.getAttributeValue(null, TYPE);
+        if (typeStr != null) {
+            try {
+                SerTypeMapper.decodeType(typeStr, settings, basePackage, knownTypes);
+            } catch (ClassNotFoundException ex) {
+                // ignore, as the type is only needed if referred to later
+            }
+        }
+    }
+
     // reader can be anywhere, but normally at StartDocument
-    private StartElement advanceToStartElement() throws Exception {
+    private void advanceToStartElement() throws Exception {
         while (reader.hasNext()) {
-            XMLEvent event = nextEvent("advnc ");
-            if (event.isStartElement()) {
-                return event.asStartElement();
+            if (reader.next() == START_ELEMENT) {
+                return;
             }
         }
         throw new IllegalArgumentException("Unexpected end of document");
     }
 
-    // reader must be at StartElement
+    // reader must be at StartElement, text is collected in the reused buffer
     private String advanceAndParseText() throws Exception {
-        StringBuilder buf = new StringBuilder();
+        text.setLength(0);
         while (reader.hasNext()) {
-            XMLEvent event = nextEvent("text  ");
-            if (event.isCharacters()) {
-                buf.append(event.asCharacters().getData());
-            } else if (event.isEndElement()) {
-                return buf.toString();
-            } else if (event.isStartElement()) {
+            int event = reader.next();
+            if (isText(event)) {
+                appendText();
+            } else if (event == END_ELEMENT) {
+                return text.toString();
+            } else if (event == START_ELEMENT) {
                 throw new IllegalArgumentException("Unexpected start tag");
             }
         }
         throw new IllegalArgumentException("Unexpected end of document");
     }
 
-    // provide for debugging
-    private XMLEvent nextEvent(String location) throws Exception {
-        XMLEvent event = reader.nextEvent();
-//        System.out.println(location + event.toString().replace('\n', ' ') + " " + event.getClass().getSimpleName());
-        return event;
+    // checks if the event is a text event
+    private static boolean isText(int event) {
+        return event == CHARACTERS || event == CDATA || event == SPACE;
+    }
+
+    // appends the current text to the buffer, without creating a string
+    private void appendText() {
+        text.append(reader.getTextCharacters(), reader.getTextStart(), reader.getTextLength());
     }
 
 }
@@ -28,15 +28,21 @@ import static org.joda.beans.ser.xml.JodaBeanXml.ROW;
 import static org.joda.beans.ser.xml.JodaBeanXml.ROWS;
 import static org.joda.beans.ser.xml.JodaBeanXml.TYPE;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 
 import org.joda.beans.Bean;
-import org.joda.beans.MetaProperty;
+import org.joda.beans.JodaBeanUtils;
 import org.joda.beans.ser.JodaBeanSer;
 import org.joda.beans.ser.SerCategory;
 import org.joda.beans.ser.SerIterator;
-import org.joda.beans.ser.SerOptional;
+import org.joda.beans.ser.SerPlan;
 import org.joda.beans.ser.SerTypeMapper;
 import org.joda.convert.StringConverter;
 
@@ -62,11 +68,23 @@ import org.joda.convert.StringConverter;
  * <p>
  * Type names are shortened by the package of the root type if possible.
  * Certain basic types are also handled, such as String, Integer, File and URI.
+ * <p>
+ * When writing to an {@code Appendable} or {@code OutputStream}, the XML is written
+ * through a fixed size buffer, thus the memory used does not depend on the size of the XML.
  *
  * @author Stephen Colebourne
  */
 public class JodaBeanXmlWriter {
 
+    /**
+     * The UTF-8 encoding.
+     */
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+    /**
+     * The size at which the buffer is flushed to the output.
+     */
+    private static final int FLUSH_SIZE = 8192;
+
     /**
      * The settings to use.
      */
@@ -75,6 +93,26 @@ public class JodaBeanXmlWriter {
      * The string builder.
      */
     private final StringBuilder builder;
+    /**
+     * The buffer being written to, which is the builder unless streaming.
+     */
+    private StringBuilder out;
+    /**
+     * The output that the buffer is flushed to, null if writing to the builder.
+     */
+    private Appendable output;
+    /**
+     * The reused array used to flush the buffer to a {@code Writer}.
+     */
+    private char[] flushChars;
+    /**
+     * The reused buffer for the attributes of an element.
+     */
+    private final StringBuilder attrs = new StringBuilder(64);
+    /**
+     * The indent for each depth, created when first needed.
+     */
+    private String[] indents = new String[8];
     /**
      * The root bean.
      */
@@ -155,76 +193,196 @@ public class JodaBeanXmlWriter {
         if (bean == null) {
             throw new NullPointerException("bean");
         }
+        this.out = builder;
+        this.output = null;
+        try {
+            writeRoot(bean, rootType);
+        } catch (IOException ex) {
+            throw new IllegalStateException(ex);
+        }
+        return builder;
+    }
+
+    /**
+     * Writes the bean to the {@code Appendable}.
+     * <p>
+     * The type of the bean will be set in the message.
+     * The XML is written through a fixed size buffer.
+     * 
+     * @param bean  the bean to output, not null
+     * @param output  the output appendable, such as a {@code Writer}, not null
+     * @throws IOException if an error occurs
+     */
+    public void write(final Bean bean, final Appendable output) throws IOException {
+        write(bean, true, output);
+    }
+
+    /**
+     * Writes the bean to the {@code Appendable} specifying whether to include the type at the root.
+     * <p>
+     * The XML is written through a fixed size buffer.
+     * The appendable is not flushed or closed.
+     * 
+     * @param bean  the bean to output, not null
+     * @param rootType  true to output the root type
+     * @param output  the output appendable, such as a {@code Writer}, not null
+     * @throws IOException if an error occurs
+     */
+    public void write(final Bean bean, final boolean rootType, final Appendable output) throws IOException {
+        JodaBeanUtils.notNull(bean, "bean");
+        JodaBeanUtils.notNull(output, "output");
+        this.out = new StringBuilder(FLUSH_SIZE + 1024);
+        this.output = output;
+        writeRoot(bean, rootType);
+        flush();
+    }
+
+    /**
+     * Writes the bean to the {@code OutputStream} as UTF-8.
+     * <p>
+     * The type of the bean will be set in the message.
+     * The XML is written through a fixed size buffer.
+     * 
+     * @param bean  the bean to output, not null
+     * @param output  the output stream, not null
+     * @throws IOException if an error occurs
+     */
+    public void write(final Bean bean, final OutputStream output) throws IOException {
+        write(bean, true, output);
+    }
+
+    /**
+     * Writes the bean to the {@code OutputStream} as UTF-8 specifying whether to include the type at the root.
+     * <p>
+     * The XML is written through a fixed size buffer.
+     * The stream is flushed but not closed.
+     * 
+     * @param bean  the bean to output, not null
+     * @param rootType  true to output the root type
+     * @param output  the output stream, not null
+     * @throws IOException if an error occurs
+     */
+    public void write(final Bean bean, final boolean rootType, final OutputStream output) throws IOException {
+        JodaBeanUtils.notNull(output, "output");
+        Writer writer = new OutputStreamWriter(output, UTF_8);
+        write(bean, rootType, writer);
+        writer.flush();
+    }
+
+    //-----------------------------------------------------------------------
+    // writes the root bean
+    private void writeRoot(final Bean bean, final boolean rootType) throws IOException {
         this.rootBean = bean;
         this.basePackage = (rootType ? bean.getClass().getPackage().getName() + "." : null);
         
         String type = rootBean.getClass().getName();
         writeHeader();
-        builder.append('<').append(BEAN);
+        out.append('<').append(BEAN);
         if (rootType) {
-            appendAttribute(builder, TYPE, type);
+            appendAttribute(out, TYPE, type);
         }
-        builder.append('>').append(settings.getNewLine());
-        writeBean(rootBean, settings.getIndent());
-        builder.append('<').append('/').append(BEAN).append('>').append(settings.getNewLine());
-        return builder;
+        out.append('>');
+        endLine();
+        writeBean(rootBean, settings.plan(rootBean), 1);
+        out.append('<').append('/').append(BEAN).append('>');
+        endLine();
     }
 
-    private void writeHeader() {
-        builder.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>").append(settings.getNewLine());
+    private void writeHeader() throws IOException {
+        out.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>");
+        endLine();
+    }
+
+    // ends a line, flushing the buffer to the output if it is full
+    private void endLine() throws IOException {
+        out.append(settings.getNewLine());
+        if (output != null && out.length() >= FLUSH_SIZE) {
+            flush();
+        }
+    }
+
+    // flushes the buffer to the output, avoiding the creation of a string for a writer
+    private void flush() throws IOException {
+        int length = out.length();
+        if (output instanceof Writer) {
+            if (flushChars == null || flushChars.length < length) {
+                flushChars = new char[Math.max(length, FLUSH_SIZE + 1024)];
+            }
+            out.getChars(0, length, flushChars, 0);
+            ((Writer) output).write(flushChars, 0, length);
+        } else {
+            output.append(out);
+        }
+        out.setLength(0);
+    }
+
+    // gets the indent for the depth
+    private String indent(final int depth) {
+        if (depth >= indents.length) {
+            indents = Arrays.copyOf(indents, Math.max(depth + 1, indents.length * 2));
+        }
+        String indent = indents[depth];
+        if (indent == null) {
+            indent = (depth == 0 ? "" : indent(depth - 1) + settings.getIndent());
+            indents[depth] = indent;
+        }
+        return indent;
     }
 
     //-----------------------------------------------------------------------
-    private boolean writeBean(final Bean bean, final String currentIndent) {
-        boolean output = false;
-        for (MetaProperty<?> prop : bean.metaBean().metaPropertyIterable()) {
-            if (prop.style().isSerializable()) {
-                output = true;
-                Object value = SerOptional.extractValue(prop, bean);
-                if (value != null) {
-                    String propName = prop.name();
-                    Class<?> propType = SerOptional.extractType(prop, bean.getClass());
-                    if (value instanceof Bean) {
-                        if (settings.getConverter().isConvertible(value.getClass())) {
-                            writeSimple(currentIndent, propName, new StringBuilder(), propType, value);
-                        } else {
-                            writeBean(currentIndent, propName, new StringBuilder(), propType, (Bean) value);
-                        }
+    private void writeBean(final Bean bean, final SerPlan plan, final int depth) throws IOException {
+        for (int i = 0; i < plan.size(); i++) {
+            Object value = plan.extractValue(i, bean);
+            if (value != null) {
+                String propName = plan.name(i);
+                Class<?> propType = plan.type(i);
+                attrs.setLength(0);
+                if (value instanceof Bean) {
+                    if (settings.getConverter().isConvertible(value.getClass())) {
+                        writeSimple(depth, propName, propType, value, plan.converter(i));
+                    } else {
+                        writeBean(depth, propName, propType, (Bean) value);
+                    }
+                } else {
+                    SerIterator itemIterator = settings.getIteratorFactory().create(value, plan.property(i), bean.getClass());
+                    if (itemIterator != null) {
+                        writeElements(depth, propName, itemIterator);
                     } else {
-                        SerIterator itemIterator = settings.getIteratorFactory().create(value, prop, bean.getClass());
-                        if (itemIterator != null) {
-                            writeElements(currentIndent, propName, new StringBuilder(), itemIterator);
-                        } else {
-                            writeSimple(currentIndent, propName, new StringBuilder(), propType, value);
-                        }
+                        writeSimple(depth, propName, propType, value, plan.converter(i));
                     }
                 }
             }
         }
-        return output;
     }
 
     //-----------------------------------------------------------------------
-    private void writeBean(final String currentIndent, final String tagName, final StringBuilder attrs, final Class<?> propType, final Bean value) {
+    // the attributes are in the reused buffer
+    private void writeBean(final int depth, final String tagName, final Class<?> propType, final Bean value) throws IOException {
         if (value == null) {
             throw new IllegalArgumentException("Bean cannot be null");
         }
-        builder.append(currentIndent).append('<').append(tagName).append(attrs);
+        String indent = indent(depth);
+        out.append(indent).append('<').append(tagName).append(attrs);
         if (value.getClass() != propType) {
             String typeStr = SerTypeMapper.encodeType(value.getClass(), settings, basePackage, knownTypes);
-            appendAttribute(builder, TYPE, typeStr);
+            appendAttribute(out, TYPE, typeStr);
         }
-        int insertPoint = builder.length();
-        builder.append('>').append(settings.getNewLine());
-        if (writeBean(value, currentIndent + settings.getIndent())) {
-            builder.append(currentIndent).append('<').append('/').append(tagName).append('>').append(settings.getNewLine());
+        // a bean with no properties is written as an empty element
+        SerPlan plan = settings.plan(value);
+        if (plan.size() > 0) {
+            out.append('>');
+            endLine();
+            writeBean(value, plan, depth + 1);
+            out.append(indent).append('<').append('/').append(tagName).append('>');
         } else {
-            builder.insert(insertPoint, '/');
+            out.append('/').append('>');
         }
+        endLine();
     }
 
     //-----------------------------------------------------------------------
-    private void writeElements(final String currentIndent, final String tagName, final StringBuilder attrs, final SerIterator itemIterator) {
+    // the attributes are in the reused buffer
+    private void writeElements(final int depth, final String tagName, final SerIterator itemIterator) throws IOException {
         if (itemIterator.metaTypeRequired()) {
             appendAttribute(attrs, METATYPE, itemIterator.metaTypeName());
         }
@@ -232,16 +390,19 @@ public class JodaBeanXmlWriter {
             appendAttribute(attrs, ROWS, Integer.toString(itemIterator.dimensionSize(0)));
             appendAttribute(attrs, COLS, Integer.toString(itemIterator.dimensionSize(1)));
         }
+        String indent = indent(depth);
         if (itemIterator.size() == 0) {
-            builder.append(currentIndent).append('<').append(tagName).append(attrs).append('/').append('>').append(settings.getNewLine());
+            out.append(indent).append('<').append(tagName).append(attrs).append('/').append('>');
         } else {
-            builder.append(currentIndent).append('<').append(tagName).append(attrs).append('>').append(settings.getNewLine());
-            writeElements(currentIndent + settings.getIndent(), itemIterator);
-            builder.append(currentIndent).append('<').append('/').append(tagName).append('>').append(settings.getNewLine());
+            out.append(indent).append('<').append(tagName).append(attrs).append('>');
+            endLine();
+            writeElements(depth + 1, itemIterator);
+            out.append(indent).append('<').append('/').append(tagName).append('>');
         }
+        endLine();
     }
 
-    private void writeElements(final String currentIndent, final SerIterator itemIterator) {
+    private void writeElements(final int depth, final SerIterator itemIterator) throws IOException {
         // find converter once for performance, and before checking if key is bean
         StringConverter<Object> keyConverter = null;
         StringConverter<Object> rowConverter = null;
@@ -269,29 +430,34 @@ public class JodaBeanXmlWriter {
         // output each item
         while (itemIterator.hasNext()) {
             itemIterator.next();
-            StringBuilder attr = new StringBuilder(32);
+            attrs.setLength(0);
             if (keyConverter != null) {
                 String keyStr = convertToString(keyConverter, itemIterator.key(), "map key");
-                appendAttribute(attr, KEY, keyStr);
+                appendEncodedAttribute(attrs, KEY, keyStr);
             }
             if (rowConverter != null) {
                 String rowStr = convertToString(rowConverter, itemIterator.key(), "table row");
-                appendAttribute(attr, ROW, rowStr);
+                appendEncodedAttribute(attrs, ROW, rowStr);
                 String colStr = convertToString(columnConverter, itemIterator.column(), "table column");
-                appendAttribute(attr, COL, colStr);
+                appendEncodedAttribute(attrs, COL, colStr);
             }
             if (itemIterator.count() != 1) {
-                appendAttribute(attr, COUNT, Integer.toString(itemIterator.count()));
+                appendAttribute(attrs, COUNT, Integer.toString(itemIterator.count()));
             }
             if (keyBean) {
                 Object key = itemIterator.key();
-                builder.append(currentIndent).append('<').append(ENTRY).append(attr).append('>').append(settings.getNewLine());
-                writeKeyElement(currentIndent + settings.getIndent(), key, itemIterator);
-                writeValueElement(currentIndent + settings.getIndent(), ITEM, new StringBuilder(), itemIterator);
-                builder.append(currentIndent).append('<').append('/').append(ENTRY).append('>').append(settings.getNewLine());
+                String indent = indent(depth);
+                out.append(indent).append('<').append(ENTRY).append(attrs).append('>');
+                endLine();
+                attrs.setLength(0);
+                writeKeyElement(depth + 1, key, itemIterator);
+                attrs.setLength(0);
+                writeValueElement(depth + 1, ITEM, itemIterator);
+                out.append(indent).append('<').append('/').append(ENTRY).append('>');
+                endLine();
             } else {
                 String tagName = itemIterator.category() == SerCategory.MAP ? ENTRY : ITEM;
-                writeValueElement(currentIndent, tagName, attr, itemIterator);
+                writeValueElement(depth, tagName, itemIterator);
             }
         }
     }
@@ -300,56 +466,66 @@ public class JodaBeanXmlWriter {
         if (obj == null) {
             throw new IllegalArgumentException("Unable to write " + description + " as it cannot be null: " + obj);
         }
-        String str = encodeAttribute(converter.convertToString(obj));
+        String str = converter.convertToString(obj);
         if (str == null) {
             throw new IllegalArgumentException("Unable to write " + description + " as it cannot be a null string: " + obj);
         }
         return str;
     }
 
-    private void writeKeyElement(final String currentIndent, Object key, final SerIterator itemIterator) {
+    // the attributes are in the reused buffer
+    private void writeKeyElement(final int depth, Object key, final SerIterator itemIterator) throws IOException {
         if (key == null) {
             throw new IllegalArgumentException("Unable to write map key as it cannot be null: " + key);
         }
         // if key type is known and convertible use short key format
         if (settings.getConverter().isConvertible(itemIterator.keyType())) {
-            writeSimple(currentIndent, ITEM, new StringBuilder(), Object.class, key);
+            writeSimple(depth, ITEM, Object.class, key);
         } else if (key instanceof Bean) {
-            writeBean(currentIndent, ITEM, new StringBuilder(), itemIterator.keyType(), (Bean) key);
+            writeBean(depth, ITEM, itemIterator.keyType(), (Bean) key);
         } else {
             // this case covers where the key type is not known, such as an Object meta-property
             try {
-                writeSimple(currentIndent, ITEM, new StringBuilder(), Object.class, key);
+                writeSimple(depth, ITEM, Object.class, key);
             } catch (RuntimeException ex) {
                 throw new IllegalArgumentException("Unable to write map as declared key type is neither a bean nor a simple type: " + itemIterator.keyType().getName(), ex);
             }
         }
     }
 
-    private void writeValueElement(final String currentIndent, final String tagName, final StringBuilder attrs, final SerIterator itemIterator) {
+    // the attributes are in the reused buffer
+    private void writeValueElement(final int depth, final String tagName, final SerIterator itemIterator) throws IOException {
         Object value = itemIterator.value();
         Class<?> valueType = itemIterator.valueType();
         if (value == null) {
             appendAttribute(attrs, NULL, "true");
-            builder.append(currentIndent).append('<').append(tagName).append(attrs).append("/>").append(settings.getNewLine());
+            out.append(indent(depth)).append('<').append(tagName).append(attrs).append("/>");
+            endLine();
         } else if (value instanceof Bean) {
             if (settings.getConverter().isConvertible(value.getClass())) {
-                writeSimple(currentIndent, tagName, attrs, valueType, value);
+                writeSimple(depth, tagName, valueType, value);
             } else {
-                writeBean(currentIndent, tagName, attrs, valueType, (Bean) value);
+                writeBean(depth, tagName, valueType, (Bean) value);
             }
         } else {
             SerIterator childIterator = settings.getIteratorFactory().createChild(value, itemIterator);
             if (childIterator != null) {
-                writeElements(currentIndent, tagName, attrs, childIterator);
+                writeElements(depth, tagName, childIterator);
             } else {
-                writeSimple(currentIndent, tagName, attrs, valueType, value);
+                writeSimple(depth, tagName, valueType, value);
             }
         }
     }
 
     //-----------------------------------------------------------------------
-    private void writeSimple(final String currentIndent, final String tagName, final StringBuilder attrs, final Class<?> declaredType, final Object value) {
+    // the attributes are in the reused buffer
+    private void writeSimple(final int depth, final String tagName, final Class<?> declaredType, final Object value) throws IOException {
+        writeSimple(depth, tagName, declaredType, value, null);
+    }
+
+    // the attributes are in the reused buffer
+    private void writeSimple(final int depth, final String tagName,
+            final Class<?> declaredType, final Object value, final StringConverter<Object> declaredConverter) throws IOException {
         Class<?> effectiveType;
         if (declaredType == Object.class) {
             Class<?> realType = value.getClass();
@@ -360,24 +536,27 @@ public class JodaBeanXmlWriter {
             } else {
                 effectiveType = realType;
             }
-        } else if (settings.getConverter().isConvertible(declaredType) == false) {
+        } else if (declaredConverter == null && settings.getConverter().isConvertible(declaredType) == false) {
             effectiveType = settings.getConverter().findTypedConverter(value.getClass()).getEffectiveType();
             String typeStr = SerTypeMapper.encodeType(effectiveType, settings, basePackage, knownTypes);
             appendAttribute(attrs, TYPE, typeStr);
         } else {
             effectiveType = declaredType;
         }
+        String converted;
         try {
-            String converted = settings.getConverter().convertToString(effectiveType, value);
+            converted = (declaredConverter != null && effectiveType == declaredType ?
+                    declaredConverter.convertToString(value) : settings.getConverter().convertToString(effectiveType, value));
             if (converted == null) {
                 throw new IllegalArgumentException("Unable to write because converter returned a null string: " + value);
             }
-            builder.append(currentIndent).append('<').append(tagName).append(attrs).append('>');
+            out.append(indent(depth)).append('<').append(tagName).append(attrs).append('>');
             appendEncoded(converted);
-            builder.append('<').append('/').append(tagName).append('>').append(settings.getNewLine());
+            out.append('<').append('/').append(tagName).append('>');
         } catch (RuntimeException ex) {
             throw new IllegalArgumentException("Unable to convert type " + effectiveType.getName() + " declared as " + declaredType.getName(), ex);
         }
+        endLine();
     }
 
     private StringBuilder appendEncoded(final String text) {
@@ -385,28 +564,28 @@ public class JodaBeanXmlWriter {
             char ch = text.charAt(i);
             switch (ch) {
                 case '&':
-                    builder.append("&amp;");
+                    out.append("&amp;");
                     break;
                 case '<':
-                    builder.append("&lt;");
+                    out.append("&lt;");
                     break;
                 case '>':
-                    builder.append("&gt;");
+                    out.append("&gt;");
                     break;
                 case '\t':
                 case '\n':
                 case '\r':
-                    builder.append(ch);
+                    out.append(ch);
                     break;
                 default:
                     if ((int) ch < 32) {
                         throw new IllegalArgumentException("Invalid character for XML: " + ((int) ch));
                     }
-                    builder.append(ch);
+                    out.append(ch);
                     break;
             }
         }
-        return builder;
+        return out;
     }
 
     //-----------------------------------------------------------------------
@@ -414,11 +593,10 @@ public class JodaBeanXmlWriter {
         return buf.append(' ').append(attrName).append('=').append('\"').append(encodedValue).append('\"');
     }
 
-    private String encodeAttribute(final String text) {
-        if (text == null) {
-            return null;
-        }
-        return appendEncodedAttribute(new StringBuilder(text.length() + 16), text).toString();
+    // appends the attribute, encoding the value directly into the buffer
+    private StringBuilder appendEncodedAttribute(final StringBuilder buf, final String attrName, final String value) {
+        buf.append(' ').append(attrName).append('=').append('\"');
+        return appendEncodedAttribute(buf, value).append('\"');
     }
 
     private StringBuilder appendEncodedAttribute(final StringBuilder builder, final String text) {
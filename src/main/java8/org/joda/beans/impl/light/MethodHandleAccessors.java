@@ -0,0 +1,194 @@
+/*
+ *  Copyright 2001-2016 Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.beans.impl.light;
+
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+
+import org.joda.beans.Bean;
+
+/**
+ * Factory for the accessors used by light beans, using method handles.
+ * <p>
+ * This class requires Java 8 and is compiled separately from the main code.
+ * It is loaded reflectively by {@link LightAccessors}, and never referenced directly.
+ * <p>
+ * A public getter method on a class that is visible from this library is bound using
+ * {@link LambdaMetafactory}, producing a getter that the JIT can inline as though it
+ * was written by hand. The constructor is invoked using a method handle, avoiding the
+ * argument checks of reflection. Fields, and getters that cannot be bound, are read
+ * using reflection, as a method handle that is not constant is no faster than
+ * {@link Field#get(Object)}.
+ *
+ * @author Stephen Colebourne
+ */
+final class MethodHandleAccessors extends LightAccessors {
+
+    /**
+     * The lookup, with access to the members made accessible by the meta-bean.
+     */
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+    /**
+     * The type of a getter.
+     */
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Bean.class);
+    /**
+     * The type of the lambda factory for a getter.
+     */
+    private static final MethodType FACTORY_TYPE = MethodType.methodType(PropertyGetter.class);
+    /**
+     * The type of a creator.
+     */
+    private static final MethodType CREATOR_TYPE = MethodType.methodType(Object.class, Object[].class);
+
+    //-----------------------------------------------------------------------
+    @Override
+    PropertyGetter methodGetter(Method method, String propertyName) {
+        if (isLambdaCompatible(method)) {
+            try {
+                MethodType instantiatedType = MethodType.methodType(Object.class, method.getDeclaringClass());
+                return (PropertyGetter) LambdaMetafactory.metafactory(
+                        LOOKUP, "get", FACTORY_TYPE, GETTER_TYPE, LOOKUP.unreflect(method), instantiatedType)
+                        .getTarget().invoke();
+            } catch (Throwable ex) {
+                // fall back to reflection
+            }
+        }
+        return super.methodGetter(method, propertyName);
+    }
+
+    // the generated class is defined alongside this class, so the method must be visible from here
+    private static boolean isLambdaCompatible(Method method) {
+        Class<?> declaringType = method.getDeclaringClass();
+        if (Modifier.isPublic(method.getModifiers()) == false || Bean.class.isAssignableFrom(declaringType) == false) {
+            return false;
+        }
+        for (Class<?> cls = declaringType; cls != null; cls = cls.getEnclosingClass()) {
+            if (Modifier.isPublic(cls.getModifiers()) == false) {
+                return false;
+            }
+        }
+        try {
+            return Class.forName(declaringType.getName(), false, MethodHandleAccessors.class.getClassLoader()) == declaringType;
+        } catch (ClassNotFoundException ex) {
+            return false;
+        }
+    }
+
+    @Override
+    <T> BeanCreator<T> creator(Constructor<T> constructor, String beanName) {
+        try {
+            MethodHandle handle = LOOKUP.unreflectConstructor(constructor)
+                    .asSpreader(Object[].class, constructor.getParameterTypes().length)
+                    .asType(CREATOR_TYPE);
+            return new HandleCreator<T>(handle, constructor.getParameterTypes(), beanName);
+        } catch (IllegalAccessException | RuntimeException ex) {
+            return super.creator(constructor, beanName);
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Creator that invokes a method handle.
+     */
+    private static final class HandleCreator<T> implements BeanCreator<T> {
+        private final MethodHandle handle;
+        private final Class<?>[] parameterTypes;
+        private final String beanName;
+
+        HandleCreator(MethodHandle handle, Class<?>[] parameterTypes, String beanName) {
+            this.handle = handle;
+            this.parameterTypes = parameterTypes;
+            this.beanName = beanName;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T create(Object[] args) {
+            try {
+                return (T) handle.invokeExact(args);
+            } catch (RuntimeException ex) {
+                // the handle casts and unboxes the arguments, so check them only on failure
+                if (isInvalid(args)) {
+                    throw new IllegalArgumentException("Bean cannot be created: " + beanName + " from " + Arrays.toString(args), ex);
+                }
+                throw ex;
+            } catch (Error ex) {
+                throw ex;
+            } catch (Throwable ex) {
+                throw new RuntimeException(ex);
+            }
+        }
+
+        // checks if the arguments do not match the parameters, as reflection would
+        private boolean isInvalid(Object[] args) {
+            for (int i = 0; i < parameterTypes.length; i++) {
+                Class<?> type = parameterTypes[i];
+                Object arg = args[i];
+                if (type.isPrimitive()) {
+                    if (arg == null || isUnboxable(arg.getClass(), type) == false) {
+                        return true;
+                    }
+                } else if (arg != null && type.isInstance(arg) == false) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    // checks if the wrapper unboxes to the primitive, allowing widening as reflection does
+    private static boolean isUnboxable(Class<?> wrapper, Class<?> primitive) {
+        if (primitive == boolean.class) {
+            return wrapper == Boolean.class;
+        }
+        if (primitive == char.class) {
+            return wrapper == Character.class;
+        }
+        int target = numericRank(primitive);
+        if (wrapper == Character.class) {
+            return target >= numericRank(int.class);
+        }
+        int source = numericRank(wrapper);
+        return source > 0 && source <= target;
+    }
+
+    // the order of the numeric types for widening, zero if not numeric
+    private static int numericRank(Class<?> type) {
+        if (type == byte.class || type == Byte.class) {
+            return 1;
+        } else if (type == short.class || type == Short.class) {
+            return 2;
+        } else if (type == int.class || type == Integer.class) {
+            return 3;
+        } else if (type == long.class || type == Long.class) {
+            return 4;
+        } else if (type == float.class || type == Float.class) {
+            return 5;
+        } else if (type == double.class || type == Double.class) {
+            return 6;
+        }
+        return 0;
+    }
+
+}
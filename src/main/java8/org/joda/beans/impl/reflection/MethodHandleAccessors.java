@@ -0,0 +1,205 @@
+/*
+ *  Copyright 2001-2016 Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.beans.impl.reflection;
+
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+import org.joda.beans.Bean;
+
+/**
+ * Factory for the invokers used by reflective beans, using method handles.
+ * <p>
+ * This class requires Java 8 and is compiled separately from the main code.
+ * It is loaded reflectively by {@link ReflectiveAccessors}, and never referenced directly.
+ * <p>
+ * Public methods and constructors on a class that is visible from this library are bound
+ * using {@link LambdaMetafactory}, producing invokers that the JIT can inline as though
+ * they were written by hand. Reflection is used if the member cannot be bound.
+ * <p>
+ * The bound invokers cast the bean and value before invoking the method.
+ * If a cast fails, the call is passed to the reflective invoker, which allows the same
+ * conversions and throws the same exceptions as before.
+ *
+ * @author Stephen Colebourne
+ */
+final class MethodHandleAccessors extends ReflectiveAccessors {
+
+    /**
+     * The lookup.
+     */
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+    /**
+     * The type of a getter.
+     */
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Bean.class);
+    /**
+     * The type of a setter.
+     */
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Bean.class, Object.class);
+    /**
+     * The type of a creator.
+     */
+    private static final MethodType CREATOR_TYPE = MethodType.methodType(Bean.class);
+
+    //-----------------------------------------------------------------------
+    @Override
+    Getter getter(Method readMethod, String propertyName) {
+        Getter fallback = super.getter(readMethod, propertyName);
+        if (isBindable(readMethod)) {
+            try {
+                Class<?> declaringType = readMethod.getDeclaringClass();
+                Getter getter = (Getter) bind(
+                        Getter.class, "get", GETTER_TYPE, LOOKUP.unreflect(readMethod),
+                        MethodType.methodType(Object.class, declaringType));
+                return new BoundGetter(getter, fallback, declaringType);
+            } catch (Throwable ex) {
+                // fall back to reflection
+            }
+        }
+        return fallback;
+    }
+
+    @Override
+    Setter setter(Method writeMethod, String propertyName) {
+        Setter fallback = super.setter(writeMethod, propertyName);
+        if (isBindable(writeMethod)) {
+            try {
+                Class<?> declaringType = writeMethod.getDeclaringClass();
+                Class<?> valueType = MethodType.methodType(writeMethod.getParameterTypes()[0]).wrap().returnType();
+                Setter setter = (Setter) bind(
+                        Setter.class, "set", SETTER_TYPE, LOOKUP.unreflect(writeMethod),
+                        MethodType.methodType(void.class, declaringType, valueType));
+                return new BoundSetter(setter, fallback, declaringType, valueType, writeMethod.getParameterTypes()[0].isPrimitive());
+            } catch (Throwable ex) {
+                // fall back to reflection
+            }
+        }
+        return fallback;
+    }
+
+    @Override
+    Creator creator(Class<? extends Bean> beanType) {
+        try {
+            Constructor<? extends Bean> constructor = beanType.getConstructor();
+            if (isBindable(constructor) && Modifier.isAbstract(beanType.getModifiers()) == false) {
+                return (Creator) bind(
+                        Creator.class, "create", CREATOR_TYPE, LOOKUP.unreflectConstructor(constructor),
+                        MethodType.methodType(beanType));
+            }
+        } catch (Throwable ex) {
+            // fall back to reflection
+        }
+        return super.creator(beanType);
+    }
+
+    //-----------------------------------------------------------------------
+    // binds the method handle to an instance of the interface
+    private static Object bind(
+            Class<?> interfaceType, String name, MethodType erasedType,
+            MethodHandle handle, MethodType instantiatedType) throws Throwable {
+
+        return LambdaMetafactory.metafactory(
+                LOOKUP, name, MethodType.methodType(interfaceType), erasedType, handle, instantiatedType)
+                .getTarget().invoke();
+    }
+
+    // the generated class is defined alongside this class, so the member must be visible from here
+    private static boolean isBindable(Member member) {
+        if (Modifier.isPublic(member.getModifiers()) == false || Modifier.isStatic(member.getModifiers())) {
+            return false;
+        }
+        Class<?> declaringType = member.getDeclaringClass();
+        for (Class<?> cls = declaringType; cls != null; cls = cls.getEnclosingClass()) {
+            if (Modifier.isPublic(cls.getModifiers()) == false) {
+                return false;
+            }
+        }
+        try {
+            return Class.forName(declaringType.getName(), false, MethodHandleAccessors.class.getClassLoader()) == declaringType;
+        } catch (ClassNotFoundException ex) {
+            return false;
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Getter that invokes a bound getter, using reflection if the bean has the wrong type.
+     */
+    private static final class BoundGetter implements Getter {
+        private final Getter getter;
+        private final Getter fallback;
+        private final Class<?> declaringType;
+
+        BoundGetter(Getter getter, Getter fallback, Class<?> declaringType) {
+            this.getter = getter;
+            this.fallback = fallback;
+            this.declaringType = declaringType;
+        }
+
+        @Override
+        public Object get(Bean bean) {
+            try {
+                return getter.get(bean);
+            } catch (ClassCastException ex) {
+                if (declaringType.isInstance(bean)) {
+                    throw ex;
+                }
+                return fallback.get(bean);
+            }
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Setter that invokes a bound setter, using reflection if the bean or value has the wrong type.
+     */
+    private static final class BoundSetter implements Setter {
+        private final Setter setter;
+        private final Setter fallback;
+        private final Class<?> declaringType;
+        private final Class<?> valueType;
+        private final boolean primitive;
+
+        BoundSetter(Setter setter, Setter fallback, Class<?> declaringType, Class<?> valueType, boolean primitive) {
+            this.setter = setter;
+            this.fallback = fallback;
+            this.declaringType = declaringType;
+            this.valueType = valueType;
+            this.primitive = primitive;
+        }
+
+        @Override
+        public void set(Bean bean, Object value) {
+            try {
+                setter.set(bean, value);
+            } catch (ClassCastException | NullPointerException ex) {
+                // the casts happen before the method is invoked, thus reflection can safely retry
+                if (declaringType.isInstance(bean) && (value == null ? primitive == false : valueType.isInstance(value))) {
+                    throw ex;
+                }
+                fallback.set(bean, value);
+            }
+        }
+    }
+
+}
@@ -19,6 +19,7 @@ import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertNotNull;
 import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
 import static org.testng.Assert.assertTrue;
 
 import java.util.ArrayList;
@@ -36,6 +37,7 @@ import org.joda.beans.gen.ImmPerson;
 import org.joda.beans.gen.MetaBeanLoad;
 import org.joda.beans.gen.Pair;
 import org.joda.beans.gen.Person;
+import org.joda.beans.impl.direct.DirectMetaProperty;
 import org.joda.beans.impl.flexi.FlexiBean;
 import org.joda.beans.impl.map.MapBean;
 import org.joda.beans.query.ChainedBeanQuery;
@@ -494,6 +496,36 @@ public class TestJodaBeanUtils {
         assertEquals(JodaBeanUtils.collectionTypeTypes(test, ImmAddress.class), expected);
     }
 
+    public void test_collectionTypeTypes_cached() {
+        MetaProperty<List<List<Address>>> test = Person.meta().addressesList();
+        
+        List<Class<?>> first = JodaBeanUtils.collectionTypeTypes(test, Person.class);
+        assertSame(JodaBeanUtils.collectionTypeTypes(test, Person.class), first);
+        assertEquals(JodaBeanUtils.collectionType(test, Person.class), List.class);
+    }
+
+    public void test_collectionTypeTypes_cachedByDeclaration() {
+        MetaProperty<List<List<Address>>> test = Person.meta().addressesList();
+        MetaProperty<?> other = DirectMetaProperty.ofReadWrite(Person.meta(), "addressesList", Person.class, List.class);
+        
+        assertSame(JodaBeanUtils.collectionTypeTypes(other, Person.class), JodaBeanUtils.collectionTypeTypes(test, Person.class));
+    }
+
+    public void test_collectionTypeTypes_dynamic() {
+        FlexiBean bean = new FlexiBean();
+        bean.set("list", new ArrayList<String>());
+        
+        assertEquals(JodaBeanUtils.collectionType(bean.metaBean().metaProperty("list"), FlexiBean.class), null);
+        assertEquals(JodaBeanUtils.collectionTypeTypes(bean.metaBean().metaProperty("list"), FlexiBean.class).size(), 0);
+    }
+
+    @Test(expectedExceptions = UnsupportedOperationException.class)
+    public void test_collectionTypeTypes_unmodifiable() {
+        MetaProperty<List<List<Address>>> test = Person.meta().addressesList();
+        
+        JodaBeanUtils.collectionTypeTypes(test, Person.class).add(String.class);
+    }
+
     //-------------------------------------------------------------------------
     public void test_mapType_Person_otherAddressMap() {
         MetaProperty<Map<String, Address>> test = Person.meta().otherAddressMap();
@@ -17,6 +17,7 @@ package org.joda.beans.gen;
 
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 
 import org.joda.beans.Bean;
 import org.joda.beans.BeanBuilder;
@@ -172,12 +173,12 @@ public abstract class AbstractResult<T extends Address> extends DirectBean {
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<List<T>> docs = DirectMetaProperty.ofReadWrite(
-                this, "docs", AbstractResult.class, (Class) List.class);
+                this, "docs", AbstractResult.class, (Class) List.class, 0);
         /**
          * The meta-property for the {@code resultType} property.
          */
         private final MetaProperty<String> resultType = DirectMetaProperty.ofDerived(
-                this, "resultType", AbstractResult.class, String.class);
+                this, "resultType", AbstractResult.class, String.class, 1);
         /**
          * The meta-properties.
          */
@@ -264,6 +265,28 @@ public abstract class AbstractResult<T extends Address> extends DirectBean {
             super.propertySet(bean, propertyName, newValue, quiet);
         }
 
+        @Override
+        protected Object propertyGet(Bean bean, int propertyIndex) {
+            switch (propertyIndex) {
+                case 0:  // docs
+                    return ((AbstractResult<?>) bean).getDocs();
+                case 1:  // resultType
+                    return ((AbstractResult<?>) bean).getResultType();
+            }
+            throw new NoSuchElementException("Unknown property index: " + propertyIndex);
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        protected void propertySet(Bean bean, int propertyIndex, Object newValue) {
+            switch (propertyIndex) {
+                case 0:  // docs
+                    ((AbstractResult<T>) bean).setDocs((List<T>) newValue);
+                    return;
+            }
+            throw new NoSuchElementException("Unknown property index: " + propertyIndex);
+        }
+
     }
 
     ///CLOVER:ON
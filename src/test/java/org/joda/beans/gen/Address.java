@@ -16,6 +16,7 @@
 package org.joda.beans.gen;
 
 import java.util.Map;
+import java.util.NoSuchElementException;
 
 import org.joda.beans.Bean;
 import org.joda.beans.BeanBuilder;
@@ -245,22 +246,22 @@ public class Address extends DirectBean {
          * The meta-property for the {@code number} property.
          */
         private final MetaProperty<Integer> number = DirectMetaProperty.ofReadWrite(
-                this, "number", Address.class, Integer.TYPE);
+                this, "number", Address.class, Integer.TYPE, 0);
         /**
          * The meta-property for the {@code street} property.
          */
         private final MetaProperty<String> street = DirectMetaProperty.ofReadWrite(
-                this, "street", Address.class, String.class);
+                this, "street", Address.class, String.class, 1);
         /**
          * The meta-property for the {@code city} property.
          */
         private final MetaProperty<String> city = DirectMetaProperty.ofReadWrite(
-                this, "city", Address.class, String.class);
+                this, "city", Address.class, String.class, 2);
         /**
          * The meta-property for the {@code owner} property.
          */
         private final MetaProperty<Person> owner = DirectMetaProperty.ofReadWrite(
-                this, "owner", Address.class, Person.class);
+                this, "owner", Address.class, Person.class, 3);
         /**
          * The meta-properties.
          */
@@ -375,6 +376,59 @@ public class Address extends DirectBean {
             super.propertySet(bean, propertyName, newValue, quiet);
         }
 
+        @Override
+        protected Object propertyGet(Bean bean, int propertyIndex) {
+            switch (propertyIndex) {
+                case 0:  // number
+                    return ((Address) bean).getNumber();
+                case 1:  // street
+                    return ((Address) bean).getStreet();
+                case 2:  // city
+                    return ((Address) bean).getCity();
+                case 3:  // owner
+                    return ((Address) bean).getOwner();
+            }
+            throw new NoSuchElementException("Unknown property index: " + propertyIndex);
+        }
+
+        @Override
+        protected void propertySet(Bean bean, int propertyIndex, Object newValue) {
+            switch (propertyIndex) {
+                case 0:  // number
+                    ((Address) bean).setNumber((Integer) newValue);
+                    return;
+                case 1:  // street
+                    ((Address) bean).setStreet((String) newValue);
+                    return;
+                case 2:  // city
+                    ((Address) bean).setCity((String) newValue);
+                    return;
+                case 3:  // owner
+                    ((Address) bean).setOwner((Person) newValue);
+                    return;
+            }
+            throw new NoSuchElementException("Unknown property index: " + propertyIndex);
+        }
+
+        @Override
+        protected int propertyGetInt(Bean bean, int propertyIndex) {
+            switch (propertyIndex) {
+                case 0:  // number
+                    return ((Address) bean).getNumber();
+            }
+            throw new NoSuchElementException("Unknown property index: " + propertyIndex);
+        }
+
+        @Override
+        protected void propertySetInt(Bean bean, int propertyIndex, int newValue) {
+            switch (propertyIndex) {
+                case 0:  // number
+                    ((Address) bean).setNumber(newValue);
+                    return;
+            }
+            throw new NoSuchElementException("Unknown property index: " + propertyIndex);
+        }
+
     }
 
     ///CLOVER:ON
@@ -19,6 +19,7 @@ import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Set;
 
 import org.joda.beans.Bean;
@@ -375,43 +376,43 @@ public class ClonePerson
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<List<String>> firstNames = DirectMetaProperty.ofReadWrite(
-                this, "firstNames", ClonePerson.class, (Class) List.class);
+                this, "firstNames", ClonePerson.class, (Class) List.class, 0);
         /**
          * The meta-property for the {@code middleNames} property.
          */
         private final MetaProperty<String[]> middleNames = DirectMetaProperty.ofReadWrite(
-                this, "middleNames", ClonePerson.class, String[].class);
+                this, "middleNames", ClonePerson.class, String[].class, 1);
         /**
          * The meta-property for the {@code surname} property.
          */
         private final MetaProperty<String> surname = DirectMetaProperty.ofReadWrite(
-                this, "surname", ClonePerson.class, String.class);
+                this, "surname", ClonePerson.class, String.class, 2);
         /**
          * The meta-property for the {@code dateOfBirth} property.
          */
         private final MetaProperty<Date> dateOfBirth = DirectMetaProperty.ofReadWrite(
-                this, "dateOfBirth", ClonePerson.class, Date.class);
+                this, "dateOfBirth", ClonePerson.class, Date.class, 3);
         /**
          * The meta-property for the {@code dateOfDeath} property.
          */
         private final MetaProperty<Date> dateOfDeath = DirectMetaProperty.ofReadWrite(
-                this, "dateOfDeath", ClonePerson.class, Date.class);
+                this, "dateOfDeath", ClonePerson.class, Date.class, 4);
         /**
          * The meta-property for the {@code addresses} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<List<Address>> addresses = DirectMetaProperty.ofReadWrite(
-                this, "addresses", ClonePerson.class, (Class) List.class);
+                this, "addresses", ClonePerson.class, (Class) List.class, 5);
         /**
          * The meta-property for the {@code companies} property.
          */
         private final MetaProperty<Company[]> companies = DirectMetaProperty.ofReadWrite(
-                this, "companies", ClonePerson.class, Company[].class);
+                this, "companies", ClonePerson.class, Company[].class, 6);
         /**
          * The meta-property for the {@code amounts} property.
          */
         private final MetaProperty<int[]> amounts = DirectMetaProperty.ofReadWrite(
-                this, "amounts", ClonePerson.class, int[].class);
+                this, "amounts", ClonePerson.class, int[].class, 7);
         /**
          * The meta-properties.
          */
@@ -591,6 +592,61 @@ public class ClonePerson
             super.propertySet(bean, propertyName, newValue, quiet);
         }
 
+        @Override
+        protected Object propertyGet(Bean bean, int propertyIndex) {
+            switch (propertyIndex) {
+                case 0:  // firstNames
+                    return ((ClonePerson) bean).getFirstNames();
+                case 1:  // middleNames
+                    return ((ClonePerson) bean).getMiddleNames();
+                case 2:  // surname
+                    return ((ClonePerson) bean).getSurname();
+                case 3:  // dateOfBirth
+                    return ((ClonePerson) bean).getDateOfBirth();
+                case 4:  // dateOfDeath
+                    return ((ClonePerson) bean).getDateOfDeath();
+                case 5:  // addresses
+                    return ((ClonePerson) bean).getAddresses();
+                case 6:  // companies
+                    return ((ClonePerson) bean).getCompanies();
+                case 7:  // amounts
+                    return ((ClonePerson) bean).getAmounts();
+            }
+            throw new NoSuchElementException("Unknown property index: " + propertyIndex);
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        protected void propertySet(Bean bean, int propertyIndex, Object newValue) {
+            switch (propertyIndex) {
+                case 0:  // firstNames
+                    ((ClonePerson) bean).setFirstNames((List<String>) newValue);
+                    return;
+                case 1:  // middleNames
+                    ((ClonePerson) bean).setMiddleNames((String[]) newValue);
+                    return;
+                case 2:  // surname
+                    ((ClonePerson) bean).setSurname((String) newValue);
+                    return;
+                case 3:  // dateOfBirth
+                    ((ClonePerson) bean).setDateOfBirth((Date) newValue);
+                    return;
+                case 4:  // dateOfDeath
+                    ((ClonePerson) bean).setDateOfDeath((Date) newValue);
+                    return;
+                case 5:  // addresses
+                    ((ClonePerson) bean).setAddresses((List<Address>) newValue);
+                    return;
+                case 6:  // companies
+                    ((ClonePerson) bean).setCompanies((Company[]) newValue);
+                    return;
+                case 7:  // amounts
+                    ((ClonePerson) bean).setAmounts((int[]) newValue);
+                    return;
+            }
+            throw new NoSuchElementException("Unknown property index: " + propertyIndex);
+        }
+
         @Override
         protected void validate(Bean bean) {
             JodaBeanUtils.notNull(((ClonePerson) bean).dateOfBirth, "dateOfBirth");
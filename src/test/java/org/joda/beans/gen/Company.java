@@ -16,6 +16,7 @@
 package org.joda.beans.gen;
 
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Set;
 
 import org.joda.beans.Bean;
@@ -168,7 +169,7 @@ public class Company
          * The meta-property for the {@code companyName} property.
          */
         private final MetaProperty<String> companyName = DirectMetaProperty.ofReadWrite(
-                this, "companyName", Company.class, String.class);
+                this, "companyName", Company.class, String.class, 0);
         /**
          * The meta-properties.
          */
@@ -235,6 +236,25 @@ public class Company
             super.propertySet(bean, propertyName, newValue, quiet);
         }
 
+        @Override
+        protected Object propertyGet(Bean bean, int propertyIndex) {
+            switch (propertyIndex) {
+                case 0:  // companyName
+                    return ((Company) bean).getCompanyName();
+            }
+            throw new NoSuchElementException("Unknown property index: " + propertyIndex);
+        }
+
+        @Override
+        protected void propertySet(Bean bean, int propertyIndex, Object newValue) {
+            switch (propertyIndex) {
+                case 0:  // companyName
+                    ((Company) bean).setCompanyName((String) newValue);
+                    return;
+            }
+            throw new NoSuchElementException("Unknown property index: " + propertyIndex);
+        }
+
     }
 
     ///CLOVER:ON
@@ -17,6 +17,7 @@ package org.joda.beans.gen;
 
 import java.beans.PropertyChangeSupport;
 import java.util.Map;
+import java.util.NoSuchElementException;
 
 import org.joda.beans.Bean;
 import org.joda.beans.BeanBuilder;
@@ -151,7 +152,7 @@ public class CompanyAddress extends Address {
          * The meta-property for the {@code companyName} property.
          */
         private final MetaProperty<String> companyName = DirectMetaProperty.ofReadWrite(
-                this, "companyName", CompanyAddress.class, String.class);
+                this, "companyName", CompanyAddress.class, String.class, 0);
         /**
          * The meta-properties.
          */
@@ -218,6 +219,25 @@ public class CompanyAddress extends Address {
             super.propertySet(bean, propertyName, newValue, quiet);
         }
 
+        @Override
+        protected Object propertyGet(Bean bean, int propertyIndex) {
+            switch (propertyIndex) {
+                case 0:  // companyName
+                    return ((CompanyAddress) bean).getCompanyName();
+            }
+            throw new NoSuchElementException("Unknown property index: " + propertyIndex);
+        }
+
+        @Override
+        protected void propertySet(Bean bean, int propertyIndex, Object newValue) {
+            switch (propertyIndex) {
+                case 0:  // companyName
+                    ((CompanyAddress) bean).setCompanyName((String) newValue);
+                    return;
+            }
+            throw new NoSuchElementException("Unknown property index: " + propertyIndex);
+        }
+
     }
 
     ///CLOVER:ON
@@ -16,6 +16,7 @@
 package org.joda.beans.gen;
 
 import java.util.Map;
+import java.util.NoSuchElementException;
 
 import org.joda.beans.Bean;
 import org.joda.beans.BeanBuilder;
@@ -218,19 +219,19 @@ public class Documentation<T> extends DirectBean {
          * The meta-property for the {@code type} property.
          */
         private final MetaProperty<String> type = DirectMetaProperty.ofReadWrite(
-                this, "type", Documentation.class, String.class);
+                this, "type", Documentation.class, String.class, 0);
         /**
          * The meta-property for the {@code content} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<T> content = (DirectMetaProperty) DirectMetaProperty.ofReadWrite(
-                this, "content", Documentation.class, Object.class);
+                this, "content", Documentation.class, Object.class, 1);
         /**
          * The meta-property for the {@code map} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<Map<String, String>> map = DirectMetaProperty.ofReadWrite(
-                this, "map", Documentation.class, (Class) Map.class);
+                this, "map", Documentation.class, (Class) Map.class, 2);
         /**
          * The meta-properties.
          */
@@ -331,6 +332,36 @@ public class Documentation<T> extends DirectBean {
             super.propertySet(bean, propertyName, newValue, quiet);
         }
 
+        @Override
+        protected Object propertyGet(Bean bean, int propertyIndex) {
+            switch (propertyIndex) {
+                case 0:  // type
+                    return ((Documentation<?>) bean).getType();
+                case 1:  // content
+                    return ((Documentation<?>) bean).getContent();
+                case 2:  // map
+                    return ((Documentation<?>) bean).getMap();
+            }
+            throw new NoSuchElementException("Unknown property index: " + propertyIndex);
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        protected void propertySet(Bean bean, int propertyIndex, Object newValue) {
+            switch (propertyIndex) {
+                case 0:  // type
+                    ((Documentation<T>) bean).setType((String) newValue);
+                    return;
+                case 1:  // content
+                    ((Documentation<T>) bean).setContent((T) newValue);
+                    return;
+                case 2:  // map
+                    ((Documentation<T>) bean).setMap((Map<String, String>) newValue);
+                    return;
+            }
+            throw new NoSuchElementException("Unknown property index: " + propertyIndex);
+        }
+
     }
 
     ///CLOVER:ON
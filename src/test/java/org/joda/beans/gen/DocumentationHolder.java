@@ -16,6 +16,7 @@
 package org.joda.beans.gen;
 
 import java.util.Map;
+import java.util.NoSuchElementException;
 
 import org.joda.beans.Bean;
 import org.joda.beans.BeanBuilder;
@@ -145,7 +146,7 @@ public class DocumentationHolder extends DirectBean{
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<Documentation<?>> documentation = DirectMetaProperty.ofReadWrite(
-                this, "documentation", DocumentationHolder.class, (Class) Documentation.class);
+                this, "documentation", DocumentationHolder.class, (Class) Documentation.class, 0);
         /**
          * The meta-properties.
          */
@@ -212,6 +213,25 @@ public class DocumentationHolder extends DirectBean{
             super.propertySet(bean, propertyName, newValue, quiet);
         }
 
+        @Override
+        protected Object propertyGet(Bean bean, int propertyIndex) {
+            switch (propertyIndex) {
+                case 0:  // documentation
+                    return ((DocumentationHolder) bean).getDocumentation();
+            }
+            throw new NoSuchElementException("Unknown property index: " + propertyIndex);
+        }
+
+        @Override
+        protected void propertySet(Bean bean, int propertyIndex, Object newValue) {
+            switch (propertyIndex) {
+                case 0:  // documentation
+                    ((DocumentationHolder) bean).setDocumentation((Documentation<?>) newValue);
+                    return;
+            }
+            throw new NoSuchElementException("Unknown property index: " + propertyIndex);
+        }
+
     }
 
     ///CLOVER:ON
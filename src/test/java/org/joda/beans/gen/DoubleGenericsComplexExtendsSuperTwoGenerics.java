@@ -17,6 +17,7 @@ package org.joda.beans.gen;
 
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 
 import org.joda.beans.Bean;
 import org.joda.beans.BeanBuilder;
@@ -354,43 +355,43 @@ public class DoubleGenericsComplexExtendsSuperTwoGenerics<T extends Comparable<T
          * The meta-property for the {@code normalType} property.
          */
         private final MetaProperty<String> normalType = DirectMetaProperty.ofReadWrite(
-                this, "normalType", DoubleGenericsComplexExtendsSuperTwoGenerics.class, String.class);
+                this, "normalType", DoubleGenericsComplexExtendsSuperTwoGenerics.class, String.class, 0);
         /**
          * The meta-property for the {@code typeT} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<T> typeT = (DirectMetaProperty) DirectMetaProperty.ofReadWrite(
-                this, "typeT", DoubleGenericsComplexExtendsSuperTwoGenerics.class, Object.class);
+                this, "typeT", DoubleGenericsComplexExtendsSuperTwoGenerics.class, Object.class, 1);
         /**
          * The meta-property for the {@code typeU} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<U> typeU = (DirectMetaProperty) DirectMetaProperty.ofReadWrite(
-                this, "typeU", DoubleGenericsComplexExtendsSuperTwoGenerics.class, Object.class);
+                this, "typeU", DoubleGenericsComplexExtendsSuperTwoGenerics.class, Object.class, 2);
         /**
          * The meta-property for the {@code typeTList} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<List<T>> typeTList = DirectMetaProperty.ofReadWrite(
-                this, "typeTList", DoubleGenericsComplexExtendsSuperTwoGenerics.class, (Class) List.class);
+                this, "typeTList", DoubleGenericsComplexExtendsSuperTwoGenerics.class, (Class) List.class, 3);
         /**
          * The meta-property for the {@code typeUList} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<List<U>> typeUList = DirectMetaProperty.ofReadWrite(
-                this, "typeUList", DoubleGenericsComplexExtendsSuperTwoGenerics.class, (Class) List.class);
+                this, "typeUList", DoubleGenericsComplexExtendsSuperTwoGenerics.class, (Class) List.class, 4);
         /**
          * The meta-property for the {@code typeTArray} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<T[]> typeTArray = (DirectMetaProperty) DirectMetaProperty.ofReadWrite(
-                this, "typeTArray", DoubleGenericsComplexExtendsSuperTwoGenerics.class, Object[].class);
+                this, "typeTArray", DoubleGenericsComplexExtendsSuperTwoGenerics.class, Object[].class, 5);
         /**
          * The meta-property for the {@code typeUArray} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<U[]> typeUArray = (DirectMetaProperty) DirectMetaProperty.ofReadWrite(
-                this, "typeUArray", DoubleGenericsComplexExtendsSuperTwoGenerics.class, Object[].class);
+                this, "typeUArray", DoubleGenericsComplexExtendsSuperTwoGenerics.class, Object[].class, 6);
         /**
          * The meta-properties.
          */
@@ -555,6 +556,56 @@ public class DoubleGenericsComplexExtendsSuperTwoGenerics<T extends Comparable<T
             super.propertySet(bean, propertyName, newValue, quiet);
         }
 
+        @Override
+        protected Object propertyGet(Bean bean, int propertyIndex) {
+            switch (propertyIndex) {
+                case 0:  // normalType
+                    return ((DoubleGenericsComplexExtendsSuperTwoGenerics<?, ?>) bean).getNormalType();
+                case 1:  // typeT
+                    return ((DoubleGenericsComplexExtendsSuperTwoGenerics<?, ?>) bean).getTypeT();
+                case 2:  // typeU
+                    return ((DoubleGenericsComplexExtendsSuperTwoGenerics<?, ?>) bean).getTypeU();
+                case 3:  // typeTList
+                    return ((DoubleGenericsComplexExtendsSuperTwoGenerics<?, ?>) bean).getTypeTList();
+                case 4:  // typeUList
+                    return ((DoubleGenericsComplexExtendsSuperTwoGenerics<?, ?>) bean).getTypeUList();
+                case 5:  // typeTArray
+                    return ((DoubleGenericsComplexExtendsSuperTwoGenerics<?, ?>) bean).getTypeTArray();
+                case 6:  // typeUArray
+                    return ((DoubleGenericsComplexExtendsSuperTwoGenerics<?, ?>) bean).getTypeUArray();
+            }
+            throw new NoSuchElementException("Unknown property index: " + propertyIndex);
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        protected void propertySet(Bean bean, int propertyIndex, Object newValue) {
+            switch (propertyIndex) {
+                case 0:  // normalType
+                    ((DoubleGenericsComplexExtendsSuperTwoGenerics<T, U>) bean).setNormalType((String) newValue);
+                    return;
+                case 1:  // typeT
+                    ((DoubleGenericsComplexExtendsSuperTwoGenerics<T, U>) bean).setTypeT((T) newValue);
+                    return;
+                case 2:  // typeU
+                    ((DoubleGenericsComplexExtendsSuperTwoGenerics<T, U>) bean).setTypeU((U) newValue);
+                    return;
+                case 3:  // typeTList
+                    ((DoubleGenericsComplexExtendsSuperTwoGenerics<T, U>) bean).setTypeTList((List<T>) newValue);
+                    return;
+                case 4:  // typeUList
+                    ((DoubleGenericsComplexExtendsSuperTwoGenerics<T, U>) bean).setTypeUList((List<U>) newValue);
+                    return;
+                case 5:  // typeTArray
+                    ((DoubleGenericsComplexExtendsSuperTwoGenerics<T, U>) bean).setTypeTArray((T[]) newValue);
+                    return;
+                case 6:  // typeUArray
+                    ((DoubleGenericsComplexExtendsSuperTwoGenerics<T, U>) bean).setTypeUArray((U[]) newValue);
+                    return;
+            }
+            throw new NoSuchElementException("Unknown property index: " + propertyIndex);
+        }
+
     }
 
     ///CLOVER:ON
@@ -17,6 +17,7 @@ package org.joda.beans.gen;
 
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Set;
 
 import org.joda.beans.Bean;
@@ -364,43 +365,43 @@ public class DoubleGenericsNoExtendsNoSuper<T, U>
          * The meta-property for the {@code normalType} property.
          */
         private final MetaProperty<String> normalType = DirectMetaProperty.ofReadWrite(
-                this, "normalType", DoubleGenericsNoExtendsNoSuper.class, String.class);
+                this, "normalType", DoubleGenericsNoExtendsNoSuper.class, String.class, 0);
         /**
          * The meta-property for the {@code typeT} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<T> typeT = (DirectMetaProperty) DirectMetaProperty.ofReadWrite(
-                this, "typeT", DoubleGenericsNoExtendsNoSuper.class, Object.class);
+                this, "typeT", DoubleGenericsNoExtendsNoSuper.class, Object.class, 1);
         /**
          * The meta-property for the {@code typeU} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<U> typeU = (DirectMetaProperty) DirectMetaProperty.ofReadWrite(
-                this, "typeU", DoubleGenericsNoExtendsNoSuper.class, Object.class);
+                this, "typeU", DoubleGenericsNoExtendsNoSuper.class, Object.class, 2);
         /**
          * The meta-property for the {@code typeTList} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<List<T>> typeTList = DirectMetaProperty.ofReadWrite(
-                this, "typeTList", DoubleGenericsNoExtendsNoSuper.class, (Class) List.class);
+                this, "typeTList", DoubleGenericsNoExtendsNoSuper.class, (Class) List.class, 3);
         /**
          * The meta-property for the {@code typeUList} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<List<U>> typeUList = DirectMetaProperty.ofReadWrite(
-                this, "typeUList", DoubleGenericsNoExtendsNoSuper.class, (Class) List.class);
+                this, "typeUList", DoubleGenericsNoExtendsNoSuper.class, (Class) List.class, 4);
         /**
          * The meta-property for the {@code typeTArray} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<T[]> typeTArray = (DirectMetaProperty) DirectMetaProperty.ofReadWrite(
-                this, "typeTArray", DoubleGenericsNoExtendsNoSuper.class, Object[].class);
+                this, "typeTArray", DoubleGenericsNoExtendsNoSuper.class, Object[].class, 5);
         /**
          * The meta-property for the {@code typeUArray} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<U[]> typeUArray = (DirectMetaProperty) DirectMetaProperty.ofReadWrite(
-                this, "typeUArray", DoubleGenericsNoExtendsNoSuper.class, Object[].class);
+                this, "typeUArray", DoubleGenericsNoExtendsNoSuper.class, Object[].class, 6);
         /**
          * The meta-properties.
          */
@@ -565,6 +566,56 @@ public class DoubleGenericsNoExtendsNoSuper<T, U>
             super.propertySet(bean, propertyName, newValue, quiet);
         }
 
+        @Override
+        protected Object propertyGet(Bean bean, int propertyIndex) {
+            switch (propertyIndex) {
+                case 0:  // normalType
+                    return ((DoubleGenericsNoExtendsNoSuper<?, ?>) bean).getNormalType();
+                case 1:  // typeT
+                    return ((DoubleGenericsNoExtendsNoSuper<?, ?>) bean).getTypeT();
+                case 2:  // typeU
+                    return ((DoubleGenericsNoExtendsNoSuper<?, ?>) bean).getTypeU();
+                case 3:  // typeTList
+                    return ((DoubleGenericsNoExtendsNoSuper<?, ?>) bean).getTypeTList();
+                case 4:  // typeUList
+                    return ((DoubleGenericsNoExtendsNoSuper<?, ?>) bean).getTypeUList();
+                case 5:  // typeTArray
+                    return ((DoubleGenericsNoExtendsNoSuper<?, ?>) bean).getTypeTArray();
+                case 6:  // typeUArray
+                    return ((DoubleGenericsNoExtendsNoSuper<?, ?>) bean).getTypeUArray();
+            }
+            throw new NoSuchElementException("Unknown property index: " + propertyIndex);
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        protected void propertySet(Bean bean, int propertyIndex, Object newValue) {
+            switch (propertyIndex) {
+                case 0:  // normalType
+                    ((DoubleGenericsNoExtendsNoSuper<T, U>) bean).setNormalType((String) newValue);
+                    return;
+                case 1:  // typeT
+                    ((DoubleGenericsNoExtendsNoSuper<T, U>) bean).setTypeT((T) newValue);
+                    return;
+                case 2:  // typeU
+                    ((DoubleGenericsNoExtendsNoSuper<T, U>) bean).setTypeU((U) newValue);
+                    return;
+                case 3:  // typeTList
+                    ((DoubleGenericsNoExtendsNoSuper<T, U>) bean).setTypeTList((List<T>) newValue);
+                    return;
+                case 4:  // typeUList
+                    ((DoubleGenericsNoExtendsNoSuper<T, U>) bean).setTypeUList((List<U>) newValue);
+                    return;
+                case 5:  // typeTArray
+                    ((DoubleGenericsNoExtendsNoSuper<T, U>) bean).setTypeTArray((T[]) newValue);
+                    return;
+                case 6:  // typeUArray
+                    ((DoubleGenericsNoExtendsNoSuper<T, U>) bean).setTypeUArray((U[]) newValue);
+                    return;
+            }
+            throw new NoSuchElementException("Unknown property index: " + propertyIndex);
+        }
+
     }
 
     ///CLOVER:ON
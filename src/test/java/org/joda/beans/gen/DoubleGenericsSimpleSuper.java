@@ -16,6 +16,7 @@
 package org.joda.beans.gen;
 
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Set;
 
 import org.joda.beans.Bean;
@@ -239,19 +240,19 @@ public class DoubleGenericsSimpleSuper<T, U>
          * The meta-property for the {@code baseType} property.
          */
         private final MetaProperty<String> baseType = DirectMetaProperty.ofReadWrite(
-                this, "baseType", DoubleGenericsSimpleSuper.class, String.class);
+                this, "baseType", DoubleGenericsSimpleSuper.class, String.class, 0);
         /**
          * The meta-property for the {@code baseT} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<T> baseT = (DirectMetaProperty) DirectMetaProperty.ofReadWrite(
-                this, "baseT", DoubleGenericsSimpleSuper.class, Object.class);
+                this, "baseT", DoubleGenericsSimpleSuper.class, Object.class, 1);
         /**
          * The meta-property for the {@code baseU} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<U> baseU = (DirectMetaProperty) DirectMetaProperty.ofReadWrite(
-                this, "baseU", DoubleGenericsSimpleSuper.class, Object.class);
+                this, "baseU", DoubleGenericsSimpleSuper.class, Object.class, 2);
         /**
          * The meta-properties.
          */
@@ -352,6 +353,36 @@ public class DoubleGenericsSimpleSuper<T, U>
             super.propertySet(bean, propertyName, newValue, quiet);
         }
 
+        @Override
+        protected Object propertyGet(Bean bean, int propertyIndex) {
+            switch (propertyIndex) {
+                case 0:  // baseType
+                    return ((DoubleGenericsSimpleSuper<?, ?>) bean).getBaseType();
+                case 1:  // baseT
+                    return ((DoubleGenericsSimpleSuper<?, ?>) bean).getBaseT();
+                case 2:  // baseU
+                    return ((DoubleGenericsSimpleSuper<?, ?>) bean).getBaseU();
+            }
+            throw new NoSuchElementException("Unknown property index: " + propertyIndex);
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        protected void propertySet(Bean bean, int propertyIndex, Object newValue) {
+            switch (propertyIndex) {
+                case 0:  // baseType
+                    ((DoubleGenericsSimpleSuper<T, U>) bean).setBaseType((String) newValue);
+                    return;
+                case 1:  // baseT
+                    ((DoubleGenericsSimpleSuper<T, U>) bean).setBaseT((T) newValue);
+                    return;
+                case 2:  // baseU
+                    ((DoubleGenericsSimpleSuper<T, U>) bean).setBaseU((U) newValue);
+                    return;
+            }
+            throw new NoSuchElementException("Unknown property index: " + propertyIndex);
+        }
+
     }
 
     ///CLOVER:ON
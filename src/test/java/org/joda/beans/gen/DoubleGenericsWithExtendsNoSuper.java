@@ -18,6 +18,7 @@ package org.joda.beans.gen;
 import java.io.Serializable;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Set;
 
 import org.joda.beans.Bean;
@@ -365,43 +366,43 @@ public class DoubleGenericsWithExtendsNoSuper<T extends Serializable, U extends
          * The meta-property for the {@code normalType} property.
          */
         private final MetaProperty<String> normalType = DirectMetaProperty.ofReadWrite(
-                this, "normalType", DoubleGenericsWithExtendsNoSuper.class, String.class);
+                this, "normalType", DoubleGenericsWithExtendsNoSuper.class, String.class, 0);
         /**
          * The meta-property for the {@code typeT} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<T> typeT = (DirectMetaProperty) DirectMetaProperty.ofReadWrite(
-                this, "typeT", DoubleGenericsWithExtendsNoSuper.class, Object.class);
+                this, "typeT", DoubleGenericsWithExtendsNoSuper.class, Object.class, 1);
         /**
          * The meta-property for the {@code typeU} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<U> typeU = (DirectMetaProperty) DirectMetaProperty.ofReadWrite(
-                this, "typeU", DoubleGenericsWithExtendsNoSuper.class, Object.class);
+                this, "typeU", DoubleGenericsWithExtendsNoSuper.class, Object.class, 2);
         /**
          * The meta-property for the {@code typeTList} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<List<T>> typeTList = DirectMetaProperty.ofReadWrite(
-                this, "typeTList", DoubleGenericsWithExtendsNoSuper.class, (Class) List.class);
+                this, "typeTList", DoubleGenericsWithExtendsNoSuper.class, (Class) List.class, 3);
         /**
          * The meta-property for the {@code typeUList} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<List<U>> typeUList = DirectMetaProperty.ofReadWrite(
-                this, "typeUList", DoubleGenericsWithExtendsNoSuper.class, (Class) List.class);
+                this, "typeUList", DoubleGenericsWithExtendsNoSuper.class, (Class) List.class, 4);
         /**
          * The meta-property for the {@code typeTArray} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<T[]> typeTArray = (DirectMetaProperty) DirectMetaProperty.ofReadWrite(
-                this, "typeTArray", DoubleGenericsWithExtendsNoSuper.class, Object[].class);
+                this, "typeTArray", DoubleGenericsWithExtendsNoSuper.class, Object[].class, 5);
         /**
          * The meta-property for the {@code typeUArray} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<U[]> typeUArray = (DirectMetaProperty) DirectMetaProperty.ofReadWrite(
-                this, "typeUArray", DoubleGenericsWithExtendsNoSuper.class, Object[].class);
+                this, "typeUArray", DoubleGenericsWithExtendsNoSuper.class, Object[].class, 6);
         /**
          * The meta-properties.
          */
@@ -566,6 +567,56 @@ public class DoubleGenericsWithExtendsNoSuper<T extends Serializable, U extends
             super.propertySet(bean, propertyName, newValue, quiet);
         }
 
+        @Override
+        protected Object propertyGet(Bean bean, int propertyIndex) {
+            switch (propertyIndex) {
+                case 0:  // normalType
+                    return ((DoubleGenericsWithExtendsNoSuper<?, ?>) bean).getNormalType();
+                case 1:  // typeT
+                    return ((DoubleGenericsWithExtendsNoSuper<?, ?>) bean).getTypeT();
+                case 2:  // typeU
+                    return ((DoubleGenericsWithExtendsNoSuper<?, ?>) bean).getTypeU();
+                case 3:  // typeTList
+                    return ((DoubleGenericsWithExtendsNoSuper<?, ?>) bean).getTypeTList();
+                case 4:  // typeUList
+                    return ((DoubleGenericsWithExtendsNoSuper<?, ?>) bean).getTypeUList();
+                case 5:  // typeTArray
+                    return ((DoubleGenericsWithExtendsNoSuper<?, ?>) bean).getTypeTArray();
+                case 6:  // typeUArray
+                    return ((DoubleGenericsWithExtendsNoSuper<?, ?>) bean).getTypeUArray();
+            }
+            throw new NoSuchElementException("Unknown property index: " + propertyIndex);
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        protected void propertySet(Bean bean, int propertyIndex, Object newValue) {
+            switch (propertyIndex) {
+                case 0:  // normalType
+                    ((DoubleGenericsWithExtendsNoSuper<T, U>) bean).setNormalType((String) newValue);
+                    return;
+                case 1:  // typeT
+                    ((DoubleGenericsWithExtendsNoSuper<T, U>) bean).setTypeT((T) newValue);
+                    return;
+                case 2:  // typeU
+                    ((DoubleGenericsWithExtendsNoSuper<T, U>) bean).setTypeU((U) newValue);
+                    return;
+                case 3:  // typeTList
+                    ((DoubleGenericsWithExtendsNoSuper<T, U>) bean).setTypeTList((List<T>) newValue);
+                    return;
+                case 4:  // typeUList
+                    ((DoubleGenericsWithExtendsNoSuper<T, U>) bean).setTypeUList((List<U>) newValue);
+                    return;
+                case 5:  // typeTArray
+                    ((DoubleGenericsWithExtendsNoSuper<T, U>) bean).setTypeTArray((T[]) newValue);
+                    return;
+                case 6:  // typeUArray
+                    ((DoubleGenericsWithExtendsNoSuper<T, U>) bean).setTypeUArray((U[]) newValue);
+                    return;
+            }
+            throw new NoSuchElementException("Unknown property index: " + propertyIndex);
+        }
+
     }
 
     ///CLOVER:ON
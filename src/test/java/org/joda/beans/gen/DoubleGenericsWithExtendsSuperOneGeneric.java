@@ -18,6 +18,7 @@ package org.joda.beans.gen;
 import java.io.Serializable;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 
 import org.joda.beans.Bean;
 import org.joda.beans.BeanBuilder;
@@ -356,43 +357,43 @@ public class DoubleGenericsWithExtendsSuperOneGeneric<T extends Serializable, U
          * The meta-property for the {@code normalType} property.
          */
         private final MetaProperty<String> normalType = DirectMetaProperty.ofReadWrite(
-                this, "normalType", DoubleGenericsWithExtendsSuperOneGeneric.class, String.class);
+                this, "normalType", DoubleGenericsWithExtendsSuperOneGeneric.class, String.class, 0);
         /**
          * The meta-property for the {@code typeT} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<T> typeT = (DirectMetaProperty) DirectMetaProperty.ofReadWrite(
-                this, "typeT", DoubleGenericsWithExtendsSuperOneGeneric.class, Object.class);
+                this, "typeT", DoubleGenericsWithExtendsSuperOneGeneric.class, Object.class, 1);
         /**
          * The meta-property for the {@code typeU} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<U> typeU = (DirectMetaProperty) DirectMetaProperty.ofReadWrite(
-                this, "typeU", DoubleGenericsWithExtendsSuperOneGeneric.class, Object.class);
+                this, "typeU", DoubleGenericsWithExtendsSuperOneGeneric.class, Object.class, 2);
         /**
          * The meta-property for the {@code typeTList} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<List<T>> typeTList = DirectMetaProperty.ofReadWrite(
-                this, "typeTList", DoubleGenericsWithExtendsSuperOneGeneric.class, (Class) List.class);
+                this, "typeTList", DoubleGenericsWithExtendsSuperOneGeneric.class, (Class) List.class, 3);
         /**
          * The meta-property for the {@code typeUList} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<List<U>> typeUList = DirectMetaProperty.ofReadWrite(
-                this, "typeUList", DoubleGenericsWithExtendsSuperOneGeneric.class, (Class) List.class);
+                this, "typeUList", DoubleGenericsWithExtendsSuperOneGeneric.class, (Class) List.class, 4);
         /**
          * The meta-property for the {@code typeTArray} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<T[]> typeTArray = (DirectMetaProperty) DirectMetaProperty.ofReadWrite(
-                this, "typeTArray", DoubleGenericsWithExtendsSuperOneGeneric.class, Object[].class);
+                this, "typeTArray", DoubleGenericsWithExtendsSuperOneGeneric.class, Object[].class, 5);
         /**
          * The meta-property for the {@code typeUArray} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<U[]> typeUArray = (DirectMetaProperty) DirectMetaProperty.ofReadWrite(
-                this, "typeUArray", DoubleGenericsWithExtendsSuperOneGeneric.class, Object[].class);
+                this, "typeUArray", DoubleGenericsWithExtendsSuperOneGeneric.class, Object[].class, 6);
         /**
          * The meta-properties.
          */
@@ -557,6 +558,56 @@ public class DoubleGenericsWithExtendsSuperOneGeneric<T extends Serializable, U
             super.propertySet(bean, propertyName, newValue, quiet);
         }
 
+        @Override
+        protected Object propertyGet(Bean bean, int propertyIndex) {
+            switch (propertyIndex) {
+                case 0:  // normalType
+                    return ((DoubleGenericsWithExtendsSuperOneGeneric<?, ?>) bean).getNormalType();
+                case 1:  // typeT
+                    return ((DoubleGenericsWithExtendsSuperOneGeneric<?, ?>) bean).getTypeT();
+                case 2:  // typeU
+                    return ((DoubleGenericsWithExtendsSuperOneGeneric<?, ?>) bean).getTypeU();
+                case 3:  // typeTList
+                    return ((DoubleGenericsWithExtendsSuperOneGeneric<?, ?>) bean).getTypeTList();
+                case 4:  // typeUList
+                    return ((DoubleGenericsWithExtendsSuperOneGeneric<?, ?>) bean).getTypeUList();
+                case 5:  // typeTArray
+                    return ((DoubleGenericsWithExtendsSuperOneGeneric<?, ?>) bean).getTypeTArray();
+                case 6:  // typeUArray
+                    return ((DoubleGenericsWithExtendsSuperOneGeneric<?, ?>) bean).getTypeUArray();
+            }
+            throw new NoSuchElementException("Unknown property index: " + propertyIndex);
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        protected void propertySet(Bean bean, int propertyIndex, Object newValue) {
+            switch (propertyIndex) {
+                case 0:  // normalType
+                    ((DoubleGenericsWithExtendsSuperOneGeneric<T, U>) bean).setNormalType((String) newValue);
+                    return;
+                case 1:  // typeT
+                    ((DoubleGenericsWithExtendsSuperOneGeneric<T, U>) bean).setTypeT((T) newValue);
+                    return;
+                case 2:  // typeU
+                    ((DoubleGenericsWithExtendsSuperOneGeneric<T, U>) bean).setTypeU((U) newValue);
+                    return;
+                case 3:  // typeTList
+                    ((DoubleGenericsWithExtendsSuperOneGeneric<T, U>) bean).setTypeTList((List<T>) newValue);
+                    return;
+                case 4:  // typeUList
+                    ((DoubleGenericsWithExtendsSuperOneGeneric<T, U>) bean).setTypeUList((List<U>) newValue);
+                    return;
+                case 5:  // typeTArray
+                    ((DoubleGenericsWithExtendsSuperOneGeneric<T, U>) bean).setTypeTArray((T[]) newValue);
+                    return;
+                case 6:  // typeUArray
+                    ((DoubleGenericsWithExtendsSuperOneGeneric<T, U>) bean).setTypeUArray((U[]) newValue);
+                    return;
+            }
+            throw new NoSuchElementException("Unknown property index: " + propertyIndex);
+        }
+
     }
 
     ///CLOVER:ON
@@ -18,6 +18,7 @@ package org.joda.beans.gen;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 
 import org.joda.beans.Bean;
 import org.joda.beans.BeanBuilder;
@@ -283,28 +284,28 @@ public class FinalFieldBean extends DirectBean {
          * The meta-property for the {@code fieldFinal} property.
          */
         private final MetaProperty<String> fieldFinal = DirectMetaProperty.ofReadOnly(
-                this, "fieldFinal", FinalFieldBean.class, String.class);
+                this, "fieldFinal", FinalFieldBean.class, String.class, 0);
         /**
          * The meta-property for the {@code fieldNonFinal} property.
          */
         private final MetaProperty<String> fieldNonFinal = DirectMetaProperty.ofReadWrite(
-                this, "fieldNonFinal", FinalFieldBean.class, String.class);
+                this, "fieldNonFinal", FinalFieldBean.class, String.class, 1);
         /**
          * The meta-property for the {@code listFinal} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<List<String>> listFinal = DirectMetaProperty.ofReadWrite(
-                this, "listFinal", FinalFieldBean.class, (Class) List.class);
+                this, "listFinal", FinalFieldBean.class, (Class) List.class, 2);
         /**
          * The meta-property for the {@code flexiFinal} property.
          */
         private final MetaProperty<FlexiBean> flexiFinal = DirectMetaProperty.ofReadWrite(
-                this, "flexiFinal", FinalFieldBean.class, FlexiBean.class);
+                this, "flexiFinal", FinalFieldBean.class, FlexiBean.class, 3);
         /**
          * The meta-property for the {@code personFinal} property.
          */
         private final MetaProperty<Person> personFinal = DirectMetaProperty.ofReadOnly(
-                this, "personFinal", FinalFieldBean.class, Person.class);
+                this, "personFinal", FinalFieldBean.class, Person.class, 4);
         /**
          * The meta-properties.
          */
@@ -440,6 +441,40 @@ public class FinalFieldBean extends DirectBean {
             super.propertySet(bean, propertyName, newValue, quiet);
         }
 
+        @Override
+        protected Object propertyGet(Bean bean, int propertyIndex) {
+            switch (propertyIndex) {
+                case 0:  // fieldFinal
+                    return ((FinalFieldBean) bean).getFieldFinal();
+                case 1:  // fieldNonFinal
+                    return ((FinalFieldBean) bean).getFieldNonFinal();
+                case 2:  // listFinal
+                    return ((FinalFieldBean) bean).getListFinal();
+                case 3:  // flexiFinal
+                    return ((FinalFieldBean) bean).getFlexiFinal();
+                case 4:  // personFinal
+                    return ((FinalFieldBean) bean).getPersonFinal();
+            }
+            throw new NoSuchElementException("Unknown property index: " + propertyIndex);
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        protected void propertySet(Bean bean, int propertyIndex, Object newValue) {
+            switch (propertyIndex) {
+                case 1:  // fieldNonFinal
+                    ((FinalFieldBean) bean).setFieldNonFinal((String) newValue);
+                    return;
+                case 2:  // listFinal
+                    ((FinalFieldBean) bean).setListFinal((List<String>) newValue);
+                    return;
+                case 3:  // flexiFinal
+                    ((FinalFieldBean) bean).setFlexiFinal((FlexiBean) newValue);
+                    return;
+            }
+            throw new NoSuchElementException("Unknown property index: " + propertyIndex);
+        }
+
         @Override
         protected void validate(Bean bean) {
             JodaBeanUtils.notNull(((FinalFieldBean) bean).listFinal, "listFinal");
@@ -16,6 +16,7 @@
 package org.joda.beans.gen;
 
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Set;
 
 import org.joda.beans.Bean;
@@ -187,13 +188,13 @@ public class GenericAllFinal<T> implements Bean {
          * The meta-property for the {@code name} property.
          */
         private final MetaProperty<String> name = DirectMetaProperty.ofReadOnly(
-                this, "name", GenericAllFinal.class, String.class);
+                this, "name", GenericAllFinal.class, String.class, 0);
         /**
          * The meta-property for the {@code value} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<T> value = (DirectMetaProperty) DirectMetaProperty.ofReadOnly(
-                this, "value", GenericAllFinal.class, Object.class);
+                this, "value", GenericAllFinal.class, Object.class, 1);
         /**
          * The meta-properties.
          */
@@ -281,6 +282,17 @@ public class GenericAllFinal<T> implements Bean {
             super.propertySet(bean, propertyName, newValue, quiet);
         }
 
+        @Override
+        protected Object propertyGet(Bean bean, int propertyIndex) {
+            switch (propertyIndex) {
+                case 0:  // name
+                    return ((GenericAllFinal<?>) bean).getName();
+                case 1:  // value
+                    return ((GenericAllFinal<?>) bean).getValue();
+            }
+            throw new NoSuchElementException("Unknown property index: " + propertyIndex);
+        }
+
         @Override
         protected void validate(Bean bean) {
             JodaBeanUtils.notNull(((GenericAllFinal<?>) bean).name, "name");
@@ -16,6 +16,7 @@
 package org.joda.beans.gen;
 
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Set;
 
 import org.joda.beans.Bean;
@@ -169,7 +170,7 @@ public class GenericArray<T extends Address> implements Bean {
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<T[]> values = (DirectMetaProperty) DirectMetaProperty.ofReadWrite(
-                this, "values", GenericArray.class, Object[].class);
+                this, "values", GenericArray.class, Object[].class, 0);
         /**
          * The meta-properties.
          */
@@ -238,6 +239,26 @@ public class GenericArray<T extends Address> implements Bean {
             super.propertySet(bean, propertyName, newValue, quiet);
         }
 
+        @Override
+        protected Object propertyGet(Bean bean, int propertyIndex) {
+            switch (propertyIndex) {
+                case 0:  // values
+                    return ((GenericArray<?>) bean).getValues();
+            }
+            throw new NoSuchElementException("Unknown property index: " + propertyIndex);
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        protected void propertySet(Bean bean, int propertyIndex, Object newValue) {
+            switch (propertyIndex) {
+                case 0:  // values
+                    ((GenericArray<T>) bean).setValues((T[]) newValue);
+                    return;
+            }
+            throw new NoSuchElementException("Unknown property index: " + propertyIndex);
+        }
+
         @Override
         protected void validate(Bean bean) {
             JodaBeanUtils.notNull(((GenericArray<?>) bean).values, "values");
@@ -16,6 +16,7 @@
 package org.joda.beans.gen;
 
 import java.util.Map;
+import java.util.NoSuchElementException;
 
 import org.joda.beans.Bean;
 import org.joda.beans.BeanBuilder;
@@ -159,7 +160,7 @@ public class GenericSubWrapper<T extends Address> extends Wrapper<T> {
          * The meta-property for the {@code name} property.
          */
         private final MetaProperty<String> name = DirectMetaProperty.ofReadWrite(
-                this, "name", GenericSubWrapper.class, String.class);
+                this, "name", GenericSubWrapper.class, String.class, 0);
         /**
          * The meta-properties.
          */
@@ -228,6 +229,26 @@ public class GenericSubWrapper<T extends Address> extends Wrapper<T> {
             super.propertySet(bean, propertyName, newValue, quiet);
         }
 
+        @Override
+        protected Object propertyGet(Bean bean, int propertyIndex) {
+            switch (propertyIndex) {
+                case 0:  // name
+                    return ((GenericSubWrapper<?>) bean).getName();
+            }
+            throw new NoSuchElementException("Unknown property index: " + propertyIndex);
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        protected void propertySet(Bean bean, int propertyIndex, Object newValue) {
+            switch (propertyIndex) {
+                case 0:  // name
+                    ((GenericSubWrapper<T>) bean).setName((String) newValue);
+                    return;
+            }
+            throw new NoSuchElementException("Unknown property index: " + propertyIndex);
+        }
+
         @Override
         protected void validate(Bean bean) {
             JodaBeanUtils.notNull(((GenericSubWrapper<?>) bean).name, "name");
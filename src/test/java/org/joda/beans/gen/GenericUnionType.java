@@ -17,6 +17,7 @@ package org.joda.beans.gen;
 
 import java.io.Serializable;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Set;
 
 import org.joda.beans.Bean;
@@ -201,13 +202,13 @@ public class GenericUnionType<T extends Number & Serializable & Cloneable> imple
          * The meta-property for the {@code name} property.
          */
         private final MetaProperty<String> name = DirectMetaProperty.ofReadWrite(
-                this, "name", GenericUnionType.class, String.class);
+                this, "name", GenericUnionType.class, String.class, 0);
         /**
          * The meta-property for the {@code value} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<T> value = (DirectMetaProperty) DirectMetaProperty.ofReadWrite(
-                this, "value", GenericUnionType.class, Object.class);
+                this, "value", GenericUnionType.class, Object.class, 1);
         /**
          * The meta-properties.
          */
@@ -292,6 +293,31 @@ public class GenericUnionType<T extends Number & Serializable & Cloneable> imple
             super.propertySet(bean, propertyName, newValue, quiet);
         }
 
+        @Override
+        protected Object propertyGet(Bean bean, int propertyIndex) {
+            switch (propertyIndex) {
+                case 0:  // name
+                    return ((GenericUnionType<?>) bean).getName();
+                case 1:  // value
+                    return ((GenericUnionType<?>) bean).getValue();
+            }
+            throw new NoSuchElementException("Unknown property index: " + propertyIndex);
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        protected void propertySet(Bean bean, int propertyIndex, Object newValue) {
+            switch (propertyIndex) {
+                case 0:  // name
+                    ((GenericUnionType<T>) bean).setName((String) newValue);
+                    return;
+                case 1:  // value
+                    ((GenericUnionType<T>) bean).setValue((T) newValue);
+                    return;
+            }
+            throw new NoSuchElementException("Unknown property index: " + propertyIndex);
+        }
+
         @Override
         protected void validate(Bean bean) {
             JodaBeanUtils.notNull(((GenericUnionType<?>) bean).name, "name");
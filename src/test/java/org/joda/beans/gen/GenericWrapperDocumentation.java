@@ -16,6 +16,7 @@
 package org.joda.beans.gen;
 
 import java.util.Map;
+import java.util.NoSuchElementException;
 
 import org.joda.beans.Bean;
 import org.joda.beans.BeanBuilder;
@@ -158,7 +159,7 @@ public class GenericWrapperDocumentation<T extends Address> extends Documentatio
          * The meta-property for the {@code name} property.
          */
         private final MetaProperty<String> name = DirectMetaProperty.ofReadWrite(
-                this, "name", GenericWrapperDocumentation.class, String.class);
+                this, "name", GenericWrapperDocumentation.class, String.class, 0);
         /**
          * The meta-properties.
          */
@@ -227,6 +228,26 @@ public class GenericWrapperDocumentation<T extends Address> extends Documentatio
             super.propertySet(bean, propertyName, newValue, quiet);
         }
 
+        @Override
+        protected Object propertyGet(Bean bean, int propertyIndex) {
+            switch (propertyIndex) {
+                case 0:  // name
+                    return ((GenericWrapperDocumentation<?>) bean).getName();
+            }
+            throw new NoSuchElementException("Unknown property index: " + propertyIndex);
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        protected void propertySet(Bean bean, int propertyIndex, Object newValue) {
+            switch (propertyIndex) {
+                case 0:  // name
+                    ((GenericWrapperDocumentation<T>) bean).setName((String) newValue);
+                    return;
+            }
+            throw new NoSuchElementException("Unknown property index: " + propertyIndex);
+        }
+
     }
 
     ///CLOVER:ON
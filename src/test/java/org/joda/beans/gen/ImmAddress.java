@@ -612,134 +612,134 @@ public final class ImmAddress implements ImmutableBean, Serializable {
          * The meta-property for the {@code number} property.
          */
         private final MetaProperty<Integer> number = DirectMetaProperty.ofImmutable(
-                this, "number", ImmAddress.class, Integer.TYPE);
+                this, "number", ImmAddress.class, Integer.TYPE, 0);
         /**
          * The meta-property for the {@code street} property.
          */
         private final MetaProperty<String> street = DirectMetaProperty.ofImmutable(
-                this, "street", ImmAddress.class, String.class);
+                this, "street", ImmAddress.class, String.class, 1);
         /**
          * The meta-property for the {@code city} property.
          */
         private final MetaProperty<String> city = DirectMetaProperty.ofImmutable(
-                this, "city", ImmAddress.class, String.class);
+                this, "city", ImmAddress.class, String.class, 2);
         /**
          * The meta-property for the {@code abstractNumber} property.
          */
         private final MetaProperty<Number> abstractNumber = DirectMetaProperty.ofImmutable(
-                this, "abstractNumber", ImmAddress.class, Number.class);
+                this, "abstractNumber", ImmAddress.class, Number.class, 3);
         /**
          * The meta-property for the {@code data} property.
          */
         private final MetaProperty<byte[]> data = DirectMetaProperty.ofImmutable(
-                this, "data", ImmAddress.class, byte[].class);
+                this, "data", ImmAddress.class, byte[].class, 4);
         /**
          * The meta-property for the {@code array2d} property.
          */
         private final MetaProperty<String[][]> array2d = DirectMetaProperty.ofImmutable(
-                this, "array2d", ImmAddress.class, String[][].class);
+                this, "array2d", ImmAddress.class, String[][].class, 5);
         /**
          * The meta-property for the {@code owner} property.
          */
         private final MetaProperty<ImmPerson> owner = DirectMetaProperty.ofImmutable(
-                this, "owner", ImmAddress.class, ImmPerson.class);
+                this, "owner", ImmAddress.class, ImmPerson.class, 6);
         /**
          * The meta-property for the {@code object1} property.
          */
         private final MetaProperty<Object> object1 = DirectMetaProperty.ofImmutable(
-                this, "object1", ImmAddress.class, Object.class);
+                this, "object1", ImmAddress.class, Object.class, 7);
         /**
          * The meta-property for the {@code object2} property.
          */
         private final MetaProperty<Object> object2 = DirectMetaProperty.ofImmutable(
-                this, "object2", ImmAddress.class, Object.class);
+                this, "object2", ImmAddress.class, Object.class, 8);
         /**
          * The meta-property for the {@code risk} property.
          */
         private final MetaProperty<Risk> risk = DirectMetaProperty.ofImmutable(
-                this, "risk", ImmAddress.class, Risk.class);
+                this, "risk", ImmAddress.class, Risk.class, 9);
         /**
          * The meta-property for the {@code riskLevel} property.
          */
         private final MetaProperty<RiskLevel> riskLevel = DirectMetaProperty.ofImmutable(
-                this, "riskLevel", ImmAddress.class, RiskLevel.class);
+                this, "riskLevel", ImmAddress.class, RiskLevel.class, 10);
         /**
          * The meta-property for the {@code riskLevels} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<EnumSet<RiskLevel>> riskLevels = DirectMetaProperty.ofImmutable(
-                this, "riskLevels", ImmAddress.class, (Class) EnumSet.class);
+                this, "riskLevels", ImmAddress.class, (Class) EnumSet.class, 11);
         /**
          * The meta-property for the {@code serializable} property.
          */
         private final MetaProperty<Serializable> serializable = DirectMetaProperty.ofImmutable(
-                this, "serializable", ImmAddress.class, Serializable.class);
+                this, "serializable", ImmAddress.class, Serializable.class, 12);
         /**
          * The meta-property for the {@code objectInMap} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<ImmutableMap<String, Object>> objectInMap = DirectMetaProperty.ofImmutable(
-                this, "objectInMap", ImmAddress.class, (Class) ImmutableMap.class);
+                this, "objectInMap", ImmAddress.class, (Class) ImmutableMap.class, 13);
         /**
          * The meta-property for the {@code listInMap} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<ImmutableMap<String, List<String>>> listInMap = DirectMetaProperty.ofImmutable(
-                this, "listInMap", ImmAddress.class, (Class) ImmutableMap.class);
+                this, "listInMap", ImmAddress.class, (Class) ImmutableMap.class, 14);
         /**
          * The meta-property for the {@code listNumericInMap} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<ImmutableMap<String, List<Integer>>> listNumericInMap = DirectMetaProperty.ofImmutable(
-                this, "listNumericInMap", ImmAddress.class, (Class) ImmutableMap.class);
+                this, "listNumericInMap", ImmAddress.class, (Class) ImmutableMap.class, 15);
         /**
          * The meta-property for the {@code listInListInMap} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<ImmutableMap<String, List<List<Integer>>>> listInListInMap = DirectMetaProperty.ofImmutable(
-                this, "listInListInMap", ImmAddress.class, (Class) ImmutableMap.class);
+                this, "listInListInMap", ImmAddress.class, (Class) ImmutableMap.class, 16);
         /**
          * The meta-property for the {@code objectListInListInMap} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<ImmutableMap<String, List<List<Object>>>> objectListInListInMap = DirectMetaProperty.ofImmutable(
-                this, "objectListInListInMap", ImmAddress.class, (Class) ImmutableMap.class);
+                this, "objectListInListInMap", ImmAddress.class, (Class) ImmutableMap.class, 17);
         /**
          * The meta-property for the {@code mapInMap} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<ImmutableMap<ImmPerson, Map<String, ImmPerson>>> mapInMap = DirectMetaProperty.ofImmutable(
-                this, "mapInMap", ImmAddress.class, (Class) ImmutableMap.class);
+                this, "mapInMap", ImmAddress.class, (Class) ImmutableMap.class, 18);
         /**
          * The meta-property for the {@code simpleTable} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<ImmutableTable<Integer, Integer, String>> simpleTable = DirectMetaProperty.ofImmutable(
-                this, "simpleTable", ImmAddress.class, (Class) ImmutableTable.class);
+                this, "simpleTable", ImmAddress.class, (Class) ImmutableTable.class, 19);
         /**
          * The meta-property for the {@code compoundTable} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<ImmutableTable<Integer, Integer, ImmPerson>> compoundTable = DirectMetaProperty.ofImmutable(
-                this, "compoundTable", ImmAddress.class, (Class) ImmutableTable.class);
+                this, "compoundTable", ImmAddress.class, (Class) ImmutableTable.class, 20);
         /**
          * The meta-property for the {@code sparseGrid} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<ImmutableGrid<ImmPerson>> sparseGrid = DirectMetaProperty.ofImmutable(
-                this, "sparseGrid", ImmAddress.class, (Class) ImmutableGrid.class);
+                this, "sparseGrid", ImmAddress.class, (Class) ImmutableGrid.class, 21);
         /**
          * The meta-property for the {@code denseGrid} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<ImmutableGrid<ImmPerson>> denseGrid = DirectMetaProperty.ofImmutable(
-                this, "denseGrid", ImmAddress.class, (Class) ImmutableGrid.class);
+                this, "denseGrid", ImmAddress.class, (Class) ImmutableGrid.class, 22);
         /**
          * The meta-property for the {@code beanBeanMap} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<ImmutableMap<ImmPerson, ImmAddress>> beanBeanMap = DirectMetaProperty.ofImmutable(
-                this, "beanBeanMap", ImmAddress.class, (Class) ImmutableMap.class);
+                this, "beanBeanMap", ImmAddress.class, (Class) ImmutableMap.class, 23);
         /**
          * The meta-properties.
          */
@@ -1104,6 +1104,70 @@ public final class ImmAddress implements ImmutableBean, Serializable {
             throw new UnsupportedOperationException("Property cannot be written: " + propertyName);
         }
 
+        @Override
+        protected Object propertyGet(Bean bean, int propertyIndex) {
+            switch (propertyIndex) {
+                case 0:  // number
+                    return ((ImmAddress) bean).getNumber();
+                case 1:  // street
+                    return ((ImmAddress) bean).getStreet();
+                case 2:  // city
+                    return ((ImmAddress) bean).getCity();
+                case 3:  // abstractNumber
+                    return ((ImmAddress) bean).getAbstractNumber();
+                case 4:  // data
+                    return ((ImmAddress) bean).getData();
+                case 5:  // array2d
+                    return ((ImmAddress) bean).getArray2d();
+                case 6:  // owner
+                    return ((ImmAddress) bean).getOwner();
+                case 7:  // object1
+                    return ((ImmAddress) bean).getObject1();
+                case 8:  // object2
+                    return ((ImmAddress) bean).getObject2();
+                case 9:  // risk
+                    return ((ImmAddress) bean).getRisk();
+                case 10:  // riskLevel
+                    return ((ImmAddress) bean).getRiskLevel();
+                case 11:  // riskLevels
+                    return ((ImmAddress) bean).getRiskLevels();
+                case 12:  // serializable
+                    return ((ImmAddress) bean).getSerializable();
+                case 13:  // objectInMap
+                    return ((ImmAddress) bean).getObjectInMap();
+                case 14:  // listInMap
+                    return ((ImmAddress) bean).getListInMap();
+                case 15:  // listNumericInMap
+                    return ((ImmAddress) bean).getListNumericInMap();
+                case 16:  // listInListInMap
+                    return ((ImmAddress) bean).getListInListInMap();
+                case 17:  // objectListInListInMap
+                    return ((ImmAddress) bean).getObjectListInListInMap();
+                case 18:  // mapInMap
+                    return ((ImmAddress) bean).getMapInMap();
+                case 19:  // simpleTable
+                    return ((ImmAddress) bean).getSimpleTable();
+                case 20:  // compoundTable
+                    return ((ImmAddress) bean).getCompoundTable();
+                case 21:  // sparseGrid
+                    return ((ImmAddress) bean).getSparseGrid();
+                case 22:  // denseGrid
+                    return ((ImmAddress) bean).getDenseGrid();
+                case 23:  // beanBeanMap
+                    return ((ImmAddress) bean).getBeanBeanMap();
+            }
+            throw new NoSuchElementException("Unknown property index: " + propertyIndex);
+        }
+
+        @Override
+        protected int propertyGetInt(Bean bean, int propertyIndex) {
+            switch (propertyIndex) {
+                case 0:  // number
+                    return ((ImmAddress) bean).getNumber();
+            }
+            throw new NoSuchElementException("Unknown property index: " + propertyIndex);
+        }
+
     }
 
     //-----------------------------------------------------------------------
@@ -1313,6 +1377,89 @@ public final class ImmAddress implements ImmutableBean, Serializable {
             return this;
         }
 
+        @SuppressWarnings("unchecked")
+        @Override
+        protected boolean setByIndex(DirectMetaProperty<?> metaProperty, Object newValue) {
+            if (metaProperty.declaringType() != ImmAddress.class) {
+                return super.setByIndex(metaProperty, newValue);
+            }
+            switch (metaProperty.index()) {
+                case 0:  // number
+                    this.number = (Integer) newValue;
+                    return true;
+                case 1:  // street
+                    this.street = (String) newValue;
+                    return true;
+                case 2:  // city
+                    this.city = (String) newValue;
+                    return true;
+                case 3:  // abstractNumber
+                    this.abstractNumber = (Number) newValue;
+                    return true;
+                case 4:  // data
+                    this.data = (byte[]) newValue;
+                    return true;
+                case 5:  // array2d
+                    this.array2d = (String[][]) newValue;
+                    return true;
+                case 6:  // owner
+                    this.owner = (ImmPerson) newValue;
+                    return true;
+                case 7:  // object1
+                    this.object1 = newValue;
+                    return true;
+                case 8:  // object2
+                    this.object2 = newValue;
+                    return true;
+                case 9:  // risk
+                    this.risk = (Risk) newValue;
+                    return true;
+                case 10:  // riskLevel
+                    this.riskLevel = (RiskLevel) newValue;
+                    return true;
+                case 11:  // riskLevels
+                    this.riskLevels = (Set<RiskLevel>) newValue;
+                    return true;
+                case 12:  // serializable
+                    this.serializable = (Serializable) newValue;
+                    return true;
+                case 13:  // objectInMap
+                    this.objectInMap = (Map<String, Object>) newValue;
+                    return true;
+                case 14:  // listInMap
+                    this.listInMap = (Map<String, List<String>>) newValue;
+                    return true;
+                case 15:  // listNumericInMap
+                    this.listNumericInMap = (Map<String, List<Integer>>) newValue;
+                    return true;
+                case 16:  // listInListInMap
+                    this.listInListInMap = (Map<String, List<List<Integer>>>) newValue;
+                    return true;
+                case 17:  // objectListInListInMap
+                    this.objectListInListInMap = (Map<String, List<List<Object>>>) newValue;
+                    return true;
+                case 18:  // mapInMap
+                    this.mapInMap = (Map<ImmPerson, Map<String, ImmPerson>>) newValue;
+                    return true;
+                case 19:  // simpleTable
+                    this.simpleTable = (Table<Integer, Integer, String>) newValue;
+                    return true;
+                case 20:  // compoundTable
+                    this.compoundTable = (Table<Integer, Integer, ImmPerson>) newValue;
+                    return true;
+                case 21:  // sparseGrid
+                    this.sparseGrid = (Grid<ImmPerson>) newValue;
+                    return true;
+                case 22:  // denseGrid
+                    this.denseGrid = (Grid<ImmPerson>) newValue;
+                    return true;
+                case 23:  // beanBeanMap
+                    this.beanBeanMap = (Map<ImmPerson, ImmAddress>) newValue;
+                    return true;
+            }
+            return false;
+        }
+
         @Override
         public Builder set(MetaProperty<?> property, Object value) {
             super.set(property, value);
@@ -270,42 +270,42 @@ public final class ImmClone implements ImmutableBean, Serializable{
          * The meta-property for the {@code date} property.
          */
         private final MetaProperty<Date> date = DirectMetaProperty.ofImmutable(
-                this, "date", ImmClone.class, Date.class);
+                this, "date", ImmClone.class, Date.class, 0);
         /**
          * The meta-property for the {@code array1} property.
          */
         private final MetaProperty<String[]> array1 = DirectMetaProperty.ofImmutable(
-                this, "array1", ImmClone.class, String[].class);
+                this, "array1", ImmClone.class, String[].class, 1);
         /**
          * The meta-property for the {@code array2} property.
          */
         private final MetaProperty<String[]> array2 = DirectMetaProperty.ofImmutable(
-                this, "array2", ImmClone.class, String[].class);
+                this, "array2", ImmClone.class, String[].class, 2);
         /**
          * The meta-property for the {@code array3} property.
          */
         private final MetaProperty<String[]> array3 = DirectMetaProperty.ofImmutable(
-                this, "array3", ImmClone.class, String[].class);
+                this, "array3", ImmClone.class, String[].class, 3);
         /**
          * The meta-property for the {@code dateNullable} property.
          */
         private final MetaProperty<Date> dateNullable = DirectMetaProperty.ofImmutable(
-                this, "dateNullable", ImmClone.class, Date.class);
+                this, "dateNullable", ImmClone.class, Date.class, 4);
         /**
          * The meta-property for the {@code array1Nullable} property.
          */
         private final MetaProperty<String[]> array1Nullable = DirectMetaProperty.ofImmutable(
-                this, "array1Nullable", ImmClone.class, String[].class);
+                this, "array1Nullable", ImmClone.class, String[].class, 5);
         /**
          * The meta-property for the {@code array2Nullable} property.
          */
         private final MetaProperty<String[]> array2Nullable = DirectMetaProperty.ofImmutable(
-                this, "array2Nullable", ImmClone.class, String[].class);
+                this, "array2Nullable", ImmClone.class, String[].class, 6);
         /**
          * The meta-property for the {@code array3Nullable} property.
          */
         private final MetaProperty<String[]> array3Nullable = DirectMetaProperty.ofImmutable(
-                this, "array3Nullable", ImmClone.class, String[].class);
+                this, "array3Nullable", ImmClone.class, String[].class, 7);
         /**
          * The meta-properties.
          */
@@ -462,6 +462,29 @@ public final class ImmClone implements ImmutableBean, Serializable{
             throw new UnsupportedOperationException("Property cannot be written: " + propertyName);
         }
 
+        @Override
+        protected Object propertyGet(Bean bean, int propertyIndex) {
+            switch (propertyIndex) {
+                case 0:  // date
+                    return ((ImmClone) bean).getDate();
+                case 1:  // array1
+                    return ((ImmClone) bean).getArray1();
+                case 2:  // array2
+                    return ((ImmClone) bean).getArray2();
+                case 3:  // array3
+                    return ((ImmClone) bean).getArray3();
+                case 4:  // dateNullable
+                    return ((ImmClone) bean).getDateNullable();
+                case 5:  // array1Nullable
+                    return ((ImmClone) bean).getArray1Nullable();
+                case 6:  // array2Nullable
+                    return ((ImmClone) bean).getArray2Nullable();
+                case 7:  // array3Nullable
+                    return ((ImmClone) bean).getArray3Nullable();
+            }
+            throw new NoSuchElementException("Unknown property index: " + propertyIndex);
+        }
+
     }
 
     //-----------------------------------------------------------------------
@@ -558,6 +581,40 @@ public final class ImmClone implements ImmutableBean, Serializable{
             return this;
         }
 
+        @Override
+        protected boolean setByIndex(DirectMetaProperty<?> metaProperty, Object newValue) {
+            if (metaProperty.declaringType() != ImmClone.class) {
+                return super.setByIndex(metaProperty, newValue);
+            }
+            switch (metaProperty.index()) {
+                case 0:  // date
+                    this.date = (Date) newValue;
+                    return true;
+                case 1:  // array1
+                    this.array1 = (String[]) newValue;
+                    return true;
+                case 2:  // array2
+                    this.array2 = (String[]) newValue;
+                    return true;
+                case 3:  // array3
+                    this.array3 = (String[]) newValue;
+                    return true;
+                case 4:  // dateNullable
+                    this.dateNullable = (Date) newValue;
+                    return true;
+                case 5:  // array1Nullable
+                    this.array1Nullable = (String[]) newValue;
+                    return true;
+                case 6:  // array2Nullable
+                    this.array2Nullable = (String[]) newValue;
+                    return true;
+                case 7:  // array3Nullable
+                    this.array3Nullable = (String[]) newValue;
+                    return true;
+            }
+            return false;
+        }
+
         @Override
         public Builder set(MetaProperty<?> property, Object value) {
             super.set(property, value);
@@ -170,7 +170,7 @@ public final class ImmDocumentationHolder<T>
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<Documentation<T>> documentation = DirectMetaProperty.ofImmutable(
-                this, "documentation", ImmDocumentationHolder.class, (Class) Documentation.class);
+                this, "documentation", ImmDocumentationHolder.class, (Class) Documentation.class, 0);
         /**
          * The meta-properties.
          */
@@ -237,6 +237,15 @@ public final class ImmDocumentationHolder<T>
             throw new UnsupportedOperationException("Property cannot be written: " + propertyName);
         }
 
+        @Override
+        protected Object propertyGet(Bean bean, int propertyIndex) {
+            switch (propertyIndex) {
+                case 0:  // documentation
+                    return ((ImmDocumentationHolder<?>) bean).getDocumentation();
+            }
+            throw new NoSuchElementException("Unknown property index: " + propertyIndex);
+        }
+
     }
 
     //-----------------------------------------------------------------------
@@ -286,6 +295,20 @@ public final class ImmDocumentationHolder<T>
             return this;
         }
 
+        @SuppressWarnings("unchecked")
+        @Override
+        protected boolean setByIndex(DirectMetaProperty<?> metaProperty, Object newValue) {
+            if (metaProperty.declaringType() != ImmDocumentationHolder.class) {
+                return super.setByIndex(metaProperty, newValue);
+            }
+            switch (metaProperty.index()) {
+                case 0:  // documentation
+                    this.documentation = (Documentation<T>) newValue;
+                    return true;
+            }
+            return false;
+        }
+
         @Override
         public Builder<T> set(MetaProperty<?> property, Object value) {
             super.set(property, value);
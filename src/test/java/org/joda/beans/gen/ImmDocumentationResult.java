@@ -164,7 +164,7 @@ public final class ImmDocumentationResult<T> implements ImmutableBean {
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<Documentation<T>> documentation = DirectMetaProperty.ofImmutable(
-                this, "documentation", ImmDocumentationResult.class, (Class) Documentation.class);
+                this, "documentation", ImmDocumentationResult.class, (Class) Documentation.class, 0);
         /**
          * The meta-properties.
          */
@@ -233,6 +233,15 @@ public final class ImmDocumentationResult<T> implements ImmutableBean {
             throw new UnsupportedOperationException("Property cannot be written: " + propertyName);
         }
 
+        @Override
+        protected Object propertyGet(Bean bean, int propertyIndex) {
+            switch (propertyIndex) {
+                case 0:  // documentation
+                    return ((ImmDocumentationResult<?>) bean).getDocumentation();
+            }
+            throw new NoSuchElementException("Unknown property index: " + propertyIndex);
+        }
+
     }
 
     //-----------------------------------------------------------------------
@@ -284,6 +293,20 @@ public final class ImmDocumentationResult<T> implements ImmutableBean {
             return this;
         }
 
+        @SuppressWarnings("unchecked")
+        @Override
+        protected boolean setByIndex(DirectMetaProperty<?> metaProperty, Object newValue) {
+            if (metaProperty.declaringType() != ImmDocumentationResult.class) {
+                return super.setByIndex(metaProperty, newValue);
+            }
+            switch (metaProperty.index()) {
+                case 0:  // documentation
+                    this.documentation = (Documentation<T>) newValue;
+                    return true;
+            }
+            return false;
+        }
+
         @Override
         public Builder<T> set(MetaProperty<?> property, Object value) {
             super.set(property, value);
@@ -158,7 +158,7 @@ public final class ImmFieldGetter<T> implements ImmutableBean {
          * The meta-property for the {@code value} property.
          */
         private final MetaProperty<String> value = DirectMetaProperty.ofImmutable(
-                this, "value", ImmFieldGetter.class, String.class);
+                this, "value", ImmFieldGetter.class, String.class, 0);
         /**
          * The meta-properties.
          */
@@ -225,6 +225,15 @@ public final class ImmFieldGetter<T> implements ImmutableBean {
             throw new UnsupportedOperationException("Property cannot be written: " + propertyName);
         }
 
+        @Override
+        protected Object propertyGet(Bean bean, int propertyIndex) {
+            switch (propertyIndex) {
+                case 0:  // value
+                    return ((ImmFieldGetter<?>) bean).value;
+            }
+            throw new NoSuchElementException("Unknown property index: " + propertyIndex);
+        }
+
     }
 
     //-----------------------------------------------------------------------
@@ -273,6 +282,19 @@ public final class ImmFieldGetter<T> implements ImmutableBean {
             return this;
         }
 
+        @Override
+        protected boolean setByIndex(DirectMetaProperty<?> metaProperty, Object newValue) {
+            if (metaProperty.declaringType() != ImmFieldGetter.class) {
+                return super.setByIndex(metaProperty, newValue);
+            }
+            switch (metaProperty.index()) {
+                case 0:  // value
+                    this.value = (String) newValue;
+                    return true;
+            }
+            return false;
+        }
+
         @Override
         public Builder<T> set(MetaProperty<?> property, Object value) {
             super.set(property, value);
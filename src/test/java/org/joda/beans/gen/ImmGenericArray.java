@@ -147,7 +147,7 @@ public final class ImmGenericArray<T extends Address> implements ImmutableBean {
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<T[]> values = (DirectMetaProperty) DirectMetaProperty.ofImmutable(
-                this, "values", ImmGenericArray.class, Object[].class);
+                this, "values", ImmGenericArray.class, Object[].class, 0);
         /**
          * The meta-properties.
          */
@@ -214,6 +214,15 @@ public final class ImmGenericArray<T extends Address> implements ImmutableBean {
             throw new UnsupportedOperationException("Property cannot be written: " + propertyName);
         }
 
+        @Override
+        protected Object propertyGet(Bean bean, int propertyIndex) {
+            switch (propertyIndex) {
+                case 0:  // values
+                    return ((ImmGenericArray<?>) bean).getValues();
+            }
+            throw new NoSuchElementException("Unknown property index: " + propertyIndex);
+        }
+
     }
 
     //-----------------------------------------------------------------------
@@ -255,6 +264,20 @@ public final class ImmGenericArray<T extends Address> implements ImmutableBean {
             return this;
         }
 
+        @SuppressWarnings("unchecked")
+        @Override
+        protected boolean setByIndex(DirectMetaProperty<?> metaProperty, Object newValue) {
+            if (metaProperty.declaringType() != ImmGenericArray.class) {
+                return super.setByIndex(metaProperty, newValue);
+            }
+            switch (metaProperty.index()) {
+                case 0:  // values
+                    this.values = (T[]) newValue;
+                    return true;
+            }
+            return false;
+        }
+
         @Override
         public Builder<T> set(MetaProperty<?> property, Object value) {
             super.set(property, value);
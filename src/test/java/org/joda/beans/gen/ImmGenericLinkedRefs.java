@@ -168,7 +168,7 @@ public final class ImmGenericLinkedRefs<A, B extends Comparable<A>> implements I
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<A> value = (DirectMetaProperty) DirectMetaProperty.ofImmutable(
-                this, "value", ImmGenericLinkedRefs.class, Object.class);
+                this, "value", ImmGenericLinkedRefs.class, Object.class, 0);
         /**
          * The meta-properties.
          */
@@ -235,6 +235,15 @@ public final class ImmGenericLinkedRefs<A, B extends Comparable<A>> implements I
             throw new UnsupportedOperationException("Property cannot be written: " + propertyName);
         }
 
+        @Override
+        protected Object propertyGet(Bean bean, int propertyIndex) {
+            switch (propertyIndex) {
+                case 0:  // value
+                    return ((ImmGenericLinkedRefs<?, ?>) bean).getValue();
+            }
+            throw new NoSuchElementException("Unknown property index: " + propertyIndex);
+        }
+
     }
 
     //-----------------------------------------------------------------------
@@ -285,6 +294,20 @@ public final class ImmGenericLinkedRefs<A, B extends Comparable<A>> implements I
             return this;
         }
 
+        @SuppressWarnings("unchecked")
+        @Override
+        protected boolean setByIndex(DirectMetaProperty<?> metaProperty, Object newValue) {
+            if (metaProperty.declaringType() != ImmGenericLinkedRefs.class) {
+                return super.setByIndex(metaProperty, newValue);
+            }
+            switch (metaProperty.index()) {
+                case 0:  // value
+                    this.value = (A) newValue;
+                    return true;
+            }
+            return false;
+        }
+
         @Override
         public Builder<A, B> set(MetaProperty<?> property, Object value) {
             super.set(property, value);
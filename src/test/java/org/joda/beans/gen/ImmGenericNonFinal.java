@@ -174,7 +174,7 @@ public class ImmGenericNonFinal<T extends Address> implements ImmutableBean {
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<T> value = (DirectMetaProperty) DirectMetaProperty.ofImmutable(
-                this, "value", ImmGenericNonFinal.class, Object.class);
+                this, "value", ImmGenericNonFinal.class, Object.class, 0);
         /**
          * The meta-properties.
          */
@@ -241,6 +241,15 @@ public class ImmGenericNonFinal<T extends Address> implements ImmutableBean {
             throw new UnsupportedOperationException("Property cannot be written: " + propertyName);
         }
 
+        @Override
+        protected Object propertyGet(Bean bean, int propertyIndex) {
+            switch (propertyIndex) {
+                case 0:  // value
+                    return ((ImmGenericNonFinal<?>) bean).getValue();
+            }
+            throw new NoSuchElementException("Unknown property index: " + propertyIndex);
+        }
+
     }
 
     //-----------------------------------------------------------------------
@@ -290,6 +299,20 @@ public class ImmGenericNonFinal<T extends Address> implements ImmutableBean {
             return this;
         }
 
+        @SuppressWarnings("unchecked")
+        @Override
+        protected boolean setByIndex(DirectMetaProperty<?> metaProperty, Object newValue) {
+            if (metaProperty.declaringType() != ImmGenericNonFinal.class) {
+                return super.setByIndex(metaProperty, newValue);
+            }
+            switch (metaProperty.index()) {
+                case 0:  // value
+                    this.value = (T) newValue;
+                    return true;
+            }
+            return false;
+        }
+
         @Override
         public Builder<T> set(MetaProperty<?> property, Object value) {
             super.set(property, value);
@@ -781,199 +781,199 @@ public final class ImmGuava<T extends Comparable<T>> implements ImmutableBean {
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<ImmutableCollection<T>> collection = DirectMetaProperty.ofImmutable(
-                this, "collection", ImmGuava.class, (Class) ImmutableCollection.class);
+                this, "collection", ImmGuava.class, (Class) ImmutableCollection.class, 0);
         /**
          * The meta-property for the {@code list} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<ImmutableList<T>> list = DirectMetaProperty.ofImmutable(
-                this, "list", ImmGuava.class, (Class) ImmutableList.class);
+                this, "list", ImmGuava.class, (Class) ImmutableList.class, 1);
         /**
          * The meta-property for the {@code set} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<ImmutableSet<T>> set = DirectMetaProperty.ofImmutable(
-                this, "set", ImmGuava.class, (Class) ImmutableSet.class);
+                this, "set", ImmGuava.class, (Class) ImmutableSet.class, 2);
         /**
          * The meta-property for the {@code sortedSet} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<ImmutableSortedSet<T>> sortedSet = DirectMetaProperty.ofImmutable(
-                this, "sortedSet", ImmGuava.class, (Class) ImmutableSortedSet.class);
+                this, "sortedSet", ImmGuava.class, (Class) ImmutableSortedSet.class, 3);
         /**
          * The meta-property for the {@code map} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<ImmutableMap<T, String>> map = DirectMetaProperty.ofImmutable(
-                this, "map", ImmGuava.class, (Class) ImmutableMap.class);
+                this, "map", ImmGuava.class, (Class) ImmutableMap.class, 4);
         /**
          * The meta-property for the {@code sortedMap} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<ImmutableSortedMap<T, String>> sortedMap = DirectMetaProperty.ofImmutable(
-                this, "sortedMap", ImmGuava.class, (Class) ImmutableSortedMap.class);
+                this, "sortedMap", ImmGuava.class, (Class) ImmutableSortedMap.class, 5);
         /**
          * The meta-property for the {@code biMap} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<ImmutableBiMap<T, String>> biMap = DirectMetaProperty.ofImmutable(
-                this, "biMap", ImmGuava.class, (Class) ImmutableBiMap.class);
+                this, "biMap", ImmGuava.class, (Class) ImmutableBiMap.class, 6);
         /**
          * The meta-property for the {@code multimap} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<ImmutableMultimap<T, String>> multimap = DirectMetaProperty.ofImmutable(
-                this, "multimap", ImmGuava.class, (Class) ImmutableMultimap.class);
+                this, "multimap", ImmGuava.class, (Class) ImmutableMultimap.class, 7);
         /**
          * The meta-property for the {@code listMultimap} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<ImmutableListMultimap<T, String>> listMultimap = DirectMetaProperty.ofImmutable(
-                this, "listMultimap", ImmGuava.class, (Class) ImmutableListMultimap.class);
+                this, "listMultimap", ImmGuava.class, (Class) ImmutableListMultimap.class, 8);
         /**
          * The meta-property for the {@code setMultimap} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<ImmutableSetMultimap<T, String>> setMultimap = DirectMetaProperty.ofImmutable(
-                this, "setMultimap", ImmGuava.class, (Class) ImmutableSetMultimap.class);
+                this, "setMultimap", ImmGuava.class, (Class) ImmutableSetMultimap.class, 9);
         /**
          * The meta-property for the {@code multiset} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<ImmutableMultiset<T>> multiset = DirectMetaProperty.ofImmutable(
-                this, "multiset", ImmGuava.class, (Class) ImmutableMultiset.class);
+                this, "multiset", ImmGuava.class, (Class) ImmutableMultiset.class, 10);
         /**
          * The meta-property for the {@code sortedMultiset} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<ImmutableSortedMultiset<T>> sortedMultiset = DirectMetaProperty.ofImmutable(
-                this, "sortedMultiset", ImmGuava.class, (Class) ImmutableSortedMultiset.class);
+                this, "sortedMultiset", ImmGuava.class, (Class) ImmutableSortedMultiset.class, 11);
         /**
          * The meta-property for the {@code collectionInterface} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<Collection<T>> collectionInterface = DirectMetaProperty.ofImmutable(
-                this, "collectionInterface", ImmGuava.class, (Class) Collection.class);
+                this, "collectionInterface", ImmGuava.class, (Class) Collection.class, 12);
         /**
          * The meta-property for the {@code listInterface} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<List<T>> listInterface = DirectMetaProperty.ofImmutable(
-                this, "listInterface", ImmGuava.class, (Class) List.class);
+                this, "listInterface", ImmGuava.class, (Class) List.class, 13);
         /**
          * The meta-property for the {@code setInterface} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<Set<T>> setInterface = DirectMetaProperty.ofImmutable(
-                this, "setInterface", ImmGuava.class, (Class) Set.class);
+                this, "setInterface", ImmGuava.class, (Class) Set.class, 14);
         /**
          * The meta-property for the {@code sortedSetInterface} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<SortedSet<T>> sortedSetInterface = DirectMetaProperty.ofImmutable(
-                this, "sortedSetInterface", ImmGuava.class, (Class) SortedSet.class);
+                this, "sortedSetInterface", ImmGuava.class, (Class) SortedSet.class, 15);
         /**
          * The meta-property for the {@code mapInterface} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<Map<T, String>> mapInterface = DirectMetaProperty.ofImmutable(
-                this, "mapInterface", ImmGuava.class, (Class) Map.class);
+                this, "mapInterface", ImmGuava.class, (Class) Map.class, 16);
         /**
          * The meta-property for the {@code sortedMapInterface} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<SortedMap<T, String>> sortedMapInterface = DirectMetaProperty.ofImmutable(
-                this, "sortedMapInterface", ImmGuava.class, (Class) SortedMap.class);
+                this, "sortedMapInterface", ImmGuava.class, (Class) SortedMap.class, 17);
         /**
          * The meta-property for the {@code biMapInterface} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<BiMap<T, String>> biMapInterface = DirectMetaProperty.ofImmutable(
-                this, "biMapInterface", ImmGuava.class, (Class) BiMap.class);
+                this, "biMapInterface", ImmGuava.class, (Class) BiMap.class, 18);
         /**
          * The meta-property for the {@code multimapInterface} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<Multimap<T, String>> multimapInterface = DirectMetaProperty.ofImmutable(
-                this, "multimapInterface", ImmGuava.class, (Class) Multimap.class);
+                this, "multimapInterface", ImmGuava.class, (Class) Multimap.class, 19);
         /**
          * The meta-property for the {@code listMultimapInterface} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<ListMultimap<T, String>> listMultimapInterface = DirectMetaProperty.ofImmutable(
-                this, "listMultimapInterface", ImmGuava.class, (Class) ListMultimap.class);
+                this, "listMultimapInterface", ImmGuava.class, (Class) ListMultimap.class, 20);
         /**
          * The meta-property for the {@code setMultimapInterface} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<SetMultimap<T, String>> setMultimapInterface = DirectMetaProperty.ofImmutable(
-                this, "setMultimapInterface", ImmGuava.class, (Class) SetMultimap.class);
+                this, "setMultimapInterface", ImmGuava.class, (Class) SetMultimap.class, 21);
         /**
          * The meta-property for the {@code multisetInterface} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<Multiset<T>> multisetInterface = DirectMetaProperty.ofImmutable(
-                this, "multisetInterface", ImmGuava.class, (Class) Multiset.class);
+                this, "multisetInterface", ImmGuava.class, (Class) Multiset.class, 22);
         /**
          * The meta-property for the {@code sortedMultisetInterface} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<SortedMultiset<T>> sortedMultisetInterface = DirectMetaProperty.ofImmutable(
-                this, "sortedMultisetInterface", ImmGuava.class, (Class) SortedMultiset.class);
+                this, "sortedMultisetInterface", ImmGuava.class, (Class) SortedMultiset.class, 23);
         /**
          * The meta-property for the {@code listWildExtendsT} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<ImmutableList<? extends T>> listWildExtendsT = DirectMetaProperty.ofImmutable(
-                this, "listWildExtendsT", ImmGuava.class, (Class) ImmutableList.class);
+                this, "listWildExtendsT", ImmGuava.class, (Class) ImmutableList.class, 24);
         /**
          * The meta-property for the {@code listWildExtendsNumber} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<ImmutableList<? extends Number>> listWildExtendsNumber = DirectMetaProperty.ofImmutable(
-                this, "listWildExtendsNumber", ImmGuava.class, (Class) ImmutableList.class);
+                this, "listWildExtendsNumber", ImmGuava.class, (Class) ImmutableList.class, 25);
         /**
          * The meta-property for the {@code listWildExtendsComparable} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<ImmutableList<? extends Comparable<?>>> listWildExtendsComparable = DirectMetaProperty.ofImmutable(
-                this, "listWildExtendsComparable", ImmGuava.class, (Class) ImmutableList.class);
+                this, "listWildExtendsComparable", ImmGuava.class, (Class) ImmutableList.class, 26);
         /**
          * The meta-property for the {@code setWildExtendsT} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<ImmutableSet<? extends T>> setWildExtendsT = DirectMetaProperty.ofImmutable(
-                this, "setWildExtendsT", ImmGuava.class, (Class) ImmutableSet.class);
+                this, "setWildExtendsT", ImmGuava.class, (Class) ImmutableSet.class, 27);
         /**
          * The meta-property for the {@code setWildExtendsNumber} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<ImmutableSet<? extends Number>> setWildExtendsNumber = DirectMetaProperty.ofImmutable(
-                this, "setWildExtendsNumber", ImmGuava.class, (Class) ImmutableSet.class);
+                this, "setWildExtendsNumber", ImmGuava.class, (Class) ImmutableSet.class, 28);
         /**
          * The meta-property for the {@code setWildExtendsComparable} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<ImmutableSet<? extends Comparable<?>>> setWildExtendsComparable = DirectMetaProperty.ofImmutable(
-                this, "setWildExtendsComparable", ImmGuava.class, (Class) ImmutableSet.class);
+                this, "setWildExtendsComparable", ImmGuava.class, (Class) ImmutableSet.class, 29);
         /**
          * The meta-property for the {@code listWildBuilder1} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<ImmutableList<Object>> listWildBuilder1 = DirectMetaProperty.ofImmutable(
-                this, "listWildBuilder1", ImmGuava.class, (Class) ImmutableList.class);
+                this, "listWildBuilder1", ImmGuava.class, (Class) ImmutableList.class, 30);
         /**
          * The meta-property for the {@code listWildBuilder2} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<ImmutableList<Address>> listWildBuilder2 = DirectMetaProperty.ofImmutable(
-                this, "listWildBuilder2", ImmGuava.class, (Class) ImmutableList.class);
+                this, "listWildBuilder2", ImmGuava.class, (Class) ImmutableList.class, 31);
         /**
          * The meta-property for the {@code mapWildBuilder1} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<ImmutableMap<String, Address>> mapWildBuilder1 = DirectMetaProperty.ofImmutable(
-                this, "mapWildBuilder1", ImmGuava.class, (Class) ImmutableMap.class);
+                this, "mapWildBuilder1", ImmGuava.class, (Class) ImmutableMap.class, 32);
         /**
          * The meta-properties.
          */
@@ -1456,6 +1456,79 @@ public final class ImmGuava<T extends Comparable<T>> implements ImmutableBean {
             throw new UnsupportedOperationException("Property cannot be written: " + propertyName);
         }
 
+        @Override
+        protected Object propertyGet(Bean bean, int propertyIndex) {
+            switch (propertyIndex) {
+                case 0:  // collection
+                    return ((ImmGuava<?>) bean).getCollection();
+                case 1:  // list
+                    return ((ImmGuava<?>) bean).getList();
+                case 2:  // set
+                    return ((ImmGuava<?>) bean).getSet();
+                case 3:  // sortedSet
+                    return ((ImmGuava<?>) bean).getSortedSet();
+                case 4:  // map
+                    return ((ImmGuava<?>) bean).getMap();
+                case 5:  // sortedMap
+                    return ((ImmGuava<?>) bean).getSortedMap();
+                case 6:  // biMap
+                    return ((ImmGuava<?>) bean).getBiMap();
+                case 7:  // multimap
+                    return ((ImmGuava<?>) bean).getMultimap();
+                case 8:  // listMultimap
+                    return ((ImmGuava<?>) bean).getListMultimap();
+                case 9:  // setMultimap
+                    return ((ImmGuava<?>) bean).getSetMultimap();
+                case 10:  // multiset
+                    return ((ImmGuava<?>) bean).getMultiset();
+                case 11:  // sortedMultiset
+                    return ((ImmGuava<?>) bean).getSortedMultiset();
+                case 12:  // collectionInterface
+                    return ((ImmGuava<?>) bean).getCollectionInterface();
+                case 13:  // listInterface
+                    return ((ImmGuava<?>) bean).getListInterface();
+                case 14:  // setInterface
+                    return ((ImmGuava<?>) bean).getSetInterface();
+                case 15:  // sortedSetInterface
+                    return ((ImmGuava<?>) bean).getSortedSetInterface();
+                case 16:  // mapInterface
+                    return ((ImmGuava<?>) bean).getMapInterface();
+                case 17:  // sortedMapInterface
+                    return ((ImmGuava<?>) bean).getSortedMapInterface();
+                case 18:  // biMapInterface
+                    return ((ImmGuava<?>) bean).getBiMapInterface();
+                case 19:  // multimapInterface
+                    return ((ImmGuava<?>) bean).getMultimapInterface();
+                case 20:  // listMultimapInterface
+                    return ((ImmGuava<?>) bean).getListMultimapInterface();
+                case 21:  // setMultimapInterface
+                    return ((ImmGuava<?>) bean).getSetMultimapInterface();
+                case 22:  // multisetInterface
+                    return ((ImmGuava<?>) bean).getMultisetInterface();
+                case 23:  // sortedMultisetInterface
+                    return ((ImmGuava<?>) bean).getSortedMultisetInterface();
+                case 24:  // listWildExtendsT
+                    return ((ImmGuava<?>) bean).getListWildExtendsT();
+                case 25:  // listWildExtendsNumber
+                    return ((ImmGuava<?>) bean).getListWildExtendsNumber();
+                case 26:  // listWildExtendsComparable
+                    return ((ImmGuava<?>) bean).getListWildExtendsComparable();
+                case 27:  // setWildExtendsT
+                    return ((ImmGuava<?>) bean).getSetWildExtendsT();
+                case 28:  // setWildExtendsNumber
+                    return ((ImmGuava<?>) bean).getSetWildExtendsNumber();
+                case 29:  // setWildExtendsComparable
+                    return ((ImmGuava<?>) bean).getSetWildExtendsComparable();
+                case 30:  // listWildBuilder1
+                    return ((ImmGuava<?>) bean).getListWildBuilder1();
+                case 31:  // listWildBuilder2
+                    return ((ImmGuava<?>) bean).getListWildBuilder2();
+                case 32:  // mapWildBuilder1
+                    return ((ImmGuava<?>) bean).getMapWildBuilder1();
+            }
+            throw new NoSuchElementException("Unknown property index: " + propertyIndex);
+        }
+
     }
 
     //-----------------------------------------------------------------------
@@ -1729,6 +1802,116 @@ public final class ImmGuava<T extends Comparable<T>> implements ImmutableBean {
             return this;
         }
 
+        @SuppressWarnings("unchecked")
+        @Override
+        protected boolean setByIndex(DirectMetaProperty<?> metaProperty, Object newValue) {
+            if (metaProperty.declaringType() != ImmGuava.class) {
+                return super.setByIndex(metaProperty, newValue);
+            }
+            switch (metaProperty.index()) {
+                case 0:  // collection
+                    this.collection = (Collection<T>) newValue;
+                    return true;
+                case 1:  // list
+                    this.list = (List<T>) newValue;
+                    return true;
+                case 2:  // set
+                    this.set = (Set<T>) newValue;
+                    return true;
+                case 3:  // sortedSet
+                    this.sortedSet = (SortedSet<T>) newValue;
+                    return true;
+                case 4:  // map
+                    this.map = (Map<T, String>) newValue;
+                    return true;
+                case 5:  // sortedMap
+                    this.sortedMap = (SortedMap<T, String>) newValue;
+                    return true;
+                case 6:  // biMap
+                    this.biMap = (BiMap<T, String>) newValue;
+                    return true;
+                case 7:  // multimap
+                    this.multimap = (Multimap<T, String>) newValue;
+                    return true;
+                case 8:  // listMultimap
+                    this.listMultimap = (ListMultimap<T, String>) newValue;
+                    return true;
+                case 9:  // setMultimap
+                    this.setMultimap = (SetMultimap<T, String>) newValue;
+                    return true;
+                case 10:  // multiset
+                    this.multiset = (Multiset<T>) newValue;
+                    return true;
+                case 11:  // sortedMultiset
+                    this.sortedMultiset = (SortedMultiset<T>) newValue;
+                    return true;
+                case 12:  // collectionInterface
+                    this.collectionInterface = (Collection<T>) newValue;
+                    return true;
+                case 13:  // listInterface
+                    this.listInterface = (List<T>) newValue;
+                    return true;
+                case 14:  // setInterface
+                    this.setInterface = (Set<T>) newValue;
+                    return true;
+                case 15:  // sortedSetInterface
+                    this.sortedSetInterface = (SortedSet<T>) newValue;
+                    return true;
+                case 16:  // mapInterface
+                    this.mapInterface = (Map<T, String>) newValue;
+                    return true;
+                case 17:  // sortedMapInterface
+                    this.sortedMapInterface = (SortedMap<T, String>) newValue;
+                    return true;
+                case 18:  // biMapInterface
+                    this.biMapInterface = (BiMap<T, String>) newValue;
+                    return true;
+                case 19:  // multimapInterface
+                    this.multimapInterface = (Multimap<T, String>) newValue;
+                    return true;
+                case 20:  // listMultimapInterface
+                    this.listMultimapInterface = (ListMultimap<T, String>) newValue;
+                    return true;
+                case 21:  // setMultimapInterface
+                    this.setMultimapInterface = (SetMultimap<T, String>) newValue;
+                    return true;
+                case 22:  // multisetInterface
+                    this.multisetInterface = (Multiset<T>) newValue;
+                    return true;
+                case 23:  // sortedMultisetInterface
+                    this.sortedMultisetInterface = (SortedMultiset<T>) newValue;
+                    return true;
+                case 24:  // listWildExtendsT
+                    this.listWildExtendsT = (List<? extends T>) newValue;
+                    return true;
+                case 25:  // listWildExtendsNumber
+                    this.listWildExtendsNumber = (List<? extends Number>) newValue;
+                    return true;
+                case 26:  // listWildExtendsComparable
+                    this.listWildExtendsComparable = (List<? extends Comparable<?>>) newValue;
+                    return true;
+                case 27:  // setWildExtendsT
+                    this.setWildExtendsT = (Set<? extends T>) newValue;
+                    return true;
+                case 28:  // setWildExtendsNumber
+                    this.setWildExtendsNumber = (Set<? extends Number>) newValue;
+                    return true;
+                case 29:  // setWildExtendsComparable
+                    this.setWildExtendsComparable = (Set<? extends Comparable<?>>) newValue;
+                    return true;
+                case 30:  // listWildBuilder1
+                    this.listWildBuilder1 = (List<?>) newValue;
+                    return true;
+                case 31:  // listWildBuilder2
+                    this.listWildBuilder2 = (List<? extends Address>) newValue;
+                    return true;
+                case 32:  // mapWildBuilder1
+                    this.mapWildBuilder1 = (Map<String, ? extends Address>) newValue;
+                    return true;
+            }
+            return false;
+        }
+
         @Override
         public Builder<T> set(MetaProperty<?> property, Object value) {
             super.set(property, value);
@@ -157,7 +157,7 @@ public final class ImmKey1 implements ImmutableBean, IKey, Serializable {
          * The meta-property for the {@code name} property.
          */
         private final MetaProperty<String> name = DirectMetaProperty.ofImmutable(
-                this, "name", ImmKey1.class, String.class);
+                this, "name", ImmKey1.class, String.class, 0);
         /**
          * The meta-properties.
          */
@@ -223,6 +223,15 @@ public final class ImmKey1 implements ImmutableBean, IKey, Serializable {
             throw new UnsupportedOperationException("Property cannot be written: " + propertyName);
         }
 
+        @Override
+        protected Object propertyGet(Bean bean, int propertyIndex) {
+            switch (propertyIndex) {
+                case 0:  // name
+                    return ((ImmKey1) bean).getName();
+            }
+            throw new NoSuchElementException("Unknown property index: " + propertyIndex);
+        }
+
     }
 
     //-----------------------------------------------------------------------
@@ -270,6 +279,19 @@ public final class ImmKey1 implements ImmutableBean, IKey, Serializable {
             return this;
         }
 
+        @Override
+        protected boolean setByIndex(DirectMetaProperty<?> metaProperty, Object newValue) {
+            if (metaProperty.declaringType() != ImmKey1.class) {
+                return super.setByIndex(metaProperty, newValue);
+            }
+            switch (metaProperty.index()) {
+                case 0:  // name
+                    this.name = (String) newValue;
+                    return true;
+            }
+            return false;
+        }
+
         @Override
         public Builder set(MetaProperty<?> property, Object value) {
             super.set(property, value);
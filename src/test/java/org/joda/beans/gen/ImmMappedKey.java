@@ -157,7 +157,7 @@ public final class ImmMappedKey implements ImmutableBean, Serializable {
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<ImmutableMap<IKey, Object>> data = DirectMetaProperty.ofImmutable(
-                this, "data", ImmMappedKey.class, (Class) ImmutableMap.class);
+                this, "data", ImmMappedKey.class, (Class) ImmutableMap.class, 0);
         /**
          * The meta-properties.
          */
@@ -223,6 +223,15 @@ public final class ImmMappedKey implements ImmutableBean, Serializable {
             throw new UnsupportedOperationException("Property cannot be written: " + propertyName);
         }
 
+        @Override
+        protected Object propertyGet(Bean bean, int propertyIndex) {
+            switch (propertyIndex) {
+                case 0:  // data
+                    return ((ImmMappedKey) bean).getData();
+            }
+            throw new NoSuchElementException("Unknown property index: " + propertyIndex);
+        }
+
     }
 
     //-----------------------------------------------------------------------
@@ -271,6 +280,20 @@ public final class ImmMappedKey implements ImmutableBean, Serializable {
             return this;
         }
 
+        @SuppressWarnings("unchecked")
+        @Override
+        protected boolean setByIndex(DirectMetaProperty<?> metaProperty, Object newValue) {
+            if (metaProperty.declaringType() != ImmMappedKey.class) {
+                return super.setByIndex(metaProperty, newValue);
+            }
+            switch (metaProperty.index()) {
+                case 0:  // data
+                    this.data = (Map<? extends IKey, ?>) newValue;
+                    return true;
+            }
+            return false;
+        }
+
         @Override
         public Builder set(MetaProperty<?> property, Object value) {
             super.set(property, value);
@@ -192,22 +192,22 @@ public final class ImmMinimal implements ImmutableBean {
          * The meta-property for the {@code number} property.
          */
         private final MetaProperty<Integer> number = DirectMetaProperty.ofImmutable(
-                this, "number", ImmMinimal.class, Integer.TYPE);
+                this, "number", ImmMinimal.class, Integer.TYPE, 0);
         /**
          * The meta-property for the {@code street} property.
          */
         private final MetaProperty<String> street = DirectMetaProperty.ofImmutable(
-                this, "street", ImmMinimal.class, String.class);
+                this, "street", ImmMinimal.class, String.class, 1);
         /**
          * The meta-property for the {@code city} property.
          */
         private final MetaProperty<String> city = DirectMetaProperty.ofImmutable(
-                this, "city", ImmMinimal.class, String.class);
+                this, "city", ImmMinimal.class, String.class, 2);
         /**
          * The meta-property for the {@code owner} property.
          */
         private final MetaProperty<ImmPerson> owner = DirectMetaProperty.ofImmutable(
-                this, "owner", ImmMinimal.class, ImmPerson.class);
+                this, "owner", ImmMinimal.class, ImmPerson.class, 3);
         /**
          * The meta-properties.
          */
@@ -279,6 +279,30 @@ public final class ImmMinimal implements ImmutableBean {
             throw new UnsupportedOperationException("Property cannot be written: " + propertyName);
         }
 
+        @Override
+        protected Object propertyGet(Bean bean, int propertyIndex) {
+            switch (propertyIndex) {
+                case 0:  // number
+                    return ((ImmMinimal) bean).getNumber();
+                case 1:  // street
+                    return ((ImmMinimal) bean).getStreet();
+                case 2:  // city
+                    return ((ImmMinimal) bean).getCity();
+                case 3:  // owner
+                    return ((ImmMinimal) bean).getOwner();
+            }
+            throw new NoSuchElementException("Unknown property index: " + propertyIndex);
+        }
+
+        @Override
+        protected int propertyGetInt(Bean bean, int propertyIndex) {
+            switch (propertyIndex) {
+                case 0:  // number
+                    return ((ImmMinimal) bean).getNumber();
+            }
+            throw new NoSuchElementException("Unknown property index: " + propertyIndex);
+        }
+
     }
 
     //-----------------------------------------------------------------------
@@ -336,6 +360,28 @@ public final class ImmMinimal implements ImmutableBean {
             return this;
         }
 
+        @Override
+        protected boolean setByIndex(DirectMetaProperty<?> metaProperty, Object newValue) {
+            if (metaProperty.declaringType() != ImmMinimal.class) {
+                return super.setByIndex(metaProperty, newValue);
+            }
+            switch (metaProperty.index()) {
+                case 0:  // number
+                    this.number = (Integer) newValue;
+                    return true;
+                case 1:  // street
+                    this.street = (String) newValue;
+                    return true;
+                case 2:  // city
+                    this.city = (String) newValue;
+                    return true;
+                case 3:  // owner
+                    this.owner = (ImmPerson) newValue;
+                    return true;
+            }
+            return false;
+        }
+
         @Override
         public Builder set(MetaProperty<?> property, Object value) {
             super.set(property, value);
@@ -195,22 +195,22 @@ public final class ImmMinimalMetaBuilder implements ImmutableBean {
          * The meta-property for the {@code number} property.
          */
         private final MetaProperty<Integer> number = DirectMetaProperty.ofImmutable(
-                this, "number", ImmMinimalMetaBuilder.class, Integer.TYPE);
+                this, "number", ImmMinimalMetaBuilder.class, Integer.TYPE, 0);
         /**
          * The meta-property for the {@code street} property.
          */
         private final MetaProperty<String> street = DirectMetaProperty.ofImmutable(
-                this, "street", ImmMinimalMetaBuilder.class, String.class);
+                this, "street", ImmMinimalMetaBuilder.class, String.class, 1);
         /**
          * The meta-property for the {@code city} property.
          */
         private final MetaProperty<String> city = DirectMetaProperty.ofImmutable(
-                this, "city", ImmMinimalMetaBuilder.class, String.class);
+                this, "city", ImmMinimalMetaBuilder.class, String.class, 2);
         /**
          * The meta-property for the {@code owner} property.
          */
         private final MetaProperty<ImmPerson> owner = DirectMetaProperty.ofImmutable(
-                this, "owner", ImmMinimalMetaBuilder.class, ImmPerson.class);
+                this, "owner", ImmMinimalMetaBuilder.class, ImmPerson.class, 3);
         /**
          * The meta-properties.
          */
@@ -282,6 +282,30 @@ public final class ImmMinimalMetaBuilder implements ImmutableBean {
             throw new UnsupportedOperationException("Property cannot be written: " + propertyName);
         }
 
+        @Override
+        protected Object propertyGet(Bean bean, int propertyIndex) {
+            switch (propertyIndex) {
+                case 0:  // number
+                    return ((ImmMinimalMetaBuilder) bean).getNumber();
+                case 1:  // street
+                    return ((ImmMinimalMetaBuilder) bean).getStreet();
+                case 2:  // city
+                    return ((ImmMinimalMetaBuilder) bean).getCity();
+                case 3:  // owner
+                    return ((ImmMinimalMetaBuilder) bean).getOwner();
+            }
+            throw new NoSuchElementException("Unknown property index: " + propertyIndex);
+        }
+
+        @Override
+        protected int propertyGetInt(Bean bean, int propertyIndex) {
+            switch (propertyIndex) {
+                case 0:  // number
+                    return ((ImmMinimalMetaBuilder) bean).getNumber();
+            }
+            throw new NoSuchElementException("Unknown property index: " + propertyIndex);
+        }
+
     }
 
     //-----------------------------------------------------------------------
@@ -339,6 +363,28 @@ public final class ImmMinimalMetaBuilder implements ImmutableBean {
             return this;
         }
 
+        @Override
+        protected boolean setByIndex(DirectMetaProperty<?> metaProperty, Object newValue) {
+            if (metaProperty.declaringType() != ImmMinimalMetaBuilder.class) {
+                return super.setByIndex(metaProperty, newValue);
+            }
+            switch (metaProperty.index()) {
+                case 0:  // number
+                    this.number = (Integer) newValue;
+                    return true;
+                case 1:  // street
+                    this.street = (String) newValue;
+                    return true;
+                case 2:  // city
+                    this.city = (String) newValue;
+                    return true;
+                case 3:  // owner
+                    this.owner = (ImmPerson) newValue;
+                    return true;
+            }
+            return false;
+        }
+
         @Override
         public Builder set(MetaProperty<?> property, Object value) {
             super.set(property, value);
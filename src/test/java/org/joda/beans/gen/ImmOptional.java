@@ -262,33 +262,33 @@ public final class ImmOptional implements ImmutableBean {
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<Optional<String>> optString = DirectMetaProperty.ofImmutable(
-                this, "optString", ImmOptional.class, (Class) Optional.class);
+                this, "optString", ImmOptional.class, (Class) Optional.class, 0);
         /**
          * The meta-property for the {@code optStringEmpty} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<Optional<String>> optStringEmpty = DirectMetaProperty.ofImmutable(
-                this, "optStringEmpty", ImmOptional.class, (Class) Optional.class);
+                this, "optStringEmpty", ImmOptional.class, (Class) Optional.class, 1);
         /**
          * The meta-property for the {@code optStringGetter} property.
          */
         private final MetaProperty<String> optStringGetter = DirectMetaProperty.ofImmutable(
-                this, "optStringGetter", ImmOptional.class, String.class);
+                this, "optStringGetter", ImmOptional.class, String.class, 2);
         /**
          * The meta-property for the {@code optLongGetter} property.
          */
         private final MetaProperty<Long> optLongGetter = DirectMetaProperty.ofImmutable(
-                this, "optLongGetter", ImmOptional.class, Long.class);
+                this, "optLongGetter", ImmOptional.class, Long.class, 3);
         /**
          * The meta-property for the {@code optIntGetter} property.
          */
         private final MetaProperty<Integer> optIntGetter = DirectMetaProperty.ofImmutable(
-                this, "optIntGetter", ImmOptional.class, Integer.class);
+                this, "optIntGetter", ImmOptional.class, Integer.class, 4);
         /**
          * The meta-property for the {@code optDoubleGetter} property.
          */
         private final MetaProperty<Double> optDoubleGetter = DirectMetaProperty.ofImmutable(
-                this, "optDoubleGetter", ImmOptional.class, Double.class);
+                this, "optDoubleGetter", ImmOptional.class, Double.class, 5);
         /**
          * The meta-properties.
          */
@@ -419,6 +419,25 @@ public final class ImmOptional implements ImmutableBean {
             throw new UnsupportedOperationException("Property cannot be written: " + propertyName);
         }
 
+        @Override
+        protected Object propertyGet(Bean bean, int propertyIndex) {
+            switch (propertyIndex) {
+                case 0:  // optString
+                    return ((ImmOptional) bean).getOptString();
+                case 1:  // optStringEmpty
+                    return ((ImmOptional) bean).getOptStringEmpty();
+                case 2:  // optStringGetter
+                    return ((ImmOptional) bean).optStringGetter;
+                case 3:  // optLongGetter
+                    return ((ImmOptional) bean).optLongGetter;
+                case 4:  // optIntGetter
+                    return ((ImmOptional) bean).optIntGetter;
+                case 5:  // optDoubleGetter
+                    return ((ImmOptional) bean).optDoubleGetter;
+            }
+            throw new NoSuchElementException("Unknown property index: " + propertyIndex);
+        }
+
     }
 
     //-----------------------------------------------------------------------
@@ -503,6 +522,35 @@ public final class ImmOptional implements ImmutableBean {
             return this;
         }
 
+        @SuppressWarnings("unchecked")
+        @Override
+        protected boolean setByIndex(DirectMetaProperty<?> metaProperty, Object newValue) {
+            if (metaProperty.declaringType() != ImmOptional.class) {
+                return super.setByIndex(metaProperty, newValue);
+            }
+            switch (metaProperty.index()) {
+                case 0:  // optString
+                    this.optString = (Optional<String>) newValue;
+                    return true;
+                case 1:  // optStringEmpty
+                    this.optStringEmpty = (Optional<String>) newValue;
+                    return true;
+                case 2:  // optStringGetter
+                    this.optStringGetter = (String) newValue;
+                    return true;
+                case 3:  // optLongGetter
+                    this.optLongGetter = (Long) newValue;
+                    return true;
+                case 4:  // optIntGetter
+                    this.optIntGetter = (Integer) newValue;
+                    return true;
+                case 5:  // optDoubleGetter
+                    this.optDoubleGetter = (Double) newValue;
+                    return true;
+            }
+            return false;
+        }
+
         @Override
         public Builder set(MetaProperty<?> property, Object value) {
             super.set(property, value);
@@ -339,61 +339,61 @@ public final class ImmPerson implements ImmutableBean {
          * The meta-property for the {@code forename} property.
          */
         private final MetaProperty<String> forename = DirectMetaProperty.ofImmutable(
-                this, "forename", ImmPerson.class, String.class);
+                this, "forename", ImmPerson.class, String.class, 0);
         /**
          * The meta-property for the {@code surname} property.
          */
         private final MetaProperty<String> surname = DirectMetaProperty.ofImmutable(
-                this, "surname", ImmPerson.class, String.class);
+                this, "surname", ImmPerson.class, String.class, 1);
         /**
          * The meta-property for the {@code numberOfCars} property.
          */
         private final MetaProperty<Integer> numberOfCars = DirectMetaProperty.ofImmutable(
-                this, "numberOfCars", ImmPerson.class, Integer.TYPE);
+                this, "numberOfCars", ImmPerson.class, Integer.TYPE, 2);
         /**
          * The meta-property for the {@code dateOfBirth} property.
          */
         private final MetaProperty<Date> dateOfBirth = DirectMetaProperty.ofImmutable(
-                this, "dateOfBirth", ImmPerson.class, Date.class);
+                this, "dateOfBirth", ImmPerson.class, Date.class, 3);
         /**
          * The meta-property for the {@code middleNames} property.
          */
         private final MetaProperty<String[]> middleNames = DirectMetaProperty.ofImmutable(
-                this, "middleNames", ImmPerson.class, String[].class);
+                this, "middleNames", ImmPerson.class, String[].class, 4);
         /**
          * The meta-property for the {@code addressList} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<ImmutableList<Address>> addressList = DirectMetaProperty.ofImmutable(
-                this, "addressList", ImmPerson.class, (Class) ImmutableList.class);
+                this, "addressList", ImmPerson.class, (Class) ImmutableList.class, 5);
         /**
          * The meta-property for the {@code otherAddressMap} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<Map<String, Address>> otherAddressMap = DirectMetaProperty.ofImmutable(
-                this, "otherAddressMap", ImmPerson.class, (Class) Map.class);
+                this, "otherAddressMap", ImmPerson.class, (Class) Map.class, 6);
         /**
          * The meta-property for the {@code addressesList} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<List<List<Address>>> addressesList = DirectMetaProperty.ofImmutable(
-                this, "addressesList", ImmPerson.class, (Class) List.class);
+                this, "addressesList", ImmPerson.class, (Class) List.class, 7);
         /**
          * The meta-property for the {@code mainAddress} property.
          */
         private final MetaProperty<ImmAddress> mainAddress = DirectMetaProperty.ofImmutable(
-                this, "mainAddress", ImmPerson.class, ImmAddress.class);
+                this, "mainAddress", ImmPerson.class, ImmAddress.class, 8);
         /**
          * The meta-property for the {@code codeCounts} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<ImmutableMultiset<String>> codeCounts = DirectMetaProperty.ofImmutable(
-                this, "codeCounts", ImmPerson.class, (Class) ImmutableMultiset.class);
+                this, "codeCounts", ImmPerson.class, (Class) ImmutableMultiset.class, 9);
         /**
          * The meta-property for the {@code age} property.
          */
         private final MetaProperty<Integer> age = DirectMetaProperty.ofDerived(
-                this, "age", ImmPerson.class, Integer.TYPE);
+                this, "age", ImmPerson.class, Integer.TYPE, 10);
         /**
          * The meta-properties.
          */
@@ -589,6 +589,46 @@ public final class ImmPerson implements ImmutableBean {
             throw new UnsupportedOperationException("Property cannot be written: " + propertyName);
         }
 
+        @Override
+        protected Object propertyGet(Bean bean, int propertyIndex) {
+            switch (propertyIndex) {
+                case 0:  // forename
+                    return ((ImmPerson) bean).getForename();
+                case 1:  // surname
+                    return ((ImmPerson) bean).getSurname();
+                case 2:  // numberOfCars
+                    return ((ImmPerson) bean).getNumberOfCars();
+                case 3:  // dateOfBirth
+                    return ((ImmPerson) bean).getDateOfBirth();
+                case 4:  // middleNames
+                    return ((ImmPerson) bean).getMiddleNames();
+                case 5:  // addressList
+                    return ((ImmPerson) bean).getAddressList();
+                case 6:  // otherAddressMap
+                    return ((ImmPerson) bean).getOtherAddressMap();
+                case 7:  // addressesList
+                    return ((ImmPerson) bean).getAddressesList();
+                case 8:  // mainAddress
+                    return ((ImmPerson) bean).getMainAddress();
+                case 9:  // codeCounts
+                    return ((ImmPerson) bean).getCodeCounts();
+                case 10:  // age
+                    return ((ImmPerson) bean).getAge();
+            }
+            throw new NoSuchElementException("Unknown property index: " + propertyIndex);
+        }
+
+        @Override
+        protected int propertyGetInt(Bean bean, int propertyIndex) {
+            switch (propertyIndex) {
+                case 2:  // numberOfCars
+                    return ((ImmPerson) bean).getNumberOfCars();
+                case 10:  // age
+                    return ((ImmPerson) bean).getAge();
+            }
+            throw new NoSuchElementException("Unknown property index: " + propertyIndex);
+        }
+
     }
 
     //-----------------------------------------------------------------------
@@ -701,6 +741,47 @@ public final class ImmPerson implements ImmutableBean {
             return this;
         }
 
+        @SuppressWarnings("unchecked")
+        @Override
+        protected boolean setByIndex(DirectMetaProperty<?> metaProperty, Object newValue) {
+            if (metaProperty.declaringType() != ImmPerson.class) {
+                return super.setByIndex(metaProperty, newValue);
+            }
+            switch (metaProperty.index()) {
+                case 0:  // forename
+                    this.forename = (String) newValue;
+                    return true;
+                case 1:  // surname
+                    this.surname = (String) newValue;
+                    return true;
+                case 2:  // numberOfCars
+                    this.numberOfCars = (Integer) newValue;
+                    return true;
+                case 3:  // dateOfBirth
+                    this.dateOfBirth = (Date) newValue;
+                    return true;
+                case 4:  // middleNames
+                    this.middleNames = (String[]) newValue;
+                    return true;
+                case 5:  // addressList
+                    this.addressList = (List<Address>) newValue;
+                    return true;
+                case 6:  // otherAddressMap
+                    this.otherAddressMap = (Map<String, Address>) newValue;
+                    return true;
+                case 7:  // addressesList
+                    this.addressesList = (List<List<Address>>) newValue;
+                    return true;
+                case 8:  // mainAddress
+                    this.mainAddress = (ImmAddress) newValue;
+                    return true;
+                case 9:  // codeCounts
+                    this.codeCounts = (Multiset<String>) newValue;
+                    return true;
+            }
+            return false;
+        }
+
         @Override
         public Builder set(MetaProperty<?> property, Object value) {
             super.set(property, value);
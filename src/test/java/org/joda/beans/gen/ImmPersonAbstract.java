@@ -169,17 +169,17 @@ public abstract class ImmPersonAbstract implements ImmutableBean {
          * The meta-property for the {@code forename} property.
          */
         private final MetaProperty<String> forename = DirectMetaProperty.ofImmutable(
-                this, "forename", ImmPersonAbstract.class, String.class);
+                this, "forename", ImmPersonAbstract.class, String.class, 0);
         /**
          * The meta-property for the {@code surname} property.
          */
         private final MetaProperty<String> surname = DirectMetaProperty.ofImmutable(
-                this, "surname", ImmPersonAbstract.class, String.class);
+                this, "surname", ImmPersonAbstract.class, String.class, 1);
         /**
          * The meta-property for the {@code age} property.
          */
         private final MetaProperty<Integer> age = DirectMetaProperty.ofDerived(
-                this, "age", ImmPersonAbstract.class, Integer.TYPE);
+                this, "age", ImmPersonAbstract.class, Integer.TYPE, 2);
         /**
          * The meta-properties.
          */
@@ -271,6 +271,28 @@ public abstract class ImmPersonAbstract implements ImmutableBean {
             throw new UnsupportedOperationException("Property cannot be written: " + propertyName);
         }
 
+        @Override
+        protected Object propertyGet(Bean bean, int propertyIndex) {
+            switch (propertyIndex) {
+                case 0:  // forename
+                    return ((ImmPersonAbstract) bean).getForename();
+                case 1:  // surname
+                    return ((ImmPersonAbstract) bean).getSurname();
+                case 2:  // age
+                    return ((ImmPersonAbstract) bean).getAge();
+            }
+            throw new NoSuchElementException("Unknown property index: " + propertyIndex);
+        }
+
+        @Override
+        protected int propertyGetInt(Bean bean, int propertyIndex) {
+            switch (propertyIndex) {
+                case 2:  // age
+                    return ((ImmPersonAbstract) bean).getAge();
+            }
+            throw new NoSuchElementException("Unknown property index: " + propertyIndex);
+        }
+
     }
 
     //-----------------------------------------------------------------------
@@ -325,6 +347,22 @@ public abstract class ImmPersonAbstract implements ImmutableBean {
             return this;
         }
 
+        @Override
+        protected boolean setByIndex(DirectMetaProperty<?> metaProperty, Object newValue) {
+            if (metaProperty.declaringType() != ImmPersonAbstract.class) {
+                return super.setByIndex(metaProperty, newValue);
+            }
+            switch (metaProperty.index()) {
+                case 0:  // forename
+                    this.forename = (String) newValue;
+                    return true;
+                case 1:  // surname
+                    this.surname = (String) newValue;
+                    return true;
+            }
+            return false;
+        }
+
         @Override
         public Builder set(MetaProperty<?> property, Object value) {
             super.set(property, value);
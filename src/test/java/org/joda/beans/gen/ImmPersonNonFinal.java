@@ -179,17 +179,17 @@ public class ImmPersonNonFinal implements ImmutableBean {
          * The meta-property for the {@code forename} property.
          */
         private final MetaProperty<String> forename = DirectMetaProperty.ofImmutable(
-                this, "forename", ImmPersonNonFinal.class, String.class);
+                this, "forename", ImmPersonNonFinal.class, String.class, 0);
         /**
          * The meta-property for the {@code surname} property.
          */
         private final MetaProperty<String> surname = DirectMetaProperty.ofImmutable(
-                this, "surname", ImmPersonNonFinal.class, String.class);
+                this, "surname", ImmPersonNonFinal.class, String.class, 1);
         /**
          * The meta-property for the {@code age} property.
          */
         private final MetaProperty<Integer> age = DirectMetaProperty.ofDerived(
-                this, "age", ImmPersonNonFinal.class, Integer.TYPE);
+                this, "age", ImmPersonNonFinal.class, Integer.TYPE, 2);
         /**
          * The meta-properties.
          */
@@ -281,6 +281,28 @@ public class ImmPersonNonFinal implements ImmutableBean {
             throw new UnsupportedOperationException("Property cannot be written: " + propertyName);
         }
 
+        @Override
+        protected Object propertyGet(Bean bean, int propertyIndex) {
+            switch (propertyIndex) {
+                case 0:  // forename
+                    return ((ImmPersonNonFinal) bean).getForename();
+                case 1:  // surname
+                    return ((ImmPersonNonFinal) bean).getSurname();
+                case 2:  // age
+                    return ((ImmPersonNonFinal) bean).getAge();
+            }
+            throw new NoSuchElementException("Unknown property index: " + propertyIndex);
+        }
+
+        @Override
+        protected int propertyGetInt(Bean bean, int propertyIndex) {
+            switch (propertyIndex) {
+                case 2:  // age
+                    return ((ImmPersonNonFinal) bean).getAge();
+            }
+            throw new NoSuchElementException("Unknown property index: " + propertyIndex);
+        }
+
     }
 
     //-----------------------------------------------------------------------
@@ -335,6 +357,22 @@ public class ImmPersonNonFinal implements ImmutableBean {
             return this;
         }
 
+        @Override
+        protected boolean setByIndex(DirectMetaProperty<?> metaProperty, Object newValue) {
+            if (metaProperty.declaringType() != ImmPersonNonFinal.class) {
+                return super.setByIndex(metaProperty, newValue);
+            }
+            switch (metaProperty.index()) {
+                case 0:  // forename
+                    this.forename = (String) newValue;
+                    return true;
+                case 1:  // surname
+                    this.surname = (String) newValue;
+                    return true;
+            }
+            return false;
+        }
+
         @Override
         public Builder set(MetaProperty<?> property, Object value) {
             super.set(property, value);
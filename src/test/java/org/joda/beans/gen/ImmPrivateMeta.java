@@ -208,22 +208,22 @@ public final class ImmPrivateMeta implements ImmutableBean {
          * The meta-property for the {@code number} property.
          */
         private final MetaProperty<Integer> number = DirectMetaProperty.ofImmutable(
-                this, "number", ImmPrivateMeta.class, Integer.TYPE);
+                this, "number", ImmPrivateMeta.class, Integer.TYPE, 0);
         /**
          * The meta-property for the {@code street} property.
          */
         private final MetaProperty<String> street = DirectMetaProperty.ofImmutable(
-                this, "street", ImmPrivateMeta.class, String.class);
+                this, "street", ImmPrivateMeta.class, String.class, 1);
         /**
          * The meta-property for the {@code city} property.
          */
         private final MetaProperty<String> city = DirectMetaProperty.ofImmutable(
-                this, "city", ImmPrivateMeta.class, String.class);
+                this, "city", ImmPrivateMeta.class, String.class, 2);
         /**
          * The meta-property for the {@code owner} property.
          */
         private final MetaProperty<ImmPerson> owner = DirectMetaProperty.ofImmutable(
-                this, "owner", ImmPrivateMeta.class, ImmPerson.class);
+                this, "owner", ImmPrivateMeta.class, ImmPerson.class, 3);
         /**
          * The meta-properties.
          */
@@ -295,6 +295,30 @@ public final class ImmPrivateMeta implements ImmutableBean {
             throw new UnsupportedOperationException("Property cannot be written: " + propertyName);
         }
 
+        @Override
+        protected Object propertyGet(Bean bean, int propertyIndex) {
+            switch (propertyIndex) {
+                case 0:  // number
+                    return ((ImmPrivateMeta) bean).getNumber();
+                case 1:  // street
+                    return ((ImmPrivateMeta) bean).getStreet();
+                case 2:  // city
+                    return ((ImmPrivateMeta) bean).getCity();
+                case 3:  // owner
+                    return ((ImmPrivateMeta) bean).getOwner();
+            }
+            throw new NoSuchElementException("Unknown property index: " + propertyIndex);
+        }
+
+        @Override
+        protected int propertyGetInt(Bean bean, int propertyIndex) {
+            switch (propertyIndex) {
+                case 0:  // number
+                    return ((ImmPrivateMeta) bean).getNumber();
+            }
+            throw new NoSuchElementException("Unknown property index: " + propertyIndex);
+        }
+
     }
 
     //-----------------------------------------------------------------------
@@ -363,6 +387,28 @@ public final class ImmPrivateMeta implements ImmutableBean {
             return this;
         }
 
+        @Override
+        protected boolean setByIndex(DirectMetaProperty<?> metaProperty, Object newValue) {
+            if (metaProperty.declaringType() != ImmPrivateMeta.class) {
+                return super.setByIndex(metaProperty, newValue);
+            }
+            switch (metaProperty.index()) {
+                case 0:  // number
+                    this.number = (Integer) newValue;
+                    return true;
+                case 1:  // street
+                    this.street = (String) newValue;
+                    return true;
+                case 2:  // city
+                    this.city = (String) newValue;
+                    return true;
+                case 3:  // owner
+                    this.owner = (ImmPerson) newValue;
+                    return true;
+            }
+            return false;
+        }
+
         @Override
         public Builder set(MetaProperty<?> property, Object value) {
             super.set(property, value);
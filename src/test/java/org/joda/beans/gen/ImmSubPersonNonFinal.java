@@ -17,6 +17,7 @@ package org.joda.beans.gen;
 
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 
 import org.joda.beans.Bean;
 import org.joda.beans.BeanDefinition;
@@ -164,13 +165,13 @@ public class ImmSubPersonNonFinal extends ImmPersonNonFinal {
          * The meta-property for the {@code middleName} property.
          */
         private final MetaProperty<String> middleName = DirectMetaProperty.ofImmutable(
-                this, "middleName", ImmSubPersonNonFinal.class, String.class);
+                this, "middleName", ImmSubPersonNonFinal.class, String.class, 0);
         /**
          * The meta-property for the {@code addressList} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<ImmutableList<Address>> addressList = DirectMetaProperty.ofImmutable(
-                this, "addressList", ImmSubPersonNonFinal.class, (Class) ImmutableList.class);
+                this, "addressList", ImmSubPersonNonFinal.class, (Class) ImmutableList.class, 1);
         /**
          * The meta-properties.
          */
@@ -249,6 +250,17 @@ public class ImmSubPersonNonFinal extends ImmPersonNonFinal {
             throw new UnsupportedOperationException("Property cannot be written: " + propertyName);
         }
 
+        @Override
+        protected Object propertyGet(Bean bean, int propertyIndex) {
+            switch (propertyIndex) {
+                case 0:  // middleName
+                    return ((ImmSubPersonNonFinal) bean).getMiddleName();
+                case 1:  // addressList
+                    return ((ImmSubPersonNonFinal) bean).getAddressList();
+            }
+            throw new NoSuchElementException("Unknown property index: " + propertyIndex);
+        }
+
     }
 
     //-----------------------------------------------------------------------
@@ -305,6 +317,23 @@ public class ImmSubPersonNonFinal extends ImmPersonNonFinal {
             return this;
         }
 
+        @SuppressWarnings("unchecked")
+        @Override
+        protected boolean setByIndex(DirectMetaProperty<?> metaProperty, Object newValue) {
+            if (metaProperty.declaringType() != ImmSubPersonNonFinal.class) {
+                return super.setByIndex(metaProperty, newValue);
+            }
+            switch (metaProperty.index()) {
+                case 0:  // middleName
+                    this.middleName = (String) newValue;
+                    return true;
+                case 1:  // addressList
+                    this.addressList = (List<Address>) newValue;
+                    return true;
+            }
+            return false;
+        }
+
         @Override
         public Builder set(MetaProperty<?> property, Object value) {
             super.set(property, value);
@@ -16,6 +16,7 @@
 package org.joda.beans.gen;
 
 import java.util.Map;
+import java.util.NoSuchElementException;
 
 import org.joda.beans.Bean;
 import org.joda.beans.BeanDefinition;
@@ -158,7 +159,7 @@ public final class ImmSubSubPersonFinal extends ImmSubPersonNonFinal {
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<ImmutableMultiset<String>> codeCounts = DirectMetaProperty.ofImmutable(
-                this, "codeCounts", ImmSubSubPersonFinal.class, (Class) ImmutableMultiset.class);
+                this, "codeCounts", ImmSubSubPersonFinal.class, (Class) ImmutableMultiset.class, 0);
         /**
          * The meta-properties.
          */
@@ -224,6 +225,15 @@ public final class ImmSubSubPersonFinal extends ImmSubPersonNonFinal {
             throw new UnsupportedOperationException("Property cannot be written: " + propertyName);
         }
 
+        @Override
+        protected Object propertyGet(Bean bean, int propertyIndex) {
+            switch (propertyIndex) {
+                case 0:  // codeCounts
+                    return ((ImmSubSubPersonFinal) bean).getCodeCounts();
+            }
+            throw new NoSuchElementException("Unknown property index: " + propertyIndex);
+        }
+
     }
 
     //-----------------------------------------------------------------------
@@ -273,6 +283,20 @@ public final class ImmSubSubPersonFinal extends ImmSubPersonNonFinal {
             return this;
         }
 
+        @SuppressWarnings("unchecked")
+        @Override
+        protected boolean setByIndex(DirectMetaProperty<?> metaProperty, Object newValue) {
+            if (metaProperty.declaringType() != ImmSubSubPersonFinal.class) {
+                return super.setByIndex(metaProperty, newValue);
+            }
+            switch (metaProperty.index()) {
+                case 0:  // codeCounts
+                    this.codeCounts = (Multiset<String>) newValue;
+                    return true;
+            }
+            return false;
+        }
+
         @Override
         public Builder set(MetaProperty<?> property, Object value) {
             super.set(property, value);
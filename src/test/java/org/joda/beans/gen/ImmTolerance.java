@@ -182,12 +182,12 @@ public final class ImmTolerance implements ImmutableBean {
          * The meta-property for the {@code value} property.
          */
         private final MetaProperty<Double> value = DirectMetaProperty.ofImmutable(
-                this, "value", ImmTolerance.class, Double.TYPE);
+                this, "value", ImmTolerance.class, Double.TYPE, 0);
         /**
          * The meta-property for the {@code array} property.
          */
         private final MetaProperty<double[]> array = DirectMetaProperty.ofImmutable(
-                this, "array", ImmTolerance.class, double[].class);
+                this, "array", ImmTolerance.class, double[].class, 1);
         /**
          * The meta-properties.
          */
@@ -266,6 +266,26 @@ public final class ImmTolerance implements ImmutableBean {
             throw new UnsupportedOperationException("Property cannot be written: " + propertyName);
         }
 
+        @Override
+        protected Object propertyGet(Bean bean, int propertyIndex) {
+            switch (propertyIndex) {
+                case 0:  // value
+                    return ((ImmTolerance) bean).getValue();
+                case 1:  // array
+                    return ((ImmTolerance) bean).getArray();
+            }
+            throw new NoSuchElementException("Unknown property index: " + propertyIndex);
+        }
+
+        @Override
+        protected double propertyGetDouble(Bean bean, int propertyIndex) {
+            switch (propertyIndex) {
+                case 0:  // value
+                    return ((ImmTolerance) bean).getValue();
+            }
+            throw new NoSuchElementException("Unknown property index: " + propertyIndex);
+        }
+
     }
 
     //-----------------------------------------------------------------------
@@ -320,6 +340,22 @@ public final class ImmTolerance implements ImmutableBean {
             return this;
         }
 
+        @Override
+        protected boolean setByIndex(DirectMetaProperty<?> metaProperty, Object newValue) {
+            if (metaProperty.declaringType() != ImmTolerance.class) {
+                return super.setByIndex(metaProperty, newValue);
+            }
+            switch (metaProperty.index()) {
+                case 0:  // value
+                    this.value = (Double) newValue;
+                    return true;
+                case 1:  // array
+                    this.array = (double[]) newValue;
+                    return true;
+            }
+            return false;
+        }
+
         @Override
         public Builder set(MetaProperty<?> property, Object value) {
             super.set(property, value);
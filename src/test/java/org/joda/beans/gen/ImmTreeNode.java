@@ -252,28 +252,28 @@ public final class ImmTreeNode implements ImmutableBean{
          * The meta-property for the {@code name} property.
          */
         private final MetaProperty<String> name = DirectMetaProperty.ofImmutable(
-                this, "name", ImmTreeNode.class, String.class);
+                this, "name", ImmTreeNode.class, String.class, 0);
         /**
          * The meta-property for the {@code child1} property.
          */
         private final MetaProperty<ImmTreeNode> child1 = DirectMetaProperty.ofImmutable(
-                this, "child1", ImmTreeNode.class, ImmTreeNode.class);
+                this, "child1", ImmTreeNode.class, ImmTreeNode.class, 1);
         /**
          * The meta-property for the {@code child2} property.
          */
         private final MetaProperty<ImmTreeNode> child2 = DirectMetaProperty.ofImmutable(
-                this, "child2", ImmTreeNode.class, ImmTreeNode.class);
+                this, "child2", ImmTreeNode.class, ImmTreeNode.class, 2);
         /**
          * The meta-property for the {@code child3} property.
          */
         private final MetaProperty<ImmTreeNode> child3 = DirectMetaProperty.ofImmutable(
-                this, "child3", ImmTreeNode.class, ImmTreeNode.class);
+                this, "child3", ImmTreeNode.class, ImmTreeNode.class, 3);
         /**
          * The meta-property for the {@code childList} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<List<ImmTreeNode>> childList = DirectMetaProperty.ofImmutable(
-                this, "childList", ImmTreeNode.class, (Class) List.class);
+                this, "childList", ImmTreeNode.class, (Class) List.class, 4);
         /**
          * The meta-properties.
          */
@@ -391,6 +391,23 @@ public final class ImmTreeNode implements ImmutableBean{
             throw new UnsupportedOperationException("Property cannot be written: " + propertyName);
         }
 
+        @Override
+        protected Object propertyGet(Bean bean, int propertyIndex) {
+            switch (propertyIndex) {
+                case 0:  // name
+                    return ((ImmTreeNode) bean).getName();
+                case 1:  // child1
+                    return ((ImmTreeNode) bean).getChild1();
+                case 2:  // child2
+                    return ((ImmTreeNode) bean).getChild2();
+                case 3:  // child3
+                    return ((ImmTreeNode) bean).getChild3();
+                case 4:  // childList
+                    return ((ImmTreeNode) bean).getChildList();
+            }
+            throw new NoSuchElementException("Unknown property index: " + propertyIndex);
+        }
+
     }
 
     //-----------------------------------------------------------------------
@@ -467,6 +484,32 @@ public final class ImmTreeNode implements ImmutableBean{
             return this;
         }
 
+        @SuppressWarnings("unchecked")
+        @Override
+        protected boolean setByIndex(DirectMetaProperty<?> metaProperty, Object newValue) {
+            if (metaProperty.declaringType() != ImmTreeNode.class) {
+                return super.setByIndex(metaProperty, newValue);
+            }
+            switch (metaProperty.index()) {
+                case 0:  // name
+                    this.name = (String) newValue;
+                    return true;
+                case 1:  // child1
+                    this.child1 = (ImmTreeNode) newValue;
+                    return true;
+                case 2:  // child2
+                    this.child2 = (ImmTreeNode) newValue;
+                    return true;
+                case 3:  // child3
+                    this.child3 = (ImmTreeNode) newValue;
+                    return true;
+                case 4:  // childList
+                    this.childList = (List<ImmTreeNode>) newValue;
+                    return true;
+            }
+            return false;
+        }
+
         @Override
         public Builder set(MetaProperty<?> property, Object value) {
             super.set(property, value);
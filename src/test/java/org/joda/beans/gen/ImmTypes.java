@@ -278,37 +278,37 @@ public final class ImmTypes<T extends Comparable<T>> implements ImmutableBean {
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<ImmutableList<?>> listWild = DirectMetaProperty.ofImmutable(
-                this, "listWild", ImmTypes.class, (Class) ImmutableList.class);
+                this, "listWild", ImmTypes.class, (Class) ImmutableList.class, 0);
         /**
          * The meta-property for the {@code listWildPublic1} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<List<?>> listWildPublic1 = DirectMetaProperty.ofImmutable(
-                this, "listWildPublic1", ImmTypes.class, (Class) List.class);
+                this, "listWildPublic1", ImmTypes.class, (Class) List.class, 1);
         /**
          * The meta-property for the {@code listWildPublic2} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<ImmutableList<?>> listWildPublic2 = DirectMetaProperty.ofImmutable(
-                this, "listWildPublic2", ImmTypes.class, (Class) ImmutableList.class);
+                this, "listWildPublic2", ImmTypes.class, (Class) ImmutableList.class, 2);
         /**
          * The meta-property for the {@code listWildBuilder1} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<List<Object>> listWildBuilder1 = DirectMetaProperty.ofImmutable(
-                this, "listWildBuilder1", ImmTypes.class, (Class) List.class);
+                this, "listWildBuilder1", ImmTypes.class, (Class) List.class, 3);
         /**
          * The meta-property for the {@code listWildBuilder2} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<List<Address>> listWildBuilder2 = DirectMetaProperty.ofImmutable(
-                this, "listWildBuilder2", ImmTypes.class, (Class) List.class);
+                this, "listWildBuilder2", ImmTypes.class, (Class) List.class, 4);
         /**
          * The meta-property for the {@code mapWildBuilder1} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<Map<String, Address>> mapWildBuilder1 = DirectMetaProperty.ofImmutable(
-                this, "mapWildBuilder1", ImmTypes.class, (Class) Map.class);
+                this, "mapWildBuilder1", ImmTypes.class, (Class) Map.class, 5);
         /**
          * The meta-properties.
          */
@@ -440,6 +440,25 @@ public final class ImmTypes<T extends Comparable<T>> implements ImmutableBean {
             throw new UnsupportedOperationException("Property cannot be written: " + propertyName);
         }
 
+        @Override
+        protected Object propertyGet(Bean bean, int propertyIndex) {
+            switch (propertyIndex) {
+                case 0:  // listWild
+                    return ((ImmTypes<?>) bean).getListWild();
+                case 1:  // listWildPublic1
+                    return ((ImmTypes<?>) bean).getListWildPublic1();
+                case 2:  // listWildPublic2
+                    return ((ImmTypes<?>) bean).getListWildPublic2();
+                case 3:  // listWildBuilder1
+                    return ((ImmTypes<?>) bean).getListWildBuilder1();
+                case 4:  // listWildBuilder2
+                    return ((ImmTypes<?>) bean).getListWildBuilder2();
+                case 5:  // mapWildBuilder1
+                    return ((ImmTypes<?>) bean).getMapWildBuilder1();
+            }
+            throw new NoSuchElementException("Unknown property index: " + propertyIndex);
+        }
+
     }
 
     //-----------------------------------------------------------------------
@@ -524,6 +543,35 @@ public final class ImmTypes<T extends Comparable<T>> implements ImmutableBean {
             return this;
         }
 
+        @SuppressWarnings("unchecked")
+        @Override
+        protected boolean setByIndex(DirectMetaProperty<?> metaProperty, Object newValue) {
+            if (metaProperty.declaringType() != ImmTypes.class) {
+                return super.setByIndex(metaProperty, newValue);
+            }
+            switch (metaProperty.index()) {
+                case 0:  // listWild
+                    this.listWild = (List<?>) newValue;
+                    return true;
+                case 1:  // listWildPublic1
+                    this.listWildPublic1 = (List<?>) newValue;
+                    return true;
+                case 2:  // listWildPublic2
+                    this.listWildPublic2 = (List<?>) newValue;
+                    return true;
+                case 3:  // listWildBuilder1
+                    this.listWildBuilder1 = (List<?>) newValue;
+                    return true;
+                case 4:  // listWildBuilder2
+                    this.listWildBuilder2 = (List<? extends Address>) newValue;
+                    return true;
+                case 5:  // mapWildBuilder1
+                    this.mapWildBuilder1 = (Map<String, ? extends Address>) newValue;
+                    return true;
+            }
+            return false;
+        }
+
         @Override
         public Builder<T> set(MetaProperty<?> property, Object value) {
             super.set(property, value);
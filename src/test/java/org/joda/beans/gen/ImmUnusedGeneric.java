@@ -172,7 +172,7 @@ public final class ImmUnusedGeneric<T> implements ImmutableBean {
          * The meta-property for the {@code errorMessage} property.
          */
         private final MetaProperty<String> errorMessage = DirectMetaProperty.ofImmutable(
-                this, "errorMessage", ImmUnusedGeneric.class, String.class);
+                this, "errorMessage", ImmUnusedGeneric.class, String.class, 0);
         /**
          * The meta-properties.
          */
@@ -239,6 +239,15 @@ public final class ImmUnusedGeneric<T> implements ImmutableBean {
             throw new UnsupportedOperationException("Property cannot be written: " + propertyName);
         }
 
+        @Override
+        protected Object propertyGet(Bean bean, int propertyIndex) {
+            switch (propertyIndex) {
+                case 0:  // errorMessage
+                    return ((ImmUnusedGeneric<?>) bean).getErrorMessage();
+            }
+            throw new NoSuchElementException("Unknown property index: " + propertyIndex);
+        }
+
     }
 
     //-----------------------------------------------------------------------
@@ -287,6 +296,19 @@ public final class ImmUnusedGeneric<T> implements ImmutableBean {
             return this;
         }
 
+        @Override
+        protected boolean setByIndex(DirectMetaProperty<?> metaProperty, Object newValue) {
+            if (metaProperty.declaringType() != ImmUnusedGeneric.class) {
+                return super.setByIndex(metaProperty, newValue);
+            }
+            switch (metaProperty.index()) {
+                case 0:  // errorMessage
+                    this.errorMessage = (String) newValue;
+                    return true;
+            }
+            return false;
+        }
+
         @Override
         public Builder<T> set(MetaProperty<?> property, Object value) {
             super.set(property, value);
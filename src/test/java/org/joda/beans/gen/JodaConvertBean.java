@@ -16,6 +16,7 @@
 package org.joda.beans.gen;
 
 import java.util.Map;
+import java.util.NoSuchElementException;
 
 import org.joda.beans.Bean;
 import org.joda.beans.BeanBuilder;
@@ -193,12 +194,12 @@ public class JodaConvertBean extends DirectBean {
          * The meta-property for the {@code base} property.
          */
         private final MetaProperty<String> base = DirectMetaProperty.ofReadWrite(
-                this, "base", JodaConvertBean.class, String.class);
+                this, "base", JodaConvertBean.class, String.class, 0);
         /**
          * The meta-property for the {@code extra} property.
          */
         private final MetaProperty<Integer> extra = DirectMetaProperty.ofReadWrite(
-                this, "extra", JodaConvertBean.class, Integer.TYPE);
+                this, "extra", JodaConvertBean.class, Integer.TYPE, 1);
         /**
          * The meta-properties.
          */
@@ -281,6 +282,49 @@ public class JodaConvertBean extends DirectBean {
             super.propertySet(bean, propertyName, newValue, quiet);
         }
 
+        @Override
+        protected Object propertyGet(Bean bean, int propertyIndex) {
+            switch (propertyIndex) {
+                case 0:  // base
+                    return ((JodaConvertBean) bean).getBase();
+                case 1:  // extra
+                    return ((JodaConvertBean) bean).getExtra();
+            }
+            throw new NoSuchElementException("Unknown property index: " + propertyIndex);
+        }
+
+        @Override
+        protected void propertySet(Bean bean, int propertyIndex, Object newValue) {
+            switch (propertyIndex) {
+                case 0:  // base
+                    ((JodaConvertBean) bean).setBase((String) newValue);
+                    return;
+                case 1:  // extra
+                    ((JodaConvertBean) bean).setExtra((Integer) newValue);
+                    return;
+            }
+            throw new NoSuchElementException("Unknown property index: " + propertyIndex);
+        }
+
+        @Override
+        protected int propertyGetInt(Bean bean, int propertyIndex) {
+            switch (propertyIndex) {
+                case 1:  // extra
+                    return ((JodaConvertBean) bean).getExtra();
+            }
+            throw new NoSuchElementException("Unknown property index: " + propertyIndex);
+        }
+
+        @Override
+        protected void propertySetInt(Bean bean, int propertyIndex, int newValue) {
+            switch (propertyIndex) {
+                case 1:  // extra
+                    ((JodaConvertBean) bean).setExtra(newValue);
+                    return;
+            }
+            throw new NoSuchElementException("Unknown property index: " + propertyIndex);
+        }
+
     }
 
     ///CLOVER:ON
@@ -16,6 +16,7 @@
 package org.joda.beans.gen;
 
 import java.util.Map;
+import java.util.NoSuchElementException;
 
 import org.joda.beans.Bean;
 import org.joda.beans.BeanBuilder;
@@ -180,12 +181,12 @@ public class JodaConvertWrapper extends DirectBean {
          * The meta-property for the {@code bean} property.
          */
         private final MetaProperty<JodaConvertBean> bean = DirectMetaProperty.ofReadWrite(
-                this, "bean", JodaConvertWrapper.class, JodaConvertBean.class);
+                this, "bean", JodaConvertWrapper.class, JodaConvertBean.class, 0);
         /**
          * The meta-property for the {@code description} property.
          */
         private final MetaProperty<String> description = DirectMetaProperty.ofReadWrite(
-                this, "description", JodaConvertWrapper.class, String.class);
+                this, "description", JodaConvertWrapper.class, String.class, 1);
         /**
          * The meta-properties.
          */
@@ -268,6 +269,30 @@ public class JodaConvertWrapper extends DirectBean {
             super.propertySet(bean, propertyName, newValue, quiet);
         }
 
+        @Override
+        protected Object propertyGet(Bean bean, int propertyIndex) {
+            switch (propertyIndex) {
+                case 0:  // bean
+                    return ((JodaConvertWrapper) bean).getBean();
+                case 1:  // description
+                    return ((JodaConvertWrapper) bean).getDescription();
+            }
+            throw new NoSuchElementException("Unknown property index: " + propertyIndex);
+        }
+
+        @Override
+        protected void propertySet(Bean bean, int propertyIndex, Object newValue) {
+            switch (propertyIndex) {
+                case 0:  // bean
+                    ((JodaConvertWrapper) bean).setBean((JodaConvertBean) newValue);
+                    return;
+                case 1:  // description
+                    ((JodaConvertWrapper) bean).setDescription((String) newValue);
+                    return;
+            }
+            throw new NoSuchElementException("Unknown property index: " + propertyIndex);
+        }
+
     }
 
     ///CLOVER:ON
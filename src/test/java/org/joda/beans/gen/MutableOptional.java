@@ -16,6 +16,7 @@
 package org.joda.beans.gen;
 
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Set;
 
 import org.joda.beans.Bean;
@@ -178,12 +179,12 @@ public final class MutableOptional implements Bean {
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<Optional<String>> optString = DirectMetaProperty.ofReadWrite(
-                this, "optString", MutableOptional.class, (Class) Optional.class);
+                this, "optString", MutableOptional.class, (Class) Optional.class, 0);
         /**
          * The meta-property for the {@code optStringGetter} property.
          */
         private final MetaProperty<String> optStringGetter = DirectMetaProperty.ofReadWrite(
-                this, "optStringGetter", MutableOptional.class, String.class);
+                this, "optStringGetter", MutableOptional.class, String.class, 1);
         /**
          * The meta-properties.
          */
@@ -267,6 +268,31 @@ public final class MutableOptional implements Bean {
             super.propertySet(bean, propertyName, newValue, quiet);
         }
 
+        @Override
+        protected Object propertyGet(Bean bean, int propertyIndex) {
+            switch (propertyIndex) {
+                case 0:  // optString
+                    return ((MutableOptional) bean).getOptString();
+                case 1:  // optStringGetter
+                    return ((MutableOptional) bean).optStringGetter;
+            }
+            throw new NoSuchElementException("Unknown property index: " + propertyIndex);
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        protected void propertySet(Bean bean, int propertyIndex, Object newValue) {
+            switch (propertyIndex) {
+                case 0:  // optString
+                    ((MutableOptional) bean).setOptString((Optional<String>) newValue);
+                    return;
+                case 1:  // optStringGetter
+                    ((MutableOptional) bean).setOptStringGetter((String) newValue);
+                    return;
+            }
+            throw new NoSuchElementException("Unknown property index: " + propertyIndex);
+        }
+
         @Override
         protected void validate(Bean bean) {
             JodaBeanUtils.notNull(((MutableOptional) bean).optString, "optString");
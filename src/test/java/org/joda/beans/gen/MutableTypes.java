@@ -18,6 +18,7 @@ package org.joda.beans.gen;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Set;
 
 import org.joda.beans.Bean;
@@ -196,13 +197,13 @@ public final class MutableTypes<T extends Comparable<T>> implements Bean {
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<List<?>> listWildNullable = DirectMetaProperty.ofReadWrite(
-                this, "listWildNullable", MutableTypes.class, (Class) List.class);
+                this, "listWildNullable", MutableTypes.class, (Class) List.class, 0);
         /**
          * The meta-property for the {@code listWildPublic} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<List<?>> listWildPublic = DirectMetaProperty.ofReadWrite(
-                this, "listWildPublic", MutableTypes.class, (Class) List.class);
+                this, "listWildPublic", MutableTypes.class, (Class) List.class, 1);
         /**
          * The meta-properties.
          */
@@ -287,6 +288,31 @@ public final class MutableTypes<T extends Comparable<T>> implements Bean {
             super.propertySet(bean, propertyName, newValue, quiet);
         }
 
+        @Override
+        protected Object propertyGet(Bean bean, int propertyIndex) {
+            switch (propertyIndex) {
+                case 0:  // listWildNullable
+                    return ((MutableTypes<?>) bean).getListWildNullable();
+                case 1:  // listWildPublic
+                    return ((MutableTypes<?>) bean).getListWildPublic();
+            }
+            throw new NoSuchElementException("Unknown property index: " + propertyIndex);
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        protected void propertySet(Bean bean, int propertyIndex, Object newValue) {
+            switch (propertyIndex) {
+                case 0:  // listWildNullable
+                    ((MutableTypes<T>) bean).setListWildNullable((List<?>) newValue);
+                    return;
+                case 1:  // listWildPublic
+                    ((MutableTypes<T>) bean).setListWildPublic((List<?>) newValue);
+                    return;
+            }
+            throw new NoSuchElementException("Unknown property index: " + propertyIndex);
+        }
+
         @Override
         protected void validate(Bean bean) {
             JodaBeanUtils.notNull(((MutableTypes<?>) bean).listWildPublic, "listWildPublic");
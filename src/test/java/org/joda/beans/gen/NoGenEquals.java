@@ -16,6 +16,7 @@
 package org.joda.beans.gen;
 
 import java.util.Map;
+import java.util.NoSuchElementException;
 
 import org.joda.beans.Bean;
 import org.joda.beans.BeanBuilder;
@@ -125,7 +126,7 @@ public final class NoGenEquals extends DirectBean {
          * The meta-property for the {@code value} property.
          */
         private final MetaProperty<Object> value = DirectMetaProperty.ofReadWrite(
-                this, "value", NoGenEquals.class, Object.class);
+                this, "value", NoGenEquals.class, Object.class, 0);
         /**
          * The meta-properties.
          */
@@ -192,6 +193,25 @@ public final class NoGenEquals extends DirectBean {
             super.propertySet(bean, propertyName, newValue, quiet);
         }
 
+        @Override
+        protected Object propertyGet(Bean bean, int propertyIndex) {
+            switch (propertyIndex) {
+                case 0:  // value
+                    return ((NoGenEquals) bean).getValue();
+            }
+            throw new NoSuchElementException("Unknown property index: " + propertyIndex);
+        }
+
+        @Override
+        protected void propertySet(Bean bean, int propertyIndex, Object newValue) {
+            switch (propertyIndex) {
+                case 0:  // value
+                    ((NoGenEquals) bean).setValue(newValue);
+                    return;
+            }
+            throw new NoSuchElementException("Unknown property index: " + propertyIndex);
+        }
+
     }
 
     ///CLOVER:ON
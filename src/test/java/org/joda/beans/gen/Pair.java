@@ -16,6 +16,7 @@
 package org.joda.beans.gen;
 
 import java.util.Map;
+import java.util.NoSuchElementException;
 
 import org.joda.beans.Bean;
 import org.joda.beans.BeanBuilder;
@@ -178,12 +179,12 @@ public class Pair  extends  DirectBean {
          * The meta-property for the {@code first} property.
          */
         private final MetaProperty<Object> first = DirectMetaProperty.ofReadWrite(
-                this, "first", Pair.class, Object.class);
+                this, "first", Pair.class, Object.class, 0);
         /**
          * The meta-property for the {@code second} property.
          */
         private final MetaProperty<Object> second = DirectMetaProperty.ofReadWrite(
-                this, "second", Pair.class, Object.class);
+                this, "second", Pair.class, Object.class, 1);
         /**
          * The meta-properties.
          */
@@ -266,6 +267,30 @@ public class Pair  extends  DirectBean {
             super.propertySet(bean, propertyName, newValue, quiet);
         }
 
+        @Override
+        protected Object propertyGet(Bean bean, int propertyIndex) {
+            switch (propertyIndex) {
+                case 0:  // first
+                    return ((Pair) bean).getFirst();
+                case 1:  // second
+                    return ((Pair) bean).getSecond();
+            }
+            throw new NoSuchElementException("Unknown property index: " + propertyIndex);
+        }
+
+        @Override
+        protected void propertySet(Bean bean, int propertyIndex, Object newValue) {
+            switch (propertyIndex) {
+                case 0:  // first
+                    ((Pair) bean).setFirst(newValue);
+                    return;
+                case 1:  // second
+                    ((Pair) bean).setSecond(newValue);
+                    return;
+            }
+            throw new NoSuchElementException("Unknown property index: " + propertyIndex);
+        }
+
     }
 
     ///CLOVER:ON
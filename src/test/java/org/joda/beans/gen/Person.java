@@ -19,6 +19,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 
 import javax.xml.bind.annotation.XmlID;
 
@@ -364,45 +365,45 @@ public final class Person extends DirectBean implements IPerson {
          * The meta-property for the {@code forename} property.
          */
         private final MetaProperty<String> forename = DirectMetaProperty.ofReadWrite(
-                this, "forename", Person.class, String.class);
+                this, "forename", Person.class, String.class, 0);
         /**
          * The meta-property for the {@code surname} property.
          */
         private final MetaProperty<String> surname = DirectMetaProperty.ofReadWrite(
-                this, "surname", Person.class, String.class);
+                this, "surname", Person.class, String.class, 1);
         /**
          * The meta-property for the {@code numberOfCars} property.
          */
         private final MetaProperty<Integer> numberOfCars = DirectMetaProperty.ofReadWrite(
-                this, "numberOfCars", Person.class, Integer.TYPE);
+                this, "numberOfCars", Person.class, Integer.TYPE, 2);
         /**
          * The meta-property for the {@code addressList} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<List<Address>> addressList = DirectMetaProperty.ofReadWrite(
-                this, "addressList", Person.class, (Class) List.class);
+                this, "addressList", Person.class, (Class) List.class, 3);
         /**
          * The meta-property for the {@code otherAddressMap} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<Map<String, Address>> otherAddressMap = DirectMetaProperty.ofReadWrite(
-                this, "otherAddressMap", Person.class, (Class) Map.class);
+                this, "otherAddressMap", Person.class, (Class) Map.class, 4);
         /**
          * The meta-property for the {@code addressesList} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<List<List<Address>>> addressesList = DirectMetaProperty.ofReadWrite(
-                this, "addressesList", Person.class, (Class) List.class);
+                this, "addressesList", Person.class, (Class) List.class, 5);
         /**
          * The meta-property for the {@code mainAddress} property.
          */
         private final MetaProperty<Address> mainAddress = DirectMetaProperty.ofReadWrite(
-                this, "mainAddress", Person.class, Address.class);
+                this, "mainAddress", Person.class, Address.class, 6);
         /**
          * The meta-property for the {@code extensions} property.
          */
         private final MetaProperty<FlexiBean> extensions = DirectMetaProperty.ofReadWrite(
-                this, "extensions", Person.class, FlexiBean.class);
+                this, "extensions", Person.class, FlexiBean.class, 7);
         /**
          * The meta-properties.
          */
@@ -582,6 +583,80 @@ public final class Person extends DirectBean implements IPerson {
             super.propertySet(bean, propertyName, newValue, quiet);
         }
 
+        @Override
+        protected Object propertyGet(Bean bean, int propertyIndex) {
+            switch (propertyIndex) {
+                case 0:  // forename
+                    return ((Person) bean).getForename();
+                case 1:  // surname
+                    return ((Person) bean).getSurname();
+                case 2:  // numberOfCars
+                    return ((Person) bean).getNumberOfCars();
+                case 3:  // addressList
+                    return ((Person) bean).getAddressList();
+                case 4:  // otherAddressMap
+                    return ((Person) bean).getOtherAddressMap();
+                case 5:  // addressesList
+                    return ((Person) bean).getAddressesList();
+                case 6:  // mainAddress
+                    return ((Person) bean).getMainAddress();
+                case 7:  // extensions
+                    return ((Person) bean).getExtensions();
+            }
+            throw new NoSuchElementException("Unknown property index: " + propertyIndex);
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        protected void propertySet(Bean bean, int propertyIndex, Object newValue) {
+            switch (propertyIndex) {
+                case 0:  // forename
+                    ((Person) bean).setForename((String) newValue);
+                    return;
+                case 1:  // surname
+                    ((Person) bean).setSurname((String) newValue);
+                    return;
+                case 2:  // numberOfCars
+                    ((Person) bean).setNumberOfCars((Integer) newValue);
+                    return;
+                case 3:  // addressList
+                    ((Person) bean).setAddressList((List<Address>) newValue);
+                    return;
+                case 4:  // otherAddressMap
+                    ((Person) bean).setOtherAddressMap((Map<String, Address>) newValue);
+                    return;
+                case 5:  // addressesList
+                    ((Person) bean).setAddressesList((List<List<Address>>) newValue);
+                    return;
+                case 6:  // mainAddress
+                    ((Person) bean).setMainAddress((Address) newValue);
+                    return;
+                case 7:  // extensions
+                    ((Person) bean).setExtensions((FlexiBean) newValue);
+                    return;
+            }
+            throw new NoSuchElementException("Unknown property index: " + propertyIndex);
+        }
+
+        @Override
+        protected int propertyGetInt(Bean bean, int propertyIndex) {
+            switch (propertyIndex) {
+                case 2:  // numberOfCars
+                    return ((Person) bean).getNumberOfCars();
+            }
+            throw new NoSuchElementException("Unknown property index: " + propertyIndex);
+        }
+
+        @Override
+        protected void propertySetInt(Bean bean, int propertyIndex, int newValue) {
+            switch (propertyIndex) {
+                case 2:  // numberOfCars
+                    ((Person) bean).setNumberOfCars(newValue);
+                    return;
+            }
+            throw new NoSuchElementException("Unknown property index: " + propertyIndex);
+        }
+
         @Override
         protected void validate(Bean bean) {
             JodaBeanUtils.notNull(((Person) bean).addressList, "addressList");
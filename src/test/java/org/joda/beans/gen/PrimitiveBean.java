@@ -16,6 +16,7 @@
 package org.joda.beans.gen;
 
 import java.util.Map;
+import java.util.NoSuchElementException;
 
 import org.joda.beans.Bean;
 import org.joda.beans.BeanBuilder;
@@ -351,42 +352,42 @@ public class PrimitiveBean extends DirectBean {
          * The meta-property for the {@code valueLong} property.
          */
         private final MetaProperty<Long> valueLong = DirectMetaProperty.ofReadWrite(
-                this, "valueLong", PrimitiveBean.class, Long.TYPE);
+                this, "valueLong", PrimitiveBean.class, Long.TYPE, 0);
         /**
          * The meta-property for the {@code valueInt} property.
          */
         private final MetaProperty<Integer> valueInt = DirectMetaProperty.ofReadWrite(
-                this, "valueInt", PrimitiveBean.class, Integer.TYPE);
+                this, "valueInt", PrimitiveBean.class, Integer.TYPE, 1);
         /**
          * The meta-property for the {@code valueShort} property.
          */
         private final MetaProperty<Short> valueShort = DirectMetaProperty.ofReadWrite(
-                this, "valueShort", PrimitiveBean.class, Short.TYPE);
+                this, "valueShort", PrimitiveBean.class, Short.TYPE, 2);
         /**
          * The meta-property for the {@code valueByte} property.
          */
         private final MetaProperty<Byte> valueByte = DirectMetaProperty.ofReadWrite(
-                this, "valueByte", PrimitiveBean.class, Byte.TYPE);
+                this, "valueByte", PrimitiveBean.class, Byte.TYPE, 3);
         /**
          * The meta-property for the {@code valueDouble} property.
          */
         private final MetaProperty<Double> valueDouble = DirectMetaProperty.ofReadWrite(
-                this, "valueDouble", PrimitiveBean.class, Double.TYPE);
+                this, "valueDouble", PrimitiveBean.class, Double.TYPE, 4);
         /**
          * The meta-property for the {@code valueFloat} property.
          */
         private final MetaProperty<Float> valueFloat = DirectMetaProperty.ofReadWrite(
-                this, "valueFloat", PrimitiveBean.class, Float.TYPE);
+                this, "valueFloat", PrimitiveBean.class, Float.TYPE, 5);
         /**
          * The meta-property for the {@code valueChar} property.
          */
         private final MetaProperty<Character> valueChar = DirectMetaProperty.ofReadWrite(
-                this, "valueChar", PrimitiveBean.class, Character.TYPE);
+                this, "valueChar", PrimitiveBean.class, Character.TYPE, 6);
         /**
          * The meta-property for the {@code valueBoolean} property.
          */
         private final MetaProperty<Boolean> valueBoolean = DirectMetaProperty.ofReadWrite(
-                this, "valueBoolean", PrimitiveBean.class, Boolean.TYPE);
+                this, "valueBoolean", PrimitiveBean.class, Boolean.TYPE, 7);
         /**
          * The meta-properties.
          */
@@ -565,6 +566,136 @@ public class PrimitiveBean extends DirectBean {
             super.propertySet(bean, propertyName, newValue, quiet);
         }
 
+        @Override
+        protected Object propertyGet(Bean bean, int propertyIndex) {
+            switch (propertyIndex) {
+                case 0:  // valueLong
+                    return ((PrimitiveBean) bean).getValueLong();
+                case 1:  // valueInt
+                    return ((PrimitiveBean) bean).getValueInt();
+                case 2:  // valueShort
+                    return ((PrimitiveBean) bean).getValueShort();
+                case 3:  // valueByte
+                    return ((PrimitiveBean) bean).getValueByte();
+                case 4:  // valueDouble
+                    return ((PrimitiveBean) bean).getValueDouble();
+                case 5:  // valueFloat
+                    return ((PrimitiveBean) bean).getValueFloat();
+                case 6:  // valueChar
+                    return ((PrimitiveBean) bean).getValueChar();
+                case 7:  // valueBoolean
+                    return ((PrimitiveBean) bean).isValueBoolean();
+            }
+            throw new NoSuchElementException("Unknown property index: " + propertyIndex);
+        }
+
+        @Override
+        protected void propertySet(Bean bean, int propertyIndex, Object newValue) {
+            switch (propertyIndex) {
+                case 0:  // valueLong
+                    ((PrimitiveBean) bean).setValueLong((Long) newValue);
+                    return;
+                case 1:  // valueInt
+                    ((PrimitiveBean) bean).setValueInt((Integer) newValue);
+                    return;
+                case 2:  // valueShort
+                    ((PrimitiveBean) bean).setValueShort((Short) newValue);
+                    return;
+                case 3:  // valueByte
+                    ((PrimitiveBean) bean).setValueByte((Byte) newValue);
+                    return;
+                case 4:  // valueDouble
+                    ((PrimitiveBean) bean).setValueDouble((Double) newValue);
+                    return;
+                case 5:  // valueFloat
+                    ((PrimitiveBean) bean).setValueFloat((Float) newValue);
+                    return;
+                case 6:  // valueChar
+                    ((PrimitiveBean) bean).setValueChar((Character) newValue);
+                    return;
+                case 7:  // valueBoolean
+                    ((PrimitiveBean) bean).setValueBoolean((Boolean) newValue);
+                    return;
+            }
+            throw new NoSuchElementException("Unknown property index: " + propertyIndex);
+        }
+
+        @Override
+        protected int propertyGetInt(Bean bean, int propertyIndex) {
+            switch (propertyIndex) {
+                case 1:  // valueInt
+                    return ((PrimitiveBean) bean).getValueInt();
+            }
+            throw new NoSuchElementException("Unknown property index: " + propertyIndex);
+        }
+
+        @Override
+        protected long propertyGetLong(Bean bean, int propertyIndex) {
+            switch (propertyIndex) {
+                case 0:  // valueLong
+                    return ((PrimitiveBean) bean).getValueLong();
+            }
+            throw new NoSuchElementException("Unknown property index: " + propertyIndex);
+        }
+
+        @Override
+        protected double propertyGetDouble(Bean bean, int propertyIndex) {
+            switch (propertyIndex) {
+                case 4:  // valueDouble
+                    return ((PrimitiveBean) bean).getValueDouble();
+            }
+            throw new NoSuchElementException("Unknown property index: " + propertyIndex);
+        }
+
+        @Override
+        protected boolean propertyGetBoolean(Bean bean, int propertyIndex) {
+            switch (propertyIndex) {
+                case 7:  // valueBoolean
+                    return ((PrimitiveBean) bean).isValueBoolean();
+            }
+            throw new NoSuchElementException("Unknown property index: " + propertyIndex);
+        }
+
+        @Override
+        protected void propertySetInt(Bean bean, int propertyIndex, int newValue) {
+            switch (propertyIndex) {
+                case 1:  // valueInt
+                    ((PrimitiveBean) bean).setValueInt(newValue);
+                    return;
+            }
+            throw new NoSuchElementException("Unknown property index: " + propertyIndex);
+        }
+
+        @Override
+        protected void propertySetLong(Bean bean, int propertyIndex, long newValue) {
+            switch (propertyIndex) {
+                case 0:  // valueLong
+                    ((PrimitiveBean) bean).setValueLong(newValue);
+                    return;
+            }
+            throw new NoSuchElementException("Unknown property index: " + propertyIndex);
+        }
+
+        @Override
+        protected void propertySetDouble(Bean bean, int propertyIndex, double newValue) {
+            switch (propertyIndex) {
+                case 4:  // valueDouble
+                    ((PrimitiveBean) bean).setValueDouble(newValue);
+                    return;
+            }
+            throw new NoSuchElementException("Unknown property index: " + propertyIndex);
+        }
+
+        @Override
+        protected void propertySetBoolean(Bean bean, int propertyIndex, boolean newValue) {
+            switch (propertyIndex) {
+                case 7:  // valueBoolean
+                    ((PrimitiveBean) bean).setValueBoolean(newValue);
+                    return;
+            }
+            throw new NoSuchElementException("Unknown property index: " + propertyIndex);
+        }
+
     }
 
     ///CLOVER:ON
@@ -19,6 +19,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Set;
 
 import org.joda.beans.Bean;
@@ -396,54 +397,54 @@ public final class PropertyDefBean implements Bean {
          * The meta-property for the {@code stringAsCharSequence} property.
          */
         private final MetaProperty<CharSequence> stringAsCharSequence = DirectMetaProperty.ofReadWrite(
-                this, "stringAsCharSequence", PropertyDefBean.class, CharSequence.class);
+                this, "stringAsCharSequence", PropertyDefBean.class, CharSequence.class, 0);
         /**
          * The meta-property for the {@code intAsInteger} property.
          */
         private final MetaProperty<Integer> intAsInteger = DirectMetaProperty.ofReadWrite(
-                this, "intAsInteger", PropertyDefBean.class, Integer.class);
+                this, "intAsInteger", PropertyDefBean.class, Integer.class, 1);
         /**
          * The meta-property for the {@code listCopyOfCollection} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<Collection<Address>> listCopyOfCollection = DirectMetaProperty.ofReadWrite(
-                this, "listCopyOfCollection", PropertyDefBean.class, (Class) Collection.class);
+                this, "listCopyOfCollection", PropertyDefBean.class, (Class) Collection.class, 2);
         /**
          * The meta-property for the {@code arrayListSmart} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<ArrayList<Address>> arrayListSmart = DirectMetaProperty.ofReadWrite(
-                this, "arrayListSmart", PropertyDefBean.class, (Class) ArrayList.class);
+                this, "arrayListSmart", PropertyDefBean.class, (Class) ArrayList.class, 3);
         /**
          * The meta-property for the {@code arrayListExposed} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<ArrayList<Address>> arrayListExposed = DirectMetaProperty.ofReadWrite(
-                this, "arrayListExposed", PropertyDefBean.class, (Class) ArrayList.class);
+                this, "arrayListExposed", PropertyDefBean.class, (Class) ArrayList.class, 4);
         /**
          * The meta-property for the {@code arrayListAsCollection} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<Collection<Address>> arrayListAsCollection = DirectMetaProperty.ofReadWrite(
-                this, "arrayListAsCollection", PropertyDefBean.class, (Class) Collection.class);
+                this, "arrayListAsCollection", PropertyDefBean.class, (Class) Collection.class, 5);
         /**
          * The meta-property for the {@code arrayList} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<ArrayList<Address>> arrayList = DirectMetaProperty.ofReadWrite(
-                this, "arrayList", PropertyDefBean.class, (Class) ArrayList.class);
+                this, "arrayList", PropertyDefBean.class, (Class) ArrayList.class, 6);
         /**
          * The meta-property for the {@code listAsIterable} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<Iterable<Address>> listAsIterable = DirectMetaProperty.ofReadWrite(
-                this, "listAsIterable", PropertyDefBean.class, (Class) Iterable.class);
+                this, "listAsIterable", PropertyDefBean.class, (Class) Iterable.class, 7);
         /**
          * The meta-property for the {@code listAsIterableNoField} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<Iterable<Address>> listAsIterableNoField = DirectMetaProperty.ofReadWrite(
-                this, "listAsIterableNoField", PropertyDefBean.class, (Class) Iterable.class);
+                this, "listAsIterableNoField", PropertyDefBean.class, (Class) Iterable.class, 8);
         /**
          * The meta-properties.
          */
@@ -639,6 +640,66 @@ public final class PropertyDefBean implements Bean {
             super.propertySet(bean, propertyName, newValue, quiet);
         }
 
+        @Override
+        protected Object propertyGet(Bean bean, int propertyIndex) {
+            switch (propertyIndex) {
+                case 0:  // stringAsCharSequence
+                    return ((PropertyDefBean) bean).getStringAsCharSequence();
+                case 1:  // intAsInteger
+                    return ((PropertyDefBean) bean).getIntAsInteger();
+                case 2:  // listCopyOfCollection
+                    return ((PropertyDefBean) bean).getListCopyOfCollection();
+                case 3:  // arrayListSmart
+                    return ((PropertyDefBean) bean).getArrayListSmart();
+                case 4:  // arrayListExposed
+                    return ((PropertyDefBean) bean).getArrayListExposed();
+                case 5:  // arrayListAsCollection
+                    return ((PropertyDefBean) bean).getArrayListAsCollection();
+                case 6:  // arrayList
+                    return ((PropertyDefBean) bean).getArrayList();
+                case 7:  // listAsIterable
+                    return ((PropertyDefBean) bean).getListAsIterable();
+                case 8:  // listAsIterableNoField
+                    return ((PropertyDefBean) bean).getListAsIterableNoField();
+            }
+            throw new NoSuchElementException("Unknown property index: " + propertyIndex);
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        protected void propertySet(Bean bean, int propertyIndex, Object newValue) {
+            switch (propertyIndex) {
+                case 0:  // stringAsCharSequence
+                    ((PropertyDefBean) bean).setStringAsCharSequence((CharSequence) newValue);
+                    return;
+                case 1:  // intAsInteger
+                    ((PropertyDefBean) bean).setIntAsInteger((Integer) newValue);
+                    return;
+                case 2:  // listCopyOfCollection
+                    ((PropertyDefBean) bean).setListCopyOfCollection((Collection<Address>) newValue);
+                    return;
+                case 3:  // arrayListSmart
+                    ((PropertyDefBean) bean).setArrayListSmart((ArrayList<Address>) newValue);
+                    return;
+                case 4:  // arrayListExposed
+                    ((PropertyDefBean) bean).setArrayListExposed((ArrayList<Address>) newValue);
+                    return;
+                case 5:  // arrayListAsCollection
+                    ((PropertyDefBean) bean).setArrayListAsCollection((Collection<Address>) newValue);
+                    return;
+                case 6:  // arrayList
+                    ((PropertyDefBean) bean).setArrayList((ArrayList<Address>) newValue);
+                    return;
+                case 7:  // listAsIterable
+                    ((PropertyDefBean) bean).setListAsIterable((Iterable<Address>) newValue);
+                    return;
+                case 8:  // listAsIterableNoField
+                    ((PropertyDefBean) bean).setListAsIterableNoField((Iterable<Address>) newValue);
+                    return;
+            }
+            throw new NoSuchElementException("Unknown property index: " + propertyIndex);
+        }
+
         @Override
         protected void validate(Bean bean) {
             JodaBeanUtils.notNull(((PropertyDefBean) bean).arrayListSmart, "arrayListSmart");
@@ -16,6 +16,7 @@
 package org.joda.beans.gen;
 
 import java.util.Map;
+import java.util.NoSuchElementException;
 
 import org.joda.beans.Bean;
 import org.joda.beans.BeanBuilder;
@@ -350,47 +351,47 @@ public class RWOnlyBean extends DirectBean {
          * The meta-property for the {@code ro} property.
          */
         private final MetaProperty<Object> ro = DirectMetaProperty.ofReadOnly(
-                this, "ro", RWOnlyBean.class, Object.class);
+                this, "ro", RWOnlyBean.class, Object.class, 0);
         /**
          * The meta-property for the {@code wo} property.
          */
         private final MetaProperty<Object> wo = DirectMetaProperty.ofWriteOnly(
-                this, "wo", RWOnlyBean.class, Object.class);
+                this, "wo", RWOnlyBean.class, Object.class, 1);
         /**
          * The meta-property for the {@code fin} property.
          */
         private final MetaProperty<Object> fin = DirectMetaProperty.ofReadOnly(
-                this, "fin", RWOnlyBean.class, Object.class);
+                this, "fin", RWOnlyBean.class, Object.class, 2);
         /**
          * The meta-property for the {@code priv} property.
          */
         private final MetaProperty<String> priv = DirectMetaProperty.ofReadWrite(
-                this, "priv", RWOnlyBean.class, String.class);
+                this, "priv", RWOnlyBean.class, String.class, 3);
         /**
          * The meta-property for the {@code pkg} property.
          */
         private final MetaProperty<String> pkg = DirectMetaProperty.ofReadWrite(
-                this, "pkg", RWOnlyBean.class, String.class);
+                this, "pkg", RWOnlyBean.class, String.class, 4);
         /**
          * The meta-property for the {@code prot} property.
          */
         private final MetaProperty<String> prot = DirectMetaProperty.ofReadWrite(
-                this, "prot", RWOnlyBean.class, String.class);
+                this, "prot", RWOnlyBean.class, String.class, 5);
         /**
          * The meta-property for the {@code field} property.
          */
         private final MetaProperty<String> field = DirectMetaProperty.ofReadWrite(
-                this, "field", RWOnlyBean.class, String.class);
+                this, "field", RWOnlyBean.class, String.class, 6);
         /**
          * The meta-property for the {@code manualGet} property.
          */
         private final MetaProperty<String> manualGet = DirectMetaProperty.ofReadOnly(
-                this, "manualGet", RWOnlyBean.class, String.class);
+                this, "manualGet", RWOnlyBean.class, String.class, 7);
         /**
          * The meta-property for the {@code derived} property.
          */
         private final MetaProperty<String> derived = DirectMetaProperty.ofDerived(
-                this, "derived", RWOnlyBean.class, String.class);
+                this, "derived", RWOnlyBean.class, String.class, 8);
         /**
          * The meta-properties.
          */
@@ -596,6 +597,51 @@ public class RWOnlyBean extends DirectBean {
             super.propertySet(bean, propertyName, newValue, quiet);
         }
 
+        @Override
+        protected Object propertyGet(Bean bean, int propertyIndex) {
+            switch (propertyIndex) {
+                case 0:  // ro
+                    return ((RWOnlyBean) bean).getRo();
+                case 2:  // fin
+                    return ((RWOnlyBean) bean).getFin();
+                case 3:  // priv
+                    return ((RWOnlyBean) bean).getPriv();
+                case 4:  // pkg
+                    return ((RWOnlyBean) bean).getPkg();
+                case 5:  // prot
+                    return ((RWOnlyBean) bean).getProt();
+                case 6:  // field
+                    return ((RWOnlyBean) bean).field;
+                case 7:  // manualGet
+                    return ((RWOnlyBean) bean).getManualGet();
+                case 8:  // derived
+                    return ((RWOnlyBean) bean).getDerived();
+            }
+            throw new NoSuchElementException("Unknown property index: " + propertyIndex);
+        }
+
+        @Override
+        protected void propertySet(Bean bean, int propertyIndex, Object newValue) {
+            switch (propertyIndex) {
+                case 1:  // wo
+                    ((RWOnlyBean) bean).setWo(newValue);
+                    return;
+                case 3:  // priv
+                    ((RWOnlyBean) bean).setPriv((String) newValue);
+                    return;
+                case 4:  // pkg
+                    ((RWOnlyBean) bean).setPkg((String) newValue);
+                    return;
+                case 5:  // prot
+                    ((RWOnlyBean) bean).setProt((String) newValue);
+                    return;
+                case 6:  // field
+                    ((RWOnlyBean) bean).field = (String) newValue;
+                    return;
+            }
+            throw new NoSuchElementException("Unknown property index: " + propertyIndex);
+        }
+
     }
 
     ///CLOVER:ON
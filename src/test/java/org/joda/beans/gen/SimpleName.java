@@ -16,6 +16,7 @@
 package org.joda.beans.gen;
 
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Set;
 
 import org.joda.beans.Bean;
@@ -221,17 +222,17 @@ public class SimpleName
          * The meta-property for the {@code forename} property.
          */
         private final MetaProperty<String> forename = DirectMetaProperty.ofReadWrite(
-                this, "forename", SimpleName.class, String.class);
+                this, "forename", SimpleName.class, String.class, 0);
         /**
          * The meta-property for the {@code middleNames} property.
          */
         private final MetaProperty<String[]> middleNames = DirectMetaProperty.ofReadWrite(
-                this, "middleNames", SimpleName.class, String[].class);
+                this, "middleNames", SimpleName.class, String[].class, 1);
         /**
          * The meta-property for the {@code surname} property.
          */
         private final MetaProperty<String> surname = DirectMetaProperty.ofReadWrite(
-                this, "surname", SimpleName.class, String.class);
+                this, "surname", SimpleName.class, String.class, 2);
         /**
          * The meta-properties.
          */
@@ -336,6 +337,35 @@ public class SimpleName
             super.propertySet(bean, propertyName, newValue, quiet);
         }
 
+        @Override
+        protected Object propertyGet(Bean bean, int propertyIndex) {
+            switch (propertyIndex) {
+                case 0:  // forename
+                    return ((SimpleName) bean).getForename();
+                case 1:  // middleNames
+                    return ((SimpleName) bean).getMiddleNames();
+                case 2:  // surname
+                    return ((SimpleName) bean).getSurname();
+            }
+            throw new NoSuchElementException("Unknown property index: " + propertyIndex);
+        }
+
+        @Override
+        protected void propertySet(Bean bean, int propertyIndex, Object newValue) {
+            switch (propertyIndex) {
+                case 0:  // forename
+                    ((SimpleName) bean).setForename((String) newValue);
+                    return;
+                case 1:  // middleNames
+                    ((SimpleName) bean).setMiddleNames((String[]) newValue);
+                    return;
+                case 2:  // surname
+                    ((SimpleName) bean).setSurname((String) newValue);
+                    return;
+            }
+            throw new NoSuchElementException("Unknown property index: " + propertyIndex);
+        }
+
     }
 
     ///CLOVER:ON
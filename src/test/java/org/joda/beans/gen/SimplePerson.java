@@ -19,6 +19,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Set;
 
 import javax.xml.bind.annotation.XmlElement;
@@ -401,51 +402,51 @@ public final class SimplePerson implements Cloneable, Bean {
          * The meta-property for the {@code forename} property.
          */
         private final MetaProperty<String> forename = DirectMetaProperty.ofReadWrite(
-                this, "forename", SimplePerson.class, String.class);
+                this, "forename", SimplePerson.class, String.class, 0);
         /**
          * The meta-property for the {@code surname} property.
          */
         private final MetaProperty<String> surname = DirectMetaProperty.ofReadWrite(
-                this, "surname", SimplePerson.class, String.class);
+                this, "surname", SimplePerson.class, String.class, 1);
         /**
          * The meta-property for the {@code numberOfCars} property.
          */
         private final MetaProperty<Integer> numberOfCars = DirectMetaProperty.ofReadWrite(
-                this, "numberOfCars", SimplePerson.class, Integer.TYPE);
+                this, "numberOfCars", SimplePerson.class, Integer.TYPE, 2);
         /**
          * The meta-property for the {@code addressList} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<List<Address>> addressList = DirectMetaProperty.ofReadWrite(
-                this, "addressList", SimplePerson.class, (Class) List.class);
+                this, "addressList", SimplePerson.class, (Class) List.class, 3);
         /**
          * The meta-property for the {@code otherAddressMap} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<Map<String, Address>> otherAddressMap = DirectMetaProperty.ofReadWrite(
-                this, "otherAddressMap", SimplePerson.class, (Class) Map.class);
+                this, "otherAddressMap", SimplePerson.class, (Class) Map.class, 4);
         /**
          * The meta-property for the {@code addressesList} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<List<List<Address>>> addressesList = DirectMetaProperty.ofReadWrite(
-                this, "addressesList", SimplePerson.class, (Class) List.class);
+                this, "addressesList", SimplePerson.class, (Class) List.class, 5);
         /**
          * The meta-property for the {@code mainAddress} property.
          */
         private final MetaProperty<Address> mainAddress = DirectMetaProperty.ofReadWrite(
-                this, "mainAddress", SimplePerson.class, Address.class);
+                this, "mainAddress", SimplePerson.class, Address.class, 6);
         /**
          * The meta-property for the {@code propDefAnnotationSecondDeprecated} property.
          */
         private final MetaProperty<FlexiBean> propDefAnnotationSecondDeprecated = DirectMetaProperty.ofReadWrite(
-                this, "propDefAnnotationSecondDeprecated", SimplePerson.class, FlexiBean.class);
+                this, "propDefAnnotationSecondDeprecated", SimplePerson.class, FlexiBean.class, 7);
         /**
          * The meta-property for the {@code propDefAnnotationSecondManual} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<Map<String, String>> propDefAnnotationSecondManual = DirectMetaProperty.ofReadWrite(
-                this, "propDefAnnotationSecondManual", SimplePerson.class, (Class) Map.class);
+                this, "propDefAnnotationSecondManual", SimplePerson.class, (Class) Map.class, 8);
         /**
          * The meta-properties.
          */
@@ -642,6 +643,85 @@ public final class SimplePerson implements Cloneable, Bean {
             super.propertySet(bean, propertyName, newValue, quiet);
         }
 
+        @Override
+        protected Object propertyGet(Bean bean, int propertyIndex) {
+            switch (propertyIndex) {
+                case 0:  // forename
+                    return ((SimplePerson) bean).getForename();
+                case 1:  // surname
+                    return ((SimplePerson) bean).getSurname();
+                case 2:  // numberOfCars
+                    return ((SimplePerson) bean).getNumberOfCars();
+                case 3:  // addressList
+                    return ((SimplePerson) bean).getAddressList();
+                case 4:  // otherAddressMap
+                    return ((SimplePerson) bean).getOtherAddressMap();
+                case 5:  // addressesList
+                    return ((SimplePerson) bean).getAddressesList();
+                case 6:  // mainAddress
+                    return ((SimplePerson) bean).getMainAddress();
+                case 7:  // propDefAnnotationSecondDeprecated
+                    return ((SimplePerson) bean).getPropDefAnnotationSecondDeprecated();
+                case 8:  // propDefAnnotationSecondManual
+                    return ((SimplePerson) bean).getPropDefAnnotationSecondManual();
+            }
+            throw new NoSuchElementException("Unknown property index: " + propertyIndex);
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        protected void propertySet(Bean bean, int propertyIndex, Object newValue) {
+            switch (propertyIndex) {
+                case 0:  // forename
+                    ((SimplePerson) bean).setForename((String) newValue);
+                    return;
+                case 1:  // surname
+                    ((SimplePerson) bean).setSurname((String) newValue);
+                    return;
+                case 2:  // numberOfCars
+                    ((SimplePerson) bean).setNumberOfCars((Integer) newValue);
+                    return;
+                case 3:  // addressList
+                    ((SimplePerson) bean).setAddressList((List<Address>) newValue);
+                    return;
+                case 4:  // otherAddressMap
+                    ((SimplePerson) bean).setOtherAddressMap((Map<String, Address>) newValue);
+                    return;
+                case 5:  // addressesList
+                    ((SimplePerson) bean).setAddressesList((List<List<Address>>) newValue);
+                    return;
+                case 6:  // mainAddress
+                    ((SimplePerson) bean).setMainAddress((Address) newValue);
+                    return;
+                case 7:  // propDefAnnotationSecondDeprecated
+                    ((SimplePerson) bean).setPropDefAnnotationSecondDeprecated((FlexiBean) newValue);
+                    return;
+                case 8:  // propDefAnnotationSecondManual
+                    ((SimplePerson) bean).setPropDefAnnotationSecondManual((Map<String, String>) newValue);
+                    return;
+            }
+            throw new NoSuchElementException("Unknown property index: " + propertyIndex);
+        }
+
+        @Override
+        protected int propertyGetInt(Bean bean, int propertyIndex) {
+            switch (propertyIndex) {
+                case 2:  // numberOfCars
+                    return ((SimplePerson) bean).getNumberOfCars();
+            }
+            throw new NoSuchElementException("Unknown property index: " + propertyIndex);
+        }
+
+        @Override
+        protected void propertySetInt(Bean bean, int propertyIndex, int newValue) {
+            switch (propertyIndex) {
+                case 2:  // numberOfCars
+                    ((SimplePerson) bean).setNumberOfCars(newValue);
+                    return;
+            }
+            throw new NoSuchElementException("Unknown property index: " + propertyIndex);
+        }
+
         @Override
         protected void validate(Bean bean) {
             JodaBeanUtils.notNull(((SimplePerson) bean).addressList, "addressList");
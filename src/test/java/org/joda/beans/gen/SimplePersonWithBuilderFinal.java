@@ -387,45 +387,45 @@ public final class SimplePersonWithBuilderFinal implements Cloneable, Bean {
          * The meta-property for the {@code forename} property.
          */
         private final MetaProperty<String> forename = DirectMetaProperty.ofReadWrite(
-                this, "forename", SimplePersonWithBuilderFinal.class, String.class);
+                this, "forename", SimplePersonWithBuilderFinal.class, String.class, 0);
         /**
          * The meta-property for the {@code surname} property.
          */
         private final MetaProperty<String> surname = DirectMetaProperty.ofReadOnlyBuildable(
-                this, "surname", SimplePersonWithBuilderFinal.class, String.class);
+                this, "surname", SimplePersonWithBuilderFinal.class, String.class, 1);
         /**
          * The meta-property for the {@code numberOfCars} property.
          */
         private final MetaProperty<Integer> numberOfCars = DirectMetaProperty.ofReadWrite(
-                this, "numberOfCars", SimplePersonWithBuilderFinal.class, Integer.TYPE);
+                this, "numberOfCars", SimplePersonWithBuilderFinal.class, Integer.TYPE, 2);
         /**
          * The meta-property for the {@code addressList} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<List<Address>> addressList = DirectMetaProperty.ofReadWrite(
-                this, "addressList", SimplePersonWithBuilderFinal.class, (Class) List.class);
+                this, "addressList", SimplePersonWithBuilderFinal.class, (Class) List.class, 3);
         /**
          * The meta-property for the {@code otherAddressMap} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<Map<String, Address>> otherAddressMap = DirectMetaProperty.ofReadWrite(
-                this, "otherAddressMap", SimplePersonWithBuilderFinal.class, (Class) Map.class);
+                this, "otherAddressMap", SimplePersonWithBuilderFinal.class, (Class) Map.class, 4);
         /**
          * The meta-property for the {@code addressesList} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<List<List<Address>>> addressesList = DirectMetaProperty.ofReadWrite(
-                this, "addressesList", SimplePersonWithBuilderFinal.class, (Class) List.class);
+                this, "addressesList", SimplePersonWithBuilderFinal.class, (Class) List.class, 5);
         /**
          * The meta-property for the {@code mainAddress} property.
          */
         private final MetaProperty<Address> mainAddress = DirectMetaProperty.ofReadWrite(
-                this, "mainAddress", SimplePersonWithBuilderFinal.class, Address.class);
+                this, "mainAddress", SimplePersonWithBuilderFinal.class, Address.class, 6);
         /**
          * The meta-property for the {@code tags} property.
          */
         private final MetaProperty<String[]> tags = DirectMetaProperty.ofReadWrite(
-                this, "tags", SimplePersonWithBuilderFinal.class, String[].class);
+                this, "tags", SimplePersonWithBuilderFinal.class, String[].class, 7);
         /**
          * The meta-properties.
          */
@@ -607,6 +607,77 @@ public final class SimplePersonWithBuilderFinal implements Cloneable, Bean {
             super.propertySet(bean, propertyName, newValue, quiet);
         }
 
+        @Override
+        protected Object propertyGet(Bean bean, int propertyIndex) {
+            switch (propertyIndex) {
+                case 0:  // forename
+                    return ((SimplePersonWithBuilderFinal) bean).getForename();
+                case 1:  // surname
+                    return ((SimplePersonWithBuilderFinal) bean).getSurname();
+                case 2:  // numberOfCars
+                    return ((SimplePersonWithBuilderFinal) bean).getNumberOfCars();
+                case 3:  // addressList
+                    return ((SimplePersonWithBuilderFinal) bean).getAddressList();
+                case 4:  // otherAddressMap
+                    return ((SimplePersonWithBuilderFinal) bean).getOtherAddressMap();
+                case 5:  // addressesList
+                    return ((SimplePersonWithBuilderFinal) bean).getAddressesList();
+                case 6:  // mainAddress
+                    return ((SimplePersonWithBuilderFinal) bean).getMainAddress();
+                case 7:  // tags
+                    return ((SimplePersonWithBuilderFinal) bean).getTags();
+            }
+            throw new NoSuchElementException("Unknown property index: " + propertyIndex);
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        protected void propertySet(Bean bean, int propertyIndex, Object newValue) {
+            switch (propertyIndex) {
+                case 0:  // forename
+                    ((SimplePersonWithBuilderFinal) bean).setForename((String) newValue);
+                    return;
+                case 2:  // numberOfCars
+                    ((SimplePersonWithBuilderFinal) bean).setNumberOfCars((Integer) newValue);
+                    return;
+                case 3:  // addressList
+                    ((SimplePersonWithBuilderFinal) bean).setAddressList((List<Address>) newValue);
+                    return;
+                case 4:  // otherAddressMap
+                    ((SimplePersonWithBuilderFinal) bean).setOtherAddressMap((Map<String, Address>) newValue);
+                    return;
+                case 5:  // addressesList
+                    ((SimplePersonWithBuilderFinal) bean).setAddressesList((List<List<Address>>) newValue);
+                    return;
+                case 6:  // mainAddress
+                    ((SimplePersonWithBuilderFinal) bean).setMainAddress((Address) newValue);
+                    return;
+                case 7:  // tags
+                    ((SimplePersonWithBuilderFinal) bean).setTags((String[]) newValue);
+                    return;
+            }
+            throw new NoSuchElementException("Unknown property index: " + propertyIndex);
+        }
+
+        @Override
+        protected int propertyGetInt(Bean bean, int propertyIndex) {
+            switch (propertyIndex) {
+                case 2:  // numberOfCars
+                    return ((SimplePersonWithBuilderFinal) bean).getNumberOfCars();
+            }
+            throw new NoSuchElementException("Unknown property index: " + propertyIndex);
+        }
+
+        @Override
+        protected void propertySetInt(Bean bean, int propertyIndex, int newValue) {
+            switch (propertyIndex) {
+                case 2:  // numberOfCars
+                    ((SimplePersonWithBuilderFinal) bean).setNumberOfCars(newValue);
+                    return;
+            }
+            throw new NoSuchElementException("Unknown property index: " + propertyIndex);
+        }
+
         @Override
         protected void validate(Bean bean) {
             JodaBeanUtils.notNull(((SimplePersonWithBuilderFinal) bean).surname, "surname");
@@ -712,6 +783,41 @@ public final class SimplePersonWithBuilderFinal implements Cloneable, Bean {
             return this;
         }
 
+        @SuppressWarnings("unchecked")
+        @Override
+        protected boolean setByIndex(DirectMetaProperty<?> metaProperty, Object newValue) {
+            if (metaProperty.declaringType() != SimplePersonWithBuilderFinal.class) {
+                return super.setByIndex(metaProperty, newValue);
+            }
+            switch (metaProperty.index()) {
+                case 0:  // forename
+                    this.forename = (String) newValue;
+                    return true;
+                case 1:  // surname
+                    this.surname = (String) newValue;
+                    return true;
+                case 2:  // numberOfCars
+                    this.numberOfCars = (Integer) newValue;
+                    return true;
+                case 3:  // addressList
+                    this.addressList = (List<Address>) newValue;
+                    return true;
+                case 4:  // otherAddressMap
+                    this.otherAddressMap = (Map<String, Address>) newValue;
+                    return true;
+                case 5:  // addressesList
+                    this.addressesList = (List<List<Address>>) newValue;
+                    return true;
+                case 6:  // mainAddress
+                    this.mainAddress = (Address) newValue;
+                    return true;
+                case 7:  // tags
+                    this.tags = (String[]) newValue;
+                    return true;
+            }
+            return false;
+        }
+
         @Override
         public Builder set(MetaProperty<?> property, Object value) {
             super.set(property, value);
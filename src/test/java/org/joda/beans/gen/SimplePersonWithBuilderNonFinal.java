@@ -364,40 +364,40 @@ public class SimplePersonWithBuilderNonFinal implements Cloneable, Bean {
          * The meta-property for the {@code forename} property.
          */
         private final MetaProperty<String> forename = DirectMetaProperty.ofReadWrite(
-                this, "forename", SimplePersonWithBuilderNonFinal.class, String.class);
+                this, "forename", SimplePersonWithBuilderNonFinal.class, String.class, 0);
         /**
          * The meta-property for the {@code surname} property.
          */
         private final MetaProperty<String> surname = DirectMetaProperty.ofReadOnlyBuildable(
-                this, "surname", SimplePersonWithBuilderNonFinal.class, String.class);
+                this, "surname", SimplePersonWithBuilderNonFinal.class, String.class, 1);
         /**
          * The meta-property for the {@code numberOfCars} property.
          */
         private final MetaProperty<Integer> numberOfCars = DirectMetaProperty.ofReadWrite(
-                this, "numberOfCars", SimplePersonWithBuilderNonFinal.class, Integer.TYPE);
+                this, "numberOfCars", SimplePersonWithBuilderNonFinal.class, Integer.TYPE, 2);
         /**
          * The meta-property for the {@code addressList} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<List<Address>> addressList = DirectMetaProperty.ofReadWrite(
-                this, "addressList", SimplePersonWithBuilderNonFinal.class, (Class) List.class);
+                this, "addressList", SimplePersonWithBuilderNonFinal.class, (Class) List.class, 3);
         /**
          * The meta-property for the {@code otherAddressMap} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<Map<String, Address>> otherAddressMap = DirectMetaProperty.ofReadWrite(
-                this, "otherAddressMap", SimplePersonWithBuilderNonFinal.class, (Class) Map.class);
+                this, "otherAddressMap", SimplePersonWithBuilderNonFinal.class, (Class) Map.class, 4);
         /**
          * The meta-property for the {@code addressesList} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<List<List<Address>>> addressesList = DirectMetaProperty.ofReadWrite(
-                this, "addressesList", SimplePersonWithBuilderNonFinal.class, (Class) List.class);
+                this, "addressesList", SimplePersonWithBuilderNonFinal.class, (Class) List.class, 5);
         /**
          * The meta-property for the {@code mainAddress} property.
          */
         private final MetaProperty<Address> mainAddress = DirectMetaProperty.ofReadWrite(
-                this, "mainAddress", SimplePersonWithBuilderNonFinal.class, Address.class);
+                this, "mainAddress", SimplePersonWithBuilderNonFinal.class, Address.class, 6);
         /**
          * The meta-properties.
          */
@@ -563,6 +563,72 @@ public class SimplePersonWithBuilderNonFinal implements Cloneable, Bean {
             super.propertySet(bean, propertyName, newValue, quiet);
         }
 
+        @Override
+        protected Object propertyGet(Bean bean, int propertyIndex) {
+            switch (propertyIndex) {
+                case 0:  // forename
+                    return ((SimplePersonWithBuilderNonFinal) bean).getForename();
+                case 1:  // surname
+                    return ((SimplePersonWithBuilderNonFinal) bean).getSurname();
+                case 2:  // numberOfCars
+                    return ((SimplePersonWithBuilderNonFinal) bean).getNumberOfCars();
+                case 3:  // addressList
+                    return ((SimplePersonWithBuilderNonFinal) bean).getAddressList();
+                case 4:  // otherAddressMap
+                    return ((SimplePersonWithBuilderNonFinal) bean).getOtherAddressMap();
+                case 5:  // addressesList
+                    return ((SimplePersonWithBuilderNonFinal) bean).getAddressesList();
+                case 6:  // mainAddress
+                    return ((SimplePersonWithBuilderNonFinal) bean).getMainAddress();
+            }
+            throw new NoSuchElementException("Unknown property index: " + propertyIndex);
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        protected void propertySet(Bean bean, int propertyIndex, Object newValue) {
+            switch (propertyIndex) {
+                case 0:  // forename
+                    ((SimplePersonWithBuilderNonFinal) bean).setForename((String) newValue);
+                    return;
+                case 2:  // numberOfCars
+                    ((SimplePersonWithBuilderNonFinal) bean).setNumberOfCars((Integer) newValue);
+                    return;
+                case 3:  // addressList
+                    ((SimplePersonWithBuilderNonFinal) bean).setAddressList((List<Address>) newValue);
+                    return;
+                case 4:  // otherAddressMap
+                    ((SimplePersonWithBuilderNonFinal) bean).setOtherAddressMap((Map<String, Address>) newValue);
+                    return;
+                case 5:  // addressesList
+                    ((SimplePersonWithBuilderNonFinal) bean).setAddressesList((List<List<Address>>) newValue);
+                    return;
+                case 6:  // mainAddress
+                    ((SimplePersonWithBuilderNonFinal) bean).setMainAddress((Address) newValue);
+                    return;
+            }
+            throw new NoSuchElementException("Unknown property index: " + propertyIndex);
+        }
+
+        @Override
+        protected int propertyGetInt(Bean bean, int propertyIndex) {
+            switch (propertyIndex) {
+                case 2:  // numberOfCars
+                    return ((SimplePersonWithBuilderNonFinal) bean).getNumberOfCars();
+            }
+            throw new NoSuchElementException("Unknown property index: " + propertyIndex);
+        }
+
+        @Override
+        protected void propertySetInt(Bean bean, int propertyIndex, int newValue) {
+            switch (propertyIndex) {
+                case 2:  // numberOfCars
+                    ((SimplePersonWithBuilderNonFinal) bean).setNumberOfCars(newValue);
+                    return;
+            }
+            throw new NoSuchElementException("Unknown property index: " + propertyIndex);
+        }
+
         @Override
         protected void validate(Bean bean) {
             JodaBeanUtils.notNull(((SimplePersonWithBuilderNonFinal) bean).surname, "surname");
@@ -661,6 +727,38 @@ public class SimplePersonWithBuilderNonFinal implements Cloneable, Bean {
             return this;
         }
 
+        @SuppressWarnings("unchecked")
+        @Override
+        protected boolean setByIndex(DirectMetaProperty<?> metaProperty, Object newValue) {
+            if (metaProperty.declaringType() != SimplePersonWithBuilderNonFinal.class) {
+                return super.setByIndex(metaProperty, newValue);
+            }
+            switch (metaProperty.index()) {
+                case 0:  // forename
+                    this.forename = (String) newValue;
+                    return true;
+                case 1:  // surname
+                    this.surname = (String) newValue;
+                    return true;
+                case 2:  // numberOfCars
+                    this.numberOfCars = (Integer) newValue;
+                    return true;
+                case 3:  // addressList
+                    this.addressList = (List<Address>) newValue;
+                    return true;
+                case 4:  // otherAddressMap
+                    this.otherAddressMap = (Map<String, Address>) newValue;
+                    return true;
+                case 5:  // addressesList
+                    this.addressesList = (List<List<Address>>) newValue;
+                    return true;
+                case 6:  // mainAddress
+                    this.mainAddress = (Address) newValue;
+                    return true;
+            }
+            return false;
+        }
+
         @Override
         public Builder set(MetaProperty<?> property, Object value) {
             super.set(property, value);
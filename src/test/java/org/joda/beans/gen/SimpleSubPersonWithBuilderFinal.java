@@ -16,6 +16,7 @@
 package org.joda.beans.gen;
 
 import java.util.Map;
+import java.util.NoSuchElementException;
 
 import org.joda.beans.Bean;
 import org.joda.beans.BeanDefinition;
@@ -158,7 +159,7 @@ public final class SimpleSubPersonWithBuilderFinal extends SimplePersonWithBuild
          * The meta-property for the {@code middleName} property.
          */
         private final MetaProperty<String> middleName = DirectMetaProperty.ofReadWrite(
-                this, "middleName", SimpleSubPersonWithBuilderFinal.class, String.class);
+                this, "middleName", SimpleSubPersonWithBuilderFinal.class, String.class, 0);
         /**
          * The meta-properties.
          */
@@ -225,6 +226,25 @@ public final class SimpleSubPersonWithBuilderFinal extends SimplePersonWithBuild
             super.propertySet(bean, propertyName, newValue, quiet);
         }
 
+        @Override
+        protected Object propertyGet(Bean bean, int propertyIndex) {
+            switch (propertyIndex) {
+                case 0:  // middleName
+                    return ((SimpleSubPersonWithBuilderFinal) bean).getMiddleName();
+            }
+            throw new NoSuchElementException("Unknown property index: " + propertyIndex);
+        }
+
+        @Override
+        protected void propertySet(Bean bean, int propertyIndex, Object newValue) {
+            switch (propertyIndex) {
+                case 0:  // middleName
+                    ((SimpleSubPersonWithBuilderFinal) bean).setMiddleName((String) newValue);
+                    return;
+            }
+            throw new NoSuchElementException("Unknown property index: " + propertyIndex);
+        }
+
     }
 
     //-----------------------------------------------------------------------
@@ -273,6 +293,19 @@ public final class SimpleSubPersonWithBuilderFinal extends SimplePersonWithBuild
             return this;
         }
 
+        @Override
+        protected boolean setByIndex(DirectMetaProperty<?> metaProperty, Object newValue) {
+            if (metaProperty.declaringType() != SimpleSubPersonWithBuilderFinal.class) {
+                return super.setByIndex(metaProperty, newValue);
+            }
+            switch (metaProperty.index()) {
+                case 0:  // middleName
+                    this.middleName = (String) newValue;
+                    return true;
+            }
+            return false;
+        }
+
         @Override
         public Builder set(MetaProperty<?> property, Object value) {
             super.set(property, value);
@@ -16,6 +16,7 @@
 package org.joda.beans.gen;
 
 import java.util.Map;
+import java.util.NoSuchElementException;
 
 import org.joda.beans.Bean;
 import org.joda.beans.BeanBuilder;
@@ -149,7 +150,7 @@ public class SubValidateBean extends ValidateBean {
          * The meta-property for the {@code sub} property.
          */
         private final MetaProperty<String> sub = DirectMetaProperty.ofReadWrite(
-                this, "sub", SubValidateBean.class, String.class);
+                this, "sub", SubValidateBean.class, String.class, 0);
         /**
          * The meta-properties.
          */
@@ -216,6 +217,25 @@ public class SubValidateBean extends ValidateBean {
             super.propertySet(bean, propertyName, newValue, quiet);
         }
 
+        @Override
+        protected Object propertyGet(Bean bean, int propertyIndex) {
+            switch (propertyIndex) {
+                case 0:  // sub
+                    return ((SubValidateBean) bean).getSub();
+            }
+            throw new NoSuchElementException("Unknown property index: " + propertyIndex);
+        }
+
+        @Override
+        protected void propertySet(Bean bean, int propertyIndex, Object newValue) {
+            switch (propertyIndex) {
+                case 0:  // sub
+                    ((SubValidateBean) bean).setSub((String) newValue);
+                    return;
+            }
+            throw new NoSuchElementException("Unknown property index: " + propertyIndex);
+        }
+
         @Override
         protected void validate(Bean bean) {
             JodaBeanUtils.notNull(((SubValidateBean) bean).sub, "sub");
@@ -255,19 +255,19 @@ public final class TupleFinal<X, Y, Z> implements Bean {
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<X> first = (DirectMetaProperty) DirectMetaProperty.ofReadWrite(
-                this, "first", TupleFinal.class, Object.class);
+                this, "first", TupleFinal.class, Object.class, 0);
         /**
          * The meta-property for the {@code second} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<Y> second = (DirectMetaProperty) DirectMetaProperty.ofReadWrite(
-                this, "second", TupleFinal.class, Object.class);
+                this, "second", TupleFinal.class, Object.class, 1);
         /**
          * The meta-property for the {@code third} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<Z> third = (DirectMetaProperty) DirectMetaProperty.ofReadWrite(
-                this, "third", TupleFinal.class, Object.class);
+                this, "third", TupleFinal.class, Object.class, 2);
         /**
          * The meta-properties.
          */
@@ -368,6 +368,36 @@ public final class TupleFinal<X, Y, Z> implements Bean {
             super.propertySet(bean, propertyName, newValue, quiet);
         }
 
+        @Override
+        protected Object propertyGet(Bean bean, int propertyIndex) {
+            switch (propertyIndex) {
+                case 0:  // first
+                    return ((TupleFinal<?, ?, ?>) bean).getFirst();
+                case 1:  // second
+                    return ((TupleFinal<?, ?, ?>) bean).getSecond();
+                case 2:  // third
+                    return ((TupleFinal<?, ?, ?>) bean).getThird();
+            }
+            throw new NoSuchElementException("Unknown property index: " + propertyIndex);
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        protected void propertySet(Bean bean, int propertyIndex, Object newValue) {
+            switch (propertyIndex) {
+                case 0:  // first
+                    ((TupleFinal<X, Y, Z>) bean).setFirst((X) newValue);
+                    return;
+                case 1:  // second
+                    ((TupleFinal<X, Y, Z>) bean).setSecond((Y) newValue);
+                    return;
+                case 2:  // third
+                    ((TupleFinal<X, Y, Z>) bean).setThird((Z) newValue);
+                    return;
+            }
+            throw new NoSuchElementException("Unknown property index: " + propertyIndex);
+        }
+
     }
 
     //-----------------------------------------------------------------------
@@ -433,6 +463,26 @@ public final class TupleFinal<X, Y, Z> implements Bean {
             return this;
         }
 
+        @SuppressWarnings("unchecked")
+        @Override
+        protected boolean setByIndex(DirectMetaProperty<?> metaProperty, Object newValue) {
+            if (metaProperty.declaringType() != TupleFinal.class) {
+                return super.setByIndex(metaProperty, newValue);
+            }
+            switch (metaProperty.index()) {
+                case 0:  // first
+                    this.first = (X) newValue;
+                    return true;
+                case 1:  // second
+                    this.second = (Y) newValue;
+                    return true;
+                case 2:  // third
+                    this.third = (Z) newValue;
+                    return true;
+            }
+            return false;
+        }
+
         @Override
         public Builder<X, Y, Z> set(MetaProperty<?> property, Object value) {
             super.set(property, value);
@@ -210,19 +210,19 @@ public final class TupleImmutable<X, Y, Z extends Address> implements ImmutableB
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<X> first = (DirectMetaProperty) DirectMetaProperty.ofImmutable(
-                this, "first", TupleImmutable.class, Object.class);
+                this, "first", TupleImmutable.class, Object.class, 0);
         /**
          * The meta-property for the {@code second} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<Y> second = (DirectMetaProperty) DirectMetaProperty.ofImmutable(
-                this, "second", TupleImmutable.class, Object.class);
+                this, "second", TupleImmutable.class, Object.class, 1);
         /**
          * The meta-property for the {@code third} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<Z> third = (DirectMetaProperty) DirectMetaProperty.ofImmutable(
-                this, "third", TupleImmutable.class, Object.class);
+                this, "third", TupleImmutable.class, Object.class, 2);
         /**
          * The meta-properties.
          */
@@ -315,6 +315,19 @@ public final class TupleImmutable<X, Y, Z extends Address> implements ImmutableB
             throw new UnsupportedOperationException("Property cannot be written: " + propertyName);
         }
 
+        @Override
+        protected Object propertyGet(Bean bean, int propertyIndex) {
+            switch (propertyIndex) {
+                case 0:  // first
+                    return ((TupleImmutable<?, ?, ?>) bean).getFirst();
+                case 1:  // second
+                    return ((TupleImmutable<?, ?, ?>) bean).getSecond();
+                case 2:  // third
+                    return ((TupleImmutable<?, ?, ?>) bean).getThird();
+            }
+            throw new NoSuchElementException("Unknown property index: " + propertyIndex);
+        }
+
     }
 
     //-----------------------------------------------------------------------
@@ -380,6 +393,26 @@ public final class TupleImmutable<X, Y, Z extends Address> implements ImmutableB
             return this;
         }
 
+        @SuppressWarnings("unchecked")
+        @Override
+        protected boolean setByIndex(DirectMetaProperty<?> metaProperty, Object newValue) {
+            if (metaProperty.declaringType() != TupleImmutable.class) {
+                return super.setByIndex(metaProperty, newValue);
+            }
+            switch (metaProperty.index()) {
+                case 0:  // first
+                    this.first = (X) newValue;
+                    return true;
+                case 1:  // second
+                    this.second = (Y) newValue;
+                    return true;
+                case 2:  // third
+                    this.third = (Z) newValue;
+                    return true;
+            }
+            return false;
+        }
+
         @Override
         public Builder<X, Y, Z> set(MetaProperty<?> property, Object value) {
             super.set(property, value);
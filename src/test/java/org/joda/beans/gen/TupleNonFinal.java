@@ -16,6 +16,7 @@
 package org.joda.beans.gen;
 
 import java.util.Map;
+import java.util.NoSuchElementException;
 
 import org.joda.beans.Bean;
 import org.joda.beans.BeanBuilder;
@@ -232,19 +233,19 @@ public class TupleNonFinal<X, Y, Z> extends DirectBean {
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<X> first = (DirectMetaProperty) DirectMetaProperty.ofReadWrite(
-                this, "first", TupleNonFinal.class, Object.class);
+                this, "first", TupleNonFinal.class, Object.class, 0);
         /**
          * The meta-property for the {@code second} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<Y> second = (DirectMetaProperty) DirectMetaProperty.ofReadWrite(
-                this, "second", TupleNonFinal.class, Object.class);
+                this, "second", TupleNonFinal.class, Object.class, 1);
         /**
          * The meta-property for the {@code third} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<Z> third = (DirectMetaProperty) DirectMetaProperty.ofReadWrite(
-                this, "third", TupleNonFinal.class, Object.class);
+                this, "third", TupleNonFinal.class, Object.class, 2);
         /**
          * The meta-properties.
          */
@@ -345,6 +346,36 @@ public class TupleNonFinal<X, Y, Z> extends DirectBean {
             super.propertySet(bean, propertyName, newValue, quiet);
         }
 
+        @Override
+        protected Object propertyGet(Bean bean, int propertyIndex) {
+            switch (propertyIndex) {
+                case 0:  // first
+                    return ((TupleNonFinal<?, ?, ?>) bean).getFirst();
+                case 1:  // second
+                    return ((TupleNonFinal<?, ?, ?>) bean).getSecond();
+                case 2:  // third
+                    return ((TupleNonFinal<?, ?, ?>) bean).getThird();
+            }
+            throw new NoSuchElementException("Unknown property index: " + propertyIndex);
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        protected void propertySet(Bean bean, int propertyIndex, Object newValue) {
+            switch (propertyIndex) {
+                case 0:  // first
+                    ((TupleNonFinal<X, Y, Z>) bean).setFirst((X) newValue);
+                    return;
+                case 1:  // second
+                    ((TupleNonFinal<X, Y, Z>) bean).setSecond((Y) newValue);
+                    return;
+                case 2:  // third
+                    ((TupleNonFinal<X, Y, Z>) bean).setThird((Z) newValue);
+                    return;
+            }
+            throw new NoSuchElementException("Unknown property index: " + propertyIndex);
+        }
+
     }
 
     ///CLOVER:ON
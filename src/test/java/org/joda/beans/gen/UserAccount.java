@@ -17,6 +17,7 @@ package org.joda.beans.gen;
 
 import java.util.Date;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Set;
 
 import org.joda.beans.Bean;
@@ -247,22 +248,22 @@ public final class UserAccount implements Bean {
          * The meta-property for the {@code userId} property.
          */
         private final MetaProperty<String> userId = DirectMetaProperty.ofReadWrite(
-                this, "userId", UserAccount.class, String.class);
+                this, "userId", UserAccount.class, String.class, 0);
         /**
          * The meta-property for the {@code emailAddress} property.
          */
         private final MetaProperty<String> emailAddress = DirectMetaProperty.ofReadWrite(
-                this, "emailAddress", UserAccount.class, String.class);
+                this, "emailAddress", UserAccount.class, String.class, 1);
         /**
          * The meta-property for the {@code numberLogins} property.
          */
         private final MetaProperty<Integer> numberLogins = DirectMetaProperty.ofReadWrite(
-                this, "numberLogins", UserAccount.class, Integer.TYPE);
+                this, "numberLogins", UserAccount.class, Integer.TYPE, 2);
         /**
          * The meta-property for the {@code lastLogin} property.
          */
         private final MetaProperty<Date> lastLogin = DirectMetaProperty.ofReadWrite(
-                this, "lastLogin", UserAccount.class, Date.class);
+                this, "lastLogin", UserAccount.class, Date.class, 3);
         /**
          * The meta-properties.
          */
@@ -377,6 +378,59 @@ public final class UserAccount implements Bean {
             super.propertySet(bean, propertyName, newValue, quiet);
         }
 
+        @Override
+        protected Object propertyGet(Bean bean, int propertyIndex) {
+            switch (propertyIndex) {
+                case 0:  // userId
+                    return ((UserAccount) bean).getUserId();
+                case 1:  // emailAddress
+                    return ((UserAccount) bean).getEmailAddress();
+                case 2:  // numberLogins
+                    return ((UserAccount) bean).getNumberLogins();
+                case 3:  // lastLogin
+                    return ((UserAccount) bean).getLastLogin();
+            }
+            throw new NoSuchElementException("Unknown property index: " + propertyIndex);
+        }
+
+        @Override
+        protected void propertySet(Bean bean, int propertyIndex, Object newValue) {
+            switch (propertyIndex) {
+                case 0:  // userId
+                    ((UserAccount) bean).setUserId((String) newValue);
+                    return;
+                case 1:  // emailAddress
+                    ((UserAccount) bean).setEmailAddress((String) newValue);
+                    return;
+                case 2:  // numberLogins
+                    ((UserAccount) bean).setNumberLogins((Integer) newValue);
+                    return;
+                case 3:  // lastLogin
+                    ((UserAccount) bean).setLastLogin((Date) newValue);
+                    return;
+            }
+            throw new NoSuchElementException("Unknown property index: " + propertyIndex);
+        }
+
+        @Override
+        protected int propertyGetInt(Bean bean, int propertyIndex) {
+            switch (propertyIndex) {
+                case 2:  // numberLogins
+                    return ((UserAccount) bean).getNumberLogins();
+            }
+            throw new NoSuchElementException("Unknown property index: " + propertyIndex);
+        }
+
+        @Override
+        protected void propertySetInt(Bean bean, int propertyIndex, int newValue) {
+            switch (propertyIndex) {
+                case 2:  // numberLogins
+                    ((UserAccount) bean).setNumberLogins(newValue);
+                    return;
+            }
+            throw new NoSuchElementException("Unknown property index: " + propertyIndex);
+        }
+
         @Override
         protected void validate(Bean bean) {
             JodaBeanUtils.notEmpty(((UserAccount) bean).userId, "userId");
@@ -16,6 +16,7 @@
 package org.joda.beans.gen;
 
 import java.util.Map;
+import java.util.NoSuchElementException;
 
 import org.joda.beans.Bean;
 import org.joda.beans.BeanBuilder;
@@ -257,22 +258,22 @@ public class ValidateBean extends DirectBean {
          * The meta-property for the {@code first} property.
          */
         private final MetaProperty<String> first = DirectMetaProperty.ofReadWrite(
-                this, "first", ValidateBean.class, String.class);
+                this, "first", ValidateBean.class, String.class, 0);
         /**
          * The meta-property for the {@code second} property.
          */
         private final MetaProperty<String> second = DirectMetaProperty.ofReadWrite(
-                this, "second", ValidateBean.class, String.class);
+                this, "second", ValidateBean.class, String.class, 1);
         /**
          * The meta-property for the {@code third} property.
          */
         private final MetaProperty<String> third = DirectMetaProperty.ofReadWrite(
-                this, "third", ValidateBean.class, String.class);
+                this, "third", ValidateBean.class, String.class, 2);
         /**
          * The meta-property for the {@code fourth} property.
          */
         private final MetaProperty<String> fourth = DirectMetaProperty.ofReadWrite(
-                this, "fourth", ValidateBean.class, String.class);
+                this, "fourth", ValidateBean.class, String.class, 3);
         /**
          * The meta-properties.
          */
@@ -387,6 +388,40 @@ public class ValidateBean extends DirectBean {
             super.propertySet(bean, propertyName, newValue, quiet);
         }
 
+        @Override
+        protected Object propertyGet(Bean bean, int propertyIndex) {
+            switch (propertyIndex) {
+                case 0:  // first
+                    return ((ValidateBean) bean).getFirst();
+                case 1:  // second
+                    return ((ValidateBean) bean).getSecond();
+                case 2:  // third
+                    return ((ValidateBean) bean).getThird();
+                case 3:  // fourth
+                    return ((ValidateBean) bean).getFourth();
+            }
+            throw new NoSuchElementException("Unknown property index: " + propertyIndex);
+        }
+
+        @Override
+        protected void propertySet(Bean bean, int propertyIndex, Object newValue) {
+            switch (propertyIndex) {
+                case 0:  // first
+                    ((ValidateBean) bean).setFirst((String) newValue);
+                    return;
+                case 1:  // second
+                    ((ValidateBean) bean).setSecond((String) newValue);
+                    return;
+                case 2:  // third
+                    ((ValidateBean) bean).setThird((String) newValue);
+                    return;
+                case 3:  // fourth
+                    ((ValidateBean) bean).setFourth((String) newValue);
+                    return;
+            }
+            throw new NoSuchElementException("Unknown property index: " + propertyIndex);
+        }
+
         @Override
         protected void validate(Bean bean) {
             JodaBeanUtils.notNull(((ValidateBean) bean).first, "first");
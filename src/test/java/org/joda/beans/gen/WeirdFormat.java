@@ -16,6 +16,7 @@
 package org.joda.beans.gen;
 
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Set;
 
 import org.joda.beans.Bean;
@@ -278,27 +279,27 @@ public class WeirdFormat
          * The meta-property for the {@code forename1} property.
          */
         private final MetaProperty<String> forename1 = DirectMetaProperty.ofReadWrite(
-                this, "forename1", WeirdFormat.class, String.class);
+                this, "forename1", WeirdFormat.class, String.class, 0);
         /**
          * The meta-property for the {@code forename2} property.
          */
         private final MetaProperty<String> forename2 = DirectMetaProperty.ofReadWrite(
-                this, "forename2", WeirdFormat.class, String.class);
+                this, "forename2", WeirdFormat.class, String.class, 1);
         /**
          * The meta-property for the {@code forename3} property.
          */
         private final MetaProperty<String> forename3 = DirectMetaProperty.ofReadWrite(
-                this, "forename3", WeirdFormat.class, String.class);
+                this, "forename3", WeirdFormat.class, String.class, 2);
         /**
          * The meta-property for the {@code forename4} property.
          */
         private final MetaProperty<String> forename4 = DirectMetaProperty.ofReadWrite(
-                this, "forename4", WeirdFormat.class, String.class);
+                this, "forename4", WeirdFormat.class, String.class, 3);
         /**
          * The meta-property for the {@code forename5} property.
          */
         private final MetaProperty<String> forename5 = DirectMetaProperty.ofReadWrite(
-                this, "forename5", WeirdFormat.class, String.class);
+                this, "forename5", WeirdFormat.class, String.class, 4);
         /**
          * The meta-properties.
          */
@@ -429,6 +430,45 @@ public class WeirdFormat
             super.propertySet(bean, propertyName, newValue, quiet);
         }
 
+        @Override
+        protected Object propertyGet(Bean bean, int propertyIndex) {
+            switch (propertyIndex) {
+                case 0:  // forename1
+                    return ((WeirdFormat) bean).getForename1();
+                case 1:  // forename2
+                    return ((WeirdFormat) bean).getForename2();
+                case 2:  // forename3
+                    return ((WeirdFormat) bean).getForename3();
+                case 3:  // forename4
+                    return ((WeirdFormat) bean).getForename4();
+                case 4:  // forename5
+                    return ((WeirdFormat) bean).getForename5();
+            }
+            throw new NoSuchElementException("Unknown property index: " + propertyIndex);
+        }
+
+        @Override
+        protected void propertySet(Bean bean, int propertyIndex, Object newValue) {
+            switch (propertyIndex) {
+                case 0:  // forename1
+                    ((WeirdFormat) bean).setForename1((String) newValue);
+                    return;
+                case 1:  // forename2
+                    ((WeirdFormat) bean).setForename2((String) newValue);
+                    return;
+                case 2:  // forename3
+                    ((WeirdFormat) bean).setForename3((String) newValue);
+                    return;
+                case 3:  // forename4
+                    ((WeirdFormat) bean).setForename4((String) newValue);
+                    return;
+                case 4:  // forename5
+                    ((WeirdFormat) bean).setForename5((String) newValue);
+                    return;
+            }
+            throw new NoSuchElementException("Unknown property index: " + propertyIndex);
+        }
+
     }
 
     ///CLOVER:ON
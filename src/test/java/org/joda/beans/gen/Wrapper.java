@@ -16,6 +16,7 @@
 package org.joda.beans.gen;
 
 import java.util.Map;
+import java.util.NoSuchElementException;
 
 import org.joda.beans.Bean;
 import org.joda.beans.BeanBuilder;
@@ -187,13 +188,13 @@ public abstract class Wrapper<T extends Address> extends DirectBean {
          * The meta-property for the {@code type} property.
          */
         private final MetaProperty<String> type = DirectMetaProperty.ofReadWrite(
-                this, "type", Wrapper.class, String.class);
+                this, "type", Wrapper.class, String.class, 0);
         /**
          * The meta-property for the {@code content} property.
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<T> content = (DirectMetaProperty) DirectMetaProperty.ofReadWrite(
-                this, "content", Wrapper.class, Object.class);
+                this, "content", Wrapper.class, Object.class, 1);
         /**
          * The meta-properties.
          */
@@ -278,6 +279,31 @@ public abstract class Wrapper<T extends Address> extends DirectBean {
             super.propertySet(bean, propertyName, newValue, quiet);
         }
 
+        @Override
+        protected Object propertyGet(Bean bean, int propertyIndex) {
+            switch (propertyIndex) {
+                case 0:  // type
+                    return ((Wrapper<?>) bean).getType();
+                case 1:  // content
+                    return ((Wrapper<?>) bean).getContent();
+            }
+            throw new NoSuchElementException("Unknown property index: " + propertyIndex);
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        protected void propertySet(Bean bean, int propertyIndex, Object newValue) {
+            switch (propertyIndex) {
+                case 0:  // type
+                    ((Wrapper<T>) bean).setType((String) newValue);
+                    return;
+                case 1:  // content
+                    ((Wrapper<T>) bean).setContent((T) newValue);
+                    return;
+            }
+            throw new NoSuchElementException("Unknown property index: " + propertyIndex);
+        }
+
     }
 
     ///CLOVER:ON
@@ -176,7 +176,7 @@ public class WrapperToDoubleGenerics<T extends DoubleGenericsSimpleSuper<String,
          */
         @SuppressWarnings({"unchecked", "rawtypes" })
         private final MetaProperty<T> base = (DirectMetaProperty) DirectMetaProperty.ofImmutable(
-                this, "base", WrapperToDoubleGenerics.class, Object.class);
+                this, "base", WrapperToDoubleGenerics.class, Object.class, 0);
         /**
          * The meta-properties.
          */
@@ -243,6 +243,15 @@ public class WrapperToDoubleGenerics<T extends DoubleGenericsSimpleSuper<String,
             throw new UnsupportedOperationException("Property cannot be written: " + propertyName);
         }
 
+        @Override
+        protected Object propertyGet(Bean bean, int propertyIndex) {
+            switch (propertyIndex) {
+                case 0:  // base
+                    return ((WrapperToDoubleGenerics<?>) bean).getBase();
+            }
+            throw new NoSuchElementException("Unknown property index: " + propertyIndex);
+        }
+
     }
 
     //-----------------------------------------------------------------------
@@ -292,6 +301,20 @@ public class WrapperToDoubleGenerics<T extends DoubleGenericsSimpleSuper<String,
             return this;
         }
 
+        @SuppressWarnings("unchecked")
+        @Override
+        protected boolean setByIndex(DirectMetaProperty<?> metaProperty, Object newValue) {
+            if (metaProperty.declaringType() != WrapperToDoubleGenerics.class) {
+                return super.setByIndex(metaProperty, newValue);
+            }
+            switch (metaProperty.index()) {
+                case 0:  // base
+                    this.base = (T) newValue;
+                    return true;
+            }
+            return false;
+        }
+
         @Override
         public Builder<T> set(MetaProperty<?> property, Object value) {
             super.set(property, value);
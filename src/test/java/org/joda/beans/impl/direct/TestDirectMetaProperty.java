@@ -0,0 +1,172 @@
+/*
+ *  Copyright 2001-2016 Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.beans.impl.direct;
+
+import static org.testng.Assert.assertEquals;
+
+import java.util.NoSuchElementException;
+
+import org.joda.beans.MetaProperty;
+import org.joda.beans.gen.ImmPersonNonFinal;
+import org.joda.beans.gen.ImmSubPersonNonFinal;
+import org.joda.beans.gen.Person;
+import org.joda.beans.gen.PrimitiveBean;
+import org.joda.beans.gen.RWOnlyBean;
+import org.joda.beans.impl.BasicMetaProperty;
+import org.joda.beans.impl.flexi.FlexiBean;
+import org.testng.annotations.Test;
+
+/**
+ * Test DirectMetaProperty access by index and without boxing.
+ */
+@Test
+public class TestDirectMetaProperty {
+
+    public void test_index() {
+        assertEquals(((DirectMetaProperty<?>) Person.meta().forename()).index(), 0);
+        assertEquals(((DirectMetaProperty<?>) Person.meta().surname()).index(), 1);
+        assertEquals(((DirectMetaProperty<?>) Person.meta().numberOfCars()).index(), 2);
+        assertEquals(((DirectMetaProperty<?>) ImmSubPersonNonFinal.meta().metaProperty("middleName")).index(), 0);
+    }
+
+    public void test_index_oldFactory() {
+        DirectMetaProperty<String> mp = DirectMetaProperty.ofReadWrite(Person.meta(), "forename", Person.class, String.class);
+        assertEquals(mp.index(), -1);
+        Person person = new Person();
+        mp.set(person, "John");
+        assertEquals(mp.get(person), "John");
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_getSet() {
+        Person person = new Person();
+        Person.meta().forename().set(person, "John");
+        Person.meta().numberOfCars().set(person, 2);
+        assertEquals(person.getForename(), "John");
+        assertEquals(person.getNumberOfCars(), 2);
+        assertEquals(Person.meta().forename().get(person), "John");
+        assertEquals(Person.meta().numberOfCars().get(person), (Integer) 2);
+    }
+
+    @Test(expectedExceptions = UnsupportedOperationException.class)
+    public void test_get_writeOnly() {
+        RWOnlyBean.meta().wo().get(new RWOnlyBean());
+    }
+
+    @Test(expectedExceptions = UnsupportedOperationException.class)
+    public void test_set_readOnly() {
+        RWOnlyBean.meta().ro().set(new RWOnlyBean(), "");
+    }
+
+    @Test(expectedExceptions = UnsupportedOperationException.class)
+    public void test_set_immutable() {
+        ImmPersonNonFinal.meta().forename().set(ImmPersonNonFinal.builder().forename("John").build(), "");
+    }
+
+    @Test(expectedExceptions = NoSuchElementException.class)
+    public void test_get_invalidIndex() {
+        ((DirectMetaBean) Person.meta()).propertyGet(new Person(), 99);
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_getSetPrimitive() {
+        PrimitiveBean bean = new PrimitiveBean();
+        PrimitiveBean.Meta meta = PrimitiveBean.meta();
+        basic(meta.valueInt()).setInt(bean, 6);
+        basic(meta.valueLong()).setLong(bean, 7L);
+        basic(meta.valueDouble()).setDouble(bean, 1.5d);
+        basic(meta.valueBoolean()).setBoolean(bean, true);
+        assertEquals(bean.getValueInt(), 6);
+        assertEquals(bean.getValueLong(), 7L);
+        assertEquals(bean.getValueDouble(), 1.5d, 0d);
+        assertEquals(bean.isValueBoolean(), true);
+        assertEquals(basic(meta.valueInt()).getInt(bean), 6);
+        assertEquals(basic(meta.valueLong()).getLong(bean), 7L);
+        assertEquals(basic(meta.valueDouble()).getDouble(bean), 1.5d, 0d);
+        assertEquals(basic(meta.valueBoolean()).getBoolean(bean), true);
+    }
+
+    public void test_getSetPrimitive_boxedProperty() {
+        FlexiBean flexi = new FlexiBean();
+        flexi.set("data", 6);
+        BasicMetaProperty<?> data = basic(flexi.metaBean().metaProperty("data"));
+        assertEquals(data.getInt(flexi), 6);
+        data.setLong(flexi, 7L);
+        assertEquals(flexi.get("data"), 7L);
+    }
+
+    @Test(expectedExceptions = ClassCastException.class)
+    public void test_getPrimitive_wrongType() {
+        PrimitiveBean bean = new PrimitiveBean();
+        basic(PrimitiveBean.meta().valueShort()).getInt(bean);
+    }
+
+    @Test(expectedExceptions = ClassCastException.class)
+    public void test_setPrimitive_wrongType() {
+        basic(Person.meta().forename()).setInt(new Person(), 6);
+    }
+
+    @Test(expectedExceptions = UnsupportedOperationException.class)
+    public void test_setPrimitive_immutable() {
+        basic(ImmPersonNonFinal.meta().age()).setInt(ImmPersonNonFinal.builder().forename("John").build(), 6);
+    }
+
+    public void test_getPrimitive_subclass() {
+        ImmSubPersonNonFinal bean = (ImmSubPersonNonFinal) ImmSubPersonNonFinal.builder()
+                .middleName("K")
+                .forename("John")
+                .surname("Doggett")
+                .build();
+        assertEquals(basic(ImmPersonNonFinal.meta().age()).getInt(bean), bean.getAge());
+        assertEquals(basic(ImmSubPersonNonFinal.meta().age()).getInt(bean), bean.getAge());
+    }
+
+    // the primitive accessors are only available on BasicMetaProperty
+    private static BasicMetaProperty<?> basic(MetaProperty<?> metaProp) {
+        return (BasicMetaProperty<?>) metaProp;
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_subclass() {
+        ImmSubPersonNonFinal bean = (ImmSubPersonNonFinal) ImmSubPersonNonFinal.builder()
+                .middleName("K")
+                .forename("John")
+                .surname("Doggett")
+                .build();
+        MetaProperty<String> middleName = ImmSubPersonNonFinal.meta().metaProperty("middleName");
+        assertEquals(ImmSubPersonNonFinal.meta().forename().get(bean), "John");
+        assertEquals(ImmPersonNonFinal.meta().forename().get(bean), "John");
+        assertEquals(middleName.get(bean), "K");
+    }
+
+    public void test_builder_subclass() {
+        MetaProperty<String> middleName = ImmSubPersonNonFinal.meta().metaProperty("middleName");
+        ImmSubPersonNonFinal bean = ImmSubPersonNonFinal.meta().builder()
+                .set(ImmPersonNonFinal.meta().forename(), "John")
+                .set(ImmSubPersonNonFinal.meta().surname(), "Doggett")
+                .set(middleName, "K")
+                .build();
+        assertEquals(bean.getForename(), "John");
+        assertEquals(bean.getSurname(), "Doggett");
+        assertEquals(bean.getMiddleName(), "K");
+    }
+
+    @Test(expectedExceptions = NoSuchElementException.class)
+    public void test_builder_otherBean() {
+        ImmPersonNonFinal.meta().builder().set(Person.meta().mainAddress(), null);
+    }
+
+}
@@ -0,0 +1,164 @@
+/*
+ *  Copyright 2001-2016 Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.beans.impl.light;
+
+import static org.testng.Assert.assertEquals;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.util.Currency;
+
+import org.joda.beans.gen.ImmPerson;
+import org.joda.beans.gen.Light;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import com.google.common.base.Optional;
+import com.google.common.collect.ImmutableList;
+
+/**
+ * Test the accessors used by light beans.
+ */
+@Test
+public class TestLightAccessors {
+
+    private static final ImmPerson PERSON = ImmPerson.builder().forename("John").surname("Doggett").build();
+
+    @DataProvider(name = "accessors")
+    Object[][] data_accessors() {
+        return new Object[][] {
+            {new LightAccessors()},
+            {LightAccessors.INSTANCE},
+        };
+    }
+
+    public void test_instance() {
+        String version = System.getProperty("java.specification.version");
+        if (version.equals("1.6") == false && version.equals("1.7") == false) {
+            assertEquals(LightAccessors.INSTANCE.getClass().getSimpleName(), "MethodHandleAccessors");
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    @Test(dataProvider = "accessors")
+    public void test_fieldGetter(LightAccessors accessors) throws Exception {
+        Field field = Light.class.getDeclaredField("street");
+        field.setAccessible(true);
+        PropertyGetter getter = accessors.fieldGetter(field, "street");
+        assertEquals(getter.get(light()), "Park Lane");
+    }
+
+    @Test(dataProvider = "accessors")
+    public void test_methodGetter(LightAccessors accessors) throws Exception {
+        Light light = light();
+        assertEquals(accessors.methodGetter(Light.class.getMethod("getCity"), "city").get(light), "Smallville");
+        assertEquals(accessors.methodGetter(Light.class.getMethod("getNumber"), "number").get(light), 12);
+        assertEquals(accessors.methodGetter(Light.class.getMethod("isFlag"), "flag").get(light), true);
+        assertEquals(accessors.methodGetter(Light.class.getMethod("getTown"), "town").get(light), Optional.absent());
+    }
+
+    @Test(dataProvider = "accessors")
+    public void test_methodGetter_notDeclaredByBean(LightAccessors accessors) throws Exception {
+        Light light = light();
+        assertEquals(accessors.methodGetter(Object.class.getMethod("toString"), "string").get(light), light.toString());
+    }
+
+    @Test(dataProvider = "accessors", expectedExceptions = IllegalStateException.class)
+    public void test_methodGetter_exceptionPropagated(LightAccessors accessors) throws Exception {
+        accessors.methodGetter(TestLightAccessors.class.getMethod("throwing"), "throwing").get(light());
+    }
+
+    public static Object throwing() {
+        throw new IllegalStateException();
+    }
+
+    //-----------------------------------------------------------------------
+    @Test(dataProvider = "accessors")
+    public void test_creator(LightAccessors accessors) throws Exception {
+        LightAccessors.BeanCreator<Light> creator = accessors.creator(constructor(), Light.class.getName());
+        Light light = creator.create(new Object[] {
+            12, true, "Park Lane", null, "Smallville", PERSON, ImmutableList.of("a"), Currency.getInstance("GBP")});
+        assertEquals(light.getNumber(), 12);
+        assertEquals(light.isFlag(), true);
+        assertEquals(light.getStreetName(), "Park Lane");
+        assertEquals(light.getTown(), Optional.absent());
+        assertEquals(light.getCity(), "Smallville");
+        assertEquals(light.getOwner(), PERSON);
+        assertEquals(light.getList(), ImmutableList.of("a"));
+        assertEquals(light.getCurrency(), Optional.of(Currency.getInstance("GBP")));
+    }
+
+    @Test(dataProvider = "accessors", expectedExceptions = IllegalArgumentException.class)
+    public void test_creator_wrongType(LightAccessors accessors) throws Exception {
+        LightAccessors.BeanCreator<Light> creator = accessors.creator(constructor(), Light.class.getName());
+        try {
+            creator.create(new Object[] {12, true, 6, null, "Smallville", PERSON, ImmutableList.of(), null});
+        } catch (IllegalArgumentException ex) {
+            assertEquals(ex.getMessage().endsWith(" from [12, true, 6, null, Smallville, " + PERSON + ", [], null]"), true, ex.getMessage());
+            throw ex;
+        }
+    }
+
+    @Test(dataProvider = "accessors", expectedExceptions = IllegalArgumentException.class)
+    public void test_creator_wrongWidthNumber(LightAccessors accessors) throws Exception {
+        LightAccessors.BeanCreator<Light> creator = accessors.creator(constructor(), Light.class.getName());
+        creator.create(new Object[] {12L, true, "Park Lane", null, "Smallville", PERSON, ImmutableList.of(), null});
+    }
+
+    @Test(dataProvider = "accessors")
+    public void test_creator_widenedNumber(LightAccessors accessors) throws Exception {
+        LightAccessors.BeanCreator<Light> creator = accessors.creator(constructor(), Light.class.getName());
+        Light light = creator.create(new Object[] {(short) 12, true, "Park Lane", null, "Smallville", PERSON, ImmutableList.of(), null});
+        assertEquals(light.getNumber(), 12);
+    }
+
+    @Test(dataProvider = "accessors", expectedExceptions = IllegalArgumentException.class)
+    public void test_creator_nullPrimitive(LightAccessors accessors) throws Exception {
+        LightAccessors.BeanCreator<Light> creator = accessors.creator(constructor(), Light.class.getName());
+        creator.create(new Object[] {null, true, "Park Lane", null, "Smallville", PERSON, ImmutableList.of(), null});
+    }
+
+    @Test(dataProvider = "accessors", expectedExceptions = IllegalArgumentException.class)
+    public void test_creator_validationPropagated(LightAccessors accessors) throws Exception {
+        LightAccessors.BeanCreator<Light> creator = accessors.creator(constructor(), Light.class.getName());
+        try {
+            creator.create(new Object[] {12, true, "Park Lane", null, null, PERSON, ImmutableList.of(), null});
+        } catch (IllegalArgumentException ex) {
+            assertEquals(ex.getMessage().contains("city"), true);
+            throw ex;
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    private static Light light() {
+        return (Light) Light.meta().builder()
+                .set("number", 12)
+                .set("flag", true)
+                .set("street", "Park Lane")
+                .set("city", "Smallville")
+                .set("owner", PERSON)
+                .set("list", ImmutableList.of())
+                .build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Constructor<Light> constructor() {
+        Constructor<Light> constructor = (Constructor<Light>) Light.class.getDeclaredConstructors()[0];
+        constructor.setAccessible(true);
+        return constructor;
+    }
+
+}
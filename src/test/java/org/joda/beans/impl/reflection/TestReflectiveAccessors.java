@@ -0,0 +1,161 @@
+/*
+ *  Copyright 2001-2016 Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.beans.impl.reflection;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+
+import java.util.Set;
+
+import org.joda.beans.Bean;
+import org.joda.beans.MetaBean;
+import org.joda.beans.MetaProperty;
+import org.joda.beans.Property;
+import org.joda.beans.impl.flexi.FlexiBean;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * Test the invokers used by reflective beans.
+ */
+@Test
+public class TestReflectiveAccessors {
+
+    @DataProvider(name = "accessors")
+    Object[][] data_accessors() {
+        return new Object[][] {
+            {new ReflectiveAccessors()},
+            {ReflectiveAccessors.INSTANCE},
+        };
+    }
+
+    public void test_instance() {
+        String version = System.getProperty("java.specification.version");
+        if (version.equals("1.6") == false && version.equals("1.7") == false) {
+            assertEquals(ReflectiveAccessors.INSTANCE.getClass().getSimpleName(), "MethodHandleAccessors");
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    @Test(dataProvider = "accessors")
+    public void test_getter_setter(ReflectiveAccessors accessors) throws Exception {
+        ReflectivePerson bean = new ReflectivePerson();
+        accessors.setter(ReflectivePerson.class.getMethod("setName", String.class), "name").set(bean, "John");
+        accessors.setter(ReflectivePerson.class.getMethod("setAge", int.class), "age").set(bean, 21);
+        assertEquals(bean.getName(), "John");
+        assertEquals(bean.getAge(), 21);
+        assertEquals(accessors.getter(ReflectivePerson.class.getMethod("getName"), "name").get(bean), "John");
+        assertEquals(accessors.getter(ReflectivePerson.class.getMethod("getAge"), "age").get(bean), 21);
+    }
+
+    @Test(dataProvider = "accessors")
+    public void test_setter_widenPrimitive(ReflectiveAccessors accessors) throws Exception {
+        ReflectivePerson bean = new ReflectivePerson();
+        accessors.setter(ReflectivePerson.class.getMethod("setAge", int.class), "age").set(bean, (short) 6);
+        assertEquals(bean.getAge(), 6);
+    }
+
+    @Test(dataProvider = "accessors", expectedExceptions = NullPointerException.class)
+    public void test_setter_nullPrimitive(ReflectiveAccessors accessors) throws Exception {
+        accessors.setter(ReflectivePerson.class.getMethod("setAge", int.class), "age").set(new ReflectivePerson(), null);
+    }
+
+    @Test(dataProvider = "accessors", expectedExceptions = ClassCastException.class)
+    public void test_setter_wrongType(ReflectiveAccessors accessors) throws Exception {
+        accessors.setter(ReflectivePerson.class.getMethod("setName", String.class), "name").set(new ReflectivePerson(), 6);
+    }
+
+    @Test(dataProvider = "accessors", expectedExceptions = UnsupportedOperationException.class)
+    public void test_getter_wrongBean(ReflectiveAccessors accessors) throws Exception {
+        accessors.getter(ReflectivePerson.class.getMethod("getName"), "name").get(new FlexiBean());
+    }
+
+    @Test(dataProvider = "accessors", expectedExceptions = IllegalStateException.class)
+    public void test_setter_exceptionPropagated(ReflectiveAccessors accessors) throws Exception {
+        accessors.setter(ReflectivePerson.class.getMethod("setName", String.class), "name").set(new ReflectivePerson(), "");
+    }
+
+    @Test(dataProvider = "accessors")
+    public void test_creator(ReflectiveAccessors accessors) {
+        Bean bean = accessors.creator(ReflectivePerson.class).create();
+        assertEquals(bean.getClass(), ReflectivePerson.class);
+    }
+
+    @Test(dataProvider = "accessors", expectedExceptions = UnsupportedOperationException.class)
+    public void test_creator_noConstructor(ReflectiveAccessors accessors) {
+        accessors.creator(Bean.class).create();
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_metaBean() {
+        Bean bean = ReflectivePerson.META_BEAN.builder()
+                .set("name", "John")
+                .set("age", 21)
+                .build();
+        assertEquals(ReflectivePerson.NAME.get(bean), "John");
+        assertEquals(ReflectivePerson.AGE.get(bean), (Integer) 21);
+        ReflectivePerson.NAME.set(bean, null);
+        assertNull(ReflectivePerson.NAME.get(bean));
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Mock bean, using reflection.
+     */
+    public static class ReflectivePerson implements Bean {
+        public static final MetaProperty<String> NAME = ReflectiveMetaProperty.of(ReflectivePerson.class, "name");
+        public static final MetaProperty<Integer> AGE = ReflectiveMetaProperty.of(ReflectivePerson.class, "age");
+        public static final MetaBean META_BEAN = ReflectiveMetaBean.of(ReflectivePerson.class);
+
+        private String name;
+        private int age;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            if ("".equals(name)) {
+                throw new IllegalStateException();
+            }
+            this.name = name;
+        }
+
+        public int getAge() {
+            return age;
+        }
+
+        public void setAge(int age) {
+            this.age = age;
+        }
+
+        @Override
+        public MetaBean metaBean() {
+            return META_BEAN;
+        }
+
+        @Override
+        public <R> Property<R> property(String propertyName) {
+            return metaBean().<R>metaProperty(propertyName).createProperty(this);
+        }
+
+        @Override
+        public Set<String> propertyNames() {
+            return metaBean().metaPropertyMap().keySet();
+        }
+    }
+
+}
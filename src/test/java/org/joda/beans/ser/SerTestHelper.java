@@ -19,17 +19,21 @@ import java.util.Arrays;
 import java.util.Currency;
 import java.util.EnumSet;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
 import java.util.TimeZone;
 
+import org.joda.beans.MetaProperty;
 import org.joda.beans.gen.Address;
 import org.joda.beans.gen.Company;
 import org.joda.beans.gen.CompanyAddress;
 import org.joda.beans.gen.ImmAddress;
 import org.joda.beans.gen.ImmOptional;
 import org.joda.beans.gen.ImmPerson;
+import org.joda.beans.gen.Pair;
 import org.joda.beans.gen.Person;
 import org.joda.beans.gen.PrimitiveBean;
 import org.joda.beans.gen.RiskLevel;
@@ -83,6 +87,45 @@ public class SerTestHelper {
         return address;
     }
 
+    public static Set<MetaProperty<?>> testAddressProjection() {
+        Set<MetaProperty<?>> projection = new HashSet<MetaProperty<?>>();
+        projection.add(Address.meta().street());
+        projection.add(Address.meta().owner());
+        projection.add(Person.meta().forename());
+        return projection;
+    }
+
+    public static Address testAddressProjected() {
+        Person person = new Person();
+        person.setForename("Etienne");
+        Address address = new Address();
+        address.setOwner(person);
+        address.setStreet("Big Road");
+        return address;
+    }
+
+    // pairs where the first value is written with an explicit type or meta-type
+    public static Object[][] testTypedPairs() {
+        CompanyAddress first = new CompanyAddress();
+        first.setCompanyName("OpenGamma");
+        first.setStreet("Big Road");
+        CompanyAddress second = new CompanyAddress();
+        second.setCompanyName("Joda");
+        second.setCity("London");
+        return new Object[][] {
+            {first, second},
+            {Currency.getInstance("GBP"), Currency.getInstance("USD")},
+            {ImmutableList.of("a", "b"), ImmutableList.of("c")},
+            {ImmutableMap.of("a", first), second},
+        };
+    }
+
+    public static Set<MetaProperty<?>> testPairProjection() {
+        Set<MetaProperty<?>> projection = new HashSet<MetaProperty<?>>();
+        projection.add(Pair.meta().second());
+        return projection;
+    }
+
     @SuppressWarnings("unchecked")
     public static ImmAddress testImmAddress() {
         Map<String, List<String>> map = new HashMap<String, List<String>>();
@@ -0,0 +1,142 @@
+/*
+ *  Copyright 2001-2016 Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.beans.ser;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+import java.nio.ByteBuffer;
+
+import org.joda.beans.gen.Address;
+import org.joda.beans.gen.Company;
+import org.joda.beans.gen.ImmAddress;
+import org.joda.beans.gen.ImmOptional;
+import org.joda.beans.impl.flexi.FlexiBean;
+import org.testng.annotations.Test;
+
+/**
+ * Test SerPlan.
+ */
+@Test
+public class TestSerPlan {
+
+    public void test_plan_cached() {
+        JodaBeanSer settings = JodaBeanSer.COMPACT.withIndent("");
+        SerPlan plan = settings.plan(ImmAddress.class, ImmAddress.meta());
+        assertSame(settings.plan(ImmAddress.class, ImmAddress.meta()), plan);
+        assertSame(settings.plan(SerTestHelper.testImmAddress()), plan);
+        assertEquals(plan.getBeanType(), ImmAddress.class);
+        assertSame(plan.getMetaBean(), ImmAddress.meta());
+        assertEquals(plan.size(), ImmAddress.meta().metaPropertyCount());
+        assertEquals(plan.name(0), plan.property(0).name());
+        assertEquals(plan.indexOf(ImmAddress.meta().street()), plan.indexOf(plan.property(plan.indexOf(ImmAddress.meta().street()))));
+    }
+
+    public void test_plan_otherMetaBeanCached() {
+        JodaBeanSer settings = JodaBeanSer.COMPACT.withIndent("");
+        SerPlan plan = settings.plan(ImmAddress.class, ImmAddress.meta());
+        SerPlan other = settings.plan(ImmAddress.class, Address.meta());
+        assertSame(other.getMetaBean(), Address.meta());
+        assertSame(settings.plan(ImmAddress.class, Address.meta()), other);
+        assertSame(settings.plan(ImmAddress.class, ImmAddress.meta()), plan);
+        SerPlan otherType = settings.plan(Company.class, Address.meta());
+        assertEquals(otherType.getBeanType(), Company.class);
+        assertSame(otherType.getMetaBean(), Address.meta());
+    }
+
+    public void test_plan_types() {
+        SerPlan plan = JodaBeanSer.COMPACT.plan(ImmAddress.class, ImmAddress.meta());
+        int street = plan.indexOf(ImmAddress.meta().street());
+        assertEquals(plan.type(street), String.class);
+        assertNotNull(plan.converter(street));
+        int owner = plan.indexOf(ImmAddress.meta().owner());
+        assertNull(plan.converter(owner));
+    }
+
+    public void test_plan_optional() {
+        ImmOptional bean = SerTestHelper.testImmOptional();
+        SerPlan plan = JodaBeanSer.COMPACT.plan(bean);
+        int index = plan.indexOf(ImmOptional.meta().optString());
+        assertEquals(plan.type(index), String.class);
+        assertEquals(plan.extractValue(index, bean), "A");
+        assertEquals(plan.extractType(ImmOptional.meta().optString()), String.class);
+    }
+
+    public void test_plan_fingerprint() {
+        SerPlan plan = JodaBeanSer.COMPACT.plan(ImmAddress.class, ImmAddress.meta());
+        SerPlan other = JodaBeanSer.PRETTY.plan(ImmAddress.class, ImmAddress.meta());
+        assertNotSame(other, plan);
+        assertEquals(other.fingerprint(), plan.fingerprint());
+        assertTrue(JodaBeanSer.COMPACT.plan(ImmOptional.class, ImmOptional.meta()).fingerprint() != plan.fingerprint());
+    }
+
+    public void test_plan_indexOfName() throws Exception {
+        SerPlan plan = JodaBeanSer.COMPACT.plan(ImmAddress.class, ImmAddress.meta());
+        for (int i = 0; i < plan.size(); i++) {
+            byte[] bytes = ("xx" + plan.name(i)).getBytes("UTF-8");
+            assertEquals(plan.indexOfName(bytes, 2, bytes.length - 2), i);
+            ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length);
+            direct.put(bytes);
+            assertEquals(plan.indexOfName(direct, 2, bytes.length - 2), i);
+        }
+        byte[] unknown = "streetx".getBytes("UTF-8");
+        assertEquals(plan.indexOfName(unknown, 0, unknown.length), -1);
+        assertEquals(plan.indexOfName(unknown, 0, unknown.length - 2), -1);
+        assertEquals(plan.indexOfName(unknown, 0, 0), -1);
+    }
+
+    public void test_plan_indexOfName_dynamic() throws Exception {
+        FlexiBean bean = new FlexiBean();
+        bean.set("a", "b");
+        SerPlan plan = JodaBeanSer.COMPACT.plan(bean);
+        assertEquals(plan.indexOfName("a".getBytes("UTF-8"), 0, 1), -1);
+    }
+
+    public void test_plan_encodedName() throws Exception {
+        SerPlan plan = JodaBeanSer.COMPACT.plan(ImmAddress.class, ImmAddress.meta());
+        for (int i = 0; i < plan.size(); i++) {
+            assertEquals(plan.encodedName(i), plan.name(i).getBytes("UTF-8"));
+        }
+        FlexiBean bean = new FlexiBean();
+        bean.set("a", "b");
+        assertNull(JodaBeanSer.COMPACT.plan(bean).encodedName(0));
+    }
+
+    public void test_plan_dynamicNotCached() {
+        FlexiBean bean = new FlexiBean();
+        bean.set("a", "b");
+        SerPlan plan = JodaBeanSer.COMPACT.plan(bean);
+        assertEquals(plan.size(), 1);
+        assertNotSame(JodaBeanSer.COMPACT.plan(bean), plan);
+    }
+
+    public void test_plan_dynamic() {
+        FlexiBean bean = new FlexiBean();
+        bean.set("a", "b");
+        bean.set("c", "d");
+        SerPlan plan = JodaBeanSer.COMPACT.plan(bean);
+        assertEquals(plan.indexOf(plan.property(1)), 1);
+        assertEquals(plan.indexOf(bean.metaBean().metaProperty("a")), -1);
+        assertEquals(plan.type(0), Object.class);
+        assertNull(plan.converter(0));
+        assertEquals(plan.fingerprint(), JodaBeanSer.COMPACT.plan(bean).fingerprint());
+    }
+
+}
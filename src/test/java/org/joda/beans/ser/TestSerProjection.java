@@ -0,0 +1,63 @@
+/*
+ *  Copyright 2001-2016 Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.beans.ser;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+import org.joda.beans.gen.Address;
+import org.joda.beans.gen.Company;
+import org.joda.beans.gen.CompanyAddress;
+import org.joda.beans.gen.Person;
+import org.testng.annotations.Test;
+
+/**
+ * Test SerProjection.
+ */
+@Test
+public class TestSerProjection {
+
+    public void test_of() {
+        SerProjection test = SerProjection.of(SerTestHelper.testAddressProjection());
+        assertEquals(test.getProperties(), SerTestHelper.testAddressProjection());
+        assertTrue(test.isProjected(Address.class));
+        assertTrue(test.isProjected(CompanyAddress.class));
+        assertTrue(test.isProjected(Person.class));
+        assertFalse(test.isProjected(Company.class));
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void test_of_null() {
+        SerProjection.of(null);
+    }
+
+    public void test_findDeserializer() {
+        SerProjection test = SerProjection.of(SerTestHelper.testAddressProjection());
+        SerDeserializers deserializers = new SerDeserializers();
+        assertSame(test.findDeserializer(deserializers, Company.class), DefaultDeserializer.INSTANCE);
+
+        SerDeserializer deser = test.findDeserializer(deserializers, Address.class);
+        assertNotSame(deser, DefaultDeserializer.INSTANCE);
+        assertSame(test.findDeserializer(deserializers, Address.class), deser);
+        assertSame(deser.findMetaProperty(Address.class, Address.meta(), "street"), Address.meta().street());
+        assertNull(deser.findMetaProperty(Address.class, Address.meta(), "city"));
+    }
+
+}
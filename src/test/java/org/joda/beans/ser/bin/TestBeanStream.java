@@ -0,0 +1,238 @@
+/*
+ *  Copyright 2001-2016 Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.beans.ser.bin;
+
+import static org.testng.Assert.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import org.joda.beans.Bean;
+import org.joda.beans.gen.Address;
+import org.joda.beans.gen.ImmAddress;
+import org.joda.beans.gen.ImmOptional;
+import org.joda.beans.impl.flexi.FlexiBean;
+import org.joda.beans.ser.JodaBeanSer;
+import org.joda.beans.ser.SerTestHelper;
+import org.joda.beans.test.BeanAssert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * Test the binary bean stream.
+ */
+@Test
+public class TestBeanStream {
+
+    @DataProvider(name = "settings")
+    Object[][] data_settings() {
+        return new Object[][] {
+            {JodaBeanSer.COMPACT},
+            {JodaBeanSer.COMPACT.withBinaryVersion(2)},
+            {JodaBeanSer.COMPACT.withBinaryVersion(3)},
+            {JodaBeanSer.COMPACT.withBinaryVersion(4)},
+        };
+    }
+
+    @Test(dataProvider = "settings")
+    public void test_roundTrip(JodaBeanSer settings) throws IOException {
+        List<Bean> beans = beans();
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        BeanStreamWriter writer = new BeanStreamWriter(settings, baos);
+        for (Bean bean : beans) {
+            writer.write(bean);
+        }
+        writer.flush();
+        assertEquals(writer.offset(), baos.size());
+        
+        BeanStreamReader reader = new BeanStreamReader(settings, new ByteArrayInputStream(baos.toByteArray()));
+        assertEquals(reader.getBinaryVersion(), settings.getBinaryVersion());
+        for (Bean bean : beans) {
+            assertEquals(reader.hasNext(), true);
+            BeanAssert.assertBeanEquals(reader.read(), bean);
+        }
+        assertEquals(reader.hasNext(), false);
+        assertEquals(reader.offset(), baos.size());
+    }
+
+    public void test_typeNamesWrittenOnce() throws IOException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        BeanStreamWriter writer = new BeanStreamWriter(JodaBeanSer.COMPACT, baos);
+        for (int i = 0; i < 100; i++) {
+            writer.write(SerTestHelper.testImmAddress());
+        }
+        String text = new String(baos.toByteArray(), MsgPack.UTF_8);
+        assertEquals(text.split("org.joda.beans.gen.ImmAddress", -1).length, 2);
+        assertEquals(baos.size() < 100 * JodaBeanSer.COMPACT.binWriter().write(SerTestHelper.testImmAddress()).length, true);
+    }
+
+    @Test(expectedExceptions = RuntimeException.class)
+    public void test_write_failureForgetsTypes() throws IOException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        BeanStreamWriter writer = new BeanStreamWriter(JodaBeanSer.COMPACT, baos);
+        FlexiBean bean = new FlexiBean();
+        bean.set("bad", new Object());
+        try {
+            writer.write(bean);
+        } finally {
+            assertEquals(baos.size(), BeanStreamWriter.HEADER_SIZE);
+            writer.write(new FlexiBean());
+            BeanStreamReader reader = new BeanStreamReader(JodaBeanSer.COMPACT, new ByteArrayInputStream(baos.toByteArray()));
+            BeanAssert.assertBeanEquals(reader.read(), new FlexiBean());
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_resume() throws IOException {
+        List<Bean> beans = beans();
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        BeanStreamWriter writer = new BeanStreamWriter(JodaBeanSer.COMPACT, baos);
+        long[] offsets = new long[beans.size()];
+        for (int i = 0; i < beans.size(); i++) {
+            offsets[i] = writer.write(beans.get(i));
+        }
+        for (int i = 0; i < beans.size(); i++) {
+            BeanStreamReader reader = BeanStreamReader.resume(
+                    JodaBeanSer.COMPACT, new ByteArrayInputStream(baos.toByteArray()), offsets[i]);
+            assertEquals(reader.offset(), offsets[i]);
+            for (int j = i; j < beans.size(); j++) {
+                BeanAssert.assertBeanEquals(reader.read(), beans.get(j));
+            }
+            assertEquals(reader.hasNext(), false);
+        }
+    }
+
+    public void test_resume_atEnd() throws IOException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        BeanStreamWriter writer = new BeanStreamWriter(JodaBeanSer.COMPACT, baos);
+        writer.write(SerTestHelper.testAddress());
+        BeanStreamReader reader = BeanStreamReader.resume(
+                JodaBeanSer.COMPACT, new ByteArrayInputStream(baos.toByteArray()), writer.offset());
+        assertEquals(reader.hasNext(), false);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void test_resume_notFrameBoundary() throws IOException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        BeanStreamWriter writer = new BeanStreamWriter(JodaBeanSer.COMPACT, baos);
+        long offset = writer.write(SerTestHelper.testAddress());
+        writer.write(SerTestHelper.testAddress());
+        BeanStreamReader.resume(JodaBeanSer.COMPACT, new ByteArrayInputStream(baos.toByteArray()), offset + 1);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void test_resume_beyondEnd() throws IOException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        BeanStreamWriter writer = new BeanStreamWriter(JodaBeanSer.COMPACT, baos);
+        writer.write(SerTestHelper.testAddress());
+        BeanStreamReader.resume(JodaBeanSer.COMPACT, new ByteArrayInputStream(baos.toByteArray()), writer.offset() + 10);
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_append() throws IOException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        BeanStreamWriter writer = new BeanStreamWriter(JodaBeanSer.COMPACT.withBinaryVersion(2), baos);
+        writer.write(SerTestHelper.testImmAddress());
+        writer.write(SerTestHelper.testAddress());
+        
+        byte[] existing = baos.toByteArray();
+        BeanStreamWriter appender = BeanStreamWriter.append(JodaBeanSer.COMPACT, new ByteArrayInputStream(existing), baos);
+        assertEquals(appender.offset(), existing.length);
+        appender.write(SerTestHelper.testAddress());
+        appender.write(SerTestHelper.testImmOptional());
+        String text = new String(baos.toByteArray(), MsgPack.UTF_8);
+        assertEquals(text.split("org.joda.beans.gen.Address", -1).length, 2);
+        
+        BeanStreamReader reader = new BeanStreamReader(JodaBeanSer.COMPACT, new ByteArrayInputStream(baos.toByteArray()));
+        assertEquals(reader.getBinaryVersion(), 2);
+        BeanAssert.assertBeanEquals(reader.read(ImmAddress.class), SerTestHelper.testImmAddress());
+        BeanAssert.assertBeanEquals(reader.read(Address.class), SerTestHelper.testAddress());
+        BeanAssert.assertBeanEquals(reader.read(Address.class), SerTestHelper.testAddress());
+        BeanAssert.assertBeanEquals(reader.read(ImmOptional.class), SerTestHelper.testImmOptional());
+        assertEquals(reader.hasNext(), false);
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_skip() throws IOException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        BeanStreamWriter writer = new BeanStreamWriter(JodaBeanSer.COMPACT, baos);
+        writer.write(SerTestHelper.testImmAddress());
+        writer.write(SerTestHelper.testAddress());
+        BeanStreamReader reader = new BeanStreamReader(JodaBeanSer.COMPACT, new ByteArrayInputStream(baos.toByteArray()));
+        reader.skip();
+        BeanAssert.assertBeanEquals(reader.read(), SerTestHelper.testAddress());
+    }
+
+    public void test_empty() throws IOException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        new BeanStreamWriter(JodaBeanSer.COMPACT, baos);
+        BeanStreamReader reader = new BeanStreamReader(JodaBeanSer.COMPACT, new ByteArrayInputStream(baos.toByteArray()));
+        assertEquals(reader.hasNext(), false);
+        assertEquals(reader.offset(), BeanStreamWriter.HEADER_SIZE);
+    }
+
+    @Test(expectedExceptions = NoSuchElementException.class)
+    public void test_read_atEnd() throws IOException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        new BeanStreamWriter(JodaBeanSer.COMPACT, baos);
+        BeanStreamReader reader = new BeanStreamReader(JodaBeanSer.COMPACT, new ByteArrayInputStream(baos.toByteArray()));
+        reader.read();
+    }
+
+    @Test(expectedExceptions = EOFException.class)
+    public void test_read_truncated() throws IOException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        BeanStreamWriter writer = new BeanStreamWriter(JodaBeanSer.COMPACT, baos);
+        writer.write(SerTestHelper.testAddress());
+        byte[] bytes = baos.toByteArray();
+        BeanStreamReader reader = new BeanStreamReader(JodaBeanSer.COMPACT, new ByteArrayInputStream(Arrays.copyOf(bytes, bytes.length - 1)));
+        reader.read();
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void test_read_badHeader() throws IOException {
+        new BeanStreamReader(JodaBeanSer.COMPACT, new ByteArrayInputStream(new byte[] {'J', 'B', 'X', 1, 1}));
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void test_read_badFrameKind() throws IOException {
+        BeanStreamReader reader = new BeanStreamReader(JodaBeanSer.COMPACT, new ByteArrayInputStream(new byte[] {'J', 'B', 'S', 1, 1, 'X', 0, 0, 0, 0}));
+        reader.hasNext();
+    }
+
+    //-----------------------------------------------------------------------
+    private static List<Bean> beans() {
+        FlexiBean flexi = new FlexiBean();
+        flexi.set("file", new File("/tmp"));
+        flexi.set("number", 6);
+        List<Bean> beans = new ArrayList<Bean>();
+        beans.add(SerTestHelper.testImmAddress());
+        beans.add(SerTestHelper.testAddress());
+        beans.add(flexi);
+        beans.add(SerTestHelper.testImmOptional());
+        beans.add(SerTestHelper.testImmAddress());
+        beans.add(flexi);
+        return beans;
+    }
+
+}
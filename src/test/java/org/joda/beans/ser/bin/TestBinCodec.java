@@ -0,0 +1,145 @@
+/*
+ *  Copyright 2001-2016 Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.beans.ser.bin;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+import java.nio.ByteBuffer;
+
+import org.joda.beans.Bean;
+import org.joda.beans.gen.Address;
+import org.joda.beans.gen.ImmAddress;
+import org.joda.beans.ser.JodaBeanSer;
+import org.joda.beans.ser.SerTestHelper;
+import org.joda.beans.test.BeanAssert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * Test the incremental binary encoder and decoder.
+ */
+@Test
+public class TestBinCodec {
+
+    @DataProvider(name = "settings")
+    Object[][] data_settings() {
+        return new Object[][] {
+            {JodaBeanSer.COMPACT.withBinaryVersion(1)},
+            {JodaBeanSer.COMPACT.withBinaryVersion(2)},
+            {JodaBeanSer.COMPACT.withBinaryVersion(3)},
+            {JodaBeanSer.COMPACT.withBinaryVersion(4)},
+            {JodaBeanSer.COMPACT.withBinaryCompression(6)},
+        };
+    }
+
+    @Test(dataProvider = "settings")
+    public void test_encode_smallBuffer(JodaBeanSer settings) {
+        ImmAddress address = SerTestHelper.testImmAddress();
+        byte[] expected = new JodaBeanBinWriter(settings).write(address);
+        JodaBeanBinEncoder encoder = new JodaBeanBinEncoder(settings, address);
+        assertEquals(encoder.remaining(), expected.length);
+        ByteBuffer output = ByteBuffer.allocate(expected.length);
+        ByteBuffer chunk = ByteBuffer.allocate(7);
+        while (encoder.encode(chunk) == false) {
+            assertFalse(chunk.hasRemaining());
+            chunk.flip();
+            output.put(chunk);
+            chunk.clear();
+        }
+        chunk.flip();
+        output.put(chunk);
+        assertTrue(encoder.isComplete());
+        assertEquals(encoder.remaining(), 0);
+        assertEquals(output.array(), expected);
+        assertTrue(encoder.encode(ByteBuffer.allocate(0)));
+    }
+
+    @Test(dataProvider = "settings")
+    public void test_decode_byteByByte(JodaBeanSer settings) {
+        ImmAddress address = SerTestHelper.testImmAddress();
+        byte[] bytes = new JodaBeanBinWriter(settings).write(address);
+        JodaBeanBinDecoder<ImmAddress> decoder = new JodaBeanBinDecoder<ImmAddress>(settings, ImmAddress.class);
+        assertFalse(decoder.isPartial());
+        for (int i = 0; i < bytes.length - 1; i++) {
+            assertNull(decoder.decode(ByteBuffer.wrap(bytes, i, 1)));
+            assertTrue(decoder.isPartial());
+        }
+        BeanAssert.assertBeanEquals(decoder.decode(ByteBuffer.wrap(bytes, bytes.length - 1, 1)), address);
+        assertFalse(decoder.isPartial());
+    }
+
+    @Test(dataProvider = "settings")
+    public void test_decode_messagesAcrossChunks(JodaBeanSer settings) {
+        Address address = SerTestHelper.testAddress();
+        byte[] bytes = new JodaBeanBinWriter(settings).write(address);
+        ByteBuffer all = ByteBuffer.allocate(bytes.length * 3);
+        all.put(bytes).put(bytes).put(bytes).flip();
+        JodaBeanBinDecoder<Bean> decoder = new JodaBeanBinDecoder<Bean>(settings, Bean.class);
+        int count = 0;
+        while (all.hasRemaining()) {
+            ByteBuffer chunk = all.duplicate();
+            chunk.limit(Math.min(chunk.position() + 50, chunk.limit()));
+            while (chunk.hasRemaining()) {
+                Bean bean = decoder.decode(chunk);
+                if (bean != null) {
+                    BeanAssert.assertBeanEquals(bean, address);
+                    count++;
+                }
+            }
+            all.position(chunk.position());
+        }
+        assertEquals(count, 3);
+        assertFalse(decoder.isPartial());
+    }
+
+    public void test_roundTrip_encoderToDecoder() {
+        ImmAddress address = SerTestHelper.testImmAddress();
+        JodaBeanBinEncoder encoder = new JodaBeanBinEncoder(JodaBeanSer.COMPACT, address, false);
+        JodaBeanBinDecoder<ImmAddress> decoder = new JodaBeanBinDecoder<ImmAddress>(JodaBeanSer.COMPACT, ImmAddress.class);
+        ByteBuffer buffer = ByteBuffer.allocate(16);
+        ImmAddress result = null;
+        while (result == null) {
+            encoder.encode(buffer);
+            buffer.flip();
+            result = decoder.decode(buffer);
+            buffer.clear();
+        }
+        assertTrue(encoder.isComplete());
+        BeanAssert.assertBeanEquals(result, address);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void test_decode_invalidByte() {
+        JodaBeanBinDecoder<Bean> decoder = new JodaBeanBinDecoder<Bean>(JodaBeanSer.COMPACT, Bean.class);
+        decoder.decode(ByteBuffer.wrap(new byte[] {(byte) 0x92, (byte) 0xC1}));
+    }
+
+    public void test_decode_recoversAfterInvalid() {
+        JodaBeanBinDecoder<Bean> decoder = new JodaBeanBinDecoder<Bean>(JodaBeanSer.COMPACT, Bean.class);
+        try {
+            decoder.decode(ByteBuffer.wrap(new byte[] {(byte) 0x92, (byte) 0xC1}));
+        } catch (IllegalArgumentException ex) {
+            // expected
+        }
+        assertFalse(decoder.isPartial());
+        Address address = SerTestHelper.testAddress();
+        BeanAssert.assertBeanEquals(decoder.decode(ByteBuffer.wrap(JodaBeanSer.COMPACT.binWriter().write(address))), address);
+    }
+
+}
@@ -0,0 +1,273 @@
+/*
+ *  Copyright 2001-2016 Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.beans.ser.bin;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.Callable;
+
+import org.joda.beans.BeanBuilder;
+import org.joda.beans.MetaProperty;
+import org.joda.beans.gen.Address;
+import org.joda.beans.gen.ImmAddress;
+import org.joda.beans.impl.flexi.FlexiBean;
+import org.joda.beans.ser.DefaultDeserializer;
+import org.joda.beans.ser.JodaBeanSer;
+import org.joda.beans.ser.SerDeserializers;
+import org.joda.beans.ser.SerTestHelper;
+import org.joda.beans.test.BeanAssert;
+import org.testng.annotations.Test;
+
+/**
+ * Test the compressed block streams.
+ */
+@Test
+public class TestCompressedBlockStream {
+
+    public void test_roundTrip_manyBlocks() throws IOException {
+        byte[] data = new byte[5000];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = (byte) ('a' + (i % 7));
+        }
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        CompressedBlockOutputStream out = new CompressedBlockOutputStream(baos, 6, 256);
+        out.write(data, 0, 100);
+        out.write(data[100]);
+        out.write(data, 101, data.length - 101);
+        out.close();
+        byte[] bytes = baos.toByteArray();
+        assertTrue(bytes.length < data.length / 2);
+
+        assertEquals(readAll(new CompressedBlockInputStream(new ByteArrayInputStream(bytes))), data);
+        CompressedBlockInputStream in = new CompressedBlockInputStream(new ByteArrayInputStream(bytes));
+        for (int i = 0; i < data.length; i++) {
+            assertEquals(in.read(), data[i] & 0xFF);
+        }
+        assertEquals(in.read(), -1);
+        in.close();
+    }
+
+    public void test_roundTrip_incompressible() throws IOException {
+        byte[] data = new byte[1000];
+        new Random(1).nextBytes(data);
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        CompressedBlockOutputStream out = new CompressedBlockOutputStream(baos, 9, 256);
+        out.write(data);
+        out.finish();
+        byte[] bytes = baos.toByteArray();
+        // each block is stored, with a 9 byte block header
+        assertEquals(bytes.length, CompressedBlockOutputStream.HEADER_SIZE + 4 * 9 + data.length + 1);
+
+        assertEquals(readAll(new CompressedBlockInputStream(new ByteArrayInputStream(bytes))), data);
+    }
+
+    public void test_roundTrip_empty() throws IOException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        new CompressedBlockOutputStream(baos).close();
+        assertEquals(baos.size(), CompressedBlockOutputStream.HEADER_SIZE + 1);
+
+        assertEquals(readAll(new CompressedBlockInputStream(new ByteArrayInputStream(baos.toByteArray()))), new byte[0]);
+    }
+
+    public void test_flush_writesPartialBlock() throws IOException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        CompressedBlockOutputStream out = new CompressedBlockOutputStream(baos);
+        out.write(new byte[] {1, 2, 3});
+        assertEquals(baos.size(), CompressedBlockOutputStream.HEADER_SIZE);
+        out.flush();
+
+        CompressedBlockInputStream in = new CompressedBlockInputStream(new ByteArrayInputStream(baos.toByteArray()));
+        byte[] read = new byte[3];
+        assertEquals(in.read(read, 0, 3), 3);
+        assertEquals(read, new byte[] {1, 2, 3});
+    }
+
+    public void test_read_leavesTrailingData() throws IOException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        CompressedBlockOutputStream out = new CompressedBlockOutputStream(baos);
+        out.write(new byte[] {1, 2, 3});
+        out.finish();
+        baos.write(99);
+
+        ByteArrayInputStream underlying = new ByteArrayInputStream(baos.toByteArray());
+        assertEquals(readAll(new CompressedBlockInputStream(underlying)), new byte[] {1, 2, 3});
+        assertEquals(underlying.read(), 99);
+    }
+
+    @Test(expectedExceptions = IOException.class)
+    public void test_write_afterFinish() throws IOException {
+        CompressedBlockOutputStream out = new CompressedBlockOutputStream(new ByteArrayOutputStream());
+        out.finish();
+        out.write(1);
+        out.flush();
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void test_read_invalidHeader() throws IOException {
+        new CompressedBlockInputStream(new ByteArrayInputStream(new byte[] {'J', 'B', 'S', 1, 1, 0, 0, 1, 0}));
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void test_read_unknownCodec() throws IOException {
+        new CompressedBlockInputStream(new ByteArrayInputStream(new byte[] {'J', 'B', 'Z', 1, 9, 0, 0, 1, 0}));
+    }
+
+    @Test(expectedExceptions = EOFException.class)
+    public void test_read_truncated() throws IOException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        CompressedBlockOutputStream out = new CompressedBlockOutputStream(baos);
+        out.write(new byte[1000]);
+        out.finish();
+        byte[] bytes = Arrays.copyOf(baos.toByteArray(), baos.size() - 3);
+        readAll(new CompressedBlockInputStream(new ByteArrayInputStream(bytes)));
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_bean_compressed() throws IOException {
+        ImmAddress address = SerTestHelper.testImmAddress();
+        JodaBeanSer ser = JodaBeanSer.COMPACT.withBinaryCompression(6);
+        byte[] bytes = ser.binWriter().write(address);
+        assertEquals(bytes[0], 'J');
+        assertTrue(bytes.length < JodaBeanSer.COMPACT.binWriter().write(address).length);
+
+        BeanAssert.assertBeanEquals(JodaBeanSer.COMPACT.binReader().read(bytes), address);
+        BeanAssert.assertBeanEquals(JodaBeanSer.COMPACT.binReader().read(new ByteArrayInputStream(bytes)), address);
+        BeanAssert.assertBeanEquals(ser.binReader().readLazy(bytes, ImmAddress.class).toBean(), address);
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        ser.binWriter().write(address, baos);
+        assertEquals(baos.toByteArray(), bytes);
+        ByteBuffer buffer = ser.binWriter().writeToBuffer(address, new byte[16]);
+        BeanAssert.assertBeanEquals(JodaBeanSer.COMPACT.binReader().read(buffer), address);
+        assertEquals(buffer.hasRemaining(), false);
+    }
+
+    public void test_bean_compressed_readBlockByBlock() throws IOException {
+        // uncompressed data is far larger than the block size
+        FlexiBean flexi = new FlexiBean();
+        StringBuilder buf = new StringBuilder();
+        for (int i = 0; i < 2000; i++) {
+            buf.setLength(0);
+            for (int j = 0; j < 100; j++) {
+                buf.append((char) ('a' + ((i + j) % 26)));
+            }
+            flexi.put("p" + i, buf.toString());
+        }
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        CompressedBlockOutputStream out = new CompressedBlockOutputStream(baos, 6, 1024);
+        JodaBeanSer.COMPACT.binWriter().write(flexi, out);
+        out.close();
+        final byte[] bytes = baos.toByteArray();
+        assertTrue(JodaBeanSer.COMPACT.binWriter().write(flexi).length > 100 * 1024);
+
+        // when the first property is set, only the first few blocks have been read
+        final long[] consumed = {-1};
+        final ByteArrayInputStream in = new ByteArrayInputStream(bytes);
+        FlexiBean bean = JodaBeanSer.COMPACT.withDeserializers(recording("p0", consumed, new Callable<Long>() {
+            @Override
+            public Long call() {
+                return (long) (bytes.length - in.available());
+            }
+        })).binReader().read(in, FlexiBean.class);
+        assertEquals(bean, flexi);
+        assertTrue(consumed[0] > 0 && consumed[0] < bytes.length / 4, "Consumed " + consumed[0] + " of " + bytes.length);
+
+        consumed[0] = -1;
+        final ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        bean = JodaBeanSer.COMPACT.withDeserializers(recording("p0", consumed, new Callable<Long>() {
+            @Override
+            public Long call() {
+                return (long) buffer.position();
+            }
+        })).binReader().read(buffer, FlexiBean.class);
+        assertEquals(bean, flexi);
+        assertTrue(consumed[0] > 0 && consumed[0] < bytes.length / 4, "Consumed " + consumed[0] + " of " + bytes.length);
+        assertEquals(buffer.hasRemaining(), false);
+    }
+
+    public void test_bean_compressed_version3() throws IOException {
+        ImmAddress address = SerTestHelper.testImmAddress();
+        JodaBeanSer ser = JodaBeanSer.COMPACT.withBinaryVersion(3).withBinaryCompression(1);
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        ser.binWriter().write(address, baos);
+
+        BeanAssert.assertBeanEquals(JodaBeanSer.COMPACT.binReader().read(baos.toByteArray()), address);
+    }
+
+    public void test_beanStream_compressed() throws IOException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        CompressedBlockOutputStream out = new CompressedBlockOutputStream(baos, 6, 1024);
+        BeanStreamWriter writer = new BeanStreamWriter(JodaBeanSer.COMPACT, out);
+        for (int i = 0; i < 50; i++) {
+            writer.write(SerTestHelper.testAddress());
+        }
+        out.close();
+
+        InputStream in = new CompressedBlockInputStream(new ByteArrayInputStream(baos.toByteArray()));
+        BeanStreamReader reader = new BeanStreamReader(JodaBeanSer.COMPACT, in);
+        int count = 0;
+        while (reader.hasNext()) {
+            BeanAssert.assertBeanEquals(reader.read(Address.class), SerTestHelper.testAddress());
+            count++;
+        }
+        assertEquals(count, 50);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void test_withBinaryCompression_invalid() {
+        JodaBeanSer.COMPACT.withBinaryCompression(10);
+    }
+
+    //-----------------------------------------------------------------------
+    // deserializers that record the amount of input consumed when the named property of a FlexiBean is set
+    private static SerDeserializers recording(final String name, final long[] consumed, final Callable<Long> position) {
+        SerDeserializers desers = new SerDeserializers();
+        desers.register(FlexiBean.class, new DefaultDeserializer() {
+            @Override
+            public void setValue(BeanBuilder<?> builder, MetaProperty<?> metaProp, Object value) {
+                if (metaProp.name().equals(name)) {
+                    try {
+                        consumed[0] = position.call();
+                    } catch (Exception ex) {
+                        throw new RuntimeException(ex);
+                    }
+                }
+                super.setValue(builder, metaProp, value);
+            }
+        });
+        return desers;
+    }
+
+    private static byte[] readAll(InputStream in) throws IOException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        byte[] buf = new byte[100];
+        int count = in.read(buf);
+        while (count >= 0) {
+            baos.write(buf, 0, count);
+            count = in.read(buf);
+        }
+        return baos.toByteArray();
+    }
+
+}
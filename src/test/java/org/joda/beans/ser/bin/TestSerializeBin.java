@@ -16,21 +16,44 @@
 package org.joda.beans.ser.bin;
 
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
 
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
 import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.io.SequenceInputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.NoSuchElementException;
 
 import org.joda.beans.Bean;
+import org.joda.beans.MetaBean;
+import org.joda.beans.MetaProperty;
 import org.joda.beans.gen.Address;
 import org.joda.beans.gen.Company;
 import org.joda.beans.gen.ImmAddress;
 import org.joda.beans.gen.ImmOptional;
+import org.joda.beans.gen.ImmTolerance;
 import org.joda.beans.gen.JodaConvertBean;
 import org.joda.beans.gen.JodaConvertWrapper;
+import org.joda.beans.gen.Pair;
 import org.joda.beans.gen.Person;
 import org.joda.beans.impl.flexi.FlexiBean;
+import org.joda.beans.ser.DefaultDeserializer;
 import org.joda.beans.ser.JodaBeanSer;
+import org.joda.beans.ser.SerDeserializers;
 import org.joda.beans.ser.SerTestHelper;
 import org.joda.beans.test.BeanAssert;
 import org.testng.annotations.Test;
@@ -72,6 +95,731 @@ public class TestSerializeBin {
         BeanAssert.assertBeanEquals(bean, optional);
     }
 
+    public void test_writeToBuffer_reuse() throws IOException {
+        ImmAddress address = SerTestHelper.testImmAddress();
+        byte[] expected = JodaBeanSer.COMPACT.binWriter().write(address);
+        
+        byte[] buffer = new byte[16];
+        ByteBuffer view = JodaBeanSer.COMPACT.binWriter().writeToBuffer(address, buffer);
+        assertEquals(view.position(), 0);
+        assertEquals(view.remaining(), expected.length);
+        assertEquals(Arrays.copyOf(view.array(), view.limit()), expected);
+        
+        byte[] reuse = view.array();
+        ByteBuffer view2 = JodaBeanSer.COMPACT.binWriter().writeToBuffer(address, reuse);
+        assertSame(view2.array(), reuse);
+        assertEquals(Arrays.copyOf(view2.array(), view2.limit()), expected);
+    }
+
+    public void test_write_outputStream() throws IOException {
+        ImmAddress address = SerTestHelper.testImmAddress();
+        byte[] expected = JodaBeanSer.COMPACT.binWriter().write(address);
+        
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        JodaBeanSer.COMPACT.binWriter().write(address, baos);
+        assertEquals(baos.toByteArray(), expected);
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_read_heapByteBuffer() throws IOException {
+        ImmAddress address = SerTestHelper.testImmAddress();
+        byte[] bytes = JodaBeanSer.COMPACT.binWriter().write(address);
+        
+        byte[] padded = new byte[bytes.length + 10];
+        System.arraycopy(bytes, 0, padded, 3, bytes.length);
+        ByteBuffer buffer = ByteBuffer.wrap(padded);
+        buffer.position(3);
+        ImmAddress bean = JodaBeanSer.COMPACT.binReader().read(buffer.slice(), ImmAddress.class);
+        BeanAssert.assertBeanEquals(bean, address);
+    }
+
+    public void test_read_directByteBuffer_consecutive() throws IOException {
+        ImmAddress address = SerTestHelper.testImmAddress();
+        ImmOptional optional = SerTestHelper.testImmOptional();
+        byte[] bytes1 = JodaBeanSer.COMPACT.binWriter().write(address);
+        byte[] bytes2 = JodaBeanSer.COMPACT.binWriter().write(optional);
+        
+        ByteBuffer buffer = ByteBuffer.allocateDirect(bytes1.length + bytes2.length);
+        buffer.put(bytes1).put(bytes2).flip();
+        Bean bean1 = JodaBeanSer.COMPACT.binReader().read(buffer);
+        assertEquals(buffer.position(), bytes1.length);
+        Bean bean2 = JodaBeanSer.COMPACT.binReader().read(buffer);
+        assertEquals(buffer.position(), bytes1.length + bytes2.length);
+        BeanAssert.assertBeanEquals(bean1, address);
+        BeanAssert.assertBeanEquals(bean2, optional);
+    }
+
+    public void test_read_mappedByteBuffer() throws IOException {
+        ImmAddress address = SerTestHelper.testImmAddress();
+        byte[] bytes = JodaBeanSer.COMPACT.binWriter().write(address);
+        
+        File file = File.createTempFile("joda-beans", ".bin");
+        try {
+            FileOutputStream out = new FileOutputStream(file);
+            try {
+                out.write(bytes);
+            } finally {
+                out.close();
+            }
+            RandomAccessFile raf = new RandomAccessFile(file, "r");
+            try {
+                MappedByteBuffer buffer = raf.getChannel().map(FileChannel.MapMode.READ_ONLY, 0, bytes.length);
+                ImmAddress bean = JodaBeanSer.COMPACT.binReader().read(buffer, ImmAddress.class);
+                BeanAssert.assertBeanEquals(bean, address);
+            } finally {
+                raf.close();
+            }
+        } finally {
+            file.delete();
+        }
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void test_read_truncated() throws IOException {
+        byte[] bytes = JodaBeanSer.COMPACT.binWriter().write(SerTestHelper.testImmOptional());
+        JodaBeanSer.COMPACT.binReader().read(ByteBuffer.wrap(bytes, 0, 3));
+    }
+
+    public void test_read_truncatedInsideBean() throws IOException {
+        // every truncation point, including those within nested beans
+        byte[] bytes = JodaBeanSer.COMPACT.binWriter().write(SerTestHelper.testImmAddress());
+        for (int length = 1; length < bytes.length; length++) {
+            try {
+                JodaBeanSer.COMPACT.binReader().read(ByteBuffer.wrap(bytes, 0, length));
+                fail();
+            } catch (IllegalArgumentException ex) {
+                assertEquals(ex.getClass(), IllegalArgumentException.class);
+                assertEquals(ex.getMessage(), "Invalid binary data: Unexpected end of data");
+            }
+            try {
+                JodaBeanSer.COMPACT.binReader().read(new ByteArrayInputStream(bytes, 0, length));
+                fail();
+            } catch (IllegalArgumentException ex) {
+                assertEquals(ex.getClass(), IllegalArgumentException.class);
+                assertEquals(ex.getMessage(), "Invalid binary data: Unexpected end of data");
+            }
+        }
+    }
+
+    public void test_read_stream_largerThanBuffer() throws IOException {
+        // the stream is parsed as it is read, through a buffer smaller than the data
+        StringBuilder buf = new StringBuilder();
+        for (int i = 0; i < 20000; i++) {
+            buf.append((char) ('a' + (i % 26)));
+        }
+        Address address = new Address();
+        address.setStreet(buf.toString());
+        address.setCity(buf.toString());
+        byte[] bytes = JodaBeanSer.COMPACT.binWriter().write(address);
+        Address bean = JodaBeanSer.COMPACT.binReader().read(new ByteArrayInputStream(bytes), Address.class);
+        assertEquals(bean.getStreet(), buf.toString());
+        assertEquals(bean.getCity(), buf.toString());
+    }
+
+    public void test_read_stream_beyondIntPositions() throws IOException {
+        // two skipped binary values take the stream position beyond 2GB
+        int blobSize = 1100 * 1024 * 1024;
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(baos);
+        out.writeByte(MsgPack.MIN_FIX_ARRAY + 2);
+        out.writeByte(1);
+        out.writeByte(MsgPack.MIN_FIX_MAP + 3);
+        out.writeByte(MsgPack.MIN_FIX_STR + 7);
+        out.writeBytes("skipped");
+        out.writeByte(MsgPack.BIN_32);
+        out.writeInt(blobSize);
+        byte[] header = baos.toByteArray();
+        baos.reset();
+        out.writeByte(MsgPack.MIN_FIX_STR + 7);
+        out.writeBytes("skipped");
+        out.writeByte(MsgPack.BIN_32);
+        out.writeInt(blobSize);
+        byte[] middle = baos.toByteArray();
+        baos.reset();
+        out.writeByte(MsgPack.MIN_FIX_STR + 4);
+        out.writeBytes("kept");
+        out.writeByte(MsgPack.MIN_FIX_STR + 5);
+        out.writeBytes("Hello");
+        byte[] footer = baos.toByteArray();
+        
+        InputStream in = new SequenceInputStream(Collections.enumeration(Arrays.<InputStream>asList(
+                new ByteArrayInputStream(header),
+                new BlankInputStream(blobSize),
+                new ByteArrayInputStream(middle),
+                new BlankInputStream(blobSize),
+                new ByteArrayInputStream(footer))));
+        FlexiBean bean = JodaBeanSer.COMPACT.withDeserializers(skipping("skipped")).binReader().read(in, FlexiBean.class);
+        assertEquals(bean.size(), 1);
+        assertEquals(bean.get("kept"), "Hello");
+    }
+
+    public void test_cursor_stream_beyondIntPositions() {
+        long size = 3L * Integer.MAX_VALUE;
+        BinCursor cursor = new BinCursor(new SequenceInputStream(
+                new BlankInputStream(size), new ByteArrayInputStream(new byte[] {1, 2, 3})));
+        cursor.skip(size);
+        assertEquals(cursor.position(), size);
+        assertEquals(cursor.get(size + 2), 3);
+        assertEquals(cursor.get(), 1);
+        cursor.position(size);
+        assertEquals(cursor.position(), size);
+        assertEquals(cursor.get(), 1);
+    }
+
+    // a stream of the specified number of bytes, whose content is not written
+    private static final class BlankInputStream extends InputStream {
+        private long remaining;
+
+        BlankInputStream(long size) {
+            this.remaining = size;
+        }
+
+        @Override
+        public int read() {
+            if (remaining == 0) {
+                return -1;
+            }
+            remaining--;
+            return 0;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) {
+            if (remaining == 0) {
+                return -1;
+            }
+            int count = (int) Math.min(length, remaining);
+            remaining -= count;
+            return count;
+        }
+    }
+
+    public void test_write_strings() throws IOException {
+        StringBuilder buf = new StringBuilder();
+        for (int i = 0; i < 70000; i++) {
+            buf.append((char) ('a' + (i % 26)));
+        }
+        String[] strs = {"", "Park Street", "caf\u00e9", "\u20ac100", "\ud83d\ude00 smile", buf.toString(), buf + "\u00e9"};
+        for (String str : strs) {
+            Address address = new Address();
+            address.setStreet(str);
+            byte[] bytes = JodaBeanSer.COMPACT.binWriter().write(address);
+            Address bean = (Address) JodaBeanSer.COMPACT.binReader().read(bytes);
+            assertEquals(bean.getStreet(), str);
+        }
+    }
+
+    public void test_write_unpairedSurrogate() throws IOException {
+        Address address = new Address();
+        address.setStreet("a\ud83db");
+        byte[] bytes = JodaBeanSer.COMPACT.binWriter().write(address);
+        Address bean = (Address) JodaBeanSer.COMPACT.binReader().read(bytes);
+        assertEquals(bean.getStreet(), new String("a\ud83db".getBytes(MsgPack.UTF_8), MsgPack.UTF_8));
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_writeAddress_version2() throws IOException {
+        Address address = SerTestHelper.testAddress();
+        JodaBeanSer ser = JodaBeanSer.COMPACT.withBinaryVersion(2);
+        byte[] bytes = ser.binWriter().write(address);
+        assertEquals(bytes[1], 2);
+        assertTrue(bytes.length < JodaBeanSer.COMPACT.binWriter().write(address).length);
+        
+        Address bean = (Address) JodaBeanSer.COMPACT.binReader().read(bytes);
+        BeanAssert.assertBeanEquals(bean, address);
+    }
+
+    public void test_writeImmOptional_version2() throws IOException {
+        ImmOptional optional = SerTestHelper.testImmOptional();
+        JodaBeanSer ser = JodaBeanSer.COMPACT.withBinaryVersion(2);
+        byte[] bytes = ser.binWriter().write(optional);
+        
+        ImmOptional bean = (ImmOptional) ser.binReader().read(bytes);
+        BeanAssert.assertBeanEquals(bean, optional);
+    }
+
+    public void test_read_version2_namesDefinedInSkippedData() throws IOException {
+        // both beans have properties named number, street and city
+        Address address = SerTestHelper.testAddress();
+        FlexiBean flexi = new FlexiBean();
+        flexi.set("skipped", SerTestHelper.testImmAddress());
+        flexi.set("kept", address);
+        byte[] bytes = JodaBeanSer.COMPACT.withBinaryVersion(2).binWriter().write(flexi);
+        
+        FlexiBean bean = JodaBeanSer.COMPACT.withDeserializers(skipping("skipped")).binReader().read(bytes, FlexiBean.class);
+        FlexiBean expected = new FlexiBean();
+        expected.set("kept", address);
+        BeanAssert.assertBeanEquals(bean, expected);
+    }
+
+    public void test_readWrite_doubleArray_version2() throws IOException {
+        ImmTolerance bean = ImmTolerance.create(1.5d, new double[] {1d / 3d, 2d / 3d, Double.NaN});
+        byte[] bytes = JodaBeanSer.COMPACT.withBinaryVersion(2).binWriter().write(bean);
+        byte[] bytes1 = JodaBeanSer.COMPACT.binWriter().write(bean);
+        assertTrue(bytes.length < bytes1.length);
+        
+        BeanAssert.assertBeanEquals(JodaBeanSer.COMPACT.binReader().read(bytes), bean);
+        BeanAssert.assertBeanEquals(JodaBeanSer.COMPACT.binReader().read(bytes1), bean);
+    }
+
+    public void test_readWrite_primitiveArrays_version2() throws IOException {
+        double[] large = new double[10000];
+        for (int i = 0; i < large.length; i++) {
+            large[i] = i / 3d;
+        }
+        FlexiBean bean = new FlexiBean();
+        bean.set("ints", new int[] {1, -2, Integer.MAX_VALUE});
+        bean.set("longs", new long[] {1L, Long.MIN_VALUE});
+        bean.set("shorts", new short[] {1, -2});
+        bean.set("floats", new float[] {1.5f, Float.POSITIVE_INFINITY});
+        bean.set("booleans", new boolean[] {true, false});
+        bean.set("empty", new double[0]);
+        bean.set("large", large);
+        JodaBeanSer ser = JodaBeanSer.COMPACT.withBinaryVersion(2);
+        byte[] bytes = ser.binWriter().write(bean);
+        BeanAssert.assertBeanEquals(ser.binReader().read(bytes), bean);
+        
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        ser.binWriter().write(bean, baos);
+        assertEquals(baos.toByteArray(), bytes);
+        ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length);
+        direct.put(bytes);
+        direct.flip();
+        BeanAssert.assertBeanEquals(ser.binReader().read(direct), bean);
+    }
+
+    @Test(expectedExceptions = RuntimeException.class)
+    public void test_read_version2_unknownReference() throws IOException {
+        MsgPackOutput out = new MsgPackOutput(new byte[16]);
+        out.writeArrayHeader(2);
+        out.writeInt(2);
+        out.writeMapHeader(1);
+        out.writeInt(0);
+        out.writeNil();
+        JodaBeanSer.COMPACT.binReader().read(out.toByteArray(), FlexiBean.class);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void test_withBinaryVersion_invalid() {
+        JodaBeanSer.COMPACT.withBinaryVersion(5);
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_writeImmAddress_version3() throws IOException {
+        ImmAddress address = SerTestHelper.testImmAddress();
+        JodaBeanSer ser = JodaBeanSer.COMPACT.withBinaryVersion(3);
+        byte[] bytes = ser.binWriter().write(address);
+        assertEquals(bytes[1], 3);
+        
+        ImmAddress bean = (ImmAddress) JodaBeanSer.COMPACT.binReader().read(bytes);
+        BeanAssert.assertBeanEquals(bean, address);
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        ser.binWriter().write(address, baos);
+        assertEquals(baos.toByteArray(), bytes);
+    }
+
+    public void test_writeImmOptional_version3() throws IOException {
+        ImmOptional optional = SerTestHelper.testImmOptional();
+        JodaBeanSer ser = JodaBeanSer.COMPACT.withBinaryVersion(3);
+        byte[] bytes = ser.binWriter().write(optional);
+        
+        ImmOptional bean = (ImmOptional) ser.binReader().read(bytes);
+        BeanAssert.assertBeanEquals(bean, optional);
+    }
+
+    public void test_write_version3_nestedBeanFramed() throws IOException {
+        Person person = new Person();
+        person.setForename("Stephen");
+        Address address = new Address();
+        address.setOwner(person);
+        byte[] bytes = JodaBeanSer.COMPACT.withBinaryVersion(3).binWriter().write(address, false);
+        
+        // the owner is the last property, so the frame extends to the end of the data
+        int frame = bytes.length - 1;
+        while (bytes[frame] != (byte) MsgPack.EXT_32 || bytes[frame + 5] != MsgPack.JODA_TYPE_FRAMED) {
+            frame--;
+        }
+        int size = ByteBuffer.wrap(bytes, frame + 1, 4).getInt();
+        assertEquals(frame + 6 + size, bytes.length);
+        BeanAssert.assertBeanEquals(JodaBeanSer.COMPACT.binReader().read(bytes, Address.class), address);
+    }
+
+    public void test_read_version3_namesFirstUsedInSkippedFrame() throws IOException {
+        // both beans have properties named number, street and city
+        Address address = SerTestHelper.testAddress();
+        FlexiBean flexi = new FlexiBean();
+        flexi.set("skipped", SerTestHelper.testImmAddress());
+        flexi.set("kept", address);
+        byte[] bytes = JodaBeanSer.COMPACT.withBinaryVersion(3).binWriter().write(flexi);
+        
+        FlexiBean bean = JodaBeanSer.COMPACT.withDeserializers(skipping("skipped")).binReader().read(bytes, FlexiBean.class);
+        FlexiBean expected = new FlexiBean();
+        expected.set("kept", address);
+        BeanAssert.assertBeanEquals(bean, expected);
+        BeanAssert.assertBeanEquals(JodaBeanSer.COMPACT.binReader().read(bytes, FlexiBean.class), flexi);
+    }
+
+    public void test_read_version3_frameSizeMismatch() throws IOException {
+        // the frame of the root bean holds an empty bean followed by an extra nil
+        MsgPackOutput out = new MsgPackOutput(new byte[16]);
+        out.writeArrayHeader(2);
+        out.writeInt(3);
+        int frame = out.startFrame(MsgPack.JODA_TYPE_FRAMED);
+        out.writeMapHeader(0);
+        out.writeNil();
+        out.endFrame(frame);
+        try {
+            JodaBeanSer.COMPACT.binReader().read(out.toByteArray(), FlexiBean.class);
+            fail();
+        } catch (IllegalArgumentException ex) {
+            assertEquals(ex.getClass(), IllegalArgumentException.class);
+            assertEquals(ex.getMessage(), "Invalid binary data: Frame size does not match data");
+        }
+    }
+
+    public void test_read_version3_frameSizeMismatch_nested() throws IOException {
+        // the frame of the property value holds two values
+        MsgPackOutput out = new MsgPackOutput(new byte[16]);
+        out.writeArrayHeader(2);
+        out.writeInt(3);
+        out.writeMapHeader(1);
+        out.writeString("a");
+        int frame = out.startFrame(MsgPack.JODA_TYPE_FRAMED);
+        out.writeNil();
+        out.writeNil();
+        out.endFrame(frame);
+        try {
+            JodaBeanSer.COMPACT.binReader().read(out.toByteArray(), FlexiBean.class);
+            fail();
+        } catch (RuntimeException ex) {
+            // errors within a bean are reported with the bean and property
+            assertEquals(ex.getCause().getClass(), IllegalArgumentException.class);
+            assertEquals(ex.getCause().getMessage(), "Invalid binary data: Frame size does not match data");
+            assertTrue(ex.getMessage().contains(FlexiBean.class.getName() + "::a"));
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_writeImmAddress_version4() throws IOException {
+        ImmAddress address = SerTestHelper.testImmAddress();
+        JodaBeanSer ser = JodaBeanSer.COMPACT.withBinaryVersion(4);
+        byte[] bytes = ser.binWriter().write(address);
+        assertEquals(bytes[1], 4);
+        assertTrue(bytes.length < JodaBeanSer.COMPACT.binWriter().write(address).length);
+        
+        ImmAddress bean = (ImmAddress) JodaBeanSer.COMPACT.binReader().read(bytes);
+        BeanAssert.assertBeanEquals(bean, address);
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        ser.binWriter().write(address, baos);
+        assertEquals(baos.toByteArray(), bytes);
+    }
+
+    public void test_writeAddress_version4() throws IOException {
+        Address address = SerTestHelper.testAddress();
+        byte[] bytes = JodaBeanSer.COMPACT.withBinaryVersion(4).binWriter().write(address, false);
+        
+        BeanAssert.assertBeanEquals(JodaBeanSer.COMPACT.binReader().read(bytes, Address.class), address);
+    }
+
+    public void test_writeImmOptional_version4() throws IOException {
+        ImmOptional optional = SerTestHelper.testImmOptional();
+        byte[] bytes = JodaBeanSer.COMPACT.withBinaryVersion(4).binWriter().write(optional);
+        
+        BeanAssert.assertBeanEquals(JodaBeanSer.COMPACT.binReader().read(bytes), optional);
+    }
+
+    public void test_write_version4_dynamicBean() throws IOException {
+        FlexiBean flexi = new FlexiBean();
+        flexi.set("address", SerTestHelper.testImmAddress());
+        flexi.set("name", "Hello");
+        byte[] bytes = JodaBeanSer.COMPACT.withBinaryVersion(4).binWriter().write(flexi);
+        
+        BeanAssert.assertBeanEquals(JodaBeanSer.COMPACT.binReader().read(bytes, FlexiBean.class), flexi);
+    }
+
+    public void test_write_version4_fingerprintWrittenOncePerType() throws IOException {
+        Person person = new Person();
+        person.setForename("Stephen");
+        Address address = new Address();
+        address.setOwner(person);
+        Company company = new Company("OpenGamma");
+        FlexiBean flexi = new FlexiBean();
+        flexi.set("a", address);
+        flexi.set("b", company);
+        flexi.set("c", address);
+        flexi.set("d", company);
+        byte[] bytes = JodaBeanSer.COMPACT.withBinaryVersion(4).binWriter().write(flexi);
+        
+        assertEquals(countFingerprints(bytes), 3);
+        BeanAssert.assertBeanEquals(JodaBeanSer.COMPACT.binReader().read(bytes, FlexiBean.class), flexi);
+    }
+
+    public void test_read_version4_fingerprintInSkippedData() throws IOException {
+        FlexiBean flexi = new FlexiBean();
+        flexi.set("skipped", SerTestHelper.testImmAddress());
+        flexi.set("kept", SerTestHelper.testImmAddress());
+        byte[] bytes = JodaBeanSer.COMPACT.withBinaryVersion(4).binWriter().write(flexi);
+        
+        FlexiBean bean = JodaBeanSer.COMPACT.withDeserializers(skipping("skipped")).binReader().read(bytes, FlexiBean.class);
+        FlexiBean expected = new FlexiBean();
+        expected.set("kept", SerTestHelper.testImmAddress());
+        BeanAssert.assertBeanEquals(bean, expected);
+    }
+
+    public void test_read_version4_fingerprintMismatch() throws IOException {
+        byte[] bytes = JodaBeanSer.COMPACT.withBinaryVersion(4).binWriter().write(SerTestHelper.testImmAddress());
+        int pos = findFingerprint(bytes, 0);
+        bytes[pos + 9]++;
+        try {
+            JodaBeanSer.COMPACT.binReader().read(bytes, ImmAddress.class);
+            fail();
+        } catch (RuntimeException ex) {
+            assertTrue(ex.getMessage().contains("Schema fingerprint does not match the properties of " + ImmAddress.class.getName()));
+        }
+    }
+
+    public void test_read_version4_fingerprintMissing() throws IOException {
+        byte[] bytes = JodaBeanSer.COMPACT.withBinaryVersion(4).binWriter().write(SerTestHelper.testAddress(), false);
+        int pos = findFingerprint(bytes, 0);
+        byte[] removed = new byte[bytes.length - 10];
+        System.arraycopy(bytes, 0, removed, 0, pos);
+        System.arraycopy(bytes, pos + 10, removed, pos, bytes.length - pos - 10);
+        removed[2]--;
+        try {
+            JodaBeanSer.COMPACT.binReader().read(removed, Address.class);
+            fail();
+        } catch (RuntimeException ex) {
+            assertTrue(ex.getMessage().contains("Schema fingerprint does not match the properties of " + Address.class.getName()));
+        }
+    }
+
+    public void test_readLazy_version4() throws IOException {
+        ImmAddress address = SerTestHelper.testImmAddress();
+        byte[] bytes = JodaBeanSer.COMPACT.withBinaryVersion(4).binWriter().write(address);
+        
+        BinaryBeanView<ImmAddress> view = JodaBeanSer.COMPACT.binReader().readLazy(bytes, ImmAddress.class);
+        assertEquals(view.getBeanType(), ImmAddress.class);
+        assertEquals(view.get(ImmAddress.meta().owner()), address.getOwner());
+        assertEquals(view.get(ImmAddress.meta().street()), address.getStreet());
+        BeanAssert.assertBeanEquals(view.toBean(), address);
+    }
+
+    // finds the next fingerprint in the data
+    private static int findFingerprint(byte[] bytes, int start) {
+        for (int i = start; i < bytes.length - 9; i++) {
+            if (bytes[i] == (byte) MsgPack.FIX_EXT_8 && bytes[i + 1] == MsgPack.JODA_TYPE_SCHEMA) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    // counts the fingerprints in the data
+    private static int countFingerprints(byte[] bytes) {
+        int count = 0;
+        int pos = findFingerprint(bytes, 0);
+        while (pos >= 0) {
+            count++;
+            pos = findFingerprint(bytes, pos + 10);
+        }
+        return count;
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_read_projection() throws IOException {
+        for (int version = 1; version <= 4; version++) {
+            byte[] bytes = JodaBeanSer.COMPACT.withBinaryVersion(version).binWriter().write(SerTestHelper.testAddress());
+            
+            Address bean = JodaBeanSer.COMPACT.binReader()
+                    .withProjection(SerTestHelper.testAddressProjection())
+                    .read(bytes, Address.class);
+            BeanAssert.assertBeanEquals(bean, SerTestHelper.testAddressProjected());
+        }
+    }
+
+    public void test_read_projection_skippedTypedValue() throws IOException {
+        for (Object[] values : SerTestHelper.testTypedPairs()) {
+            Pair pair = new Pair();
+            pair.setFirst(values[0]);
+            pair.setSecond(values[1]);
+            Pair expected = new Pair();
+            expected.setSecond(values[1]);
+            for (int version = 1; version <= 4; version++) {
+                byte[] bytes = JodaBeanSer.COMPACT.withBinaryVersion(version).binWriter().write(pair);
+                
+                Pair bean = JodaBeanSer.COMPACT.binReader()
+                        .withProjection(SerTestHelper.testPairProjection())
+                        .read(bytes, Pair.class);
+                BeanAssert.assertBeanEquals(bean, expected);
+            }
+        }
+    }
+
+    public void test_read_projection_otherTypesReadInFull() throws IOException {
+        FlexiBean flexi = new FlexiBean();
+        flexi.set("address", SerTestHelper.testAddress());
+        flexi.set("company", new Company("OpenGamma"));
+        byte[] bytes = JodaBeanSer.COMPACT.binWriter().write(flexi);
+        
+        FlexiBean bean = JodaBeanSer.COMPACT.binReader()
+                .withProjection(SerTestHelper.testAddressProjection())
+                .read(bytes, FlexiBean.class);
+        FlexiBean expected = new FlexiBean();
+        expected.set("address", SerTestHelper.testAddressProjected());
+        expected.set("company", new Company("OpenGamma"));
+        BeanAssert.assertBeanEquals(bean, expected);
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_readLazy_version3() throws IOException {
+        ImmAddress address = SerTestHelper.testImmAddress();
+        byte[] bytes = JodaBeanSer.COMPACT.withBinaryVersion(3).binWriter().write(address);
+        
+        BinaryBeanView<ImmAddress> view = JodaBeanSer.COMPACT.binReader().readLazy(bytes, ImmAddress.class);
+        assertEquals(view.getBeanType(), ImmAddress.class);
+        assertTrue(view.propertyNames().contains("owner"));
+        assertEquals(view.get(ImmAddress.meta().owner()), address.getOwner());
+        assertSame(view.get(ImmAddress.meta().owner()), view.get("owner"));
+        assertEquals(view.get(ImmAddress.meta().city()), address.getCity());
+        assertEquals(view.get(ImmAddress.meta().number()), Integer.valueOf(address.getNumber()));
+        BeanAssert.assertBeanEquals(view.toBean(), address);
+    }
+
+    public void test_readLazy_version1() throws IOException {
+        ImmAddress address = SerTestHelper.testImmAddress();
+        byte[] bytes = JodaBeanSer.COMPACT.binWriter().write(address);
+        
+        BinaryBeanView<ImmAddress> view = JodaBeanSer.COMPACT.binReader().readLazy(ByteBuffer.wrap(bytes), ImmAddress.class);
+        assertEquals(view.get(ImmAddress.meta().owner()), address.getOwner());
+        assertEquals(view.get(ImmAddress.meta().street()), address.getStreet());
+    }
+
+    public void test_readLazy_optional() throws IOException {
+        ImmOptional optional = SerTestHelper.testImmOptional();
+        byte[] bytes = JodaBeanSer.COMPACT.withBinaryVersion(3).binWriter().write(optional);
+        
+        BinaryBeanView<ImmOptional> view = JodaBeanSer.COMPACT.binReader().readLazy(bytes, ImmOptional.class);
+        for (MetaProperty<?> metaProp : ImmOptional.meta().metaPropertyIterable()) {
+            assertEquals(view.get(metaProp), metaProp.get(optional));
+        }
+    }
+
+    public void test_readLazy_repeatedType() throws IOException {
+        Pair pair = testFlexiPair();
+        for (int version = 1; version <= 4; version++) {
+            byte[] bytes = JodaBeanSer.COMPACT.withBinaryVersion(version).binWriter().write(pair);
+            
+            // the type of the second value is written using the short name introduced by the first
+            BinaryBeanView<Pair> view = JodaBeanSer.COMPACT.binReader().readLazy(bytes, Pair.class);
+            BeanAssert.assertBeanEquals((Bean) view.get("second"), (Bean) pair.getSecond());
+            BeanAssert.assertBeanEquals((Bean) view.get("first"), (Bean) pair.getFirst());
+        }
+    }
+
+    public void test_readLazy_unknownType() throws IOException {
+        Pair pair = new Pair();
+        pair.setFirst("Hello");
+        pair.setSecond(new FlexiBean());
+        byte[] bytes = JodaBeanSer.COMPACT.binWriter().write(pair);
+        String text = new String(bytes, "ISO-8859-1").replace("FlexiBean", "FlexiBeaX");
+        
+        BinaryBeanView<Pair> view = JodaBeanSer.COMPACT.binReader().readLazy(text.getBytes("ISO-8859-1"), Pair.class);
+        assertEquals(view.get("first"), "Hello");
+        try {
+            view.get("second");
+            fail();
+        } catch (IllegalArgumentException ex) {
+            assertEquals(ex.getCause().getClass(), ClassNotFoundException.class);
+            assertTrue(ex.getMessage().startsWith("Error parsing bean: " + Pair.class.getName() + "::second, "));
+        }
+    }
+
+    // a pair of beans of the same type, each with a nested value
+    static Pair testFlexiPair() {
+        FlexiBean first = new FlexiBean();
+        first.set("name", "First");
+        first.set("address", SerTestHelper.testAddress());
+        FlexiBean second = new FlexiBean();
+        second.set("name", "Second");
+        second.set("address", SerTestHelper.testAddress());
+        Pair pair = new Pair();
+        pair.setFirst(first);
+        pair.setSecond(second);
+        return pair;
+    }
+
+    @Test(expectedExceptions = NoSuchElementException.class)
+    public void test_readLazy_unknownProperty() throws IOException {
+        byte[] bytes = JodaBeanSer.COMPACT.withBinaryVersion(3).binWriter().write(SerTestHelper.testImmAddress());
+        JodaBeanSer.COMPACT.binReader().readLazy(bytes, ImmAddress.class).get("foo");
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void test_readLazy_incompatibleType() throws IOException {
+        byte[] bytes = JodaBeanSer.COMPACT.withBinaryVersion(3).binWriter().write(SerTestHelper.testImmAddress());
+        JodaBeanSer.COMPACT.binReader().readLazy(bytes, Address.class);
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_read_skipUnknown() throws IOException {
+        FlexiBean flexi = new FlexiBean();
+        flexi.set("skipped", SerTestHelper.testImmAddress());
+        flexi.set("kept", "Hello");
+        byte[] bytes = JodaBeanSer.COMPACT.binWriter().write(flexi);
+        
+        FlexiBean bean = JodaBeanSer.COMPACT.withDeserializers(skipping("skipped")).binReader().read(bytes, FlexiBean.class);
+        FlexiBean expected = new FlexiBean();
+        expected.set("kept", "Hello");
+        BeanAssert.assertBeanEquals(bean, expected);
+    }
+
+    public void test_read_skipUnknown_deeplyNested() throws IOException {
+        MsgPackOutput out = new MsgPackOutput(new byte[16]);
+        out.writeArrayHeader(2);
+        out.writeInt(1);
+        out.writeMapHeader(2);
+        out.writeExtensionString(MsgPack.JODA_TYPE_BEAN, FlexiBean.class.getName());
+        out.writeNil();
+        out.writeString("skipped");
+        for (int i = 0; i < 100000; i++) {
+            out.writeArrayHeader(1);
+        }
+        out.writeNil();
+        
+        FlexiBean bean = JodaBeanSer.COMPACT.withDeserializers(skipping("skipped")).binReader().read(out.toByteArray(), FlexiBean.class);
+        assertEquals(bean.size(), 0);
+    }
+
+    public void test_skipObject_stream() throws IOException {
+        byte[] bytes = JodaBeanSer.COMPACT.binWriter().write(SerTestHelper.testImmAddress());
+        byte[] withMarker = Arrays.copyOf(bytes, bytes.length + 1);
+        withMarker[bytes.length] = 0x7F;
+        
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(withMarker));
+        MsgPackInput.skipObject(in);
+        assertEquals(in.readByte(), 0x7F);
+        assertEquals(in.available(), 0);
+    }
+
+    @Test(expectedExceptions = EOFException.class)
+    public void test_skipObject_stream_truncated() throws IOException {
+        byte[] bytes = JodaBeanSer.COMPACT.binWriter().write(SerTestHelper.testImmAddress());
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(Arrays.copyOf(bytes, bytes.length - 1)));
+        MsgPackInput.skipObject(in);
+    }
+
+    // deserializers that skip the named property of a FlexiBean
+    private static SerDeserializers skipping(final String skippedName) {
+        SerDeserializers desers = new SerDeserializers();
+        desers.register(FlexiBean.class, new DefaultDeserializer() {
+            @Override
+            public MetaProperty<?> findMetaProperty(Class<?> beanType, MetaBean metaBean, String propertyName) {
+                return propertyName.equals(skippedName) ? null : super.findMetaProperty(beanType, metaBean, propertyName);
+            }
+        });
+        return desers;
+    }
+
     //-----------------------------------------------------------------------
     public void test_readWrite_primitives() throws IOException {
         ByteArrayOutputStream baos = new ByteArrayOutputStream();
@@ -0,0 +1,132 @@
+/*
+ *  Copyright 2001-2016 Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.beans.ser.json;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+
+import org.joda.beans.Bean;
+import org.joda.beans.gen.Address;
+import org.joda.beans.gen.ImmAddress;
+import org.joda.beans.gen.Person;
+import org.joda.beans.ser.JodaBeanSer;
+import org.joda.beans.ser.SerTestHelper;
+import org.joda.beans.test.BeanAssert;
+import org.testng.annotations.Test;
+
+/**
+ * Test the incremental JSON encoder and decoder.
+ */
+@Test
+public class TestJsonCodec {
+
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    public void test_encode_smallBuffer() {
+        ImmAddress address = SerTestHelper.testImmAddress();
+        byte[] expected = JodaBeanSer.PRETTY.jsonWriter().write(address).getBytes(UTF_8);
+        JodaBeanJsonEncoder encoder = new JodaBeanJsonEncoder(JodaBeanSer.PRETTY, address);
+        assertEquals(encoder.remaining(), expected.length);
+        ByteBuffer output = ByteBuffer.allocate(expected.length);
+        ByteBuffer chunk = ByteBuffer.allocate(7);
+        while (encoder.encode(chunk) == false) {
+            assertFalse(chunk.hasRemaining());
+            chunk.flip();
+            output.put(chunk);
+            chunk.clear();
+        }
+        chunk.flip();
+        output.put(chunk);
+        assertTrue(encoder.isComplete());
+        assertEquals(output.array(), expected);
+    }
+
+    public void test_decode_byteByByte() {
+        ImmAddress address = SerTestHelper.testImmAddress();
+        // the trailing newline is not part of the message
+        byte[] bytes = JodaBeanSer.PRETTY.jsonWriter().write(address).trim().getBytes(UTF_8);
+        JodaBeanJsonDecoder<ImmAddress> decoder = new JodaBeanJsonDecoder<ImmAddress>(JodaBeanSer.PRETTY, ImmAddress.class);
+        for (int i = 0; i < bytes.length - 1; i++) {
+            assertNull(decoder.decode(ByteBuffer.wrap(bytes, i, 1)));
+            assertTrue(decoder.isPartial());
+        }
+        BeanAssert.assertBeanEquals(decoder.decode(ByteBuffer.wrap(bytes, bytes.length - 1, 1)), address);
+        assertFalse(decoder.isPartial());
+    }
+
+    public void test_decode_stringsWithBracesQuotesAndUnicode() {
+        Person person = new Person();
+        person.setForename("{\"[\\}é中");
+        person.setSurname("\\");
+        byte[] bytes = JodaBeanSer.COMPACT.jsonWriter().write(person).getBytes(UTF_8);
+        JodaBeanJsonDecoder<Person> decoder = new JodaBeanJsonDecoder<Person>(JodaBeanSer.COMPACT, Person.class);
+        for (int i = 0; i < bytes.length - 1; i++) {
+            assertNull(decoder.decode(ByteBuffer.wrap(bytes, i, 1)));
+        }
+        BeanAssert.assertBeanEquals(decoder.decode(ByteBuffer.wrap(bytes, bytes.length - 1, 1)), person);
+    }
+
+    public void test_decode_messagesAcrossChunks() {
+        Address address = SerTestHelper.testAddress();
+        byte[] bytes = (JodaBeanSer.COMPACT.jsonWriter().write(address) + "\n").getBytes(UTF_8);
+        ByteBuffer all = ByteBuffer.allocate(bytes.length * 3);
+        all.put(bytes).put(bytes).put(bytes).flip();
+        JodaBeanJsonDecoder<Bean> decoder = new JodaBeanJsonDecoder<Bean>(JodaBeanSer.COMPACT, Bean.class);
+        int count = 0;
+        while (all.hasRemaining()) {
+            ByteBuffer chunk = all.duplicate();
+            chunk.limit(Math.min(chunk.position() + 50, chunk.limit()));
+            while (chunk.hasRemaining()) {
+                Bean bean = decoder.decode(chunk);
+                if (bean != null) {
+                    BeanAssert.assertBeanEquals(bean, address);
+                    count++;
+                }
+            }
+            all.position(chunk.position());
+        }
+        assertEquals(count, 3);
+        assertFalse(decoder.isPartial());
+    }
+
+    public void test_roundTrip_encoderToDecoder() {
+        ImmAddress address = SerTestHelper.testImmAddress();
+        JodaBeanJsonEncoder encoder = new JodaBeanJsonEncoder(JodaBeanSer.COMPACT, address, false);
+        JodaBeanJsonDecoder<ImmAddress> decoder = new JodaBeanJsonDecoder<ImmAddress>(JodaBeanSer.COMPACT, ImmAddress.class);
+        ByteBuffer buffer = ByteBuffer.allocate(16);
+        ImmAddress result = null;
+        while (result == null) {
+            encoder.encode(buffer);
+            buffer.flip();
+            result = decoder.decode(buffer);
+            buffer.clear();
+        }
+        assertTrue(encoder.isComplete());
+        BeanAssert.assertBeanEquals(result, address);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void test_decode_notObject() {
+        JodaBeanJsonDecoder<Bean> decoder = new JodaBeanJsonDecoder<Bean>(JodaBeanSer.COMPACT, Bean.class);
+        decoder.decode(ByteBuffer.wrap("  [1]".getBytes(UTF_8)));
+    }
+
+}
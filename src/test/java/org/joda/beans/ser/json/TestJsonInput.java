@@ -18,6 +18,7 @@ package org.joda.beans.ser.json;
 import static org.testng.Assert.assertEquals;
 
 import java.io.IOException;
+import java.io.Reader;
 import java.io.StringReader;
 
 import org.testng.annotations.DataProvider;
@@ -343,4 +344,133 @@ public class TestJsonInput {
         input.skipData();
     }
 
+    //-----------------------------------------------------------------------
+    @Test(dataProvider = "string")
+    public void test_parseString_fromString(String text, String expected) throws IOException {
+        JsonInput input = new JsonInput(text + '"');
+        assertEquals(input.parseString(), expected);
+    }
+
+    @Test(dataProvider = "string")
+    public void test_parseString_oneCharAtATime(String text, String expected) throws IOException {
+        JsonInput input = new JsonInput(new OneCharReader(text + '"'));
+        assertEquals(input.parseString(), expected);
+    }
+
+    public void test_parseString_longerThanBuffer() throws IOException {
+        StringBuilder buf = new StringBuilder();
+        for (int i = 0; i < 10000; i++) {
+            buf.append((char) ('a' + (i % 26)));
+            if (i % 1000 == 0) {
+                buf.append("\\n");
+            }
+        }
+        String expected = buf.toString().replace("\\n", "\n");
+        JsonInput input = new JsonInput(new StringReader("\"" + buf + "\","));
+        assertEquals(input.readEvent(), JsonEvent.STRING);
+        assertEquals(input.parseString(), expected);
+        assertEquals(input.readEvent(), JsonEvent.COMMA);
+    }
+
+    @Test(dataProvider = "numberIntegral")
+    public void test_parseNumberIntegral_oneCharAtATime(String text, long expected) throws IOException {
+        JsonInput input = new JsonInput(new OneCharReader(text + '}'));
+        assertEquals(input.readEvent(), JsonEvent.NUMBER_INTEGRAL);
+        assertEquals(input.parseNumberIntegral(), expected);
+        assertEquals(input.readEvent(), JsonEvent.OBJECT_END);
+    }
+
+    @Test(dataProvider = "numberFloating")
+    public void test_parseNumberFloating_fromString(String text, double expected) throws IOException {
+        JsonInput input = new JsonInput(text + '}');
+        assertEquals(input.readEvent(), JsonEvent.NUMBER_FLOATING);
+        assertEquals(input.parseNumberFloating(), expected, 0.00001d);
+        assertEquals(input.readEvent(), JsonEvent.OBJECT_END);
+    }
+
+    @Test(dataProvider = "numberFloating")
+    public void test_parseNumberFloating_oneCharAtATime(String text, double expected) throws IOException {
+        JsonInput input = new JsonInput(new OneCharReader(text + '}'));
+        assertEquals(input.readEvent(), JsonEvent.NUMBER_FLOATING);
+        assertEquals(input.parseNumberFloating(), expected, 0.00001d);
+        assertEquals(input.readEvent(), JsonEvent.OBJECT_END);
+    }
+
+    @Test(dataProvider = "numberFloating", expectedExceptions = IllegalArgumentException.class)
+    public void test_parseNumberFloating_endOfFile_fromString(String text, double expected) throws IOException {
+        JsonInput input = new JsonInput(text);
+        input.readEvent();
+    }
+
+    @Test(dataProvider = "numberBad", expectedExceptions = IllegalArgumentException.class)
+    public void test_parseNumberFloating_bad_fromString(String text) throws IOException {
+        JsonInput input = new JsonInput(text + '}');
+        input.readEvent();
+    }
+
+    public void test_parseNumberFloating_exact() throws IOException {
+        String[] texts = {"0.1", "0.2", "0.3", "1.7976931348623157", "2.2250738585072014", "4.35", "8.41e21",
+            "-5.5e-3", "123456789012345.6", "9007199254740993.0", "1e22", "1e23", "1e-22", "1e-23",
+            "3.141592653589793", "0.000001234", "12345.678e-10", "-0.0"};
+        for (String text : texts) {
+            JsonInput input = new JsonInput(text + ',');
+            assertEquals(input.readEvent(), JsonEvent.NUMBER_FLOATING);
+            assertEquals(Double.doubleToLongBits(input.parseNumberFloating()), Double.doubleToLongBits(Double.parseDouble(text)), text);
+        }
+    }
+
+    public void test_readEvent_manyNumbersSpanningBuffer() throws IOException {
+        StringBuilder buf = new StringBuilder("[");
+        for (int i = 0; i < 5000; i++) {
+            buf.append(i * 7919L).append(",").append(i).append(".25, ");
+        }
+        buf.append("0]");
+        JsonInput input = new JsonInput(new StringReader(buf.toString()));
+        assertEquals(input.readEvent(), JsonEvent.ARRAY);
+        for (int i = 0; i < 5000; i++) {
+            assertEquals(input.readEvent(), JsonEvent.NUMBER_INTEGRAL);
+            assertEquals(input.parseNumberIntegral(), i * 7919L);
+            assertEquals(input.readEvent(), JsonEvent.COMMA);
+            assertEquals(input.readEvent(), JsonEvent.NUMBER_FLOATING);
+            assertEquals(input.parseNumberFloating(), i + 0.25d, 0d);
+            assertEquals(input.readEvent(), JsonEvent.COMMA);
+        }
+        assertEquals(input.readEvent(), JsonEvent.NUMBER_INTEGRAL);
+        assertEquals(input.readEvent(), JsonEvent.ARRAY_END);
+    }
+
+    public void test_pushBack_atStartOfBuffer() throws IOException {
+        JsonInput input = new JsonInput("1}");
+        input.pushBack('{');
+        assertEquals(input.readEvent(), JsonEvent.OBJECT);
+        assertEquals(input.readEvent(), JsonEvent.NUMBER_INTEGRAL);
+        input.pushBack('}');
+        assertEquals(input.readEvent(), JsonEvent.OBJECT_END);
+        assertEquals(input.readEvent(), JsonEvent.OBJECT_END);
+    }
+
+    //-----------------------------------------------------------------------
+    // reader that returns one character per read, to force buffer refills
+    static final class OneCharReader extends Reader {
+        private final String text;
+        private int index;
+
+        OneCharReader(String text) {
+            this.text = text;
+        }
+
+        @Override
+        public int read(char[] cbuf, int off, int len) {
+            if (index == text.length()) {
+                return -1;
+            }
+            cbuf[off] = text.charAt(index++);
+            return 1;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
 }
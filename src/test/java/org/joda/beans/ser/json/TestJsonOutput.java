@@ -17,7 +17,9 @@ package org.joda.beans.ser.json;
 
 import static org.testng.Assert.assertEquals;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.channels.Channels;
 
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.DataProvider;
@@ -471,4 +473,95 @@ public class TestJsonOutput {
         		"\n \"c\": \"cc\"\n}");
     }
 
+    //-----------------------------------------------------------------------
+    @Test(dataProvider = "string")
+    public void test_writeString_bytes(String input, String expected) throws IOException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        JsonOutput output = new JsonOutput(baos, "", "");
+        output.writeString(input);
+        output.writeEnd();
+        assertEquals(new String(baos.toByteArray(), "UTF-8"), '"' + expected + '"');
+    }
+
+    public void test_writeString_bytes_nonAscii() throws IOException {
+        String input = "a\u00e9\u20ac\ud83d\ude00\ud83d";
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        JsonOutput output = new JsonOutput(baos, "", "");
+        output.writeString(input);
+        output.writeEnd();
+        assertEquals(baos.toByteArray(), ('"' + input + '"').getBytes("UTF-8"));
+    }
+
+    public void test_writeString_bytes_largerThanBuffer() throws IOException {
+        StringBuilder input = new StringBuilder();
+        for (int i = 0; i < 20000; i++) {
+            input.append((char) ('a' + (i % 26))).append(i % 100 == 0 ? "\u20ac\n" : "");
+        }
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        JsonOutput output = new JsonOutput(baos, "", "");
+        output.writeString(input.toString());
+        output.writeEnd();
+        buf.setLength(0);
+        outputCompact.writeString(input.toString());
+        assertEquals(new String(baos.toByteArray(), "UTF-8"), buf.toString());
+    }
+
+    public void test_writeLong_bytes() throws IOException {
+        long[] values = {0, 7, 8, 9, 10, 99, 100, -1, -10, 1234567, Integer.MAX_VALUE, Integer.MIN_VALUE, Long.MAX_VALUE, Long.MIN_VALUE};
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        JsonOutput output = new JsonOutput(baos, "", "");
+        output.writeArrayStart();
+        for (long value : values) {
+            output.writeArrayItemStart();
+            output.writeLong(value);
+            output.writeArrayItemStart();
+            output.writeInt((int) value);
+        }
+        output.writeArrayEnd();
+        output.writeEnd();
+        outputCompact.writeArrayStart();
+        for (long value : values) {
+            outputCompact.writeArrayItemStart();
+            outputCompact.writeLong(value);
+            outputCompact.writeArrayItemStart();
+            outputCompact.writeInt((int) value);
+        }
+        outputCompact.writeArrayEnd();
+        assertEquals(new String(baos.toByteArray(), "UTF-8"), buf.toString());
+    }
+
+    public void test_write_objectDeep2_pretty_bytes() throws IOException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        JsonOutput output = new JsonOutput(Channels.newChannel(baos), " ", "\n");
+        output.writeObjectStart();
+        output.writePropertyKeyValue("a", "aa");
+        output.writePropertyKey("b");
+        output.writeObjectStart();
+        output.writePropertyKeyValue("bb1", "bbb1");
+        output.writeObjectKeyValue("bb2", "bbb2");
+        output.writeObjectEnd();
+        output.writePropertyKeyValue("c\"", "cc");
+        output.writeObjectEnd();
+        output.writeEnd();
+        assertEquals(new String(baos.toByteArray(), "UTF-8"), "{\n \"a\": \"aa\",\n \"b\": " +
+                "{\n  \"bb1\": \"bbb1\",\n  \"bb2\": \"bbb2\"\n }," +
+                "\n \"c\\\"\": \"cc\"\n}\n");
+    }
+
+    public void test_write_encodedPropertyKey_bytes() throws IOException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        JsonOutput output = new JsonOutput(baos, "", "");
+        output.writeObjectStart();
+        output.writePropertyKeyValue("a", "aa");
+        output.writePropertyKey("b\u00e9", "b\u00e9".getBytes("UTF-8"));
+        output.writeString("bb");
+        output.writePropertyKey("c\"", "c\"".getBytes("UTF-8"));
+        output.writeString("cc");
+        output.writePropertyKey("d", null);
+        output.writeString("dd");
+        output.writeObjectEnd();
+        output.writeEnd();
+        assertEquals(new String(baos.toByteArray(), "UTF-8"), "{\"a\":\"aa\",\"b\u00e9\":\"bb\",\"c\\\"\":\"cc\",\"d\":\"dd\"}");
+    }
+
 }
@@ -17,20 +17,31 @@ package org.joda.beans.ser.json;
 
 import static org.testng.Assert.assertEquals;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
 import java.io.Reader;
 import java.io.StringReader;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
 
 import org.joda.beans.Bean;
 import org.joda.beans.gen.Address;
+import org.joda.beans.gen.Company;
 import org.joda.beans.gen.ImmAddress;
 import org.joda.beans.gen.ImmEmpty;
 import org.joda.beans.gen.ImmKey1;
 import org.joda.beans.gen.ImmMappedKey;
 import org.joda.beans.gen.ImmOptional;
 import org.joda.beans.gen.ImmPerson;
+import org.joda.beans.gen.ImmTolerance;
 import org.joda.beans.gen.JodaConvertBean;
 import org.joda.beans.gen.JodaConvertWrapper;
+import org.joda.beans.gen.Pair;
 import org.joda.beans.gen.Person;
 import org.joda.beans.gen.PrimitiveBean;
 import org.joda.beans.gen.SimplePerson;
@@ -69,6 +80,25 @@ public class TestSerializeJson {
         BeanAssert.assertBeanEquals(bean, address);
     }
 
+    public void test_writeImmAddress_outputStream() throws IOException {
+        ImmAddress address = SerTestHelper.testImmAddress();
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        JodaBeanSer.PRETTY.jsonWriter().write(address, baos);
+        String json = JodaBeanSer.PRETTY.jsonWriter().write(address);
+        assertEquals(baos.toByteArray(), json.getBytes("UTF-8"));
+        
+        ImmAddress bean = (ImmAddress) JodaBeanSer.PRETTY.jsonReader().read(new String(baos.toByteArray(), "UTF-8"));
+        BeanAssert.assertBeanEquals(bean, address);
+    }
+
+    public void test_writeAddress_channel() throws IOException {
+        Address address = SerTestHelper.testAddress();
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        JodaBeanSer.COMPACT.jsonWriter().write(address, false, Channels.newChannel(baos));
+        String json = JodaBeanSer.COMPACT.jsonWriter().write(address, false);
+        assertEquals(baos.toByteArray(), json.getBytes("UTF-8"));
+    }
+
     public void test_writeImmOptional() {
         ImmOptional optional = SerTestHelper.testImmOptional();
         String json = JodaBeanSer.PRETTY.jsonWriter().write(optional);
@@ -79,6 +109,46 @@ public class TestSerializeJson {
         BeanAssert.assertBeanEquals(bean, optional);
     }
 
+    public void test_read_projection() {
+        String json = JodaBeanSer.COMPACT.jsonWriter().write(SerTestHelper.testAddress());
+        
+        Address bean = JodaBeanSer.COMPACT.jsonReader()
+                .withProjection(SerTestHelper.testAddressProjection())
+                .read(json, Address.class);
+        BeanAssert.assertBeanEquals(bean, SerTestHelper.testAddressProjected());
+    }
+
+    public void test_read_projection_skippedTypedValue() {
+        for (Object[] values : SerTestHelper.testTypedPairs()) {
+            Pair pair = new Pair();
+            pair.setFirst(values[0]);
+            pair.setSecond(values[1]);
+            Pair expected = new Pair();
+            expected.setSecond(values[1]);
+            String json = JodaBeanSer.COMPACT.jsonWriter().write(pair);
+            
+            Pair bean = JodaBeanSer.COMPACT.jsonReader()
+                    .withProjection(SerTestHelper.testPairProjection())
+                    .read(json, Pair.class);
+            BeanAssert.assertBeanEquals(bean, expected);
+        }
+    }
+
+    public void test_read_projection_otherTypesReadInFull() {
+        FlexiBean flexi = new FlexiBean();
+        flexi.set("address", SerTestHelper.testAddress());
+        flexi.set("company", new Company("OpenGamma"));
+        String json = JodaBeanSer.COMPACT.jsonWriter().write(flexi);
+        
+        FlexiBean bean = JodaBeanSer.COMPACT.jsonReader()
+                .withProjection(SerTestHelper.testAddressProjection())
+                .read(json, FlexiBean.class);
+        FlexiBean expected = new FlexiBean();
+        expected.set("address", SerTestHelper.testAddressProjected());
+        expected.set("company", new Company("OpenGamma"));
+        BeanAssert.assertBeanEquals(bean, expected);
+    }
+
     //-----------------------------------------------------------------------
     public void test_readWriteBeanEmptyChild_pretty() {
         FlexiBean bean = new FlexiBean();
@@ -216,6 +286,15 @@ public class TestSerializeJson {
         BeanAssert.assertBeanEquals(bean, parsed);
     }
 
+    public void test_readWrite_primitiveDouble_NaN() {
+        PrimitiveBean bean = new PrimitiveBean();
+        bean.setValueDouble(Double.NaN);
+        String json = JodaBeanSer.COMPACT.jsonWriter().write(bean);
+        assertEquals(json.contains("\"valueDouble\":\"NaN\""), true);
+        Bean parsed = JodaBeanSer.COMPACT.jsonReader().read(json);
+        BeanAssert.assertBeanEquals(bean, parsed);
+    }
+
     public void test_readWrite_double_Infinity() {
         FlexiBean bean = new FlexiBean();
         bean.set("data", Double.POSITIVE_INFINITY);
@@ -225,6 +304,40 @@ public class TestSerializeJson {
         BeanAssert.assertBeanEquals(bean, parsed);
     }
 
+    public void test_readWrite_doubleArray() {
+        ImmTolerance bean = ImmTolerance.create(1.5d, new double[] {1d, 2.5d, Double.NaN});
+        String json = JodaBeanSer.COMPACT.jsonWriter().write(bean);
+        assertEquals(json, "{\"@bean\":\"org.joda.beans.gen.ImmTolerance\",\"value\":1.5,\"array\":[1.0,2.5,\"NaN\"]}");
+        Bean parsed = JodaBeanSer.COMPACT.jsonReader().read(json);
+        BeanAssert.assertBeanEquals(bean, parsed);
+    }
+
+    public void test_read_doubleArray_convertedString() {
+        ImmTolerance bean = ImmTolerance.create(1.5d, new double[] {1d, 2.5d});
+        String json = "{\"@bean\":\"org.joda.beans.gen.ImmTolerance\",\"value\":1.5,\"array\":\"1.0,2.5\"}";
+        Bean parsed = JodaBeanSer.COMPACT.jsonReader().read(json);
+        BeanAssert.assertBeanEquals(bean, parsed);
+    }
+
+    public void test_readWrite_primitiveArrays_flexi() {
+        FlexiBean bean = new FlexiBean();
+        bean.set("ints", new int[] {1, -2, Integer.MAX_VALUE});
+        bean.set("longs", new long[] {1L, Long.MIN_VALUE});
+        bean.set("shorts", new short[] {1, -2});
+        bean.set("floats", new float[] {1.5f, Float.POSITIVE_INFINITY});
+        bean.set("booleans", new boolean[] {true, false});
+        bean.set("empty", new double[0]);
+        String json = JodaBeanSer.COMPACT.jsonWriter().write(bean);
+        Bean parsed = JodaBeanSer.COMPACT.jsonReader().read(json);
+        BeanAssert.assertBeanEquals(bean, parsed);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void test_read_intArray_tooBig() {
+        String json = "{\"@bean\":\"org.joda.beans.impl.flexi.FlexiBean\",\"data\":{\"@type\":\"int[]\",\"value\":[12345678912]}}";
+        JodaBeanSer.COMPACT.jsonReader().read(json);
+    }
+
     public void test_read_double_integer_flexiWithTypeAnnotation() {
         FlexiBean bean = new FlexiBean();
         bean.set("data", Double.valueOf(6));
@@ -378,7 +491,101 @@ public class TestSerializeJson {
 
     @Test(expectedExceptions = IllegalArgumentException.class)
     public void test_writer_write2_nullAppendable() throws IOException {
-        new JodaBeanJsonWriter(JodaBeanSer.PRETTY).write(new FlexiBean(), null);
+        new JodaBeanJsonWriter(JodaBeanSer.PRETTY).write(new FlexiBean(), (Appendable) null);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void test_writer_write2_nullOutputStream() throws IOException {
+        new JodaBeanJsonWriter(JodaBeanSer.PRETTY).write(new FlexiBean(), (OutputStream) null);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void test_writer_write2_nullChannel() throws IOException {
+        new JodaBeanJsonWriter(JodaBeanSer.PRETTY).write(new FlexiBean(), (WritableByteChannel) null);
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_stream_jsonLines() throws IOException {
+        ImmAddress address = SerTestHelper.testImmAddress();
+        Address mutable = SerTestHelper.testAddress();
+        ImmOptional optional = SerTestHelper.testImmOptional();
+        StringBuilder buf = new StringBuilder();
+        JodaBeanJsonStreamWriter writer = JodaBeanSer.PRETTY.jsonWriter().stream(buf);
+        writer.write(address);
+        writer.write(mutable);
+        writer.write(optional);
+        writer.write(address);
+        writer.flush();
+        String json = buf.toString();
+        assertEquals(json.split("\n").length, 4);
+        assertEquals(json.endsWith("\n"), true);
+        
+        Iterator<Bean> it = JodaBeanSer.PRETTY.jsonReader().stream(new StringReader(json), Bean.class);
+        assertEquals(it.hasNext(), true);
+        assertEquals(it.hasNext(), true);
+        BeanAssert.assertBeanEquals(it.next(), address);
+        BeanAssert.assertBeanEquals(it.next(), mutable);
+        BeanAssert.assertBeanEquals(it.next(), optional);
+        BeanAssert.assertBeanEquals(it.next(), address);
+        assertEquals(it.hasNext(), false);
+    }
+
+    public void test_stream_outputStream() throws IOException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        JodaBeanJsonStreamWriter writer = JodaBeanSer.COMPACT.jsonWriter().stream(baos);
+        ImmPerson owner = SerTestHelper.testImmAddress().getOwner();
+        for (int i = 0; i < 1000; i++) {
+            writer.write(ImmAddress.builder().number(i).street("Park Street").city("London").owner(owner).build());
+        }
+        writer.flush();
+        
+        Reader reader = new InputStreamReader(new ByteArrayInputStream(baos.toByteArray()), "UTF-8");
+        Iterator<ImmAddress> it = JodaBeanSer.COMPACT.jsonReader().stream(reader, ImmAddress.class);
+        int count = 0;
+        while (it.hasNext()) {
+            assertEquals(it.next().getNumber(), count);
+            count++;
+        }
+        assertEquals(count, 1000);
+    }
+
+    public void test_stream_array() {
+        ImmAddress address = SerTestHelper.testImmAddress();
+        String json = JodaBeanSer.PRETTY.jsonWriter().write(address);
+        String array = "[\n" + json + ",\n" + json + "\n]\n";
+        Iterator<ImmAddress> it = JodaBeanSer.PRETTY.jsonReader().stream(new StringReader(array), ImmAddress.class);
+        BeanAssert.assertBeanEquals(it.next(), address);
+        assertEquals(it.hasNext(), true);
+        BeanAssert.assertBeanEquals(it.next(), address);
+        assertEquals(it.hasNext(), false);
+    }
+
+    @DataProvider(name = "streamEmpty")
+    Object[][] data_streamEmpty() {
+        return new Object[][] {
+            {""},
+            {" \n "},
+            {"[]"},
+            {" [ ] "},
+        };
+    }
+
+    @Test(dataProvider = "streamEmpty")
+    public void test_stream_empty(String json) {
+        Iterator<Bean> it = JodaBeanSer.PRETTY.jsonReader().stream(new StringReader(json), Bean.class);
+        assertEquals(it.hasNext(), false);
+    }
+
+    @Test(expectedExceptions = NoSuchElementException.class)
+    public void test_stream_nextAtEnd() {
+        Iterator<Bean> it = JodaBeanSer.PRETTY.jsonReader().stream(new StringReader("[]"), Bean.class);
+        it.next();
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void test_stream_notBean() {
+        Iterator<Bean> it = JodaBeanSer.PRETTY.jsonReader().stream(new StringReader("[1]"), Bean.class);
+        it.next();
     }
 
     //-----------------------------------------------------------------------
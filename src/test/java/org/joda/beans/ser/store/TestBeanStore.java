@@ -0,0 +1,230 @@
+/*
+ *  Copyright 2001-2016 Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.beans.ser.store;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.joda.beans.gen.ImmAddress;
+import org.joda.beans.gen.ImmPersonNonFinal;
+import org.joda.beans.gen.ImmSubPersonNonFinal;
+import org.joda.beans.gen.Pair;
+import org.joda.beans.impl.flexi.FlexiBean;
+import org.joda.beans.ser.JodaBeanSer;
+import org.joda.beans.ser.SerTestHelper;
+import org.joda.beans.ser.bin.BinaryBeanView;
+import org.joda.beans.test.BeanAssert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * Test the bean store.
+ */
+@Test
+public class TestBeanStore {
+
+    @DataProvider(name = "settings")
+    Object[][] data_settings() {
+        return new Object[][] {
+            {JodaBeanSer.COMPACT},
+            {JodaBeanSer.COMPACT.withBinaryVersion(3)},
+            {JodaBeanSer.COMPACT.withBinaryVersion(4)},
+            {JodaBeanSer.COMPACT.withBinaryCompression(1)},
+        };
+    }
+
+    @Test(dataProvider = "settings")
+    public void test_roundTrip_byOrdinalAndKey(JodaBeanSer settings) throws IOException {
+        File file = tempFile();
+        List<ImmPersonNonFinal> beans = people(100);
+        BeanStoreWriter<ImmPersonNonFinal> writer =
+                BeanStoreWriter.create(settings, file, ImmPersonNonFinal.class, ImmPersonNonFinal.meta().forename());
+        for (int i = 0; i < beans.size(); i++) {
+            assertEquals(writer.write(beans.get(i)), i);
+        }
+        assertEquals(writer.size(), 100);
+        writer.close();
+
+        BeanStoreReader<ImmPersonNonFinal> reader = BeanStoreReader.open(JodaBeanSer.COMPACT, file, ImmPersonNonFinal.class);
+        assertEquals(reader.getBeanType(), ImmPersonNonFinal.class);
+        assertEquals(reader.size(), 100);
+        assertTrue(reader.hasKeyIndex());
+        for (int i = 0; i < beans.size(); i++) {
+            BeanAssert.assertBeanEquals(reader.get(i), beans.get(i));
+            assertEquals(reader.ordinalOf("Name" + i), i);
+            BeanAssert.assertBeanEquals(reader.find("Name" + i), beans.get(i));
+        }
+        assertEquals(reader.ordinalOf("Name"), -1);
+        assertEquals(reader.ordinalOf("Name100"), -1);
+        assertEquals(reader.ordinalOf(""), -1);
+        assertNull(reader.find("Unknown"));
+        assertEquals(reader.asList(), beans);
+    }
+
+    public void test_roundTrip_subclass() throws IOException {
+        File file = tempFile();
+        ImmSubPersonNonFinal.Builder builder = ImmSubPersonNonFinal.builder();
+        builder.forename("Sub");
+        builder.middleName("Middle");
+        ImmPersonNonFinal sub = builder.build();
+        ImmPersonNonFinal person = people(1).get(0);
+        BeanStoreWriter<ImmPersonNonFinal> writer = BeanStoreWriter.create(JodaBeanSer.COMPACT, file, ImmPersonNonFinal.class);
+        writer.write(person);
+        writer.write(sub);
+        writer.close();
+
+        BeanStoreReader<ImmPersonNonFinal> reader = BeanStoreReader.open(JodaBeanSer.COMPACT, file, ImmPersonNonFinal.class);
+        assertFalse(reader.hasKeyIndex());
+        BeanAssert.assertBeanEquals(reader.get(0), person);
+        BeanAssert.assertBeanEquals(reader.get(1), sub);
+    }
+
+    public void test_getLazy() throws IOException {
+        File file = tempFile();
+        ImmAddress address = SerTestHelper.testImmAddress();
+        BeanStoreWriter<ImmAddress> writer = BeanStoreWriter.create(JodaBeanSer.COMPACT.withBinaryVersion(3), file, ImmAddress.class);
+        writer.write(address);
+        writer.close();
+
+        BeanStoreReader<ImmAddress> reader = BeanStoreReader.open(JodaBeanSer.COMPACT, file, ImmAddress.class);
+        BinaryBeanView<ImmAddress> view = reader.getLazy(0);
+        assertEquals(view.get(ImmAddress.meta().street()), address.getStreet());
+        BeanAssert.assertBeanEquals(view.toBean(), address);
+    }
+
+    @Test(dataProvider = "settings")
+    public void test_getLazy_repeatedType(JodaBeanSer settings) throws IOException {
+        File file = tempFile();
+        FlexiBean first = new FlexiBean();
+        first.set("name", "First");
+        FlexiBean second = new FlexiBean();
+        second.set("name", "Second");
+        Pair pair = new Pair();
+        pair.setFirst(first);
+        pair.setSecond(second);
+        BeanStoreWriter<Pair> writer = BeanStoreWriter.create(settings, file, Pair.class);
+        writer.write(pair);
+        writer.close();
+
+        BeanStoreReader<Pair> reader = BeanStoreReader.open(JodaBeanSer.COMPACT, file, Pair.class);
+        BinaryBeanView<Pair> view = reader.getLazy(0);
+        BeanAssert.assertBeanEquals((FlexiBean) view.get("second"), second);
+    }
+
+    public void test_empty() throws IOException {
+        File file = tempFile();
+        BeanStoreWriter.create(JodaBeanSer.COMPACT, file, ImmAddress.class, ImmAddress.meta().street()).close();
+
+        BeanStoreReader<ImmAddress> reader = BeanStoreReader.open(JodaBeanSer.COMPACT, file, ImmAddress.class);
+        assertEquals(reader.size(), 0);
+        assertEquals(reader.ordinalOf("Street"), -1);
+        assertEquals(reader.asList().size(), 0);
+    }
+
+    @Test(expectedExceptions = IndexOutOfBoundsException.class)
+    public void test_get_invalidOrdinal() throws IOException {
+        File file = tempFile();
+        BeanStoreWriter<ImmPersonNonFinal> writer = BeanStoreWriter.create(JodaBeanSer.COMPACT, file, ImmPersonNonFinal.class);
+        writer.write(people(1).get(0));
+        writer.close();
+        BeanStoreReader.open(JodaBeanSer.COMPACT, file, ImmPersonNonFinal.class).get(1);
+    }
+
+    @Test(expectedExceptions = IllegalStateException.class)
+    public void test_ordinalOf_noKeyIndex() throws IOException {
+        File file = tempFile();
+        BeanStoreWriter.create(JodaBeanSer.COMPACT, file, ImmPersonNonFinal.class).close();
+        BeanStoreReader.open(JodaBeanSer.COMPACT, file, ImmPersonNonFinal.class).ordinalOf("Name0");
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void test_write_duplicateKey() throws IOException {
+        BeanStoreWriter<ImmPersonNonFinal> writer =
+                BeanStoreWriter.create(JodaBeanSer.COMPACT, tempFile(), ImmPersonNonFinal.class, ImmPersonNonFinal.meta().surname());
+        try {
+            for (ImmPersonNonFinal person : people(2)) {
+                writer.write(person);
+            }
+        } finally {
+            writer.close();
+        }
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void test_write_nullKey() throws IOException {
+        BeanStoreWriter<ImmPersonNonFinal> writer =
+                BeanStoreWriter.create(JodaBeanSer.COMPACT, tempFile(), ImmPersonNonFinal.class, ImmPersonNonFinal.meta().forename());
+        try {
+            writer.write(ImmPersonNonFinal.builder().surname("Smith").build());
+        } finally {
+            writer.close();
+        }
+    }
+
+    @Test(expectedExceptions = IllegalStateException.class)
+    public void test_write_afterClose() throws IOException {
+        BeanStoreWriter<ImmPersonNonFinal> writer = BeanStoreWriter.create(JodaBeanSer.COMPACT, tempFile(), ImmPersonNonFinal.class);
+        writer.close();
+        writer.write(people(1).get(0));
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void test_open_notClosed() throws IOException {
+        File file = tempFile();
+        BeanStoreWriter<ImmPersonNonFinal> writer = BeanStoreWriter.create(JodaBeanSer.COMPACT, file, ImmPersonNonFinal.class);
+        writer.write(people(1).get(0));
+        writer.close();
+        // truncating the end marker is equivalent to a writer that was not closed
+        RandomAccessFile raf = new RandomAccessFile(file, "rw");
+        raf.setLength(raf.length() - 1);
+        raf.close();
+        BeanStoreReader.open(JodaBeanSer.COMPACT, file, ImmPersonNonFinal.class);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void test_open_invalidHeader() throws IOException {
+        File file = tempFile();
+        FileOutputStream out = new FileOutputStream(file);
+        out.write(new byte[40]);
+        out.close();
+        BeanStoreReader.open(JodaBeanSer.COMPACT, file, ImmPersonNonFinal.class);
+    }
+
+    //-----------------------------------------------------------------------
+    private static List<ImmPersonNonFinal> people(int size) {
+        List<ImmPersonNonFinal> beans = new ArrayList<ImmPersonNonFinal>();
+        for (int i = 0; i < size; i++) {
+            beans.add(ImmPersonNonFinal.builder().forename("Name" + i).surname("Smith").build());
+        }
+        return beans;
+    }
+
+    private static File tempFile() throws IOException {
+        File file = File.createTempFile("joda-beans", ".bin");
+        file.deleteOnExit();
+        return file;
+    }
+
+}
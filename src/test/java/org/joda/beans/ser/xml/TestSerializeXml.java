@@ -16,9 +16,16 @@
 package org.joda.beans.ser.xml;
 
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
 
 import org.joda.beans.Bean;
 import org.joda.beans.gen.Address;
+import org.joda.beans.gen.Company;
 import org.joda.beans.gen.ImmAddress;
 import org.joda.beans.gen.ImmEmpty;
 import org.joda.beans.gen.ImmKey1;
@@ -66,6 +73,34 @@ public class TestSerializeXml {
         BeanAssert.assertBeanEquals(bean, address);
     }
 
+    public void test_writeImmAddress_writer() throws IOException {
+        ImmAddress address = SerTestHelper.testImmAddress();
+        StringWriter writer = new StringWriter();
+        JodaBeanSer.PRETTY.xmlWriter().write(address, writer);
+        assertEquals(writer.toString(), JodaBeanSer.PRETTY.xmlWriter().write(address));
+        
+        StringBuilder buf = new StringBuilder();
+        JodaBeanSer.COMPACT.xmlWriter().write(address, false, buf);
+        assertEquals(buf.toString(), JodaBeanSer.COMPACT.xmlWriter().write(address, false));
+    }
+
+    public void test_writeLarge_outputStream() throws IOException {
+        Person person = new Person();
+        person.setForename("Stéphane");
+        for (int i = 0; i < 500; i++) {
+            person.getAddressList().add(SerTestHelper.testAddress());
+            person.getOtherAddressMap().put("Key\"" + i, SerTestHelper.testAddress());
+        }
+        String expected = JodaBeanSer.PRETTY.xmlWriter().write(person);
+        assertTrue(expected.length() > 100000);
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        JodaBeanSer.PRETTY.xmlWriter().write(person, baos);
+        assertEquals(new String(baos.toByteArray(), "UTF-8"), expected);
+        
+        Person bean = (Person) JodaBeanSer.PRETTY.xmlReader().read(new ByteArrayInputStream(baos.toByteArray()));
+        BeanAssert.assertBeanEquals(bean, person);
+    }
+
     public void test_writeImmOptional() {
         ImmOptional optional = SerTestHelper.testImmOptional();
         String xml = JodaBeanSer.PRETTY.xmlWriter().write(optional);
@@ -150,6 +185,49 @@ public class TestSerializeXml {
         BeanAssert.assertBeanEquals(bean, parsed);
     }
 
+    public void test_read_nonStandard_textSplitByEntitiesAndCdata() {
+        String xml = "<bean><element>A &amp; <![CDATA[<B>]]> &#x43;</element><other><![CDATA[]]></other></bean>";
+        FlexiBean parsed = JodaBeanSer.COMPACT.xmlReader().read(xml, FlexiBean.class);
+        FlexiBean bean = new FlexiBean();
+        bean.set("element", "A & <B> C");
+        bean.set("other", "");
+        BeanAssert.assertBeanEquals(bean, parsed);
+    }
+
+    public void test_read_inputStream_repeated() throws Exception {
+        Address address = SerTestHelper.testAddress();
+        byte[] bytes = JodaBeanSer.PRETTY.xmlWriter().write(address).getBytes("UTF-8");
+        for (int i = 0; i < 3; i++) {
+            Bean parsed = JodaBeanSer.PRETTY.xmlReader().read(new ByteArrayInputStream(bytes));
+            BeanAssert.assertBeanEquals(parsed, address);
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_read_projection() {
+        String xml = JodaBeanSer.COMPACT.xmlWriter().write(SerTestHelper.testAddress());
+        
+        Address bean = JodaBeanSer.COMPACT.xmlReader()
+                .withProjection(SerTestHelper.testAddressProjection())
+                .read(xml, Address.class);
+        BeanAssert.assertBeanEquals(bean, SerTestHelper.testAddressProjected());
+    }
+
+    public void test_read_projection_otherTypesReadInFull() {
+        FlexiBean flexi = new FlexiBean();
+        flexi.set("address", SerTestHelper.testAddress());
+        flexi.set("company", new Company("OpenGamma"));
+        String xml = JodaBeanSer.COMPACT.xmlWriter().write(flexi);
+        
+        FlexiBean bean = JodaBeanSer.COMPACT.xmlReader()
+                .withProjection(SerTestHelper.testAddressProjection())
+                .read(xml, FlexiBean.class);
+        FlexiBean expected = new FlexiBean();
+        expected.set("address", SerTestHelper.testAddressProjected());
+        expected.set("company", new Company("OpenGamma"));
+        BeanAssert.assertBeanEquals(bean, expected);
+    }
+
     //-----------------------------------------------------------------------
     public void test_read_aliased() {
         String xml = "<?xml version=\"1.0\" encoding=\"UTF-8\"?><bean type=\"org.joda.beans.gen.SimpleName\">" +